@@ -43,6 +43,11 @@ public enum InterceptPhase {
      */
     RETRY(-60),
 
+    /**
+     * Bulkhead (concurrency limiting) phase of execution.
+     */
+    BULKHEAD(-40),
+
     /**
      * Transaction phase of execution.
      */
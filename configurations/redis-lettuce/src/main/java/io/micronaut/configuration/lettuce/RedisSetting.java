@@ -46,4 +46,12 @@ public interface RedisSetting {
      * Configured Redis caches.
      */
     String REDIS_CACHES = PREFIX + ".caches";
+    /**
+     * Redis rate limiter configuration.
+     */
+    String REDIS_RATE_LIMITER = PREFIX + ".rate-limiter";
+    /**
+     * Redis lock provider configuration.
+     */
+    String REDIS_LOCK = PREFIX + ".lock";
 }
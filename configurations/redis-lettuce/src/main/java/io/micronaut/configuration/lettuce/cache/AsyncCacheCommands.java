@@ -95,4 +95,12 @@ public interface AsyncCacheCommands extends Commands {
      * @return Long integer-reply The number of keys that were removed.
      */
     RedisFuture<Long> del(byte[]... keys);
+
+    /**
+     * Get the values of all the given keys. See https://redis.io/commands/mget.
+     *
+     * @param keys the keys
+     * @return List&lt;V&gt; array-reply list of values at the specified keys, with <code>null</code> for missing keys.
+     */
+    RedisFuture<List<byte[]>> mget(byte[]... keys);
 }
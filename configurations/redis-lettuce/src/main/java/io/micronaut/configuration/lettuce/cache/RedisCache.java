@@ -26,14 +26,21 @@ import io.micronaut.configuration.lettuce.RedisConnectionUtil;
 import io.micronaut.context.BeanLocator;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.serialize.CompressingObjectSerializer;
 import io.micronaut.core.serialize.JdkSerializer;
 import io.micronaut.core.serialize.ObjectSerializer;
 import io.micronaut.core.type.Argument;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -77,10 +84,14 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
             .flatMap(beanLocator::findOrInstantiateBean)
             .orElse(newDefaultKeySerializer(redisCacheConfiguration, conversionService));
 
-        this.valueSerializer = redisCacheConfiguration
+        ObjectSerializer serializer = redisCacheConfiguration
             .getValueSerializer()
             .flatMap(beanLocator::findOrInstantiateBean)
             .orElse(new JdkSerializer(conversionService));
+        this.valueSerializer = redisCacheConfiguration
+            .getCompressionThreshold()
+            .map(threshold -> (ObjectSerializer) new CompressingObjectSerializer(serializer, threshold))
+            .orElse(serializer);
 
         Optional<String> server = redisCacheConfiguration.getServer();
         this.connection = RedisConnectionUtil.findRedisConnection(beanLocator, server, "No Redis server configured to allow caching");
@@ -155,6 +166,38 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         commands.del(keys.toArray(new byte[keys.size()][]));
     }
 
+    @Override
+    public <T> Map<Object, T> getAll(Collection<?> keys, Argument<T> requiredType) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        List<Object> keyList = new ArrayList<>(keys);
+        byte[][] serializedKeys = serializeKeys(keyList);
+        List<byte[]> values = commands.mget(serializedKeys);
+        Map<Object, T> result = new LinkedHashMap<>(keyList.size());
+        List<byte[]> hits = new ArrayList<>(keyList.size());
+        collectValues(requiredType, keyList, serializedKeys, values, result, hits);
+        if (expireAfterAccess != null && !hits.isEmpty()) {
+            await(asyncCache.expireAll(hits));
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> values) {
+        if (values != null && !values.isEmpty()) {
+            // SET commands are issued asynchronously so that they are pipelined over the connection
+            await(asyncCache.putAll(values));
+        }
+    }
+
+    @Override
+    public void invalidateAll(Collection<?> keys) {
+        if (keys != null && !keys.isEmpty()) {
+            commands.del(serializeKeys(keys));
+        }
+    }
+
     @Override
     public AsyncCache<StatefulConnection<?, ?>> async() {
         return asyncCache;
@@ -218,6 +261,20 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         return keySerializer.serialize(key).orElseThrow(() -> new IllegalArgumentException("Key cannot be null"));
     }
 
+    /**
+     * Serialize the given keys.
+     * @param keys The keys
+     * @return The serialized keys
+     */
+    protected byte[][] serializeKeys(Collection<?> keys) {
+        byte[][] serializedKeys = new byte[keys.size()][];
+        int i = 0;
+        for (Object key : keys) {
+            serializedKeys[i++] = serializeKey(key);
+        }
+        return serializedKeys;
+    }
+
     /**
      * Get the synchronous commands for the stateful connection.
      * @param connection stateful connection
@@ -238,6 +295,31 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
         return redisCommandFactory.getCommands(AsyncCacheCommands.class);
     }
 
+    private <T> void collectValues(Argument<T> requiredType, List<Object> keys, byte[][] serializedKeys, List<byte[]> values, Map<Object, T> result, List<byte[]> hits) {
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] data = values.get(i);
+            if (data != null) {
+                Optional<T> deserialized = valueSerializer.deserialize(data, requiredType.getType());
+                if (deserialized.isPresent()) {
+                    result.put(keys.get(i), deserialized.get());
+                    hits.add(serializedKeys[i]);
+                }
+            }
+        }
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
     private DefaultStringKeySerializer newDefaultKeySerializer(RedisCacheConfiguration redisCacheConfiguration, ConversionService<?> conversionService) {
         return new DefaultStringKeySerializer(redisCacheConfiguration.getCacheName(), redisCacheConfiguration.getCharset(), conversionService);
     }
@@ -388,6 +470,76 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
             return result;
         }
 
+        @Override
+        public <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+            if (keys == null || keys.isEmpty()) {
+                return CompletableFuture.completedFuture(Collections.emptyMap());
+            }
+            CompletableFuture<Map<Object, T>> result = new CompletableFuture<>();
+            List<Object> keyList = new ArrayList<>(keys);
+            byte[][] serializedKeys = serializeKeys(keyList);
+            async.mget(serializedKeys).whenComplete((values, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    Map<Object, T> found = new LinkedHashMap<>(keyList.size());
+                    List<byte[]> hits = new ArrayList<>(keyList.size());
+                    try {
+                        collectValues(requiredType, keyList, serializedKeys, values, found, hits);
+                    } catch (Exception e) {
+                        result.completeExceptionally(e);
+                        return;
+                    }
+                    if (expireAfterAccess != null && !hits.isEmpty()) {
+                        expireAll(hits).whenComplete((aBoolean, throwable1) -> {
+                            if (throwable1 != null) {
+                                result.completeExceptionally(throwable1);
+                            } else {
+                                result.complete(found);
+                            }
+                        });
+                    } else {
+                        result.complete(found);
+                    }
+                }
+            });
+            return result;
+        }
+
+        @Override
+        public CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+            if (values == null || values.isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+            List<CompletableFuture<?>> futures = new ArrayList<>(values.size());
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                byte[] serializedKey = serializeKey(entry.getKey());
+                Optional<byte[]> serialized = valueSerializer.serialize(entry.getValue());
+                if (serialized.isPresent()) {
+                    futures.add(newPutOperation(async, serializedKey, serialized.get()).toCompletableFuture());
+                } else {
+                    futures.add(async.remove(serializedKey).toCompletableFuture());
+                }
+            }
+            return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(aVoid -> true);
+        }
+
+        @Override
+        public CompletableFuture<Boolean> invalidateAll(Collection<?> keys) {
+            if (keys == null || keys.isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+            CompletableFuture<Boolean> result = new CompletableFuture<>();
+            async.del(serializeKeys(keys)).whenComplete((deleteCount, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(true);
+                }
+            });
+            return result;
+        }
+
         @Override
         public String getName() {
             return RedisCache.this.getName();
@@ -441,6 +593,21 @@ public class RedisCache implements SyncCache<StatefulConnection<?, ?>> {
             }
         }
 
+        /**
+         * Refreshes the expiry of the given keys. The commands are issued without waiting on each reply so that
+         * they are pipelined over the connection.
+         *
+         * @param serializedKeys The serialized keys
+         * @return A future that completes when all keys have been touched
+         */
+        CompletableFuture<Boolean> expireAll(List<byte[]> serializedKeys) {
+            CompletableFuture[] futures = new CompletableFuture[serializedKeys.size()];
+            for (int i = 0; i < futures.length; i++) {
+                futures[i] = async.expire(serializedKeys.get(i), expireAfterAccess).toCompletableFuture();
+            }
+            return CompletableFuture.allOf(futures).thenApply(aVoid -> true);
+        }
+
         private RedisFuture newPutOperation(AsyncCacheCommands async, byte[] serializedKey, byte[] serialized) {
             RedisFuture future;
             if (expireAfterWrite != null) {
@@ -37,6 +37,7 @@ public class RedisCacheConfiguration extends CacheConfiguration {
     protected String server;
     protected Class<ObjectSerializer> keySerializer;
     protected Class<ObjectSerializer> valueSerializer;
+    protected Integer compressionThreshold;
 
     /**
      * Constructor.
@@ -75,4 +76,12 @@ public class RedisCacheConfiguration extends CacheConfiguration {
         return Optional.ofNullable(keySerializer);
     }
 
+    /**
+     * @return The size in bytes above which serialized values are compressed. Compression is disabled if not set.
+     * @see io.micronaut.core.serialize.CompressingObjectSerializer
+     */
+    public Optional<Integer> getCompressionThreshold() {
+        return Optional.ofNullable(compressionThreshold);
+    }
+
 }
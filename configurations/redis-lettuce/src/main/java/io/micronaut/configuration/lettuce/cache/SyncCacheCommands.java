@@ -90,4 +90,12 @@ public interface SyncCacheCommands extends Commands {
      * @return List&lt;K&gt; array-reply list of keys matching {@code pattern}.
      */
     List<byte[]> keys(byte[] pattern);
+
+    /**
+     * Get the values of all the given keys. See https://redis.io/commands/mget.
+     *
+     * @param keys the keys
+     * @return List&lt;V&gt; array-reply list of values at the specified keys, with <code>null</code> for missing keys.
+     */
+    List<byte[]> mget(byte[]... keys);
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.lettuce.lock;
+
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisScriptingCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.micronaut.configuration.lettuce.RedisConnectionUtil;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.scheduling.lock.InMemoryLockProvider;
+import io.micronaut.scheduling.lock.LockProvider;
+
+import javax.inject.Singleton;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * <p>A {@link LockProvider} that stores locks in Redis so that a scheduled task runs on a single instance of an
+ * application at a time. Each lock is a key holding a random token that identifies the lease, which expires when the
+ * lease does. The key is only modified by the holder of the matching token.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+@Replaces(InMemoryLockProvider.class)
+public class RedisLockProvider implements LockProvider {
+
+    /**
+     * Sets the lock if absent.
+     */
+    static final String ACQUIRE_SCRIPT =
+        "return redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2])\n";
+
+    /**
+     * Releases the lock if still held by the given token, keeping it until the hold time if one is given.
+     */
+    static final String RELEASE_SCRIPT =
+        "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end\n" +
+        "local hold = tonumber(ARGV[2])\n" +
+        "if hold > 0 then return redis.call('PEXPIRE', KEYS[1], hold) end\n" +
+        "return redis.call('DEL', KEYS[1])\n";
+
+    private final RedisScriptingCommands<String, String> commands;
+    private final String keyPrefix;
+
+    /**
+     * @param configuration The configuration
+     * @param beanLocator   The bean locator used to find the Redis connection
+     */
+    @SuppressWarnings("unchecked")
+    public RedisLockProvider(RedisLockConfiguration configuration, BeanLocator beanLocator) {
+        StatefulConnection connection = RedisConnectionUtil.findRedisConnection(
+            beanLocator,
+            configuration.getServer(),
+            "No Redis server configured to store locks"
+        );
+        if (connection instanceof StatefulRedisConnection) {
+            this.commands = ((StatefulRedisConnection<String, String>) connection).sync();
+        } else if (connection instanceof StatefulRedisClusterConnection) {
+            this.commands = ((StatefulRedisClusterConnection<String, String>) connection).sync();
+        } else {
+            throw new ConfigurationException("Unsupported Redis connection for locks: " + connection);
+        }
+        this.keyPrefix = configuration.getKeyPrefix();
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Instant lockUntil) {
+        long ttl = millisUntil(lockUntil);
+        if (ttl <= 0) {
+            return Optional.empty();
+        }
+        String key = keyPrefix + name;
+        String token = UUID.randomUUID().toString();
+        String result = commands.eval(
+            ACQUIRE_SCRIPT,
+            ScriptOutputType.STATUS,
+            new String[] {key},
+            token,
+            String.valueOf(ttl)
+        );
+        if (result == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new Lease() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public void release(Instant holdUntil) {
+                commands.<Long>eval(
+                    RELEASE_SCRIPT,
+                    ScriptOutputType.INTEGER,
+                    new String[] {key},
+                    token,
+                    String.valueOf(Math.max(0L, millisUntil(holdUntil)))
+                );
+            }
+        });
+    }
+
+    private static long millisUntil(Instant instant) {
+        return Duration.between(Instant.now(), instant).toMillis();
+    }
+}
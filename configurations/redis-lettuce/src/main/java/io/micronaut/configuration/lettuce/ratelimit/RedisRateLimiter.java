@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.lettuce.ratelimit;
+
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.micronaut.configuration.lettuce.RedisConnectionUtil;
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.ratelimit.LocalRateLimiter;
+import io.micronaut.ratelimit.RateLimit;
+import io.micronaut.ratelimit.RateLimiter;
+
+import javax.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>A {@link RateLimiter} that stores the token buckets in Redis so that limits are shared between all instances of
+ * an application. Like {@link io.micronaut.ratelimit.TokenBucket} each bucket is a single value, the theoretical
+ * arrival time of the next permit, which is checked and advanced atomically by a Lua script using the clock of the
+ * Redis server.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+@Replaces(LocalRateLimiter.class)
+public class RedisRateLimiter implements RateLimiter {
+
+    /**
+     * The generic cell rate algorithm. Times are in microseconds since the epoch, according to the Redis server. Redis
+     * versions before 3.2 cannot replicate the effects of a script that reads the time, so on those the time of the
+     * client, passed as the third argument, is used instead.
+     */
+    static final String SCRIPT =
+        "local tolerance = tonumber(ARGV[1])\n" +
+        "local increment = tonumber(ARGV[2])\n" +
+        "local now = tonumber(ARGV[3])\n" +
+        "if redis.replicate_commands then\n" +
+        "  redis.replicate_commands()\n" +
+        "  local time = redis.call('TIME')\n" +
+        "  now = tonumber(time[1]) * 1000000 + tonumber(time[2])\n" +
+        "end\n" +
+        "local tat = tonumber(redis.call('GET', KEYS[1]))\n" +
+        "if not tat or tat < now then tat = now end\n" +
+        "local next = tat + increment\n" +
+        "if next - now > tolerance then return 0 end\n" +
+        "redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.max(1, math.ceil((next - now) / 1000)))\n" +
+        "return 1\n";
+
+    private final RedisScriptingAsyncCommands<String, String> commands;
+    private final String keyPrefix;
+
+    /**
+     * @param configuration The configuration
+     * @param beanLocator   The bean locator used to find the Redis connection
+     */
+    @SuppressWarnings("unchecked")
+    public RedisRateLimiter(RedisRateLimiterConfiguration configuration, BeanLocator beanLocator) {
+        StatefulConnection connection = RedisConnectionUtil.findRedisConnection(
+            beanLocator,
+            configuration.getServer(),
+            "No Redis server configured to store rate limits"
+        );
+        if (connection instanceof StatefulRedisConnection) {
+            this.commands = ((StatefulRedisConnection<String, String>) connection).async();
+        } else if (connection instanceof StatefulRedisClusterConnection) {
+            this.commands = ((StatefulRedisClusterConnection<String, String>) connection).async();
+        } else {
+            throw new ConfigurationException("Unsupported Redis connection for rate limiting: " + connection);
+        }
+        this.keyPrefix = configuration.getKeyPrefix();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquire(String key, RateLimit rateLimit, long permits) {
+        long microsPerPermit = Math.max(1L, TimeUnit.NANOSECONDS.toMicros(rateLimit.getNanosPerPermit()));
+        long tolerance = microsPerPermit * rateLimit.getBurst();
+        long increment = microsPerPermit * permits;
+        return commands.<Long>eval(
+            SCRIPT,
+            ScriptOutputType.INTEGER,
+            new String[] {keyPrefix + key},
+            String.valueOf(tolerance),
+            String.valueOf(increment),
+            String.valueOf(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()))
+        ).toCompletableFuture().thenApply(result -> result != null && result == 1L);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.configuration.lettuce.ratelimit;
+
+import io.micronaut.configuration.lettuce.RedisSetting;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+import java.util.Optional;
+
+/**
+ * Allows configuration of the Redis backed {@link io.micronaut.ratelimit.RateLimiter}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@ConfigurationProperties(RedisSetting.REDIS_RATE_LIMITER)
+public class RedisRateLimiterConfiguration implements Toggleable {
+
+    /**
+     * The default prefix of the keys of the buckets.
+     */
+    public static final String DEFAULT_KEY_PREFIX = "micronaut:rate-limit:";
+
+    protected boolean enabled = false;
+    protected String server;
+    protected String keyPrefix = DEFAULT_KEY_PREFIX;
+
+    /**
+     * @return Whether rate limiting buckets are stored in Redis. Defaults to false.
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @see io.micronaut.configuration.lettuce.NamedRedisServersConfiguration
+     * @return The name of the server to use.
+     */
+    public Optional<String> getServer() {
+        return Optional.ofNullable(server);
+    }
+
+    /**
+     * @return The prefix of the keys of the buckets
+     */
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+}
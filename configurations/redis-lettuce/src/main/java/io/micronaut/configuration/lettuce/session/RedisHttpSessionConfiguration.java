@@ -41,6 +41,7 @@ public class RedisHttpSessionConfiguration extends HttpSessionConfiguration impl
     protected String sessionCreatedTopic = namespace + "event:session-created";
     protected String activeSessionsKey = namespace + "active-sessions";
     protected Class<ObjectSerializer> valueSerializer;
+    protected Integer compressionThreshold;
     protected Charset charset = StandardCharsets.UTF_8;
     protected boolean enableKeyspaceEvents = true;
     protected WriteMode writeMode = WriteMode.BATCH;
@@ -81,6 +82,14 @@ public class RedisHttpSessionConfiguration extends HttpSessionConfiguration impl
         return Optional.ofNullable(valueSerializer);
     }
 
+    /**
+     * @return The size in bytes above which serialized values are compressed. Compression is disabled if not set.
+     * @see io.micronaut.core.serialize.CompressingObjectSerializer
+     */
+    public Optional<Integer> getCompressionThreshold() {
+        return Optional.ofNullable(compressionThreshold);
+    }
+
     /**
      * @return The charset to use when encoding sessions
      */
@@ -32,6 +32,7 @@ import io.micronaut.context.exceptions.ConfigurationException;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.value.MutableConvertibleValues;
+import io.micronaut.core.serialize.CompressingObjectSerializer;
 import io.micronaut.core.serialize.JdkSerializer;
 import io.micronaut.core.serialize.ObjectSerializer;
 import io.micronaut.core.util.CollectionUtils;
@@ -121,10 +122,14 @@ public class RedisSessionStore extends RedisPubSubAdapter<String, String> implem
             ApplicationEventPublisher eventPublisher) {
         this.writeMode = sessionConfiguration.getWriteMode();
         this.sessionIdGenerator = sessionIdGenerator;
-        this.valueSerializer = sessionConfiguration
+        ObjectSerializer serializer = sessionConfiguration
                 .getValueSerializer()
                 .flatMap(beanLocator::findOrInstantiateBean)
                 .orElse(new JdkSerializer(conversionService));
+        this.valueSerializer = sessionConfiguration
+                .getCompressionThreshold()
+                .map(threshold -> (ObjectSerializer) new CompressingObjectSerializer(serializer, threshold))
+                .orElse(serializer);
         this.eventPublisher = eventPublisher;
         this.sessionConfiguration = sessionConfiguration;
         this.charset = sessionConfiguration.getCharset();
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.configuration.lettuce.ratelimit
+
+import io.lettuce.core.api.StatefulRedisConnection
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.socket.SocketUtils
+import io.micronaut.ratelimit.LocalRateLimiter
+import io.micronaut.ratelimit.RateLimit
+import io.micronaut.ratelimit.RateLimiter
+import redis.embedded.RedisServer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import java.time.Duration
+
+/**
+ * @since 1.0
+ */
+class RedisRateLimiterSpec extends Specification {
+
+    @Shared int port = SocketUtils.findAvailableTcpPort()
+    @Shared @AutoCleanup('stop') RedisServer redisServer = startServer(port)
+    @Shared @AutoCleanup ApplicationContext applicationContext = ApplicationContext.run(
+            'redis.port': port,
+            'redis.rate-limiter.enabled': true
+    )
+
+    void "test the redis rate limiter replaces the local rate limiter"() {
+        expect:
+        applicationContext.getBean(RateLimiter) instanceof RedisRateLimiter
+
+        when:
+        ApplicationContext disabled = ApplicationContext.run('redis.port': port)
+
+        then:
+        disabled.getBean(RateLimiter) instanceof LocalRateLimiter
+
+        cleanup:
+        disabled?.close()
+    }
+
+    void "test permits are limited per key"() {
+        given:
+        RateLimiter rateLimiter = applicationContext.getBean(RateLimiter)
+        RateLimit rateLimit = new RateLimit(2, Duration.ofHours(1))
+
+        expect:
+        rateLimiter.tryAcquire("per-key-a", rateLimit).get()
+        rateLimiter.tryAcquire("per-key-a", rateLimit).get()
+        !rateLimiter.tryAcquire("per-key-a", rateLimit).get()
+        rateLimiter.tryAcquire("per-key-b", rateLimit).get()
+    }
+
+    void "test more permits than the burst are never acquired"() {
+        given:
+        RateLimiter rateLimiter = applicationContext.getBean(RateLimiter)
+        RateLimit rateLimit = new RateLimit(5, Duration.ofHours(1))
+
+        expect:
+        !rateLimiter.tryAcquire("burst", rateLimit, 6).get()
+        rateLimiter.tryAcquire("burst", rateLimit, 5).get()
+        !rateLimiter.tryAcquire("burst", rateLimit, 1).get()
+    }
+
+    void "test permits are replenished over time"() {
+        given:
+        RateLimiter rateLimiter = applicationContext.getBean(RateLimiter)
+        RateLimit rateLimit = new RateLimit(1, Duration.ofMillis(200))
+
+        expect:
+        rateLimiter.tryAcquire("replenish", rateLimit).get()
+        !rateLimiter.tryAcquire("replenish", rateLimit).get()
+
+        when:
+        Thread.sleep(400)
+
+        then:
+        rateLimiter.tryAcquire("replenish", rateLimit).get()
+    }
+
+    void "test buckets are shared between instances and stored with the key prefix"() {
+        given:
+        ApplicationContext other = ApplicationContext.run(
+                'redis.port': port,
+                'redis.rate-limiter.enabled': true
+        )
+        RateLimit rateLimit = new RateLimit(1, Duration.ofHours(1))
+
+        expect:
+        applicationContext.getBean(RateLimiter).tryAcquire("shared", rateLimit).get()
+        !other.getBean(RateLimiter).tryAcquire("shared", rateLimit).get()
+        applicationContext.getBean(StatefulRedisConnection).sync().exists(RedisRateLimiterConfiguration.DEFAULT_KEY_PREFIX + "shared") == 1L
+
+        cleanup:
+        other?.close()
+    }
+
+    private static RedisServer startServer(int port) {
+        RedisServer server = new RedisServer(port)
+        server.start()
+        return server
+    }
+}
@@ -16,7 +16,9 @@
 
 package io.micronaut.configuration.lettuce.session
 
+import io.micronaut.jackson.serialize.JacksonCborObjectSerializer
 import io.micronaut.jackson.serialize.JacksonObjectSerializer
+import io.micronaut.jackson.serialize.JacksonSmileObjectSerializer
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.event.ApplicationEventListener
 import io.micronaut.session.Session
@@ -25,6 +27,7 @@ import io.micronaut.session.event.SessionCreatedEvent
 import io.micronaut.session.event.SessionDeletedEvent
 import io.micronaut.session.event.SessionExpiredEvent
 import spock.lang.Specification
+import spock.lang.Unroll
 import spock.util.concurrent.PollingConditions
 
 import javax.inject.Singleton
@@ -242,6 +245,38 @@ class RedisSessionSpec extends Specification {
         retrieved.get("foo", Foo).get().name == "Fred"
         retrieved.get("foo", Foo).get().age == 10
     }
+    @Unroll
+    void "test redis #serializer.simpleName sessions keep the types of attributes"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'redis.type':'embedded',
+                'micronaut.session.http.redis.valueSerializer':serializer.name,
+                'micronaut.session.http.redis.enabled':'true'
+        )
+        RedisSessionStore sessionStore = applicationContext.getBean(RedisSessionStore)
+
+        when:"A session with a POJO attribute is saved and located"
+        Session session = sessionStore.newSession()
+        session.put("foo", new Foo(name: "Fred", age: 10))
+        session.put("count", 10L)
+        Session saved = sessionStore.save(session).get()
+        Session retrieved = sessionStore.findSession(saved.id).get().get()
+
+        then:"The attributes have their original types"
+        sessionStore.valueSerializer.getClass() == serializer
+        retrieved.get("foo").get() instanceof Foo
+        retrieved.get("foo").get().name == "Fred"
+        retrieved.get("foo").get().age == 10
+        retrieved.get("count").get() instanceof Long
+        retrieved.get("count").get() == 10L
+
+        cleanup:
+        applicationContext.stop()
+
+        where:
+        serializer << [JacksonSmileObjectSerializer, JacksonCborObjectSerializer]
+    }
+
     static class Foo implements Serializable{
         String name
         Integer age
@@ -81,6 +81,40 @@ public interface ConversionService<Impl extends ConversionService> {
      */
     <S, T> boolean canConvert(Class<S> sourceType, Class<T> targetType);
 
+    /**
+     * Finds a converter from the given source type to the given target type. The converter can be kept and reused to
+     * convert many values without looking up a converter for each conversion. Values of a different type than the
+     * source type, or conversions with a context that has a different formatting annotation than the given context,
+     * are converted with {@link #convert(Object, Class, ConversionContext)}.
+     *
+     * @param sourceType The source type
+     * @param targetType The target type
+     * @param context    The conversion context used to find the converter for the formatting annotation
+     * @param <S>        The generic source type
+     * @param <T>        The generic target type
+     * @return The converter or empty if the source type cannot be converted to the target type
+     */
+    default <S, T> Optional<TypeConverter<S, T>> findConverter(Class<S> sourceType, Class<T> targetType, ConversionContext context) {
+        if (targetType.isAssignableFrom(sourceType) || canConvert(sourceType, targetType)) {
+            return Optional.of((object, type, conversionContext) -> convert(object, type, conversionContext));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds a converter from the given source type to the given target type.
+     *
+     * @param sourceType The source type
+     * @param targetType The target type
+     * @param <S>        The generic source type
+     * @param <T>        The generic target type
+     * @return The converter or empty if the source type cannot be converted to the target type
+     * @see #findConverter(Class, Class, ConversionContext)
+     */
+    default <S, T> Optional<TypeConverter<S, T>> findConverter(Class<S> sourceType, Class<T> targetType) {
+        return findConverter(sourceType, targetType, ConversionContext.DEFAULT);
+    }
+
     /**
      * Attempts to convert the given object to the given target type. If conversion fails or is not possible an empty {@link Optional} is returned.
      *
@@ -84,6 +84,8 @@ public class DefaultConversionService implements ConversionService<DefaultConver
     private final Cache<ConvertiblePair, TypeConverter> converterCache = Caffeine.newBuilder()
                                                                                  .maximumSize(CACHE_MAX)
                                                                                  .build();
+    // incremented whenever a converter is added so that converters that were found earlier stop being used
+    private volatile int converterVersion;
 
     /**
      * Constructor.
@@ -108,20 +110,33 @@ public class DefaultConversionService implements ConversionService<DefaultConver
             return Optional.of((T) object);
         }
 
-        Optional<? extends Class<? extends Annotation>> formattingAnn = AnnotationUtil.findAnnotationWithStereoType(Format.class, context.getAnnotations())
-                                                                                      .map(Annotation::annotationType);
-        Class<? extends Annotation> formattingAnnotation = formattingAnn.orElse(null);
-        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
-        TypeConverter typeConverter = converterCache.getIfPresent(pair);
+        Class<? extends Annotation> formattingAnnotation = resolveFormattingAnnotation(context);
+        TypeConverter typeConverter = resolveTypeConverter(sourceType, targetType, formattingAnnotation);
         if (typeConverter == null) {
-            typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+            return Optional.empty();
+        }
+        return typeConverter.convert(object, targetType, context);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <S, T> Optional<TypeConverter<S, T>> findConverter(Class<S> sourceType, Class<T> targetType, ConversionContext context) {
+        if (sourceType == null || targetType == null || context == null) {
+            return Optional.empty();
+        }
+        Class<T> wrapperType = ReflectionUtils.getWrapperType(targetType);
+        Annotation[] annotations = context.getAnnotations();
+        Class<? extends Annotation> formattingAnnotation = resolveFormattingAnnotation(annotations);
+        TypeConverter typeConverter;
+        if (wrapperType == Object.class || (wrapperType.isAssignableFrom(sourceType) && !Iterable.class.isAssignableFrom(sourceType) && !Map.class.isAssignableFrom(sourceType))) {
+            typeConverter = (object, type, conversionContext) -> Optional.of(object);
+        } else {
+            typeConverter = resolveTypeConverter(sourceType, wrapperType, formattingAnnotation);
             if (typeConverter == null) {
                 return Optional.empty();
-            } else {
-                converterCache.put(pair, typeConverter);
             }
         }
-        return typeConverter.convert(object, targetType, context);
+        return Optional.of(new ConverterHandle<>(sourceType, targetType, wrapperType, typeConverter, annotations, formattingAnnotation, converterVersion));
     }
 
     @Override
@@ -146,6 +161,7 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         ConvertiblePair pair = newPair(sourceType, targetType, typeConverter);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterVersion++;
         return this;
     }
 
@@ -155,6 +171,7 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         TypeConverter<S, T> typeConverter = TypeConverter.of(sourceType, targetType, function);
         typeConverters.put(pair, typeConverter);
         converterCache.put(pair, typeConverter);
+        converterVersion++;
         return this;
     }
 
@@ -730,6 +747,28 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         return typeConverter;
     }
 
+    private Class<? extends Annotation> resolveFormattingAnnotation(ConversionContext context) {
+        return resolveFormattingAnnotation(context.getAnnotations());
+    }
+
+    private Class<? extends Annotation> resolveFormattingAnnotation(Annotation[] annotations) {
+        Optional<? extends Class<? extends Annotation>> formattingAnn = AnnotationUtil.findAnnotationWithStereoType(Format.class, annotations)
+                                                                                      .map(Annotation::annotationType);
+        return formattingAnn.orElse(null);
+    }
+
+    private TypeConverter resolveTypeConverter(Class<?> sourceType, Class<?> targetType, Class<? extends Annotation> formattingAnnotation) {
+        ConvertiblePair pair = new ConvertiblePair(sourceType, targetType, formattingAnnotation);
+        TypeConverter typeConverter = converterCache.getIfPresent(pair);
+        if (typeConverter == null) {
+            typeConverter = findTypeConverter(sourceType, targetType, formattingAnnotation);
+            if (typeConverter != null) {
+                converterCache.put(pair, typeConverter);
+            }
+        }
+        return typeConverter;
+    }
+
     private SimpleDateFormat resolveFormat(ConversionContext context) {
         Format ann = context.getAnnotation(Format.class);
         Optional<String> format = ann != null ? Optional.of(ann.value()) : Optional.empty();
@@ -748,6 +787,60 @@ public class DefaultConversionService implements ConversionService<DefaultConver
         return pair;
     }
 
+    /**
+     * A converter that was found for a source type, target type and formatting annotation. Values of the source type
+     * are converted directly as long as the context has the same formatting annotation as the context the converter
+     * was found with. Any other value is converted with {@link #convert(Object, Class, ConversionContext)}.
+     *
+     * @param <S> The source type
+     * @param <T> The target type
+     */
+    private final class ConverterHandle<S, T> implements TypeConverter<S, T> {
+        private final Class<S> sourceType;
+        private final Class<T> targetType;
+        private final Class<T> wrapperType;
+        private final TypeConverter typeConverter;
+        private final Annotation[] annotations;
+        private final Class<? extends Annotation> formattingAnnotation;
+        private final int version;
+
+        /**
+         * @param sourceType           The source type
+         * @param targetType           The target type
+         * @param wrapperType          The wrapper type of the target type
+         * @param typeConverter        The converter
+         * @param annotations          The annotations of the context the converter was found with
+         * @param formattingAnnotation The formatting annotation the converter was found for
+         * @param version              The version of the registered converters when the converter was found
+         */
+        ConverterHandle(Class<S> sourceType, Class<T> targetType, Class<T> wrapperType, TypeConverter typeConverter,
+                        Annotation[] annotations, Class<? extends Annotation> formattingAnnotation, int version) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.wrapperType = wrapperType;
+            this.typeConverter = typeConverter;
+            this.annotations = annotations;
+            this.formattingAnnotation = formattingAnnotation;
+            this.version = version;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public Optional<T> convert(S object, Class<T> targetType, ConversionContext context) {
+            if (object != null && object.getClass() == sourceType && context != null &&
+                (targetType == this.targetType || targetType == wrapperType) && version == converterVersion &&
+                hasFormattingAnnotation(context)) {
+                return typeConverter.convert(object, wrapperType, context);
+            }
+            return DefaultConversionService.this.convert(object, targetType, context);
+        }
+
+        private boolean hasFormattingAnnotation(ConversionContext context) {
+            Annotation[] annotations = context.getAnnotations();
+            return annotations == this.annotations || resolveFormattingAnnotation(annotations) == formattingAnnotation;
+        }
+    }
+
     /**
      * Binds the source and target.
      */
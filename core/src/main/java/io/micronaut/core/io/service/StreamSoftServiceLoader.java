@@ -17,18 +17,20 @@
 package io.micronaut.core.io.service;
 
 import io.micronaut.core.reflect.ClassUtils;
-import io.micronaut.core.util.CollectionUtils;
 
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceConfigurationError;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -45,8 +47,19 @@ public class StreamSoftServiceLoader {
      * @param <T>         The type
      * @return A stream
      */
-    @SuppressWarnings("unchecked")
     public static <T> Stream<ServiceDefinition<T>> loadParallel(Class<T> serviceType, ClassLoader classLoader) {
+        return loadParallel(serviceType, classLoader, null);
+    }
+
+    /**
+     * @param serviceType The service type
+     * @param classLoader The class loader
+     * @param condition   A {@link Predicate} that is passed the service class name before the class is loaded, or null to load all services
+     * @param <T>         The type
+     * @return A stream
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<ServiceDefinition<T>> loadParallel(Class<T> serviceType, ClassLoader classLoader, Predicate<String> condition) {
         Enumeration<URL> serviceConfigs;
         String name = serviceType.getName();
         try {
@@ -54,7 +67,8 @@ public class StreamSoftServiceLoader {
         } catch (IOException e) {
             throw new ServiceConfigurationError("Failed to load resources for service: " + name, e);
         }
-        Set<URL> urlSet = CollectionUtils.enumerationToSet(serviceConfigs);
+        // keep the class path order so that the services are loaded in a deterministic order
+        Set<URL> urlSet = new LinkedHashSet<>(Collections.list(serviceConfigs));
 
         return urlSet
             .stream()
@@ -78,7 +92,9 @@ public class StreamSoftServiceLoader {
                     }
                     return lines.stream();
                 }
-            ).map(serviceName -> {
+            )
+            .filter(serviceName -> condition == null || condition.test(serviceName))
+            .map(serviceName -> {
                 Optional<Class> loadedClass = ClassUtils.forName(serviceName, classLoader);
                 return new DefaultServiceDefinition(name, loadedClass);
             });
@@ -90,9 +106,20 @@ public class StreamSoftServiceLoader {
      * @param <T>         The type
      * @return A stream with services loaded
      */
-    @SuppressWarnings("unchecked")
     public static <T> Stream<T> loadPresentParallel(Class<T> serviceType, ClassLoader classLoader) {
-        return loadParallel(serviceType, classLoader)
+        return loadPresentParallel(serviceType, classLoader, null);
+    }
+
+    /**
+     * @param serviceType The service type
+     * @param classLoader The class loader
+     * @param condition   A {@link Predicate} that is passed the service class name before the class is loaded, or null to load all services
+     * @param <T>         The type
+     * @return A stream with services loaded
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> loadPresentParallel(Class<T> serviceType, ClassLoader classLoader, Predicate<String> condition) {
+        return loadParallel(serviceType, classLoader, condition)
             .filter(ServiceDefinition::isPresent)
             .map(ServiceDefinition::load);
     }
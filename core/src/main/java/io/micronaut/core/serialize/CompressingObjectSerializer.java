@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.core.serialize;
+
+import io.micronaut.core.serialize.exceptions.SerializationException;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * <p>An {@link ObjectSerializer} that decorates another {@link ObjectSerializer} and compresses the serialized form
+ * of values whose size exceeds a configurable threshold using the DEFLATE algorithm.</p>
+ *
+ * <p>The serialized form is prefixed with a single byte indicating whether the remaining bytes are compressed, hence
+ * values written by this serializer can only be read by a {@link CompressingObjectSerializer} that decorates the same
+ * underlying serializer.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class CompressingObjectSerializer implements ObjectSerializer {
+
+    /**
+     * The default size in bytes above which values are compressed.
+     */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private static final int UNCOMPRESSED = 0;
+    private static final int COMPRESSED = 1;
+
+    private final ObjectSerializer delegate;
+    private final int threshold;
+
+    /**
+     * @param delegate  The serializer to decorate
+     * @param threshold The size in bytes above which serialized values are compressed
+     */
+    public CompressingObjectSerializer(ObjectSerializer delegate, int threshold) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate serializer cannot be null");
+        }
+        this.delegate = delegate;
+        this.threshold = Math.max(0, threshold);
+    }
+
+    /**
+     * @param delegate The serializer to decorate
+     */
+    public CompressingObjectSerializer(ObjectSerializer delegate) {
+        this(delegate, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * @return The decorated serializer
+     */
+    public ObjectSerializer getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * @return The size in bytes above which serialized values are compressed
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    @Override
+    public Optional<byte[]> serialize(@Nullable Object object) throws SerializationException {
+        return delegate.serialize(object).map(this::encode);
+    }
+
+    @Override
+    public void serialize(@Nullable Object object, OutputStream outputStream) throws SerializationException {
+        Optional<byte[]> serialized = serialize(object);
+        if (serialized.isPresent()) {
+            try {
+                outputStream.write(serialized.get());
+            } catch (IOException e) {
+                throw new SerializationException("I/O error occurred during serialization: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public <T> Optional<T> deserialize(@Nullable byte[] bytes, Class<T> requiredType) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return Optional.empty();
+        }
+        switch (bytes[0]) {
+            case UNCOMPRESSED:
+                try (InputStream input = new ByteArrayInputStream(bytes, 1, bytes.length - 1)) {
+                    return delegate.deserialize(input, requiredType);
+                } catch (IOException e) {
+                    throw new SerializationException("I/O error occurred during deserialization: " + e.getMessage(), e);
+                }
+            case COMPRESSED:
+                try (InputStream input = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                    return delegate.deserialize(input, requiredType);
+                } catch (IOException e) {
+                    throw new SerializationException("I/O error occurred during deserialization: " + e.getMessage(), e);
+                }
+            default:
+                throw new SerializationException("Invalid compression marker [" + bytes[0] + "] in serialized data", null);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> deserialize(@Nullable InputStream inputStream, Class<T> requiredType) throws SerializationException {
+        if (inputStream == null) {
+            return Optional.empty();
+        }
+        try {
+            int marker = inputStream.read();
+            switch (marker) {
+                case -1:
+                    return Optional.empty();
+                case UNCOMPRESSED:
+                    return delegate.deserialize(inputStream, requiredType);
+                case COMPRESSED:
+                    return delegate.deserialize(new InflaterInputStream(inputStream), requiredType);
+                default:
+                    throw new SerializationException("Invalid compression marker [" + marker + "] in serialized data", null);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("I/O error occurred during deserialization: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] encode(byte[] data) {
+        if (data.length <= threshold) {
+            byte[] result = new byte[data.length + 1];
+            result[0] = UNCOMPRESSED;
+            System.arraycopy(data, 0, result, 1, data.length);
+            return result;
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(data.length / 2 + 1);
+        output.write(COMPRESSED);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(output, deflater)) {
+            deflaterOutput.write(data);
+        } catch (IOException e) {
+            throw new SerializationException("I/O error occurred during compression: " + e.getMessage(), e);
+        } finally {
+            deflater.end();
+        }
+        return output.toByteArray();
+    }
+}
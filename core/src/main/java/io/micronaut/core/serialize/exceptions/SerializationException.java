@@ -24,6 +24,13 @@ package io.micronaut.core.serialize.exceptions;
  */
 public class SerializationException extends RuntimeException {
 
+    /**
+     * @param message The message
+     */
+    public SerializationException(String message) {
+        super(message);
+    }
+
     /**
      * @param message The message
      * @param cause   The throwable
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.core.util;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <p>An immutable {@link Map} backed by a single array of alternating keys and values. Small maps are searched
+ * linearly, larger maps build a hash index of the array positions the first time they are searched.</p>
+ *
+ * <p>Compared to a {@link java.util.HashMap} there is no table and no entry object per mapping, which matters for the
+ * many small maps of annotation values that the generated annotation metadata holds for the lifetime of an
+ * application.</p>
+ *
+ * @param <K> The key type
+ * @param <V> The value type
+ * @author agent
+ * @since 1.0
+ */
+@Internal
+final class ArrayMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+    private final Object[] entries;
+    private volatile int[] index;
+
+    /**
+     * @param entries The alternating keys and values. The keys must be unique and not null
+     */
+    ArrayMap(Object[] entries) {
+        this.entries = entries;
+    }
+
+    @Override
+    public int size() {
+        return entries.length / 2;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entries.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) > -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int i = indexOf(key);
+        return i > -1 ? (V) entries[i + 1] : null;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new Iterator<Entry<K, V>>() {
+                    private int i = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return i < entries.length;
+                    }
+
+                    @SuppressWarnings("unchecked")
+                    @Override
+                    public Entry<K, V> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<K, V> entry = new SimpleImmutableEntry<>((K) entries[i], (V) entries[i + 1]);
+                        i += 2;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ArrayMap.this.size();
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        Object[] entries = this.entries;
+        if (entries.length <= LINEAR_SEARCH_THRESHOLD * 2) {
+            for (int i = 0; i < entries.length; i += 2) {
+                Object candidate = entries[i];
+                if (candidate == key || candidate.equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int[] index = this.index;
+        if (index == null) {
+            // threads that race here build identical indexes, the volatile write publishes a complete one
+            index = buildIndex(entries);
+            this.index = index;
+        }
+        int mask = index.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+        int position = index[slot];
+        while (position != 0) {
+            Object candidate = entries[position - 1];
+            if (candidate == key || candidate.equals(key)) {
+                return position - 1;
+            }
+            slot = (slot + 1) & mask;
+            position = index[slot];
+        }
+        return -1;
+    }
+
+    private static int[] buildIndex(Object[] entries) {
+        int size = entries.length / 2;
+        int capacity = Integer.highestOneBit(size * 2 - 1) << 1;
+        int[] index = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < entries.length; i += 2) {
+            int slot = spread(entries[i].hashCode()) & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            // positions are stored plus one so that zero marks an empty slot
+            index[slot] = i + 1;
+        }
+        return index;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -109,15 +109,17 @@ public final class StringUtils {
     }
 
     /**
-     * Converts the given objects into a set of interned strings. See {@link String#intern()}.
+     * Converts the given alternating keys and values into an unmodifiable map with interned keys. See
+     * {@link String#intern()}. The map is backed by a single array, which keeps the many small maps of the generated
+     * annotation metadata compact.
      *
-     * @param values The objects
-     * @return An unmodifiable set of strings
+     * @param values The alternating keys and values
+     * @return An unmodifiable map
      * @see CollectionUtils#mapOf(Object...)
      */
     @SuppressWarnings("unused")
     public static Map<String, Object> internMapOf(Object... values) {
-        if (values == null) {
+        if (values == null || values.length == 0) {
             return Collections.emptyMap();
         }
         int len = values.length;
@@ -125,12 +127,30 @@ public final class StringUtils {
             throw new IllegalArgumentException("Number of arguments should be an even number representing the keys and values");
         }
 
-        Map<String, Object> answer = new HashMap<>(len / 2);
-        int i = 0;
-        while (i < values.length - 1) {
-            answer.put(values[i++].toString().intern(), values[i++]);
+        Object[] entries = new Object[len];
+        int size = 0;
+        for (int i = 0; i < len; i += 2) {
+            String key = values[i].toString().intern();
+            Object value = values[i + 1];
+            // a repeated key replaces the earlier value, as a put would
+            int existing = -1;
+            for (int j = 0; j < size; j += 2) {
+                if (entries[j] == key) {
+                    existing = j;
+                    break;
+                }
+            }
+            if (existing > -1) {
+                entries[existing + 1] = value;
+            } else {
+                entries[size++] = key;
+                entries[size++] = value;
+            }
+        }
+        if (size < len) {
+            entries = Arrays.copyOf(entries, size);
         }
-        return answer;
+        return new ArrayMap<>(entries);
     }
 
     /**
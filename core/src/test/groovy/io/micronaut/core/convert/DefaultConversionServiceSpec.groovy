@@ -107,4 +107,64 @@ class DefaultConversionServiceSpec extends Specification {
         sourceObject | targetType | result
         "1MB"        | Integer    | 1048576
     }
+
+    void "test find converter"() {
+        given:
+        ConversionService conversionService = new DefaultConversionService()
+
+        when:
+        TypeConverter<String, Integer> converter = conversionService.findConverter(String, Integer).get()
+
+        then:
+        converter.convert("10", Integer).get() == 10
+        converter.convert("20", Integer).get() == 20
+        !converter.convert("junk", Integer).isPresent()
+
+        when:"a value of a different type is converted"
+        TypeConverter<Object, String> objectConverter = conversionService.findConverter(Object, String).get()
+
+        then:"the conversion service converts it"
+        objectConverter.convert("10", String).get() == "10"
+        objectConverter.convert(10L, String).get() == "10"
+
+        expect:
+        conversionService.findConverter(String, int).get().convert("5", int).get() == 5
+        conversionService.findConverter(String, DayOfWeek).get().convert("MONDAY", DayOfWeek).get() == DayOfWeek.MONDAY
+        conversionService.findConverter(String, CharSequence).get().convert("test", CharSequence).get() == "test"
+        !conversionService.findConverter(Date, Currency).isPresent()
+    }
+
+    void "test a found converter honours the formatting annotation of each context"() {
+        given:
+        ConversionService conversionService = new DefaultConversionService()
+        Field field = getClass().getDeclaredField("maxSize")
+        ConversionContext bytesContext = ConversionContext.of(Argument.of(field, "maxSize", null), Locale.ENGLISH)
+
+        when:"a converter found for a formatting annotation is used without it"
+        TypeConverter<String, Integer> bytesConverter = conversionService.findConverter(String, Integer, bytesContext).get()
+
+        then:
+        bytesConverter.convert("1MB", Integer, bytesContext).get() == 1048576
+        bytesConverter.convert("10", Integer, ConversionContext.DEFAULT).get() == 10
+        !bytesConverter.convert("1MB", Integer, ConversionContext.DEFAULT).isPresent()
+
+        when:"a converter found without a formatting annotation is used with one"
+        TypeConverter<String, Integer> converter = conversionService.findConverter(String, Integer).get()
+
+        then:
+        converter.convert("1MB", Integer, bytesContext).get() == 1048576
+        !converter.convert("1MB", Integer, ConversionContext.DEFAULT).isPresent()
+    }
+
+    void "test a found converter uses converters added later"() {
+        given:
+        ConversionService conversionService = new DefaultConversionService()
+        TypeConverter<String, Integer> converter = conversionService.findConverter(String, Integer).get()
+
+        when:
+        conversionService.addConverter(String, Integer, { String str -> 42 } as java.util.function.Function)
+
+        then:
+        converter.convert("10", Integer).get() == 42
+    }
 }
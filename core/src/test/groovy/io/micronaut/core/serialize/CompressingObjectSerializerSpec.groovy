@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.core.serialize
+
+import spock.lang.Specification
+
+class CompressingObjectSerializerSpec extends Specification {
+
+    void 'test values below the threshold are not compressed'() {
+        given:
+        def serializer = new CompressingObjectSerializer(ObjectSerializer.JDK, 4096)
+
+        when:
+        byte[] bytes = serializer.serialize("small").get()
+
+        then:
+        bytes[0] == 0 as byte
+        serializer.deserialize(bytes, String).get() == "small"
+    }
+
+    void 'test values above the threshold are compressed'() {
+        given:
+        def serializer = new CompressingObjectSerializer(ObjectSerializer.JDK, 128)
+        String value = "abcdefgh" * 1000
+        byte[] uncompressed = ObjectSerializer.JDK.serialize(value).get()
+
+        when:
+        byte[] bytes = serializer.serialize(value).get()
+
+        then:
+        bytes[0] == 1 as byte
+        bytes.length < uncompressed.length
+        serializer.deserialize(bytes, String).get() == value
+        serializer.deserialize(new ByteArrayInputStream(bytes), String).get() == value
+    }
+
+    void 'test null values'() {
+        given:
+        def serializer = new CompressingObjectSerializer(ObjectSerializer.JDK)
+
+        expect:
+        !serializer.serialize(null).isPresent()
+        !serializer.deserialize((byte[]) null, String).isPresent()
+    }
+}
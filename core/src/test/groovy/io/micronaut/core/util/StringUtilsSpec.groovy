@@ -33,4 +33,37 @@ class StringUtilsSpec extends Specification {
         "micronaut"              | "MICRONAUT"
         null                     | null
     }
+
+    @Unroll
+    void "test internMapOf with #size entries"() {
+        given:
+        Object[] values = (0..<size).collectMany { [new StringBuilder("key" + it), it] } as Object[]
+        Map<String, Object> expected = (0..<size).collectEntries { ["key" + it, it] }
+
+        when:
+        Map<String, Object> map = StringUtils.internMapOf(values)
+
+        then:
+        map == expected
+        map.size() == size
+        (0..<size).every { map.get("key" + it) == it && map.containsKey("key" + it) }
+        !map.containsKey("missing")
+        map.get(null) == null
+        map.keySet().every { it.is(it.intern()) }
+        map.keySet() as List == expected.keySet() as List
+
+        when:
+        map.put("other", 1)
+
+        then:
+        thrown(UnsupportedOperationException)
+
+        where:
+        size << [0, 1, 8, 9, 100]
+    }
+
+    void "test internMapOf replaces repeated keys"() {
+        expect:
+        StringUtils.internMapOf("foo", 1, "bar", 2, "foo", 3) == [foo: 3, bar: 2]
+    }
 }
@@ -30,13 +30,14 @@ import java.util.List;
 
 /**
  * Replaces the default {@link io.micronaut.discovery.DefaultCompositeDiscoveryClient} with one that caches the return
- * values.
+ * values. Not used when instances are watched instead, see {@link WatchingCompositeDiscoveryClient}.
  *
  * @author Graeme Rocher
  * @since 1.0
  */
 @Primary
 @Requires(property = DiscoveryClientCacheConfiguration.SETTING_ENABLED, notEquals = "false")
+@Requires(property = DiscoveryClientWatchConfiguration.SETTING_ENABLED, notEquals = "true")
 @Replaces(DefaultCompositeDiscoveryClient.class)
 public class CachingCompositeDiscoveryClient extends CompositeDiscoveryClient {
 
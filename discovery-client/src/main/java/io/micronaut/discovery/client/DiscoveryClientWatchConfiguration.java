@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.client;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+import java.time.Duration;
+
+/**
+ * Configuration for watching the instances of services, see {@link WatchingCompositeDiscoveryClient}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@ConfigurationProperties(DiscoveryClientWatchConfiguration.PREFIX)
+public class DiscoveryClientWatchConfiguration implements Toggleable {
+
+    /**
+     * The prefix to use for watch settings.
+     */
+    public static final String PREFIX = "micronaut.discovery.watch";
+
+    /**
+     * Configuration property name for enabling watches.
+     */
+    public static final String SETTING_ENABLED = PREFIX + ".enabled";
+
+    @SuppressWarnings("MagicNumber")
+    protected Duration wait = Duration.ofSeconds(30);
+    @SuppressWarnings("MagicNumber")
+    protected Duration interval = Duration.ofSeconds(30);
+    @SuppressWarnings("MagicNumber")
+    protected Duration retryDelay = Duration.ofSeconds(5);
+    protected boolean enabled = false;
+
+    /**
+     * @return Whether the instances of services are watched instead of polled and cached. Defaults to false.
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The maximum time a registry that supports blocking queries holds a request open waiting for a change.
+     * Limited by the read timeout of the client. Defaults to 30 seconds.
+     */
+    public Duration getWait() {
+        return wait;
+    }
+
+    /**
+     * @return The interval at which a registry that does not support blocking queries is asked for changes.
+     * Defaults to 30 seconds.
+     */
+    public Duration getInterval() {
+        return interval;
+    }
+
+    /**
+     * @return The delay before watching again after a watch failed. Defaults to 5 seconds.
+     */
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+}
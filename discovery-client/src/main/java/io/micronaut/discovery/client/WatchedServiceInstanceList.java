@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.client;
+
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.ServiceInstanceList;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.processors.BehaviorProcessor;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link ServiceInstanceList} that is kept up to date by a watch on a registry, see
+ * {@link io.micronaut.discovery.WatchableDiscoveryClient}. If the watch fails it is started again after a delay,
+ * keeping the last known instances in the meantime.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class WatchedServiceInstanceList implements ServiceInstanceList, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WatchedServiceInstanceList.class);
+
+    private final String serviceId;
+    private final BehaviorProcessor<List<ServiceInstance>> instances = BehaviorProcessor.create();
+    private final Disposable subscription;
+
+    /**
+     * @param serviceId  The service ID
+     * @param watch      The watch that emits the instances each time they change
+     * @param retryDelay The delay before watching again after the watch failed
+     */
+    public WatchedServiceInstanceList(String serviceId, Publisher<List<ServiceInstance>> watch, Duration retryDelay) {
+        this.serviceId = serviceId;
+        this.subscription = Flowable.fromPublisher(watch)
+            .retryWhen(errors -> errors.flatMap(error -> {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Watch of the instances of service [" + serviceId + "] failed, watching again in " + retryDelay + ": " + error.getMessage(), error);
+                }
+                return Flowable.timer(retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+            }))
+            .subscribe(serviceInstances -> {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Instances of service [{}] changed: {}", serviceId, serviceInstances);
+                }
+                instances.onNext(Collections.unmodifiableList(serviceInstances));
+            });
+    }
+
+    @Override
+    public String getID() {
+        return serviceId;
+    }
+
+    @Override
+    public List<ServiceInstance> getInstances() {
+        List<ServiceInstance> current = instances.getValue();
+        return current != null ? current : Collections.emptyList();
+    }
+
+    /**
+     * @return Whether the watch has received the instances at least once
+     */
+    public boolean isInitialized() {
+        return instances.hasValue();
+    }
+
+    /**
+     * @return A {@link Flowable} that emits the current instances once they are known
+     */
+    public Flowable<List<ServiceInstance>> current() {
+        return instances.take(1);
+    }
+
+    /**
+     * @return A {@link Flowable} that emits the current instances and then each change
+     */
+    public Flowable<List<ServiceInstance>> changes() {
+        return instances.onBackpressureLatest();
+    }
+
+    @Override
+    public void close() {
+        subscription.dispose();
+        instances.onComplete();
+    }
+}
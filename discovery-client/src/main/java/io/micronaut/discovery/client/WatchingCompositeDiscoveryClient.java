@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.client;
+
+import io.micronaut.context.annotation.Primary;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.CompositeDiscoveryClient;
+import io.micronaut.discovery.DefaultCompositeDiscoveryClient;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.WatchableDiscoveryClient;
+import io.reactivex.Flowable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Replaces the {@link CachingCompositeDiscoveryClient} with one that watches the instances of each service on the
+ * discovery clients that support it, see {@link WatchableDiscoveryClient}. Instead of fetching the full list of
+ * instances from the registry when a cache entry expires, changes are pushed into a
+ * {@link WatchedServiceInstanceList} per service as they happen.</p>
+ *
+ * <p>The first request for a service starts the watch. Until the watch has received the instances, they are fetched
+ * from the discovery client as before, so that a registry that cannot be reached fails the request instead of leaving
+ * it waiting for the watch. Discovery clients that cannot be watched are queried on every request.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Primary
+@Requires(property = DiscoveryClientWatchConfiguration.SETTING_ENABLED, value = StringUtils.TRUE)
+@Replaces(DefaultCompositeDiscoveryClient.class)
+public class WatchingCompositeDiscoveryClient extends CompositeDiscoveryClient {
+
+    private final DiscoveryClient[] discoveryClients;
+    private final DiscoveryClientWatchConfiguration configuration;
+    private final Map<String, WatchedServiceInstanceList> watched = new ConcurrentHashMap<>();
+
+    /**
+     * @param discoveryClients The discovery clients
+     * @param configuration    The watch configuration
+     */
+    public WatchingCompositeDiscoveryClient(DiscoveryClient[] discoveryClients, DiscoveryClientWatchConfiguration configuration) {
+        super(discoveryClients);
+        this.discoveryClients = discoveryClients;
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Flowable<List<ServiceInstance>> getInstances(String serviceId) {
+        String finalServiceId = NameUtils.hyphenate(serviceId);
+        List<Flowable<List<ServiceInstance>>> flowables = new ArrayList<>(discoveryClients.length);
+        for (int i = 0; i < discoveryClients.length; i++) {
+            DiscoveryClient discoveryClient = discoveryClients[i];
+            if (discoveryClient instanceof WatchableDiscoveryClient) {
+                WatchedServiceInstanceList watchedInstances = getWatchedInstances(i, finalServiceId);
+                if (watchedInstances.isInitialized()) {
+                    flowables.add(watchedInstances.current());
+                } else {
+                    flowables.add(Flowable.fromPublisher(discoveryClient.getInstances(finalServiceId)));
+                }
+            } else {
+                flowables.add(Flowable.fromPublisher(discoveryClient.getInstances(finalServiceId)));
+            }
+        }
+        if (flowables.isEmpty()) {
+            return super.getInstances(finalServiceId);
+        }
+        return Flowable.merge(flowables)
+            .reduceWith(() -> new ArrayList<ServiceInstance>(), (instances, otherInstances) -> {
+                instances.addAll(otherInstances);
+                return instances;
+            })
+            .map(instances -> (List<ServiceInstance>) instances)
+            .toFlowable();
+    }
+
+    /**
+     * Returns the lists of instances of a service that are kept up to date by watches, one for each discovery client
+     * that can be watched. The watches are started the first time the lists are requested.
+     *
+     * @param serviceId The service ID
+     * @return The watched lists, which is empty if none of the discovery clients can be watched
+     */
+    public List<WatchedServiceInstanceList> getWatchedInstanceLists(String serviceId) {
+        String finalServiceId = NameUtils.hyphenate(serviceId);
+        List<WatchedServiceInstanceList> lists = new ArrayList<>(discoveryClients.length);
+        for (int i = 0; i < discoveryClients.length; i++) {
+            if (discoveryClients[i] instanceof WatchableDiscoveryClient) {
+                lists.add(getWatchedInstances(i, finalServiceId));
+            }
+        }
+        return lists;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (WatchedServiceInstanceList list : watched.values()) {
+            list.close();
+        }
+        watched.clear();
+        super.close();
+    }
+
+    private WatchedServiceInstanceList getWatchedInstances(int clientIndex, String serviceId) {
+        return watched.computeIfAbsent(clientIndex + ":" + serviceId, key -> {
+            WatchableDiscoveryClient discoveryClient = (WatchableDiscoveryClient) discoveryClients[clientIndex];
+            return new WatchedServiceInstanceList(
+                serviceId,
+                discoveryClient.watchInstances(serviceId),
+                configuration.getRetryDelay()
+            );
+        });
+    }
+}
@@ -167,7 +167,15 @@ public class ConsulConfiguration extends DiscoveryClientConfiguration {
          */
         public static final String PREFIX = ConsulConfiguration.PREFIX + "." + ConfigDiscoveryConfiguration.PREFIX;
 
+        /**
+         * The setting that enables watching the configuration.
+         */
+        public static final String SETTING_WATCH = PREFIX + ".watch";
+
         private String datacenter;
+        private boolean watch = false;
+        private Duration watchWait = Duration.ofSeconds(30);
+        private Duration watchInterval = Duration.ofSeconds(30);
 
         /**
          * The data center to use to read configuration.
@@ -184,6 +192,55 @@ public class ConsulConfiguration extends DiscoveryClientConfiguration {
         public void setDatacenter(String datacenter) {
             this.datacenter = datacenter;
         }
+
+        /**
+         * Whether the configuration in Consul is watched with blocking queries and changed keys are refreshed.
+         *
+         * @return True if the configuration is watched
+         */
+        public boolean isWatch() {
+            return watch;
+        }
+
+        /**
+         * @param watch Whether to watch the configuration
+         */
+        public void setWatch(boolean watch) {
+            this.watch = watch;
+        }
+
+        /**
+         * @return The maximum time Consul holds a blocking query open. Defaults to 30 seconds.
+         */
+        public Duration getWatchWait() {
+            return watchWait;
+        }
+
+        /**
+         * @param watchWait The maximum time Consul holds a blocking query open
+         */
+        public void setWatchWait(Duration watchWait) {
+            if (watchWait != null) {
+                this.watchWait = watchWait;
+            }
+        }
+
+        /**
+         * @return The interval to poll the configuration at when blocking queries are not supported or a query failed.
+         * Defaults to 30 seconds.
+         */
+        public Duration getWatchInterval() {
+            return watchInterval;
+        }
+
+        /**
+         * @param watchInterval The interval to poll the configuration at
+         */
+        public void setWatchInterval(Duration watchInterval) {
+            if (watchInterval != null) {
+                this.watchInterval = watchInterval;
+            }
+        }
     }
 
     /**
@@ -20,14 +20,22 @@ import io.micronaut.context.annotation.Requires;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.WatchableDiscoveryClient;
+import io.micronaut.discovery.client.DiscoveryClientWatchConfiguration;
 import io.micronaut.discovery.consul.ConsulConfiguration;
 import io.micronaut.discovery.consul.ConsulServiceInstance;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Parameter;
+import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.client.Client;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.validation.constraints.NotNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -42,10 +50,17 @@ import java.util.Optional;
 @SuppressWarnings("unused")
 @Client(id = ConsulClient.SERVICE_ID, path = "/v1", configuration = ConsulConfiguration.class)
 @Requires(beans = ConsulConfiguration.class)
-public abstract class AbstractConsulClient implements ConsulClient {
+public abstract class AbstractConsulClient implements ConsulClient, WatchableDiscoveryClient {
+
+    /**
+     * The header that holds the index of the result of a blocking query.
+     */
+    public static final String CONSUL_INDEX_HEADER = "X-Consul-Index";
+
     private static final Logger LOG = LoggerFactory.getLogger(AbstractConsulClient.class);
 
     private ConsulConfiguration consulConfiguration = new ConsulConfiguration();
+    private DiscoveryClientWatchConfiguration watchConfiguration = new DiscoveryClientWatchConfiguration();
 
     /**
      * @param consulConfiguration The Consul configuration
@@ -57,6 +72,16 @@ public abstract class AbstractConsulClient implements ConsulClient {
         }
     }
 
+    /**
+     * @param watchConfiguration The configuration for watching the instances of services
+     */
+    @Inject
+    public void setWatchConfiguration(DiscoveryClientWatchConfiguration watchConfiguration) {
+        if (watchConfiguration != null) {
+            this.watchConfiguration = watchConfiguration;
+        }
+    }
+
     @Override
     public String getDescription() {
         return ConsulClient.SERVICE_ID;
@@ -77,13 +102,79 @@ public abstract class AbstractConsulClient implements ConsulClient {
             Optional<String> scheme = Optional.ofNullable(discovery.getSchemes().get(serviceId));
 
             Publisher<List<HealthEntry>> healthyServicesPublisher = getHealthyServices(serviceId, Optional.of(passing), tag, datacenter);
-            return Publishers.map(healthyServicesPublisher, healthEntries -> {
-                List<ServiceInstance> serviceInstances = new ArrayList<>();
-                for (HealthEntry healthEntry : healthEntries) {
-                    serviceInstances.add(new ConsulServiceInstance(healthEntry, scheme.orElse("http")));
-                }
-                return serviceInstances;
-            });
+            return Publishers.map(healthyServicesPublisher, healthEntries -> toServiceInstances(healthEntries, scheme));
+        }
+    }
+
+    /**
+     * Watches the instances of a service with Consul blocking queries, see {@link ConsulBlockingQuery}. If Consul does
+     * not return an index the instances are polled at the configured interval instead.
+     *
+     * @param serviceId The service id
+     * @return A {@link Publisher} that emits the instances each time they change
+     */
+    @Override
+    public Publisher<List<ServiceInstance>> watchInstances(String serviceId) {
+        String finalServiceId = NameUtils.hyphenate(serviceId);
+        if (SERVICE_ID.equals(finalServiceId)) {
+            return getInstances(finalServiceId);
+        }
+        ConsulConfiguration.ConsulDiscoveryConfiguration discovery = consulConfiguration.getDiscovery();
+        Optional<Boolean> passing = Optional.of(discovery.isPassing());
+        Optional<String> datacenter = Optional.ofNullable(discovery.getDatacenters().get(finalServiceId));
+        Optional<String> tag = Optional.ofNullable(discovery.getTags().get(finalServiceId));
+        Optional<String> scheme = Optional.ofNullable(discovery.getSchemes().get(finalServiceId));
+        Optional<String> wait = Optional.of(ConsulBlockingQuery.getWait(watchConfiguration.getWait(), consulConfiguration).toMillis() + "ms");
+        return ConsulBlockingQuery.watch(
+            index -> watchHealthyServices(finalServiceId, passing, tag, datacenter, Optional.ofNullable(index), wait),
+            watchConfiguration.getInterval()
+        )
+            .map(response -> toServiceInstances(response.getBody().orElse(Collections.emptyList()), scheme));
+    }
+
+    /**
+     * Performs a blocking query for the healthy instances of a service.
+     *
+     * @param service The service
+     * @param passing The passing parameter
+     * @param tag     The tag
+     * @param dc      The dc
+     * @param index   The index of the previous result
+     * @param wait    The maximum time to wait for a change
+     * @return The response with the {@link HealthEntry} instances
+     */
+    @Get("/health/service/{service}{?passing,tag,dc,index,wait}")
+    @Produces(single = true)
+    public abstract Publisher<HttpResponse<List<HealthEntry>>> watchHealthyServices(
+        @NotNull String service,
+        Optional<Boolean> passing,
+        Optional<String> tag,
+        Optional<String> dc,
+        Optional<Long> index,
+        Optional<String> wait);
+
+    /**
+     * Performs a blocking query for the keys below the given key. See https://www.consul.io/api/features/blocking.html.
+     *
+     * @param key        The key
+     * @param datacenter The data center
+     * @param index      The index of the previous result
+     * @param wait       The maximum time to wait for a change
+     * @return The response with the {@link KeyValue} instances
+     */
+    @Get("/kv/{key}?recurse=true{&dc}{&index}{&wait}")
+    @Produces(single = true)
+    public abstract Publisher<HttpResponse<List<KeyValue>>> watchValues(
+        String key,
+        @Nullable @Parameter("dc") String datacenter,
+        @Nullable Long index,
+        @Nullable String wait);
+
+    private List<ServiceInstance> toServiceInstances(List<HealthEntry> healthEntries, Optional<String> scheme) {
+        List<ServiceInstance> serviceInstances = new ArrayList<>(healthEntries.size());
+        for (HealthEntry healthEntry : healthEntries) {
+            serviceInstances.add(new ConsulServiceInstance(healthEntry, scheme.orElse("http")));
         }
+        return serviceInstances;
     }
 }
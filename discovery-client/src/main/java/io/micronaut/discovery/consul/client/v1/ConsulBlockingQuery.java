@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.discovery.consul.client.v1;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.discovery.consul.ConsulConfiguration;
+import io.micronaut.http.HttpResponse;
+import io.reactivex.Flowable;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Repeats Consul blocking queries. Each query passes the index of the previous result and Consul holds it open until
+ * the result changes or the wait time elapses. If Consul does not return an index the query is polled at an interval
+ * instead. See https://www.consul.io/api/features/blocking.html.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Internal
+public final class ConsulBlockingQuery {
+
+    private ConsulBlockingQuery() {
+    }
+
+    /**
+     * Repeats a blocking query and emits the results whose index changed. Every subscription starts without an index,
+     * so retrying the returned {@link Flowable} after an error starts over.
+     *
+     * @param query        The function that performs the query given the index of the previous result, or null
+     * @param pollInterval The interval to poll at if Consul does not return an index
+     * @param <T>          The body type
+     * @return A {@link Flowable} that emits the responses whose result changed
+     */
+    public static <T> Flowable<HttpResponse<T>> watch(Function<Long, Publisher<HttpResponse<T>>> query, Duration pollInterval) {
+        long interval = pollInterval.toMillis();
+        return Flowable.defer(() -> {
+            AtomicLong index = new AtomicLong();
+            AtomicBoolean blocking = new AtomicBoolean();
+            return Flowable.defer(() -> {
+                long currentIndex = index.get();
+                return query.apply(currentIndex > 0 ? currentIndex : null);
+            })
+                .repeatWhen(completed -> completed.concatMap(next ->
+                    blocking.get() ? Flowable.just(next) : Flowable.timer(interval, TimeUnit.MILLISECONDS)
+                ))
+                .filter(response -> {
+                    Optional<Long> resultIndex = response.getHeaders().get(AbstractConsulClient.CONSUL_INDEX_HEADER, Long.class);
+                    if (!resultIndex.isPresent()) {
+                        blocking.set(false);
+                        return true;
+                    }
+                    blocking.set(true);
+                    long previous = index.get();
+                    long next = resultIndex.get();
+                    if (next <= 0 || next < previous) {
+                        // the index went backwards, so start over as advised by the Consul documentation
+                        index.set(0);
+                        return true;
+                    }
+                    index.set(next);
+                    return next != previous;
+                });
+        });
+    }
+
+    /**
+     * Limits the wait time of blocking queries so that Consul answers before the read timeout of the client.
+     *
+     * @param wait                The configured wait time
+     * @param consulConfiguration The Consul configuration
+     * @return The wait time of blocking queries
+     */
+    public static Duration getWait(Duration wait, ConsulConfiguration consulConfiguration) {
+        Optional<Duration> readTimeout = consulConfiguration.getReadTimeout();
+        if (readTimeout.isPresent()) {
+            Duration limit = readTimeout.get().minusSeconds(1);
+            if (limit.compareTo(wait) < 0) {
+                return limit.isNegative() || limit.isZero() ? Duration.ofSeconds(1) : limit;
+            }
+        }
+        return wait;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.consul.config;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.env.Environment;
+import io.micronaut.context.event.ApplicationEventListener;
+import io.micronaut.context.event.ApplicationEventPublisher;
+import io.micronaut.discovery.config.ConfigDiscoveryConfiguration;
+import io.micronaut.discovery.config.ConfigurationClient;
+import io.micronaut.discovery.consul.ConsulConfiguration;
+import io.micronaut.discovery.consul.client.v1.AbstractConsulClient;
+import io.micronaut.discovery.consul.client.v1.ConsulBlockingQuery;
+import io.micronaut.discovery.consul.client.v1.ConsulClient;
+import io.micronaut.discovery.consul.client.v1.KeyValue;
+import io.micronaut.discovery.consul.condition.RequiresConsul;
+import io.micronaut.discovery.event.ServiceStartedEvent;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent;
+import io.micronaut.scheduling.TaskExecutors;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Watches the configuration read by {@link ConsulConfigurationClient} with Consul blocking queries. When the keys
+ * below one of the configuration paths change the {@link Environment} is refreshed and a {@link RefreshEvent} is
+ * published that contains only the properties that changed, so that only the affected
+ * {@link io.micronaut.runtime.context.scope.Refreshable} beans are refreshed.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+@RequiresConsul
+@Requires(beans = ConsulClient.class)
+@Requires(property = ConfigurationClient.ENABLED, value = "true", defaultValue = "false")
+@Requires(property = ConsulConfiguration.ConsulConfigDiscoveryConfiguration.SETTING_WATCH, value = "true", defaultValue = "false")
+public class ConsulConfigurationWatcher implements ApplicationEventListener<ServiceStartedEvent>, Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConsulConfigurationWatcher.class);
+
+    private final AbstractConsulClient consulClient;
+    private final ConsulConfiguration consulConfiguration;
+    private final Environment environment;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CompositeDisposable watches = new CompositeDisposable();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Scheduler scheduler;
+
+    /**
+     * @param consulClient        The Consul client
+     * @param consulConfiguration The Consul configuration
+     * @param environment         The environment
+     * @param eventPublisher      The event publisher
+     * @param executorService     The executor service to refresh the environment on
+     */
+    public ConsulConfigurationWatcher(
+        AbstractConsulClient consulClient,
+        ConsulConfiguration consulConfiguration,
+        Environment environment,
+        ApplicationEventPublisher eventPublisher,
+        @Named(TaskExecutors.IO) ExecutorService executorService) {
+        this.consulClient = consulClient;
+        this.consulConfiguration = consulConfiguration;
+        this.environment = environment;
+        this.eventPublisher = eventPublisher;
+        this.scheduler = Schedulers.from(executorService);
+    }
+
+    @Override
+    public void onApplicationEvent(ServiceStartedEvent event) {
+        if (started.compareAndSet(false, true)) {
+            for (String key : getWatchedKeys()) {
+                watches.add(watchKeys(key).observeOn(scheduler).subscribe(
+                    changedKeys -> refresh(key, changedKeys),
+                    throwable -> {
+                        if (LOG.isErrorEnabled()) {
+                            LOG.error("Stopped watching configuration [" + key + "] in Consul: " + throwable.getMessage(), throwable);
+                        }
+                    }
+                ));
+            }
+        }
+    }
+
+    /**
+     * Stops watching the configuration.
+     */
+    @PreDestroy
+    @Override
+    public void close() {
+        watches.dispose();
+    }
+
+    /**
+     * Watches the keys below the given key. The first result is the baseline and each following result whose keys
+     * or values differ emits the keys that were added, removed or modified.
+     *
+     * @param key The key
+     * @return A {@link Flowable} that emits the changed keys
+     */
+    protected Flowable<Set<String>> watchKeys(String key) {
+        ConsulConfiguration.ConsulConfigDiscoveryConfiguration configuration = consulConfiguration.getConfiguration();
+        String dc = configuration.getDatacenter().orElse(null);
+        String wait = ConsulBlockingQuery.getWait(configuration.getWatchWait(), consulConfiguration).toMillis() + "ms";
+        Duration interval = configuration.getWatchInterval();
+
+        Map<String, String> snapshot = new HashMap<>();
+        AtomicBoolean initialized = new AtomicBoolean();
+
+        return ConsulBlockingQuery.watch(index -> Flowable.fromPublisher(consulClient.watchValues(key, dc, index, wait))
+            .onErrorResumeNext(throwable -> {
+                if (throwable instanceof HttpClientResponseException) {
+                    HttpClientResponseException responseException = (HttpClientResponseException) throwable;
+                    if (responseException.getStatus() == HttpStatus.NOT_FOUND) {
+                        // no keys below the path yet, the response still carries the index
+                        MutableHttpResponse<List<KeyValue>> empty = HttpResponse.ok(Collections.emptyList());
+                        String resultIndex = responseException.getResponse().getHeaders().get(AbstractConsulClient.CONSUL_INDEX_HEADER);
+                        if (resultIndex != null) {
+                            empty.header(AbstractConsulClient.CONSUL_INDEX_HEADER, resultIndex);
+                        }
+                        return Flowable.just(empty);
+                    }
+                }
+                return Flowable.error(throwable);
+            }), interval)
+            .retryWhen(errors -> errors.flatMap(throwable -> {
+                if (LOG.isWarnEnabled()) {
+                    LOG.warn("Error watching configuration [" + key + "] in Consul, watching again in " + interval.toMillis() + "ms: " + throwable.getMessage());
+                }
+                return Flowable.timer(interval.toMillis(), TimeUnit.MILLISECONDS);
+            }))
+            .map(response -> {
+                Map<String, String> current = toMap(response);
+                Set<String> changedKeys = diff(snapshot, current);
+                snapshot.clear();
+                snapshot.putAll(current);
+                return initialized.getAndSet(true) ? changedKeys : Collections.<String>emptySet();
+            })
+            .filter(changedKeys -> !changedKeys.isEmpty());
+    }
+
+    /**
+     * Refreshes the environment after keys changed in Consul and publishes a {@link RefreshEvent} for the properties
+     * that changed as a result.
+     *
+     * @param key         The watched key
+     * @param changedKeys The keys that changed in Consul
+     */
+    protected synchronized void refresh(String key, Set<String> changedKeys) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Configuration [{}] changed in Consul: {}", key, changedKeys);
+        }
+        Map<String, Object> changes = environment.refreshAndDiff();
+        if (!changes.isEmpty()) {
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Refreshing properties changed in Consul: {}", changes.keySet());
+            }
+            eventPublisher.publishEvent(new RefreshEvent(changes));
+        }
+    }
+
+    private List<String> getWatchedKeys() {
+        ConfigDiscoveryConfiguration configuration = consulConfiguration.getConfiguration();
+        String path = configuration.getPath().orElse(ConfigDiscoveryConfiguration.DEFAULT_PATH);
+        if (!path.endsWith("/")) {
+            path += "/";
+        }
+        List<String> keys = new ArrayList<>(2);
+        keys.add(path + Environment.DEFAULT_NAME);
+        consulConfiguration.getServiceId().ifPresent(serviceId -> keys.add(path + serviceId));
+        return keys;
+    }
+
+    private static Map<String, String> toMap(HttpResponse<List<KeyValue>> response) {
+        Optional<List<KeyValue>> body = response.getBody();
+        if (!body.isPresent()) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> values = new HashMap<>();
+        for (KeyValue keyValue : body.get()) {
+            values.put(keyValue.getKey(), keyValue.getValue());
+        }
+        return values;
+    }
+
+    private static Set<String> diff(Map<String, String> previous, Map<String, String> current) {
+        Set<String> changedKeys = new TreeSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            String key = entry.getKey();
+            if (!previous.containsKey(key) || !Objects.equals(previous.get(key), entry.getValue())) {
+                changedKeys.add(key);
+            }
+        }
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                changedKeys.add(key);
+            }
+        }
+        return changedKeys;
+    }
+}
@@ -107,6 +107,7 @@ public class ConsulAutoRegistration extends DiscoveryServiceAutoRegistration {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Successfully reported passing state to Consul");
                         }
+                        heartbeatSucceeded();
                     }
 
                     @Override
@@ -115,6 +116,7 @@ public class ConsulAutoRegistration extends DiscoveryServiceAutoRegistration {
                         if (LOG.isErrorEnabled()) {
                             LOG.error(errorMessage, throwable);
                         }
+                        heartbeatFailed();
 
                     }
 
@@ -136,6 +138,7 @@ public class ConsulAutoRegistration extends DiscoveryServiceAutoRegistration {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Successfully reported failure state to Consul");
                         }
+                        heartbeatSucceeded();
                     }
 
                     @Override
@@ -144,6 +147,7 @@ public class ConsulAutoRegistration extends DiscoveryServiceAutoRegistration {
                         if (LOG.isErrorEnabled()) {
                             LOG.error(errorMessage, throwable);
                         }
+                        heartbeatFailed();
                     }
 
                     @Override
@@ -212,7 +216,9 @@ public class ConsulAutoRegistration extends DiscoveryServiceAutoRegistration {
 
                         if (heartbeatConfiguration.isEnabled() && !checkConfig.isHttp()) {
                             TTLCheck ttlCheck = new TTLCheck();
-                            ttlCheck.ttl(heartbeatConfiguration.getInterval().plus(Duration.ofSeconds(10)));
+                            Duration interval = heartbeatConfiguration.getInterval();
+                            Duration maxJitter = Duration.ofMillis((long) (interval.toMillis() * heartbeatConfiguration.getJitter()));
+                            ttlCheck.ttl(interval.plus(maxJitter).plus(Duration.ofSeconds(10)));
                             check = ttlCheck;
                         } else {
 
@@ -27,6 +27,8 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.WatchableDiscoveryClient;
+import io.micronaut.discovery.client.DiscoveryClientWatchConfiguration;
 import io.micronaut.discovery.eureka.EurekaConfiguration;
 import io.micronaut.discovery.eureka.EurekaServiceInstance;
 import io.micronaut.discovery.eureka.condition.RequiresEureka;
@@ -41,8 +43,11 @@ import io.micronaut.validation.Validated;
 import io.reactivex.Flowable;
 import org.reactivestreams.Publisher;
 
+import javax.inject.Inject;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 /**
@@ -59,7 +64,21 @@ import java.util.stream.Collectors;
 )
 @Validated
 @RequiresEureka
-abstract class AbstractEurekaClient implements EurekaClient {
+abstract class AbstractEurekaClient implements EurekaClient, WatchableDiscoveryClient {
+
+    private static final int FULL_FETCH_TICKS = 10;
+
+    private DiscoveryClientWatchConfiguration watchConfiguration = new DiscoveryClientWatchConfiguration();
+
+    /**
+     * @param watchConfiguration The configuration for watching the instances of services
+     */
+    @Inject
+    public void setWatchConfiguration(DiscoveryClientWatchConfiguration watchConfiguration) {
+        if (watchConfiguration != null) {
+            this.watchConfiguration = watchConfiguration;
+        }
+    }
 
     @Override
     public String getDescription() {
@@ -92,6 +111,43 @@ abstract class AbstractEurekaClient implements EurekaClient {
         });
     }
 
+    /**
+     * Watches the instances of a service with the Eureka delta endpoint, which returns the instances that changed
+     * recently. At the configured interval the deltas are fetched, and only if they include the service are its
+     * instances fetched again. Every few intervals the instances are fetched regardless, in case a delta was missed.
+     *
+     * @param serviceId The service id
+     * @return A {@link Publisher} that emits the instances each time they may have changed
+     */
+    @Override
+    public Publisher<List<ServiceInstance>> watchInstances(String serviceId) {
+        String finalServiceId = NameUtils.hyphenate(serviceId);
+        long interval = watchConfiguration.getInterval().toMillis();
+        return Flowable.defer(() -> {
+            AtomicBoolean fetched = new AtomicBoolean();
+            Flowable<List<ServiceInstance>> fullFetch = Flowable.fromPublisher(getInstances(finalServiceId))
+                .doOnNext(instances -> fetched.set(true));
+            return Flowable.interval(0, interval, TimeUnit.MILLISECONDS)
+                .onBackpressureDrop()
+                .concatMap(tick -> {
+                    if (!fetched.get() || tick % FULL_FETCH_TICKS == 0) {
+                        return fullFetch;
+                    }
+                    return Flowable.fromPublisher(getApplicationDeltasInternal())
+                        .flatMap(deltas -> {
+                            for (ApplicationInfo application : deltas.getApplications()) {
+                                if (finalServiceId.equalsIgnoreCase(application.getName())) {
+                                    return fullFetch;
+                                }
+                            }
+                            return Flowable.empty();
+                        })
+                        // the registry may have deltas disabled
+                        .onErrorResumeNext(fullFetch);
+                });
+        });
+    }
+
     @Override
     public Publisher<List<ApplicationInfo>> getApplicationInfos() {
         return Publishers.map(getApplicationInfosInternal(), applicationInfos -> applicationInfos.applications);
@@ -121,6 +177,14 @@ abstract class AbstractEurekaClient implements EurekaClient {
     @Produces(single = true)
     public abstract Publisher<ApplicationInfos> getApplicationInfosInternal();
 
+    /**
+     * @return A {@link Publisher} with the applications that have instances that changed recently
+     */
+    @SuppressWarnings("WeakerAccess")
+    @Get("/apps/delta")
+    @Produces(single = true)
+    public abstract Publisher<ApplicationInfos> getApplicationDeltasInternal();
+
     /**
      * @param vipAddress The vip address
      * @return A {@link Publisher} with applications info
@@ -92,6 +92,7 @@ public class EurekaAutoRegistration extends DiscoveryServiceAutoRegistration {
                         if (LOG.isDebugEnabled()) {
                             LOG.debug("Successfully reported passing state to Eureka");
                         }
+                        heartbeatSucceeded();
                     }
 
                     @Override
@@ -100,6 +101,7 @@ public class EurekaAutoRegistration extends DiscoveryServiceAutoRegistration {
                         if (LOG.isErrorEnabled()) {
                             LOG.error(errorMessage, t);
                         }
+                        heartbeatFailed();
                     }
 
                     @Override
@@ -121,6 +123,7 @@ public class EurekaAutoRegistration extends DiscoveryServiceAutoRegistration {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Successfully reported status {} to Eureka", s);
                             }
+                            heartbeatSucceeded();
                         }
 
                         @Override
@@ -129,6 +132,7 @@ public class EurekaAutoRegistration extends DiscoveryServiceAutoRegistration {
                             if (LOG.isErrorEnabled()) {
                                 LOG.error(errorMessage, t);
                             }
+                            heartbeatFailed();
                         }
 
                         @Override
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.client
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.io.socket.SocketUtils
+import io.micronaut.discovery.DiscoveryClient
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.WatchableDiscoveryClient
+import io.micronaut.discovery.consul.MockConsulServer
+import io.micronaut.discovery.consul.client.v1.ConsulClient
+import io.micronaut.discovery.consul.client.v1.NewServiceEntry
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import io.reactivex.processors.BehaviorProcessor
+import org.reactivestreams.Publisher
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+
+class WatchingCompositeDiscoveryClientSpec extends Specification {
+
+    void "test instances are pushed by the watch"() {
+        given:
+        TestWatchableClient watchable = new TestWatchableClient()
+        WatchingCompositeDiscoveryClient client = new WatchingCompositeDiscoveryClient(
+            [watchable] as DiscoveryClient[],
+            new DiscoveryClientWatchConfiguration()
+        )
+        ServiceInstance first = ServiceInstance.of("test", "localhost", 8081)
+        ServiceInstance second = ServiceInstance.of("test", "localhost", 8082)
+
+        when:
+        watchable.instances.onNext([first])
+
+        then:
+        client.getInstances("test").blockingFirst() == [first]
+        watchable.watches.get() == 1
+
+        when:
+        watchable.instances.onNext([first, second])
+
+        then:"the change is visible without fetching the instances again"
+        client.getInstances("test").blockingFirst() == [first, second]
+        client.getWatchedInstanceLists("test")[0].instances == [first, second]
+        watchable.watches.get() == 1
+
+        cleanup:
+        client.close()
+    }
+
+    void "test a failed watch is started again"() {
+        given:
+        TestWatchableClient watchable = new TestWatchableClient()
+        DiscoveryClientWatchConfiguration configuration = new DiscoveryClientWatchConfiguration()
+        configuration.retryDelay = java.time.Duration.ofMillis(10)
+        WatchingCompositeDiscoveryClient client = new WatchingCompositeDiscoveryClient([watchable] as DiscoveryClient[], configuration)
+        ServiceInstance first = ServiceInstance.of("test", "localhost", 8081)
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+
+        when:
+        watchable.instances.onNext([first])
+        client.getInstances("test").blockingFirst()
+        BehaviorProcessor<List<ServiceInstance>> failed = watchable.instances
+        watchable.instances = BehaviorProcessor.createDefault([first])
+        failed.onError(new RuntimeException("Bad"))
+
+        then:
+        conditions.eventually {
+            assert watchable.watches.get() == 2
+        }
+        client.getInstances("test").blockingFirst() == [first]
+
+        cleanup:
+        client.close()
+    }
+
+    void "test instances are fetched until the watch has received them"() {
+        given:
+        TestWatchableClient watchable = new TestWatchableClient(fetched: Flowable.error(new RuntimeException("Unreachable")))
+        WatchingCompositeDiscoveryClient client = new WatchingCompositeDiscoveryClient(
+            [watchable] as DiscoveryClient[],
+            new DiscoveryClientWatchConfiguration()
+        )
+        ServiceInstance first = ServiceInstance.of("test", "localhost", 8081)
+
+        when:"the watch has not received the instances"
+        client.getInstances("test").timeout(5, TimeUnit.SECONDS).blockingFirst()
+
+        then:"the failure of the fetch is returned"
+        RuntimeException e = thrown()
+        e.message == "Unreachable"
+
+        when:
+        watchable.instances.onNext([first])
+
+        then:
+        client.getInstances("test").blockingFirst() == [first]
+
+        cleanup:
+        client.close()
+    }
+
+    void "test a Consul registry that cannot be reached fails the request"() {
+        given:
+        ApplicationContext context = ApplicationContext.run(
+            'consul.client.host': 'localhost',
+            'consul.client.port': SocketUtils.findAvailableTcpPort(),
+            'micronaut.discovery.watch.enabled': true
+        )
+        DiscoveryClient discoveryClient = context.getBean(DiscoveryClient)
+
+        when:
+        Flowable.fromPublisher(discoveryClient.getInstances('unreachable-service'))
+            .timeout(10, TimeUnit.SECONDS)
+            .blockingFirst()
+
+        then:
+        RuntimeException e = thrown()
+        !(e instanceof TimeoutException) && !(e.cause instanceof TimeoutException)
+
+        cleanup:
+        context.close()
+    }
+
+    void "test Consul instances are watched"() {
+        given:
+        EmbeddedServer consulServer = ApplicationContext.run(EmbeddedServer, [(MockConsulServer.ENABLED): true])
+        ApplicationContext context = ApplicationContext.run(
+            'consul.client.host': 'localhost',
+            'consul.client.port': consulServer.getPort(),
+            'micronaut.discovery.watch.enabled': true,
+            'micronaut.discovery.watch.interval': '100ms'
+        )
+        ConsulClient consulClient = context.getBean(ConsulClient)
+        DiscoveryClient discoveryClient = context.getBean(DiscoveryClient)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        discoveryClient instanceof WatchingCompositeDiscoveryClient
+        Flowable.fromPublisher(discoveryClient.getInstances('watched-service')).blockingFirst().isEmpty()
+
+        when:
+        Flowable.fromPublisher(consulClient.register(new NewServiceEntry("watched-service").address("localhost").port(8081))).blockingFirst()
+
+        then:
+        conditions.eventually {
+            assert Flowable.fromPublisher(discoveryClient.getInstances('watched-service')).blockingFirst().size() == 1
+        }
+
+        cleanup:
+        Flowable.fromPublisher(consulClient.deregister('watched-service')).blockingFirst()
+        context.close()
+        consulServer.close()
+    }
+
+    static class TestWatchableClient implements WatchableDiscoveryClient {
+        BehaviorProcessor<List<ServiceInstance>> instances = BehaviorProcessor.create()
+        Flowable<List<ServiceInstance>> fetched
+        AtomicInteger watches = new AtomicInteger()
+
+        @Override
+        Publisher<List<ServiceInstance>> watchInstances(String serviceId) {
+            Flowable.defer {
+                watches.incrementAndGet()
+                instances
+            }
+        }
+
+        @Override
+        Publisher<List<ServiceInstance>> getInstances(String serviceId) {
+            fetched != null ? fetched : Flowable.just(instances.value)
+        }
+
+        @Override
+        Publisher<List<String>> getServiceIds() {
+            Flowable.just(["test"])
+        }
+
+        @Override
+        String getDescription() {
+            "test"
+        }
+
+        @Override
+        void close() throws IOException {
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery.consul
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.discovery.config.ConfigurationClient
+import io.micronaut.discovery.consul.client.v1.ConsulClient
+import io.micronaut.discovery.consul.config.ConsulConfigurationWatcher
+import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Flowable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+
+class ConsulConfigurationWatcherSpec extends Specification {
+
+    @AutoCleanup
+    @Shared
+    EmbeddedServer consulServer = ApplicationContext.run(EmbeddedServer, [
+            (MockConsulServer.ENABLED): true
+    ])
+
+    @AutoCleanup
+    @Shared
+    ApplicationContext someContext = ApplicationContext.run(
+            [
+                    'consul.client.host': 'localhost',
+                    'consul.client.port': consulServer.getPort()]
+    )
+
+    @Shared
+    ConsulClient client = someContext.getBean(ConsulClient)
+
+    void "test only the properties changed in Consul are refreshed"() {
+        given:
+        writeValue("watched-app", "watched.value", "one")
+        writeValue("watched-app", "unchanged.value", "same")
+        EmbeddedServer embeddedServer = ApplicationContext.run(EmbeddedServer, [
+                'spec.name'                          : ConsulConfigurationWatcherSpec.simpleName,
+                (ConfigurationClient.ENABLED)        : true,
+                'micronaut.application.name'         : 'watched-app',
+                'consul.client.host'                 : 'localhost',
+                'consul.client.port'                 : consulServer.port,
+                'consul.client.config.watch'         : true,
+                'consul.client.config.watch-interval': '100ms'
+        ])
+        ApplicationContext applicationContext = embeddedServer.applicationContext
+        RefreshListener listener = applicationContext.getBean(RefreshListener)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        applicationContext.containsBean(ConsulConfigurationWatcher)
+        applicationContext.environment.getProperty('watched.value', String).get() == 'one'
+
+        when:"a value is changed in Consul"
+        writeValue("watched-app", "watched.value", "two")
+
+        then:"the environment is refreshed and the event only contains the changed property"
+        conditions.eventually {
+            assert applicationContext.environment.getProperty('watched.value', String).get() == 'two'
+            assert listener.events.size() == 1
+        }
+        listener.events[0].source.containsKey('watched.value')
+        !listener.events[0].source.containsKey('unchanged.value')
+
+        cleanup:
+        embeddedServer?.close()
+    }
+
+    private void writeValue(String env, String name, String value) {
+        Flowable.fromPublisher(client.putValue("/config/$env/$name", value)).blockingFirst()
+    }
+
+    @Singleton
+    @Requires(property = 'spec.name', value = 'ConsulConfigurationWatcherSpec')
+    static class RefreshListener implements ApplicationEventListener<RefreshEvent> {
+        List<RefreshEvent> events = [].asSynchronized()
+
+        @Override
+        void onApplicationEvent(RefreshEvent event) {
+            events.add(event)
+        }
+    }
+}
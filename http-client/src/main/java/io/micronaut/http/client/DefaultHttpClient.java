@@ -41,6 +41,8 @@ import io.micronaut.http.client.exceptions.ContentLengthExceededException;
 import io.micronaut.http.client.exceptions.HttpClientException;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
 import io.micronaut.http.client.exceptions.ReadTimeoutException;
+import io.micronaut.http.client.loadbalance.LoadBalancerStatistics;
+import io.micronaut.http.client.loadbalance.ServiceInstanceStatistics;
 import io.micronaut.http.client.multipart.MultipartBody;
 import io.micronaut.http.client.ssl.NettyClientSslBuilder;
 import io.micronaut.http.codec.CodecException;
@@ -167,6 +169,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, C
 
     private final Scheduler scheduler;
     private final LoadBalancer loadBalancer;
+    private final LoadBalancerStatistics loadBalancerStatistics;
     private final HttpClientConfiguration configuration;
     private final SslContext sslContext;
     private final AnnotationMetadataResolver annotatationMetadataResolver;
@@ -198,6 +201,7 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, C
                              HttpClientFilter... filters) {
 
         this.loadBalancer = loadBalancer;
+        this.loadBalancerStatistics = loadBalancer.getStatistics().orElse(null);
         this.defaultCharset = configuration.getDefaultCharset();
         this.bootstrap = new Bootstrap();
         this.configuration = configuration;
@@ -376,20 +380,20 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, C
     @Override
     public <I> Flowable<ByteBuffer<?>> dataStream(io.micronaut.http.HttpRequest<I> request) {
         return Flowable.fromPublisher(resolveRequestURI(request))
-            .flatMap(buildDataStreamPublisher(request));
+            .flatMap(recordStatistics(buildDataStreamPublisher(request)));
 
     }
 
     @Override
     public <I> Flowable<io.micronaut.http.HttpResponse<ByteBuffer<?>>> exchangeStream(io.micronaut.http.HttpRequest<I> request) {
         return Flowable.fromPublisher(resolveRequestURI(request))
-            .flatMap(buildExchangeStreamPublisher(request));
+            .flatMap(recordStatistics(buildExchangeStreamPublisher(request)));
     }
 
     @Override
     public <I, O> Flowable<O> jsonStream(io.micronaut.http.HttpRequest<I> request, io.micronaut.core.type.Argument<O> type) {
         return Flowable.fromPublisher(resolveRequestURI(request))
-            .flatMap(buildJsonStreamPublisher(request, type));
+            .flatMap(recordStatistics(buildJsonStreamPublisher(request, type)));
     }
 
     @SuppressWarnings("unchecked")
@@ -408,7 +412,57 @@ public class DefaultHttpClient implements RxHttpClient, RxStreamingHttpClient, C
     public <I, O> Flowable<io.micronaut.http.HttpResponse<O>> exchange(io.micronaut.http.HttpRequest<I> request, io.micronaut.core.type.Argument<O> bodyType) {
         Publisher<URI> uriPublisher = resolveRequestURI(request);
         return Flowable.fromPublisher(uriPublisher)
-            .switchMap(buildExchangePublisher(request, bodyType));
+            .switchMap(recordStatistics(buildExchangePublisher(request, bodyType)));
+    }
+
+    /**
+     * Records the requests sent by the given publishers in the statistics of the load balancer, if it keeps any.
+     *
+     * @param publisherFunction The function that builds the publisher for a resolved URI
+     * @param <T>               The emitted type
+     * @return A {@link Function}
+     */
+    private <T> Function<URI, Publisher<T>> recordStatistics(Function<URI, ? extends Publisher<? extends T>> publisherFunction) {
+        LoadBalancerStatistics statistics = this.loadBalancerStatistics;
+        if (statistics == null) {
+            return requestURI -> Flowable.fromPublisher(publisherFunction.apply(requestURI));
+        }
+        return requestURI -> {
+            ServiceInstanceStatistics instanceStatistics = statistics.get(requestURI);
+            Flowable<T> flowable = Flowable.fromPublisher(publisherFunction.apply(requestURI));
+            return Flowable.defer(() -> {
+                long start = System.nanoTime();
+                AtomicReference<Boolean> failed = new AtomicReference<>();
+                instanceStatistics.requestStarted();
+                return flowable
+                    .doOnNext(value -> {
+                        if (value instanceof io.micronaut.http.HttpResponse && isServerError(((io.micronaut.http.HttpResponse) value).getStatus())) {
+                            failed.set(true);
+                        }
+                    })
+                    .doOnError(throwable -> {
+                        if (throwable instanceof HttpClientResponseException) {
+                            failed.set(isServerError(((HttpClientResponseException) throwable).getStatus()));
+                        } else if (throwable instanceof HttpClientException) {
+                            failed.set(true);
+                        }
+                    })
+                    .doOnComplete(() -> failed.compareAndSet(null, false))
+                    .doFinally(() -> {
+                        instanceStatistics.requestCompleted(System.nanoTime() - start);
+                        Boolean outcome = failed.get();
+                        if (outcome == Boolean.TRUE) {
+                            instanceStatistics.requestFailed();
+                        } else if (outcome == Boolean.FALSE) {
+                            instanceStatistics.requestSucceeded();
+                        }
+                    });
+            });
+        };
+    }
+
+    private static boolean isServerError(HttpStatus status) {
+        return status.getCode() >= HttpStatus.INTERNAL_SERVER_ERROR.getCode();
     }
 
     /**
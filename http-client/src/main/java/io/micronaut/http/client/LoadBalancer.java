@@ -20,10 +20,12 @@ import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.discovery.exceptions.NoAvailableServiceException;
 import io.micronaut.http.client.loadbalance.FixedLoadBalancer;
+import io.micronaut.http.client.loadbalance.LoadBalancerStatistics;
 import org.reactivestreams.Publisher;
 
 import javax.annotation.Nullable;
 import java.net.URL;
+import java.util.Optional;
 
 /**
  * Interface to abstract server selection. Allows plugging in load balancing strategies.
@@ -40,6 +42,19 @@ public interface LoadBalancer {
      */
     Publisher<ServiceInstance> select(@Nullable Object discriminator);
 
+    /**
+     * Selects an instance other than the given instance, for example to send a hedged request to a different instance
+     * than the first request. Load balancers that do not know the available instances ignore the excluded instance,
+     * and the excluded instance is still selected if it is the only one available.
+     *
+     * @param discriminator An object used to discriminate the server to select. Usually the service ID
+     * @param excluded      The instance to avoid, if any
+     * @return The selected {@link ServiceInstance}
+     */
+    default Publisher<ServiceInstance> select(@Nullable Object discriminator, @Nullable ServiceInstance excluded) {
+        return select(discriminator);
+    }
+
     /**
      * @return The selected {@link ServiceInstance}
      */
@@ -47,6 +62,16 @@ public interface LoadBalancer {
         return select(null);
     }
 
+    /**
+     * Load balancers that select instances based on their load return the statistics that the
+     * {@link DefaultHttpClient} should record the requests it sends to the selected instances in.
+     *
+     * @return The statistics to record requests in, if any
+     */
+    default Optional<LoadBalancerStatistics> getStatistics() {
+        return Optional.empty();
+    }
+
     /**
      * A {@link LoadBalancer} that does no load balancing and always hits the given URL.
      *
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.hedge;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Hedges the requests of a {@link io.micronaut.http.client.Client} method. If the first request has not been
+ * answered after a delay, a second request is sent to the instance the {@link io.micronaut.http.client.LoadBalancer}
+ * selects next. The first response wins and the other request is cancelled.</p>
+ *
+ * <p>Only applies to GET, HEAD and OPTIONS requests that return a single result, since sending a request twice must
+ * be safe.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+public @interface Hedged {
+
+    /**
+     * A String representation of the {@link java.time.Duration} after which the hedged request is sent. When a
+     * {@link #percentile()} is set, this delay is used until enough latencies have been observed.
+     *
+     * @return The delay
+     */
+    String delay() default "100ms";
+
+    /**
+     * The percentile of the observed latencies of the method after which the hedged request is sent. For example a
+     * value of 95 sends a second request for the slowest 5% of requests.
+     *
+     * @return The percentile or an empty string to always use the {@link #delay()}
+     */
+    String percentile() default "";
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.hedge;
+
+import io.reactivex.Flowable;
+import org.reactivestreams.Publisher;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * <p>Sends a hedged request if the first request of a {@link Hedged} method takes longer than a delay. The delay is
+ * either fixed or a percentile of the latencies of recent first requests, which are sampled in a ring buffer.</p>
+ *
+ * <p>The latency of a first request that loses to the hedged request is recorded as the time until it was cancelled,
+ * which understates it. This keeps the percentile from drifting down just because hedging made responses faster.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class HedgingPolicy {
+
+    private static final int SAMPLES = 256;
+    private static final int RECOMPUTE_INTERVAL = 64;
+
+    private final long delayNanos;
+    private final double percentile;
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private final AtomicLong sampleCount = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    /**
+     * @param delay      The fixed delay, or the delay to use until enough latencies are observed
+     * @param percentile The percentile of the observed latencies to use as delay, or zero to always use the fixed delay
+     */
+    public HedgingPolicy(Duration delay, double percentile) {
+        if (percentile < 0 || percentile >= 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        this.delayNanos = delay.toNanos();
+        this.percentile = percentile;
+    }
+
+    /**
+     * @return The current delay after which a hedged request is sent
+     */
+    public Duration getDelay() {
+        long observed = percentileNanos;
+        return Duration.ofNanos(observed >= 0 ? observed : delayNanos);
+    }
+
+    /**
+     * Subscribes to a publisher produced by the given supplier and, if no result arrives within the current delay,
+     * to a second publisher produced by the supplier. The first result is emitted and the other request is
+     * cancelled. A failure of one request is only emitted if the other one fails too or was never sent.
+     *
+     * @param attempt Supplies the publisher that sends a request and emits at most one result
+     * @param <T>     The result type
+     * @return The hedged publisher
+     */
+    public <T> Flowable<T> hedge(Supplier<? extends Publisher<? extends T>> attempt) {
+        return hedge(attempt, attempt);
+    }
+
+    /**
+     * Subscribes to the publisher produced by the first supplier and, if no result arrives within the current delay,
+     * to the publisher produced by the hedge supplier. The hedge supplier is only called once the delay has passed, so
+     * it can take into account where the first request was sent.
+     *
+     * @param first Supplies the publisher that sends the first request and emits at most one result
+     * @param hedge Supplies the publisher that sends the hedged request and emits at most one result
+     * @param <T>   The result type
+     * @return The hedged publisher
+     * @see #hedge(Supplier)
+     */
+    public <T> Flowable<T> hedge(Supplier<? extends Publisher<? extends T>> first, Supplier<? extends Publisher<? extends T>> hedge) {
+        return Flowable.defer(() -> {
+            AtomicInteger pending = new AtomicInteger(1);
+            long start = System.nanoTime();
+            AtomicLong primaryLatency = new AtomicLong(-1);
+            Flowable<Optional<T>> primary = attempt(first, pending)
+                .doFinally(() -> primaryLatency.compareAndSet(-1, System.nanoTime() - start));
+            Flowable<Optional<T>> hedged = Flowable.timer(getDelay().toNanos(), TimeUnit.NANOSECONDS)
+                .flatMap(tick -> {
+                    pending.incrementAndGet();
+                    return attempt(hedge, pending);
+                });
+            return Flowable.merge(primary, hedged)
+                .take(1)
+                .doFinally(() -> record(primaryLatency.get() >= 0 ? primaryLatency.get() : System.nanoTime() - start))
+                .flatMap(result -> result.isPresent() ? Flowable.just(result.get()) : Flowable.<T>empty());
+        });
+    }
+
+    private <T> Flowable<Optional<T>> attempt(Supplier<? extends Publisher<? extends T>> attempt, AtomicInteger pending) {
+        return Flowable.<T>fromPublisher(attempt.get())
+            .map(Optional::of)
+            .first(Optional.empty())
+            .toFlowable()
+            .onErrorResumeNext(throwable -> pending.decrementAndGet() == 0 ? Flowable.error(throwable) : Flowable.never());
+    }
+
+    private void record(long latencyNanos) {
+        if (percentile <= 0) {
+            return;
+        }
+        long count = sampleCount.getAndIncrement();
+        samples.set((int) (count % SAMPLES), latencyNanos);
+        if ((count + 1) % RECOMPUTE_INTERVAL == 0) {
+            int size = (int) Math.min(count + 1, SAMPLES);
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.min(size - 1, Math.ceil(percentile / 100 * size) - 1);
+            percentileNanos = sorted[Math.max(0, index)];
+        }
+    }
+}
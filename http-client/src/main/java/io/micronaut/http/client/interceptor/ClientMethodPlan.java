@@ -0,0 +1,285 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.interceptor;
+
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.annotation.Parameter;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.core.type.Argument;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.http.HttpMethod;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.Body;
+import io.micronaut.http.annotation.Consumes;
+import io.micronaut.http.annotation.CookieValue;
+import io.micronaut.http.annotation.Header;
+import io.micronaut.http.annotation.Headers;
+import io.micronaut.http.annotation.HttpMethodMapping;
+import io.micronaut.http.annotation.Produces;
+import io.micronaut.http.client.Client;
+import io.micronaut.http.client.exceptions.HttpClientException;
+import io.micronaut.http.client.hedge.Hedged;
+import io.micronaut.http.client.hedge.HedgingPolicy;
+import io.micronaut.http.uri.UriMatchTemplate;
+
+import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The result of analyzing a declarative client method once. It holds everything that only depends on the method and
+ * its annotations so that each invocation only has to bind the argument values.
+ *
+ * @author agent
+ * @since 1.0
+ */
+final class ClientMethodPlan {
+
+    /**
+     * The default Accept-Types.
+     */
+    private static final MediaType[] DEFAULT_ACCEPT_TYPES = {MediaType.APPLICATION_JSON_TYPE};
+
+    final HttpClientIntroductionAdvice.ClientRegistration registration;
+    final HttpMethod httpMethod;
+    final boolean permitsRequestBody;
+    final UriMatchTemplate uriTemplate;
+    final boolean variablesSatisfied;
+    final String templateAttribute;
+    final String serviceId;
+    final Map<String, String> headers;
+    final ArgumentBinding[] bindings;
+    final boolean hasBodyArguments;
+    final String[] nonNullableArguments;
+
+    final Class<?> javaReturnType;
+    final boolean future;
+    final boolean reactive;
+    final boolean single;
+    final Argument<?> publisherArgument;
+    final Class<?> argumentType;
+    final Argument<?> returnArgument;
+    final Argument<?> responseBodyArgument;
+    final MediaType[] contentTypes;
+    final MediaType[] acceptTypes;
+    final HedgingPolicy hedgingPolicy;
+
+    /**
+     * Analyzes a client method.
+     *
+     * @param context          The invocation context
+     * @param clientAnnotation The client annotation
+     * @param registration     The registration of the client
+     * @param httpMethodMapping The HTTP method mapping annotation of the method
+     */
+    ClientMethodPlan(
+        MethodInvocationContext<Object, Object> context,
+        Client clientAnnotation,
+        HttpClientIntroductionAdvice.ClientRegistration registration,
+        Class<? extends Annotation> httpMethodMapping) {
+
+        this.registration = registration;
+
+        String uri = context.getValue(HttpMethodMapping.class, String.class).orElse("");
+        if (StringUtils.isEmpty(uri)) {
+            uri = "/" + context.getMethodName();
+        }
+        this.httpMethod = HttpMethod.valueOf(httpMethodMapping.getSimpleName().toUpperCase());
+        this.permitsRequestBody = HttpMethod.permitsRequestBody(httpMethod);
+
+        String contextPath = registration.contextPath;
+        UriMatchTemplate template = UriMatchTemplate.of(contextPath != null ? contextPath : "/");
+        if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
+            template = template.nest(uri);
+        }
+        this.uriTemplate = template;
+        List<String> uriVariables = template.getVariables();
+        this.templateAttribute = resolveTemplate(clientAnnotation, template.toString());
+        this.serviceId = clientAnnotation.value()[0];
+
+        Map<String, String> staticHeaders = new LinkedHashMap<>();
+        Headers headersAnnotation = context.getAnnotation(Headers.class);
+        if (headersAnnotation != null) {
+            for (Header header : headersAnnotation.value()) {
+                staticHeaders.put(header.name(), header.value());
+            }
+        }
+        this.headers = Collections.unmodifiableMap(staticHeaders);
+
+        Argument[] arguments = context.getArguments();
+        List<String> argumentNames = new ArrayList<>(arguments.length);
+        List<String> nonNullable = new ArrayList<>(arguments.length);
+        List<ArgumentBinding> argumentBindings = new ArrayList<>(arguments.length);
+        boolean bodyArguments = false;
+        boolean body = false;
+        for (int i = 0; i < arguments.length; i++) {
+            Argument argument = arguments[i];
+            String argumentName = argument.getName();
+            argumentNames.add(argumentName);
+            if (!argument.isAnnotationPresent(Nullable.class)) {
+                nonNullable.add(argumentName);
+            }
+            if (body) {
+                continue;
+            }
+            if (argument.isAnnotationPresent(Body.class)) {
+                argumentBindings.add(new ArgumentBinding(i, argumentName, BindingType.BODY, argumentName));
+                body = true;
+            } else if (argument.isAnnotationPresent(Header.class)) {
+                String headerName = argument.getAnnotation(Header.class).value();
+                if (StringUtils.isEmpty(headerName)) {
+                    headerName = NameUtils.hyphenate(argumentName);
+                }
+                argumentBindings.add(new ArgumentBinding(i, argumentName, BindingType.HEADER, headerName));
+            } else if (argument.isAnnotationPresent(CookieValue.class)) {
+                String cookieName = argument.getAnnotation(CookieValue.class).value();
+                if (StringUtils.isEmpty(cookieName)) {
+                    cookieName = argumentName;
+                }
+                argumentBindings.add(new ArgumentBinding(i, argumentName, BindingType.COOKIE, cookieName));
+            } else if (argument.isAnnotationPresent(Parameter.class)) {
+                String parameterName = argument.getAnnotation(Parameter.class).value();
+                if (!StringUtils.isEmpty(parameterName)) {
+                    argumentBindings.add(new ArgumentBinding(i, argumentName, BindingType.PARAMETER, parameterName));
+                }
+            } else if (!uriVariables.contains(argumentName)) {
+                argumentBindings.add(new ArgumentBinding(i, argumentName, BindingType.BODY_PART, argumentName));
+                bodyArguments = true;
+            }
+        }
+        this.bindings = argumentBindings.toArray(new ArgumentBinding[0]);
+        this.hasBodyArguments = bodyArguments;
+        this.nonNullableArguments = nonNullable.toArray(new String[0]);
+        this.variablesSatisfied = uriVariables.isEmpty() || uriVariables.containsAll(argumentNames);
+
+        ReturnType returnType = context.getReturnType();
+        this.javaReturnType = returnType.getType();
+        this.returnArgument = returnType.asArgument();
+        this.responseBodyArgument = returnArgument.getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
+        this.future = CompletableFuture.class.isAssignableFrom(javaReturnType);
+        this.reactive = future || Publishers.isConvertibleToPublisher(javaReturnType);
+        this.publisherArgument = responseBodyArgument;
+        this.argumentType = publisherArgument.getType();
+        boolean isSingle = Publishers.isSingle(javaReturnType) || future || context.getValue(Produces.class, "single", Boolean.class).orElse(false);
+        if (HttpResponse.class.isAssignableFrom(argumentType) || HttpStatus.class.isAssignableFrom(argumentType)) {
+            isSingle = true;
+        }
+        this.single = isSingle;
+        this.contentTypes = context.getValue(Consumes.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
+        this.acceptTypes = context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
+        this.hedgingPolicy = (!reactive || single) ? resolveHedgingPolicy(context, httpMethod) : null;
+    }
+
+    /**
+     * @return Whether the request has a content type
+     */
+    boolean hasContentType() {
+        return permitsRequestBody && ArrayUtils.isNotEmpty(contentTypes);
+    }
+
+    /**
+     * Resolves the hedging policy of a method annotated with {@link Hedged}. Requests that are not safe to send twice
+     * are never hedged.
+     *
+     * @param context    The invocation context
+     * @param httpMethod The HTTP method of the request
+     * @return The hedging policy or null if requests of the method are not hedged
+     */
+    private static HedgingPolicy resolveHedgingPolicy(MethodInvocationContext<Object, Object> context, HttpMethod httpMethod) {
+        if (httpMethod != HttpMethod.GET && httpMethod != HttpMethod.HEAD && httpMethod != HttpMethod.OPTIONS) {
+            return null;
+        }
+        if (!context.hasAnnotation(Hedged.class)) {
+            return null;
+        }
+        String delayValue = context.getValue(Hedged.class, "delay", String.class).orElse("100ms");
+        Duration delay = ConversionService.SHARED.convert(delayValue, Duration.class).orElseThrow(() ->
+            new HttpClientException("Invalid hedging delay [" + delayValue + "] specified to @Hedged on method: " + context)
+        );
+        double percentile = context.getValue(Hedged.class, "percentile", String.class)
+            .filter(StringUtils::isNotEmpty)
+            .map(value -> ConversionService.SHARED.convert(value, Double.class).orElseThrow(() ->
+                new HttpClientException("Invalid hedging percentile [" + value + "] specified to @Hedged on method: " + context)
+            ))
+            .orElse(0d);
+        return new HedgingPolicy(delay, percentile);
+    }
+
+    /**
+     * Resolve the template for the client annotation.
+     *
+     * @param clientAnnotation client annotation reference
+     * @param templateString   template to be applied
+     * @return resolved template contents
+     */
+    private static String resolveTemplate(Client clientAnnotation, String templateString) {
+        String path = clientAnnotation.path();
+        if (StringUtils.isNotEmpty(path)) {
+            return path + templateString;
+        } else {
+            String[] value = clientAnnotation.value();
+            if (ArrayUtils.isNotEmpty(value)) {
+                if (value[0].startsWith("/")) {
+                    return value[0] + templateString;
+                }
+            }
+            return templateString;
+        }
+    }
+
+    /**
+     * How an argument is bound to the request.
+     */
+    enum BindingType {
+        BODY, HEADER, COOKIE, PARAMETER, BODY_PART
+    }
+
+    /**
+     * The binding of an argument to the request.
+     */
+    static final class ArgumentBinding {
+        final int index;
+        final String argumentName;
+        final BindingType type;
+        final String name;
+
+        /**
+         * @param index        The index of the argument
+         * @param argumentName The name of the argument
+         * @param type         How the argument is bound
+         * @param name         The name of the header, cookie or parameter the argument is bound to
+         */
+        ArgumentBinding(int index, String argumentName, BindingType type, String name) {
+            this.index = index;
+            this.argumentName = argumentName;
+            this.type = type;
+            this.name = name;
+        }
+    }
+}
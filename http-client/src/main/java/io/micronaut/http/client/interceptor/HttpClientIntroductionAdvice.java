@@ -22,31 +22,23 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
 import io.micronaut.context.BeanContext;
-import io.micronaut.context.annotation.Parameter;
-import io.micronaut.core.async.publisher.Publishers;
 import io.micronaut.core.async.subscriber.CompletionAwareSubscriber;
 import io.micronaut.core.beans.BeanMap;
 import io.micronaut.core.convert.ConversionService;
-import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
-import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
 import io.micronaut.core.util.StringUtils;
+import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.http.HttpAttributes;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpRequest;
-import io.micronaut.http.annotation.Body;
-import io.micronaut.http.annotation.Consumes;
-import io.micronaut.http.annotation.CookieValue;
-import io.micronaut.http.annotation.Header;
-import io.micronaut.http.annotation.Headers;
 import io.micronaut.http.annotation.HttpMethodMapping;
-import io.micronaut.http.annotation.Produces;
 import io.micronaut.http.client.*;
 import io.micronaut.http.client.exceptions.HttpClientException;
 import io.micronaut.http.client.exceptions.HttpClientResponseException;
@@ -60,6 +52,7 @@ import io.micronaut.jackson.ObjectMapperFactory;
 import io.micronaut.jackson.annotation.JacksonFeatures;
 import io.micronaut.jackson.codec.JsonMediaTypeCodec;
 import io.micronaut.runtime.ApplicationConfiguration;
+import io.reactivex.Flowable;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscription;
 import org.slf4j.Logger;
@@ -71,6 +64,8 @@ import javax.inject.Singleton;
 import java.io.Closeable;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
@@ -80,6 +75,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * Introduction advice that implements the {@link Client} annotation.
@@ -92,16 +88,12 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultHttpClient.class);
 
-    /**
-     * The default Accept-Types.
-     */
-    private static final MediaType[] DEFAULT_ACCEPT_TYPES = {MediaType.APPLICATION_JSON_TYPE};
-
     final int HEADERS_INITIAL_CAPACITY = 3;
     private final BeanContext beanContext;
     private final Map<Integer, ClientRegistration> clients = new ConcurrentHashMap<>();
     private final ReactiveClientResultTransformer[] transformers;
     private final LoadBalancerResolver loadBalancerResolver;
+    private final Map<Class<?>, Map<Method, Optional<ClientMethodPlan>>> plans = new ConcurrentHashMap<>();
 
     /**
      * Constructor for advice class to setup things like Headers, Cookies, Parameters for Clients.
@@ -128,325 +120,365 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
      */
     @Override
     public Object intercept(MethodInvocationContext<Object, Object> context) {
-        Client clientAnnotation = context.getAnnotation(Client.class);
-        if (clientAnnotation == null) {
-            throw new IllegalStateException("Client advice called from type that is not annotated with @Client: " + context);
+        ClientMethodPlan plan = getPlan(context);
+        if (plan == null) {
+            checkNullArguments(context);
+            // try other introduction advice
+            return context.proceed();
         }
 
-        for (MutableArgumentValue<?> argumentValue : context.getParameters().values()) {
-            if (argumentValue.getValue() == null && !argumentValue.isAnnotationPresent(Nullable.class)) {
+        Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
+        for (String argumentName : plan.nonNullableArguments) {
+            MutableArgumentValue<?> argumentValue = parameters.get(argumentName);
+            if (argumentValue != null && argumentValue.getValue() == null) {
                 throw new IllegalArgumentException(
                     String.format("Null values are not allowed to be passed to client methods (%s). Add @javax.validation.Nullable if that is the desired behavior", context.getTargetMethod().toString())
                 );
             }
         }
 
-        ClientRegistration reg = getClient(context, clientAnnotation);
-        Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
-        if (httpMethodMapping.isPresent() && reg != null) {
-            String uri = context.getValue(HttpMethodMapping.class, String.class).orElse("");
-            if (StringUtils.isEmpty(uri)) {
-                uri = "/" + context.getMethodName();
-            }
-
-            Class<? extends Annotation> annotationType = httpMethodMapping.get();
-
-            HttpMethod httpMethod = HttpMethod.valueOf(annotationType.getSimpleName().toUpperCase());
-
-            ReturnType returnType = context.getReturnType();
-            Class<?> javaReturnType = returnType.getType();
-
-            String contextPath = reg.contextPath;
-            UriMatchTemplate uriTemplate = UriMatchTemplate.of(contextPath != null ? contextPath : "/");
-            if (!(uri.length() == 1 && uri.charAt(0) == '/')) {
-                uriTemplate = uriTemplate.nest(uri);
-            }
-
-            Map<String, Object> paramMap = context.getParameterValueMap();
-            List<String> uriVariables = uriTemplate.getVariables();
-
-            boolean variableSatisfied = uriVariables.isEmpty() || uriVariables.containsAll(paramMap.keySet());
-            MutableHttpRequest<Object> request;
-            Object body = null;
-            Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
-            Argument[] arguments = context.getArguments();
-
-
-            Map<String, String> headers = new LinkedHashMap<>(HEADERS_INITIAL_CAPACITY);
-
-            Headers headersAnnotation = context.getAnnotation(Headers.class);
-            if (headersAnnotation != null) {
-                Header[] headerArray = headersAnnotation.value();
-                for (Header header : headerArray) {
-                    String headerName = header.name();
-                    String headerValue = header.value();
-                    headers.put(headerName, headerValue);
-                }
-            }
-
-            List<NettyCookie> cookies = new ArrayList<>();
-            List<Argument> bodyArguments = new ArrayList<>();
-            for (Argument argument : arguments) {
-                String argumentName = argument.getName();
-                if (argument.isAnnotationPresent(Body.class)) {
-                    body = parameters.get(argumentName).getValue();
+        HttpMethod httpMethod = plan.httpMethod;
+        UriMatchTemplate uriTemplate = plan.uriTemplate;
+        Map<String, Object> paramMap = context.getParameterValueMap();
+        Object[] values = context.getParameterValues();
+        MutableHttpRequest<Object> request;
+        Object body = null;
+        String uri;
+
+        Map<String, String> headers = new LinkedHashMap<>(HEADERS_INITIAL_CAPACITY);
+        headers.putAll(plan.headers);
+
+        List<NettyCookie> cookies = null;
+        Map<String, Object> bodyMap = null;
+        for (ClientMethodPlan.ArgumentBinding binding : plan.bindings) {
+            Object value = values[binding.index];
+            switch (binding.type) {
+                case BODY:
+                    body = value;
                     break;
-                } else if (argument.isAnnotationPresent(Header.class)) {
-
-                    String headerName = argument.getAnnotation(Header.class).value();
-                    if (StringUtils.isEmpty(headerName)) {
-                        headerName = NameUtils.hyphenate(argumentName);
-                    }
-                    MutableArgumentValue<?> value = parameters.get(argumentName);
-                    String finalHeaderName = headerName;
-                    ConversionService.SHARED.convert(value.getValue(), String.class)
-                        .ifPresent(o -> headers.put(finalHeaderName, o));
-                } else if (argument.isAnnotationPresent(CookieValue.class)) {
-                    Object cookieValue = parameters.get(argumentName).getValue();
-                    String cookieName = argument.getAnnotation(CookieValue.class).value();
-                    if (StringUtils.isEmpty(cookieName)) {
-                        cookieName = argumentName;
+                case HEADER:
+                    ConversionService.SHARED.convert(value, String.class)
+                        .ifPresent(o -> headers.put(binding.name, o));
+                    break;
+                case COOKIE:
+                    Optional<String> cookieValue = ConversionService.SHARED.convert(value, String.class);
+                    if (cookieValue.isPresent()) {
+                        if (cookies == null) {
+                            cookies = new ArrayList<>();
+                        }
+                        cookies.add(new NettyCookie(binding.name, cookieValue.get()));
                     }
-                    String finalCookieName = cookieName;
-
-                    ConversionService.SHARED.convert(cookieValue, String.class)
-                        .ifPresent(o -> cookies.add(new NettyCookie(finalCookieName, o)));
-
-                } else if (argument.isAnnotationPresent(Parameter.class)) {
-                    String parameterName = argument.getAnnotation(Parameter.class).value();
-                    if (!StringUtils.isEmpty(parameterName)) {
-                        MutableArgumentValue<?> value = parameters.get(argumentName);
-                        ConversionService.SHARED.convert(value.getValue(), String.class)
-                            .ifPresent(o -> paramMap.put(parameterName, o));
+                    break;
+                case PARAMETER:
+                    ConversionService.SHARED.convert(value, String.class)
+                        .ifPresent(o -> paramMap.put(binding.name, o));
+                    break;
+                case BODY_PART:
+                    if (plan.permitsRequestBody) {
+                        if (bodyMap == null) {
+                            bodyMap = new LinkedHashMap<>();
+                        }
+                        bodyMap.put(binding.argumentName, value);
                     }
-                } else if (!uriVariables.contains(argumentName)) {
-                    bodyArguments.add(argument);
-                }
+                    break;
+                default:
+                    // no-op
             }
-            if (HttpMethod.permitsRequestBody(httpMethod)) {
-                if (body == null && !bodyArguments.isEmpty()) {
-                    Map<String, Object> bodyMap = new LinkedHashMap<>();
-
-                    for (Argument bodyArgument : bodyArguments) {
-                        String argumentName = bodyArgument.getName();
-                        MutableArgumentValue<?> value = parameters.get(argumentName);
-                        bodyMap.put(argumentName, value.getValue());
-                    }
-                    body = bodyMap;
-                }
+        }
+        if (plan.permitsRequestBody) {
+            if (body == null && bodyMap != null) {
+                body = bodyMap;
+            }
+
+            if (body != null) {
+                if (!plan.variablesSatisfied) {
 
-                if (body != null) {
-                    if (!variableSatisfied) {
-
-                        if (body instanceof Map) {
-                            paramMap.putAll((Map) body);
-                            uri = uriTemplate.expand(paramMap);
-                            request = HttpRequest.create(httpMethod, uri);
-                        } else {
-                            BeanMap<Object> beanMap = BeanMap.of(body);
-                            for (Map.Entry<String, Object> entry : beanMap.entrySet()) {
-                                String k = entry.getKey();
-                                Object v = entry.getValue();
-                                if (v != null) {
-                                    paramMap.put(k, v);
-                                }
+                    if (body instanceof Map) {
+                        paramMap.putAll((Map) body);
+                    } else {
+                        BeanMap<Object> beanMap = BeanMap.of(body);
+                        for (Map.Entry<String, Object> entry : beanMap.entrySet()) {
+                            String k = entry.getKey();
+                            Object v = entry.getValue();
+                            if (v != null) {
+                                paramMap.put(k, v);
                             }
-                            uri = uriTemplate.expand(paramMap);
-                            request = HttpRequest.create(httpMethod, uri);
                         }
-                    } else {
-                        uri = uriTemplate.expand(paramMap);
-                        request = HttpRequest.create(httpMethod, uri);
                     }
-                    request.body(body);
-                } else {
-                    uri = uriTemplate.expand(paramMap);
-                    request = HttpRequest.create(httpMethod, uri);
                 }
+                uri = uriTemplate.expand(paramMap);
+                request = HttpRequest.create(httpMethod, uri);
+                request.body(body);
             } else {
                 uri = uriTemplate.expand(paramMap);
                 request = HttpRequest.create(httpMethod, uri);
             }
+        } else {
+            uri = uriTemplate.expand(paramMap);
+            request = HttpRequest.create(httpMethod, uri);
+        }
 
-            // Set the URI template used to make the request for tracing purposes
-            request.setAttribute(HttpAttributes.URI_TEMPLATE, resolveTemplate(clientAnnotation, uriTemplate.toString()));
-            String serviceId = clientAnnotation.value()[0];
-            request.setAttribute(HttpAttributes.SERVICE_ID, serviceId);
+        // Set the URI template used to make the request for tracing purposes
+        request.setAttribute(HttpAttributes.URI_TEMPLATE, plan.templateAttribute);
+        request.setAttribute(HttpAttributes.SERVICE_ID, plan.serviceId);
 
 
-            if (!headers.isEmpty()) {
-                for (Map.Entry<String, String> entry : headers.entrySet()) {
-                    request.header(entry.getKey(), entry.getValue());
-                }
+        if (!headers.isEmpty()) {
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                request.header(entry.getKey(), entry.getValue());
             }
+        }
 
+        if (cookies != null) {
             cookies.forEach(request::cookie);
+        }
 
-            HttpClient httpClient = reg.httpClient;
-
-            boolean isFuture = CompletableFuture.class.isAssignableFrom(javaReturnType);
-            final Class<Object> methodDeclaringType = context.getDeclaringType();
-            if (Publishers.isConvertibleToPublisher(javaReturnType) || isFuture) {
-                boolean isSingle = Publishers.isSingle(javaReturnType) || isFuture || context.getValue(Produces.class, "single", Boolean.class).orElse(false);
-                Argument<?> publisherArgument = returnType.asArgument().getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT);
-
+        HttpClient httpClient = plan.registration.httpClient;
 
-                Class<?> argumentType = publisherArgument.getType();
+        Class<?> javaReturnType = plan.javaReturnType;
+        final Class<Object> methodDeclaringType = context.getDeclaringType();
+        if (plan.reactive) {
+            Argument<?> publisherArgument = plan.publisherArgument;
+            Class<?> argumentType = plan.argumentType;
 
-                if (HttpResponse.class.isAssignableFrom(argumentType) || HttpStatus.class.isAssignableFrom(argumentType)) {
-                    isSingle = true;
-                }
+            Publisher<?> publisher;
 
+            if (plan.hasContentType()) {
+                request.contentType(plan.contentTypes[0]);
+            }
 
-                Publisher<?> publisher;
+            if (!plan.single && httpClient instanceof StreamingHttpClient) {
+                StreamingHttpClient streamingHttpClient = (StreamingHttpClient) httpClient;
+                if (HttpResponse.class.isAssignableFrom(argumentType)) {
+                    request.accept(plan.acceptTypes);
+                    publisher = streamingHttpClient.exchangeStream(
+                            request
+                    );
+                } else if (Void.class.isAssignableFrom(argumentType)) {
+                    publisher = streamingHttpClient.exchangeStream(
+                            request
+                    );
+                } else {
+                    request.accept(plan.acceptTypes);
 
-                MediaType[] contentTypes = context.getValue(Consumes.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
-                if (ArrayUtils.isNotEmpty(contentTypes) && HttpMethod.permitsRequestBody(request.getMethod())) {
-                    request.contentType(contentTypes[0]);
+                    publisher = streamingHttpClient.jsonStream(
+                            request, publisherArgument
+                    );
                 }
 
-                if (!isSingle && httpClient instanceof StreamingHttpClient) {
-                    StreamingHttpClient streamingHttpClient = (StreamingHttpClient) httpClient;
-                    if (HttpResponse.class.isAssignableFrom(argumentType)) {
-                        request.accept(context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES));
-                        publisher = streamingHttpClient.exchangeStream(
-                                request
-                        );
-                    } else if (Void.class.isAssignableFrom(argumentType)) {
-                        publisher = streamingHttpClient.exchangeStream(
-                                request
-                        );
-                    } else {
-                        MediaType[] acceptTypes = context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
-                        request.accept(acceptTypes);
-
-                        publisher = streamingHttpClient.jsonStream(
-                                request, publisherArgument
-                        );
-                    }
+            } else {
 
+                Function<HttpRequest<Object>, Publisher<?>> send;
+                if (HttpResponse.class.isAssignableFrom(argumentType)) {
+                    request.accept(plan.acceptTypes);
+                    send = r -> httpClient.exchange(
+                            r, publisherArgument
+                    );
+                } else if (Void.class.isAssignableFrom(argumentType)) {
+                    send = r -> httpClient.exchange(
+                            r
+                    );
                 } else {
+                    request.accept(plan.acceptTypes);
 
-                    if (HttpResponse.class.isAssignableFrom(argumentType)) {
-                        request.accept(context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES));
-                        publisher = httpClient.exchange(
-                                request, publisherArgument
-                        );
-                    } else if (Void.class.isAssignableFrom(argumentType)) {
-                        publisher = httpClient.exchange(
-                                request
-                        );
-                    } else {
-                        MediaType[] acceptTypes = context.getValue(Produces.class, MediaType[].class).orElse(DEFAULT_ACCEPT_TYPES);
-                        request.accept(acceptTypes);
-
-                        publisher = httpClient.retrieve(
-                                request, publisherArgument
-                        );
-                    }
+                    send = r -> httpClient.retrieve(
+                            r, publisherArgument
+                    );
                 }
+                publisher = plan.hedgingPolicy != null ? hedge(plan, request, send) : send.apply(request);
+            }
 
-                if (isFuture) {
-                    CompletableFuture<Object> future = new CompletableFuture<>();
-                    publisher.subscribe(new CompletionAwareSubscriber<Object>() {
-                        AtomicReference<Object> reference = new AtomicReference<>();
+            if (plan.future) {
+                CompletableFuture<Object> future = new CompletableFuture<>();
+                publisher.subscribe(new CompletionAwareSubscriber<Object>() {
+                    AtomicReference<Object> reference = new AtomicReference<>();
 
-                        @Override
-                        protected void doOnSubscribe(Subscription subscription) {
-                            subscription.request(1);
-                        }
+                    @Override
+                    protected void doOnSubscribe(Subscription subscription) {
+                        subscription.request(1);
+                    }
 
-                        @Override
-                        protected void doOnNext(Object message) {
-                            if (!Void.class.isAssignableFrom(argumentType)) {
-                                reference.set(message);
-                            }
+                    @Override
+                    protected void doOnNext(Object message) {
+                        if (!Void.class.isAssignableFrom(argumentType)) {
+                            reference.set(message);
                         }
+                    }
 
-                        @Override
-                        protected void doOnError(Throwable t) {
-                            if (t instanceof HttpClientResponseException) {
-                                HttpClientResponseException e = (HttpClientResponseException) t;
-                                if (e.getStatus() == HttpStatus.NOT_FOUND) {
-                                    future.complete(null);
-                                    return;
-                                }
-                            }
-                            if (LOG.isErrorEnabled()) {
-                                LOG.error("Client [" + methodDeclaringType.getName() + "] received HTTP error response: " + t.getMessage(), t);
+                    @Override
+                    protected void doOnError(Throwable t) {
+                        if (t instanceof HttpClientResponseException) {
+                            HttpClientResponseException e = (HttpClientResponseException) t;
+                            if (e.getStatus() == HttpStatus.NOT_FOUND) {
+                                future.complete(null);
+                                return;
                             }
-
-                            future.completeExceptionally(t);
                         }
-
-                        @Override
-                        protected void doOnComplete() {
-                            future.complete(reference.get());
+                        if (LOG.isErrorEnabled()) {
+                            LOG.error("Client [" + methodDeclaringType.getName() + "] received HTTP error response: " + t.getMessage(), t);
                         }
-                    });
-                    return future;
-                } else {
-                    Object finalPublisher = ConversionService.SHARED.convert(publisher, javaReturnType).orElseThrow(() ->
-                        new HttpClientException("Cannot convert response publisher to Reactive type (Unsupported Reactive type): " + javaReturnType)
-                    );
-                    for (ReactiveClientResultTransformer transformer : transformers) {
-                        finalPublisher = transformer.transform(finalPublisher);
+
+                        future.completeExceptionally(t);
+                    }
+
+                    @Override
+                    protected void doOnComplete() {
+                        future.complete(reference.get());
                     }
-                    return finalPublisher;
+                });
+                return future;
+            } else {
+                Object finalPublisher = ConversionService.SHARED.convert(publisher, javaReturnType).orElseThrow(() ->
+                    new HttpClientException("Cannot convert response publisher to Reactive type (Unsupported Reactive type): " + javaReturnType)
+                );
+                for (ReactiveClientResultTransformer transformer : transformers) {
+                    finalPublisher = transformer.transform(finalPublisher);
                 }
+                return finalPublisher;
+            }
+        } else {
+            BlockingHttpClient blockingHttpClient = plan.hedgingPolicy != null ? hedgedBlockingClient(plan) : httpClient.toBlocking();
+            if (HttpResponse.class.isAssignableFrom(javaReturnType)) {
+                return blockingHttpClient.exchange(
+                    request, plan.responseBodyArgument
+                );
+            } else if (void.class == javaReturnType) {
+                blockingHttpClient.exchange(request);
+                return null;
             } else {
-                BlockingHttpClient blockingHttpClient = httpClient.toBlocking();
-                if (HttpResponse.class.isAssignableFrom(javaReturnType)) {
-                    return blockingHttpClient.exchange(
-                        request, returnType.asArgument().getFirstTypeVariable().orElse(Argument.OBJECT_ARGUMENT)
+                try {
+                    return blockingHttpClient.retrieve(
+                        request, plan.returnArgument
                     );
-                } else if (void.class == javaReturnType) {
-                    blockingHttpClient.exchange(request);
-                    return null;
-                } else {
-                    try {
-                        return blockingHttpClient.retrieve(
-                            request, returnType.asArgument()
-                        );
-                    } catch (RuntimeException t) {
-                        if (t instanceof HttpClientResponseException && ((HttpClientResponseException) t).getStatus() == HttpStatus.NOT_FOUND) {
-                            if (javaReturnType == Optional.class) {
-                                return Optional.empty();
-                            }
-                            return null;
-                        } else {
-                            throw t;
+                } catch (RuntimeException t) {
+                    if (t instanceof HttpClientResponseException && ((HttpClientResponseException) t).getStatus() == HttpStatus.NOT_FOUND) {
+                        if (javaReturnType == Optional.class) {
+                            return Optional.empty();
                         }
+                        return null;
+                    } else {
+                        throw t;
                     }
                 }
             }
         }
-        // try other introduction advice
-        return context.proceed();
     }
 
     /**
-     * Resolve the template for the client annotation.
+     * Resolves the plan of a client method, analyzing the method on the first call.
      *
-     * @param clientAnnotation client annotation reference
-     * @param templateString   template to be applied
-     * @return resolved template contents
+     * @param context The invocation context
+     * @return The plan or null if the method is not a client method
      */
-    private String resolveTemplate(Client clientAnnotation, String templateString) {
-        String path = clientAnnotation.path();
-        if (StringUtils.isNotEmpty(path)) {
-            return path + templateString;
-        } else {
-            String[] value = clientAnnotation.value();
-            if (ArrayUtils.isNotEmpty(value)) {
-                if (value[0].startsWith("/")) {
-                    return value[0] + templateString;
-                }
+    private ClientMethodPlan getPlan(MethodInvocationContext<Object, Object> context) {
+        Map<Method, Optional<ClientMethodPlan>> methodPlans = plans.computeIfAbsent(context.getTarget().getClass(), type -> new ConcurrentHashMap<>());
+        Method method = context.getTargetMethod();
+        Optional<ClientMethodPlan> plan = methodPlans.get(method);
+        if (plan == null) {
+            Client clientAnnotation = context.getAnnotation(Client.class);
+            if (clientAnnotation == null) {
+                throw new IllegalStateException("Client advice called from type that is not annotated with @Client: " + context);
+            }
+            ClientRegistration reg = getClient(context, clientAnnotation);
+            Optional<Class<? extends Annotation>> httpMethodMapping = context.getAnnotationTypeByStereotype(HttpMethodMapping.class);
+            if (httpMethodMapping.isPresent() && reg != null) {
+                plan = Optional.of(new ClientMethodPlan(context, clientAnnotation, reg, httpMethodMapping.get()));
+            } else {
+                plan = Optional.empty();
+            }
+            methodPlans.put(method, plan);
+        }
+        return plan.orElse(null);
+    }
+
+    private void checkNullArguments(MethodInvocationContext<Object, Object> context) {
+        for (MutableArgumentValue<?> argumentValue : context.getParameters().values()) {
+            if (argumentValue.getValue() == null && !argumentValue.isAnnotationPresent(Nullable.class)) {
+                throw new IllegalArgumentException(
+                    String.format("Null values are not allowed to be passed to client methods (%s). Add @javax.validation.Nullable if that is the desired behavior", context.getTargetMethod().toString())
+                );
             }
-            return templateString;
         }
     }
 
+    /**
+     * @param plan The plan of a hedged method
+     * @return A blocking client that hedges requests
+     */
+    private BlockingHttpClient hedgedBlockingClient(ClientMethodPlan plan) {
+        HttpClient httpClient = plan.registration.httpClient;
+        return new BlockingHttpClient() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public <I, O> HttpResponse<O> exchange(HttpRequest<I> request, Argument<O> bodyType) {
+                return (HttpResponse<O>) hedge(plan, request, r -> httpClient.exchange(r, bodyType)).blockingFirst();
+            }
+        };
+    }
+
+    /**
+     * Sends a request with the hedging policy of the plan. Each attempt sends its own copy of the request to an
+     * instance selected for that attempt, and the hedged attempt avoids the instance of the first attempt.
+     *
+     * @param plan    The plan of a hedged method
+     * @param request The request to send
+     * @param send    Sends a copy of the request
+     * @return The hedged publisher
+     */
+    private Flowable<Object> hedge(ClientMethodPlan plan, HttpRequest<?> request, Function<HttpRequest<Object>, Publisher<?>> send) {
+        LoadBalancer loadBalancer = plan.registration.loadBalancer;
+        return Flowable.defer(() -> {
+            AtomicReference<ServiceInstance> firstInstance = new AtomicReference<>();
+            return plan.hedgingPolicy.hedge(
+                () -> sendAttempt(loadBalancer, null, firstInstance, request, send),
+                () -> sendAttempt(loadBalancer, firstInstance.get(), null, request, send)
+            );
+        });
+    }
+
+    /**
+     * @param loadBalancer The load balancer of the client
+     * @param excluded     The instance to avoid, if any
+     * @param selected     Receives the selected instance, if not null
+     * @param request      The request to send
+     * @param send         Sends a copy of the request
+     * @return The publisher of the attempt
+     */
+    private Publisher<?> sendAttempt(
+            LoadBalancer loadBalancer,
+            @Nullable ServiceInstance excluded,
+            @Nullable AtomicReference<ServiceInstance> selected,
+            HttpRequest<?> request,
+            Function<HttpRequest<Object>, Publisher<?>> send) {
+        URI requestURI = request.getUri();
+        if (requestURI.getScheme() != null) {
+            return send.apply(copyRequest(request, requestURI));
+        }
+        return Flowable.fromPublisher(loadBalancer.select(null, excluded)).switchMap(instance -> {
+            if (selected != null) {
+                selected.set(instance);
+            }
+            MutableHttpRequest<Object> attempt = copyRequest(request, instance.resolve(requestURI));
+            instance.getMetadata().get(HttpHeaders.AUTHORIZATION_INFO, String.class).ifPresent(authInfo ->
+                attempt.getHeaders().auth(authInfo)
+            );
+            return send.apply(attempt);
+        });
+    }
+
+    /**
+     * @param request The request
+     * @param uri     The URI of the copy
+     * @return A copy of the request with the given URI
+     */
+    private static MutableHttpRequest<Object> copyRequest(HttpRequest<?> request, URI uri) {
+        MutableHttpRequest<Object> copy = HttpRequest.create(request.getMethod(), uri.toString());
+        request.getHeaders().forEachValue(copy::header);
+        request.getAttributes().forEach(copy::setAttribute);
+        request.getBody().ifPresent(copy::body);
+        return copy;
+    }
+
     /**
      * Gets the client registration for the http request.
      *
@@ -523,7 +555,7 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
                     defaultClient.setMediaTypeCodecRegistry(MediaTypeCodecRegistry.of(new JsonMediaTypeCodec(objectMapper, beanContext.getBean(ApplicationConfiguration.class))));
                 }
             }
-            return new ClientRegistration(client, contextPath);
+            return new ClientRegistration(client, loadBalancer, contextPath);
         });
     }
 
@@ -546,16 +578,19 @@ public class HttpClientIntroductionAdvice implements MethodInterceptor<Object, O
      */
     class ClientRegistration {
         final HttpClient httpClient;
+        final LoadBalancer loadBalancer;
         final String contextPath;
 
         /**
          * Constructor for client registration.
          *
-         * @param httpClient  http client for outgoing connection
-         * @param contextPath application context path
+         * @param httpClient   http client for outgoing connection
+         * @param loadBalancer load balancer of the client
+         * @param contextPath  application context path
          */
-        ClientRegistration(HttpClient httpClient, String contextPath) {
+        ClientRegistration(HttpClient httpClient, LoadBalancer loadBalancer, String contextPath) {
             this.httpClient = httpClient;
+            this.loadBalancer = loadBalancer;
             this.contextPath = contextPath;
         }
     }
@@ -21,31 +21,65 @@ import io.micronaut.discovery.exceptions.NoAvailableServiceException;
 import io.micronaut.health.HealthStatus;
 import io.micronaut.http.client.LoadBalancer;
 
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
+ * Abstract {@link LoadBalancer} that selects the available instances in turn, skipping instances that are ejected
+ * because requests to them keep failing.
+ *
  * @author graemerocher
  * @since 1.0
  */
 public abstract class AbstractRoundRobinLoadBalancer implements LoadBalancer {
 
     protected final AtomicInteger index = new AtomicInteger(0);
+    protected final LoadBalancerStatistics statistics;
+
+    /**
+     * Constructs a load balancer with the default configuration.
+     */
+    protected AbstractRoundRobinLoadBalancer() {
+        this(new LoadBalancerConfiguration());
+    }
+
+    /**
+     * @param configuration The load balancer configuration
+     */
+    protected AbstractRoundRobinLoadBalancer(LoadBalancerConfiguration configuration) {
+        this.statistics = new LoadBalancerStatistics(configuration);
+    }
 
     /**
      * @return The service ID
      */
     public abstract String getServiceID();
 
+    @Override
+    public Optional<LoadBalancerStatistics> getStatistics() {
+        return Optional.of(statistics);
+    }
+
     /**
      * @param serviceInstances A list of service instances
      * @return The next available instance or a {@link NoAvailableServiceException} if none
      */
     protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances) {
-        List<ServiceInstance> availableServices = serviceInstances.stream()
+        return getNextAvailable(serviceInstances, null);
+    }
+
+    /**
+     * @param serviceInstances A list of service instances
+     * @param excluded         The instance to avoid unless it is the only available instance
+     * @return The next available instance or a {@link NoAvailableServiceException} if none
+     */
+    protected ServiceInstance getNextAvailable(List<ServiceInstance> serviceInstances, @Nullable ServiceInstance excluded) {
+        List<ServiceInstance> availableServices = LoadBalancerStatistics.exclude(statistics.filterEjected(serviceInstances.stream()
             .filter(si -> si.getHealthStatus().equals(HealthStatus.UP))
-            .collect(Collectors.toList());
+            .collect(Collectors.toList())), excluded);
         int len = availableServices.size();
         if (len == 0) {
             throw new NoAvailableServiceException(getServiceID());
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.ServiceInstanceList;
+import io.micronaut.discovery.exceptions.NoAvailableServiceException;
+import io.micronaut.health.HealthStatus;
+import io.micronaut.http.client.LoadBalancer;
+import org.reactivestreams.Publisher;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Abstract {@link LoadBalancer} that selects instances based on the {@link LoadBalancerStatistics} recorded by the
+ * HTTP client. Ejected instances are skipped and the chosen instance counts the request as outstanding right away, so
+ * that concurrent selections take it into account. The instances are obtained either from a {@link DiscoveryClient} or a {@link ServiceInstanceList}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public abstract class AbstractStatisticsLoadBalancer implements LoadBalancer {
+
+    private final String serviceID;
+    private final Supplier<Publisher<List<ServiceInstance>>> instances;
+    private final LoadBalancerStatistics statistics;
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param configuration   The load balancer configuration
+     */
+    protected AbstractStatisticsLoadBalancer(String serviceID, DiscoveryClient discoveryClient, LoadBalancerConfiguration configuration) {
+        this.serviceID = serviceID;
+        this.instances = () -> discoveryClient.getInstances(serviceID);
+        this.statistics = new LoadBalancerStatistics(configuration);
+    }
+
+    /**
+     * @param serviceInstanceList The service instance list
+     * @param configuration       The load balancer configuration
+     */
+    protected AbstractStatisticsLoadBalancer(ServiceInstanceList serviceInstanceList, LoadBalancerConfiguration configuration) {
+        this.serviceID = serviceInstanceList.getID();
+        this.instances = () -> Publishers.just(serviceInstanceList.getInstances());
+        this.statistics = new LoadBalancerStatistics(configuration);
+    }
+
+    /**
+     * @return The service ID
+     */
+    public String getServiceID() {
+        return serviceID;
+    }
+
+    @Override
+    public Optional<LoadBalancerStatistics> getStatistics() {
+        return Optional.of(statistics);
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(@Nullable Object discriminator) {
+        return select(discriminator, null);
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(@Nullable Object discriminator, @Nullable ServiceInstance excluded) {
+        return Publishers.map(instances.get(), serviceInstances -> {
+            List<ServiceInstance> available = new ArrayList<>(serviceInstances.size());
+            for (ServiceInstance serviceInstance : serviceInstances) {
+                if (serviceInstance.getHealthStatus().equals(HealthStatus.UP)) {
+                    available.add(serviceInstance);
+                }
+            }
+            if (available.isEmpty()) {
+                throw new NoAvailableServiceException(serviceID);
+            }
+            available = LoadBalancerStatistics.exclude(statistics.filterEjected(available), excluded);
+            ServiceInstance chosen = available.size() == 1 ? available.get(0) : choose(available, statistics);
+            statistics.get(chosen).requestSelected();
+            return chosen;
+        });
+    }
+
+    /**
+     * Chooses one of the available instances.
+     *
+     * @param available  The available instances, of which there are at least two
+     * @param statistics The statistics of the instances
+     * @return The chosen instance
+     */
+    protected abstract ServiceInstance choose(List<ServiceInstance> available, LoadBalancerStatistics statistics);
+}
@@ -19,6 +19,7 @@ package io.micronaut.http.client.loadbalance;
 import io.micronaut.discovery.DiscoveryClient;
 import io.micronaut.http.client.LoadBalancer;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /**
@@ -32,12 +33,23 @@ import javax.inject.Singleton;
 public class DiscoveryClientLoadBalancerFactory {
 
     private final DiscoveryClient discoveryClient;
+    private final LoadBalancerConfiguration configuration;
 
     /**
      * @param discoveryClient The discover client
      */
     public DiscoveryClientLoadBalancerFactory(DiscoveryClient discoveryClient) {
+        this(discoveryClient, new LoadBalancerConfiguration());
+    }
+
+    /**
+     * @param discoveryClient The discover client
+     * @param configuration   The load balancer configuration
+     */
+    @Inject
+    public DiscoveryClientLoadBalancerFactory(DiscoveryClient discoveryClient, LoadBalancerConfiguration configuration) {
         this.discoveryClient = discoveryClient;
+        this.configuration = configuration;
     }
 
     /**
@@ -47,7 +59,14 @@ public class DiscoveryClientLoadBalancerFactory {
      * @return The {@link LoadBalancer}
      */
     public LoadBalancer create(String serviceID) {
-        return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient);
+        switch (configuration.getStrategy()) {
+            case LEAST_OUTSTANDING_REQUESTS:
+                return new LeastOutstandingRequestsLoadBalancer(serviceID, discoveryClient, configuration);
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesLoadBalancer(serviceID, discoveryClient, configuration);
+            default:
+                return new DiscoveryClientRoundRobinLoadBalancer(serviceID, discoveryClient, configuration);
+        }
     }
 
     /**
@@ -21,6 +21,8 @@ import io.micronaut.discovery.DiscoveryClient;
 import io.micronaut.discovery.ServiceInstance;
 import org.reactivestreams.Publisher;
 
+import javax.annotation.Nullable;
+
 /**
  * <p>A {@link io.micronaut.http.client.LoadBalancer} that uses the {@link DiscoveryClient} and a
  * {@link ServiceInstance} ID to automatically load balance between discovered clients in a non-blocking manner.</p>
@@ -41,6 +43,16 @@ public class DiscoveryClientRoundRobinLoadBalancer extends AbstractRoundRobinLoa
      * @param discoveryClient The discovery client
      */
     public DiscoveryClientRoundRobinLoadBalancer(String serviceID, DiscoveryClient discoveryClient) {
+        this(serviceID, discoveryClient, new LoadBalancerConfiguration());
+    }
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param configuration   The load balancer configuration
+     */
+    public DiscoveryClientRoundRobinLoadBalancer(String serviceID, DiscoveryClient discoveryClient, LoadBalancerConfiguration configuration) {
+        super(configuration);
         this.serviceID = serviceID;
         this.discoveryClient = discoveryClient;
     }
@@ -55,6 +67,11 @@ public class DiscoveryClientRoundRobinLoadBalancer extends AbstractRoundRobinLoa
 
     @Override
     public Publisher<ServiceInstance> select(Object discriminator) {
-        return Publishers.map(discoveryClient.getInstances(serviceID), this::getNextAvailable);
+        return select(discriminator, null);
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(Object discriminator, @Nullable ServiceInstance excluded) {
+        return Publishers.map(discoveryClient.getInstances(serviceID), serviceInstances -> getNextAvailable(serviceInstances, excluded));
     }
 }
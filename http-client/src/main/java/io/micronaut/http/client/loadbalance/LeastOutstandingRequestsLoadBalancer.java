@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.ServiceInstanceList;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A {@link io.micronaut.http.client.LoadBalancer} that selects the instance with the fewest requests in flight from
+ * this client. Ties are broken in round robin order.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class LeastOutstandingRequestsLoadBalancer extends AbstractStatisticsLoadBalancer {
+
+    private final AtomicInteger offset = new AtomicInteger();
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param configuration   The load balancer configuration
+     */
+    public LeastOutstandingRequestsLoadBalancer(String serviceID, DiscoveryClient discoveryClient, LoadBalancerConfiguration configuration) {
+        super(serviceID, discoveryClient, configuration);
+    }
+
+    /**
+     * @param serviceInstanceList The service instance list
+     * @param configuration       The load balancer configuration
+     */
+    public LeastOutstandingRequestsLoadBalancer(ServiceInstanceList serviceInstanceList, LoadBalancerConfiguration configuration) {
+        super(serviceInstanceList, configuration);
+    }
+
+    @Override
+    protected ServiceInstance choose(List<ServiceInstance> available, LoadBalancerStatistics statistics) {
+        int len = available.size();
+        int start = (offset.getAndIncrement() & Integer.MAX_VALUE) % len;
+        ServiceInstance chosen = null;
+        int fewest = Integer.MAX_VALUE;
+        for (int i = 0; i < len; i++) {
+            ServiceInstance instance = available.get((start + i) % len);
+            int outstanding = statistics.get(instance).getOutstandingRequests();
+            if (outstanding < fewest) {
+                chosen = instance;
+                fewest = outstanding;
+            }
+        }
+        return chosen;
+    }
+}
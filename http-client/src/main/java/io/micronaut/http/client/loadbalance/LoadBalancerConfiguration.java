@@ -0,0 +1,143 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+import io.micronaut.http.client.DefaultHttpClientConfiguration;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the load balancers created by {@link DiscoveryClientLoadBalancerFactory} and
+ * {@link ServiceInstanceListLoadBalancerFactory}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@ConfigurationProperties(LoadBalancerConfiguration.PREFIX)
+public class LoadBalancerConfiguration {
+
+    /**
+     * The prefix used for load balancer configuration.
+     */
+    public static final String PREFIX = DefaultHttpClientConfiguration.PREFIX + ".load-balancer";
+
+    /**
+     * The default time over which latency samples decay.
+     */
+    @SuppressWarnings("MagicNumber")
+    public static final Duration DEFAULT_DECAY = Duration.ofSeconds(10);
+
+    protected Strategy strategy = Strategy.ROUND_ROBIN;
+    protected Duration decay = DEFAULT_DECAY;
+    protected OutlierDetectionConfiguration outlierDetection = new OutlierDetectionConfiguration();
+
+    /**
+     * @return The strategy used to select service instances. Defaults to round robin.
+     */
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return The time over which past latency samples lose most of their weight
+     */
+    public Duration getDecay() {
+        return decay;
+    }
+
+    /**
+     * @return The configuration for ejecting failing instances
+     */
+    public OutlierDetectionConfiguration getOutlierDetection() {
+        return outlierDetection;
+    }
+
+    /**
+     * The load balancing strategies.
+     */
+    public enum Strategy {
+        /**
+         * Selects the available instances in turn.
+         */
+        ROUND_ROBIN,
+        /**
+         * Selects the instance with the fewest requests in flight.
+         */
+        LEAST_OUTSTANDING_REQUESTS,
+        /**
+         * Selects the less loaded of two random instances, weighing the requests in flight by the moving average
+         * of the latency.
+         */
+        POWER_OF_TWO_CHOICES
+    }
+
+    /**
+     * Configuration for passive outlier detection. Instances that fail consecutive requests are ejected from load
+     * balancing for a period that doubles with each ejection.
+     */
+    @ConfigurationProperties("outlier-detection")
+    public static class OutlierDetectionConfiguration implements Toggleable {
+
+        @SuppressWarnings("MagicNumber")
+        protected int consecutiveFailures = 5;
+        @SuppressWarnings("MagicNumber")
+        protected Duration baseEjectionTime = Duration.ofSeconds(30);
+        @SuppressWarnings("MagicNumber")
+        protected Duration maxEjectionTime = Duration.ofMinutes(5);
+        @SuppressWarnings("MagicNumber")
+        protected int maxEjectionPercent = 50;
+        protected boolean enabled = true;
+
+        /**
+         * @return Whether failing instances are ejected. Defaults to true.
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return The number of consecutive 5xx responses or connection errors that eject an instance. Defaults to 5.
+         */
+        public int getConsecutiveFailures() {
+            return consecutiveFailures;
+        }
+
+        /**
+         * @return The time an instance is ejected for the first time. Defaults to 30 seconds.
+         */
+        public Duration getBaseEjectionTime() {
+            return baseEjectionTime;
+        }
+
+        /**
+         * @return The maximum time an instance is ejected for. Defaults to 5 minutes.
+         */
+        public Duration getMaxEjectionTime() {
+            return maxEjectionTime;
+        }
+
+        /**
+         * @return The maximum percentage of the instances that may be ejected at once. Defaults to 50.
+         */
+        public int getMaxEjectionPercent() {
+            return maxEjectionPercent;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.discovery.ServiceInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>Holds the {@link ServiceInstanceStatistics} of the instances selected by a {@link io.micronaut.http.client.LoadBalancer}.
+ * The statistics are recorded by the {@link io.micronaut.http.client.DefaultHttpClient} for each request and are
+ * keyed by the host and port of the instance, since that is all the client knows about the selected instance.</p>
+ *
+ * <p>When outlier detection is enabled an instance that fails the configured number of consecutive requests is
+ * ejected, unless that would eject more than the configured percentage of the instances that were last passed to
+ * {@link #filterEjected(List)}. The statistics of the instances that are no longer among them are discarded.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class LoadBalancerStatistics {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadBalancerStatistics.class);
+    private static final int PERCENT = 100;
+
+    private final Map<String, ServiceInstanceStatistics> statistics = new ConcurrentHashMap<>();
+    private final long decayNanos;
+    private final LoadBalancerConfiguration.OutlierDetectionConfiguration outlierDetection;
+    private volatile Set<String> current = Collections.emptySet();
+
+    /**
+     * @param configuration The load balancer configuration
+     */
+    public LoadBalancerStatistics(LoadBalancerConfiguration configuration) {
+        this.decayNanos = configuration.getDecay().toNanos();
+        this.outlierDetection = configuration.getOutlierDetection();
+    }
+
+    /**
+     * @param instance The service instance
+     * @return The statistics of the instance
+     */
+    public ServiceInstanceStatistics get(ServiceInstance instance) {
+        return get(instance.getURI());
+    }
+
+    /**
+     * @param uri The URI of a request to the instance
+     * @return The statistics of the instance
+     */
+    public ServiceInstanceStatistics get(URI uri) {
+        return statistics.computeIfAbsent(key(uri), k -> new ServiceInstanceStatistics(this, decayNanos));
+    }
+
+    /**
+     * Filters the instances that are ejected from the given instances. If all the instances are ejected they are
+     * all returned, since sending requests to failing instances is better than sending none at all. The given
+     * instances become the pool that the maximum ejection percentage applies to.
+     *
+     * @param instances The instances
+     * @return The instances that are not ejected
+     */
+    public List<ServiceInstance> filterEjected(List<ServiceInstance> instances) {
+        retain(instances);
+        if (!outlierDetection.isEnabled()) {
+            return instances;
+        }
+        List<ServiceInstance> healthy = null;
+        for (int i = 0; i < instances.size(); i++) {
+            ServiceInstance instance = instances.get(i);
+            if (get(instance).isEjected()) {
+                if (healthy == null) {
+                    healthy = new ArrayList<>(instances.subList(0, i));
+                }
+            } else if (healthy != null) {
+                healthy.add(instance);
+            }
+        }
+        if (healthy == null) {
+            return instances;
+        }
+        return healthy.isEmpty() ? instances : healthy;
+    }
+
+    /**
+     * Called when a request to an instance that is not ejected fails.
+     *
+     * @param instance            The instance statistics
+     * @param consecutiveFailures The number of consecutive failures
+     */
+    void failed(ServiceInstanceStatistics instance, int consecutiveFailures) {
+        if (!outlierDetection.isEnabled() || consecutiveFailures < outlierDetection.getConsecutiveFailures()) {
+            return;
+        }
+        synchronized (this) {
+            if (instance.isEjected()) {
+                return;
+            }
+            Set<String> pool = current;
+            int size = pool.isEmpty() ? statistics.size() : pool.size();
+            int ejected = 0;
+            for (Map.Entry<String, ServiceInstanceStatistics> entry : statistics.entrySet()) {
+                if ((pool.isEmpty() || pool.contains(entry.getKey())) && entry.getValue().isEjected()) {
+                    ejected++;
+                }
+            }
+            if ((ejected + 1) * PERCENT > outlierDetection.getMaxEjectionPercent() * size) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Not ejecting failing instance {} since {} of {} instances are already ejected", instance, ejected, size);
+                }
+                return;
+            }
+            instance.eject(
+                outlierDetection.getBaseEjectionTime().toNanos(),
+                outlierDetection.getMaxEjectionTime().toNanos()
+            );
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Ejected instance {} after {} consecutive failures", instance, consecutiveFailures);
+            }
+        }
+    }
+
+    /**
+     * @param instances The instances
+     * @param excluded  The instance to exclude, if any
+     * @return The instances other than the excluded instance, or all the instances if no other instance is left
+     */
+    static List<ServiceInstance> exclude(List<ServiceInstance> instances, @Nullable ServiceInstance excluded) {
+        if (excluded == null || instances.size() < 2) {
+            return instances;
+        }
+        String excludedKey = key(excluded.getURI());
+        List<ServiceInstance> others = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!key(instance.getURI()).equals(excludedKey)) {
+                others.add(instance);
+            }
+        }
+        return others.isEmpty() ? instances : others;
+    }
+
+    private void retain(List<ServiceInstance> instances) {
+        Set<String> keys = new HashSet<>(instances.size() * 2);
+        for (ServiceInstance instance : instances) {
+            keys.add(key(instance.getURI()));
+        }
+        if (!keys.equals(current)) {
+            current = keys;
+            statistics.keySet().retainAll(keys);
+        }
+    }
+
+    private static String key(URI uri) {
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return uri.getHost() + ':' + port;
+    }
+}
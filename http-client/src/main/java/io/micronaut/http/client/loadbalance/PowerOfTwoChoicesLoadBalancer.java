@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance;
+
+import io.micronaut.discovery.DiscoveryClient;
+import io.micronaut.discovery.ServiceInstance;
+import io.micronaut.discovery.ServiceInstanceList;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>A {@link io.micronaut.http.client.LoadBalancer} that picks two instances at random and selects the one with the
+ * lower load, where the load is the moving average of the latency weighted by the requests in flight. See
+ * {@link ServiceInstanceStatistics#getLoad()}.</p>
+ *
+ * <p>Comparing two random instances avoids the herding of always selecting the least loaded instance, while still
+ * steering most requests away from slow instances.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class PowerOfTwoChoicesLoadBalancer extends AbstractStatisticsLoadBalancer {
+
+    /**
+     * @param serviceID       The service ID
+     * @param discoveryClient The discovery client
+     * @param configuration   The load balancer configuration
+     */
+    public PowerOfTwoChoicesLoadBalancer(String serviceID, DiscoveryClient discoveryClient, LoadBalancerConfiguration configuration) {
+        super(serviceID, discoveryClient, configuration);
+    }
+
+    /**
+     * @param serviceInstanceList The service instance list
+     * @param configuration       The load balancer configuration
+     */
+    public PowerOfTwoChoicesLoadBalancer(ServiceInstanceList serviceInstanceList, LoadBalancerConfiguration configuration) {
+        super(serviceInstanceList, configuration);
+    }
+
+    @Override
+    protected ServiceInstance choose(List<ServiceInstance> available, LoadBalancerStatistics statistics) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int len = available.size();
+        int first = random.nextInt(len);
+        int second = random.nextInt(len - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = available.get(first);
+        ServiceInstance b = available.get(second);
+        return statistics.get(a).getLoad() <= statistics.get(b).getLoad() ? a : b;
+    }
+}
@@ -19,6 +19,7 @@ package io.micronaut.http.client.loadbalance;
 import io.micronaut.discovery.ServiceInstanceList;
 import io.micronaut.http.client.LoadBalancer;
 
+import javax.inject.Inject;
 import javax.inject.Singleton;
 
 /**
@@ -31,6 +32,23 @@ import javax.inject.Singleton;
 @Singleton
 public class ServiceInstanceListLoadBalancerFactory {
 
+    private final LoadBalancerConfiguration configuration;
+
+    /**
+     * Creates round robin load balancers.
+     */
+    public ServiceInstanceListLoadBalancerFactory() {
+        this(new LoadBalancerConfiguration());
+    }
+
+    /**
+     * @param configuration The load balancer configuration
+     */
+    @Inject
+    public ServiceInstanceListLoadBalancerFactory(LoadBalancerConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
     /**
      * Creates a {@link LoadBalancer} from the given {@link ServiceInstanceList}.
      *
@@ -38,6 +56,13 @@ public class ServiceInstanceListLoadBalancerFactory {
      * @return The {@link LoadBalancer}
      */
     public LoadBalancer create(ServiceInstanceList serviceInstanceList) {
-        return new ServiceInstanceListRoundRobinLoadBalancer(serviceInstanceList);
+        switch (configuration.getStrategy()) {
+            case LEAST_OUTSTANDING_REQUESTS:
+                return new LeastOutstandingRequestsLoadBalancer(serviceInstanceList, configuration);
+            case POWER_OF_TWO_CHOICES:
+                return new PowerOfTwoChoicesLoadBalancer(serviceInstanceList, configuration);
+            default:
+                return new ServiceInstanceListRoundRobinLoadBalancer(serviceInstanceList, configuration);
+        }
     }
 }
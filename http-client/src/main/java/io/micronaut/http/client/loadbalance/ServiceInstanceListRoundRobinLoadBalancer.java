@@ -34,12 +34,26 @@ public class ServiceInstanceListRoundRobinLoadBalancer extends AbstractRoundRobi
      * @param serviceInstanceList The service instance list
      */
     public ServiceInstanceListRoundRobinLoadBalancer(ServiceInstanceList serviceInstanceList) {
+        this(serviceInstanceList, new LoadBalancerConfiguration());
+    }
+
+    /**
+     * @param serviceInstanceList The service instance list
+     * @param configuration       The load balancer configuration
+     */
+    public ServiceInstanceListRoundRobinLoadBalancer(ServiceInstanceList serviceInstanceList, LoadBalancerConfiguration configuration) {
+        super(configuration);
         this.serviceInstanceList = serviceInstanceList;
     }
 
     @Override
     public Publisher<ServiceInstance> select(@Nullable Object discriminator) {
-        return Publishers.just(getNextAvailable(serviceInstanceList.getInstances()));
+        return select(discriminator, null);
+    }
+
+    @Override
+    public Publisher<ServiceInstance> select(@Nullable Object discriminator, @Nullable ServiceInstance excluded) {
+        return Publishers.just(getNextAvailable(serviceInstanceList.getInstances(), excluded));
     }
 
     @Override
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Statistics about the requests sent to a single service instance. Tracks the number of outstanding requests and
+ * a peak sensitive exponentially weighted moving average (EWMA) of the response latency.</p>
+ *
+ * <p>The average decays with time rather than with the number of samples, so a recent slow response quickly raises
+ * it while a quiet instance slowly recovers. A sample larger than the current average replaces it outright so that
+ * latency spikes are reacted to immediately.</p>
+ *
+ * <p>Consecutive failures eject the instance from load balancing for a period that doubles with each ejection, see
+ * {@link LoadBalancerStatistics}.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class ServiceInstanceStatistics {
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private final AtomicInteger pendingSelections = new AtomicInteger();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final LoadBalancerStatistics pool;
+    private final double decayNanos;
+    private double latencyNanos;
+    private long lastUpdate;
+    private volatile long lastSelection;
+    private volatile boolean ejected;
+    private volatile long ejectedUntil;
+    private int ejections;
+    private long lastEjectionNanos;
+
+    /**
+     * @param decayNanos The time in nanoseconds over which past latency samples lose most of their weight
+     */
+    public ServiceInstanceStatistics(long decayNanos) {
+        this(null, decayNanos);
+    }
+
+    /**
+     * @param pool       The statistics of the pool the instance belongs to
+     * @param decayNanos The time in nanoseconds over which past latency samples lose most of their weight
+     */
+    ServiceInstanceStatistics(LoadBalancerStatistics pool, long decayNanos) {
+        this.pool = pool;
+        this.decayNanos = Math.max(1L, decayNanos);
+        this.lastUpdate = System.nanoTime();
+    }
+
+    /**
+     * Records that a load balancer selected the instance for a request. The request counts as outstanding from now
+     * on, so that selections made before it starts already see it, and {@link #requestStarted()} does not count it
+     * again. A selection that is never followed by a request stops counting once the decay time has passed.
+     */
+    public void requestSelected() {
+        lastSelection = System.nanoTime();
+        pendingSelections.incrementAndGet();
+        outstanding.incrementAndGet();
+    }
+
+    /**
+     * Records the start of a request.
+     */
+    public void requestStarted() {
+        int pending;
+        do {
+            pending = pendingSelections.get();
+            if (pending <= 0) {
+                outstanding.incrementAndGet();
+                return;
+            }
+        } while (!pendingSelections.compareAndSet(pending, pending - 1));
+    }
+
+    /**
+     * Records the completion of a request.
+     *
+     * @param latencyNanos The latency of the request in nanoseconds
+     */
+    public void requestCompleted(long latencyNanos) {
+        outstanding.decrementAndGet();
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (latencyNanos > this.latencyNanos) {
+                this.latencyNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-Math.max(0L, now - lastUpdate) / decayNanos);
+                this.latencyNanos = this.latencyNanos * weight + latencyNanos * (1 - weight);
+            }
+            this.lastUpdate = now;
+        }
+    }
+
+    /**
+     * Records that the instance answered a request, which resets its consecutive failures. Once the instance has
+     * been healthy for as long as it was last ejected for, its ejection period starts from the base time again.
+     */
+    public void requestSucceeded() {
+        consecutiveFailures.set(0);
+        if (ejected) {
+            long now = System.nanoTime();
+            synchronized (this) {
+                if (ejected && now - ejectedUntil >= lastEjectionNanos) {
+                    ejected = false;
+                    ejections = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records that a request failed with a server error or could not reach the instance.
+     */
+    public void requestFailed() {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (pool != null && !isEjected()) {
+            pool.failed(this, failures);
+        }
+    }
+
+    /**
+     * @return Whether the instance is currently ejected from load balancing
+     */
+    public boolean isEjected() {
+        return ejected && ejectedUntil - System.nanoTime() > 0;
+    }
+
+    /**
+     * @return The number of consecutive failed requests
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * @return The number of requests that were selected or started but have not completed
+     */
+    public int getOutstandingRequests() {
+        int pending = pendingSelections.get();
+        if (pending > 0 && System.nanoTime() - lastSelection > decayNanos && pendingSelections.compareAndSet(pending, 0)) {
+            outstanding.addAndGet(-pending);
+        }
+        return Math.max(0, outstanding.get());
+    }
+
+    /**
+     * @return The moving average of the latency in nanoseconds, or zero if no request completed yet
+     */
+    public synchronized double getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * The expected cost of sending another request to the instance, which is the average latency weighted by the
+     * number of requests that would be queued ahead of it.
+     *
+     * @return The load of the instance
+     */
+    public double getLoad() {
+        return (getLatencyNanos() + 1) * (getOutstandingRequests() + 1);
+    }
+
+    /**
+     * Ejects the instance for the base time doubled for each previous ejection, up to the maximum time.
+     *
+     * @param baseNanos The base ejection time
+     * @param maxNanos  The maximum ejection time
+     */
+    synchronized void eject(long baseNanos, long maxNanos) {
+        long time = baseNanos;
+        for (int i = 0; i < ejections && time < maxNanos; i++) {
+            time <<= 1;
+        }
+        time = Math.min(time, maxNanos);
+        ejections++;
+        lastEjectionNanos = time;
+        ejectedUntil = System.nanoTime() + time;
+        ejected = true;
+        consecutiveFailures.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceInstanceStatistics{" +
+            "outstanding=" + getOutstandingRequests() +
+            ", latency=" + TimeUnit.NANOSECONDS.toMillis((long) getLatencyNanos()) + "ms" +
+            ", ejected=" + isEjected() +
+            '}';
+    }
+}
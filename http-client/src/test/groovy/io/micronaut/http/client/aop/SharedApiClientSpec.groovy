@@ -0,0 +1,79 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.aop
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.CookieValue
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Header
+import io.micronaut.http.client.Client
+import io.micronaut.runtime.server.EmbeddedServer
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+class SharedApiClientSpec extends Specification {
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+
+    void "test clients that share a method bind the arguments of each call to their own path"() {
+        given:
+        FirstClient firstClient = context.getBean(FirstClient)
+        SecondClient secondClient = context.getBean(SecondClient)
+
+        expect:
+        firstClient.describe("one", "a", "x") == "first one a x"
+        secondClient.describe("two", "b", "y") == "second two b y"
+        firstClient.describe("three", "c", "z") == "first three c z"
+        secondClient.describe("four", "d", "w") == "second four d w"
+    }
+
+    @Client('/shared/first')
+    static interface FirstClient extends SharedApi {
+    }
+
+    @Client('/shared/second')
+    static interface SecondClient extends SharedApi {
+    }
+
+    @Controller('/shared/first')
+    static class FirstController implements SharedApi {
+        @Override
+        String describe(String name, @Header('X-Tag') String tag, @CookieValue('flavour') String flavour) {
+            "first $name $tag $flavour"
+        }
+    }
+
+    @Controller('/shared/second')
+    static class SecondController implements SharedApi {
+        @Override
+        String describe(String name, @Header('X-Tag') String tag, @CookieValue('flavour') String flavour) {
+            "second $name $tag $flavour"
+        }
+    }
+
+    static interface SharedApi {
+        @Get('/describe/{name}')
+        String describe(String name, @Header('X-Tag') String tag, @CookieValue('flavour') String flavour)
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.hedge
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.annotation.Value
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.ServiceInstanceList
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.client.Client
+import io.micronaut.runtime.server.EmbeddedServer
+import io.reactivex.Single
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Singleton
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Supplier
+
+class HedgedRequestSpec extends Specification {
+
+    @Shared
+    @AutoCleanup
+    ApplicationContext context = ApplicationContext.run()
+
+    @Shared
+    @AutoCleanup
+    EmbeddedServer embeddedServer = context.getBean(EmbeddedServer).start()
+
+    void setup() {
+        context.getBean(HedgeController).calls.set(0)
+    }
+
+    void "test a slow request is hedged"() {
+        given:
+        HedgeClient client = context.getBean(HedgeClient)
+        HedgeController controller = context.getBean(HedgeController)
+
+        when:
+        long start = System.nanoTime()
+        String result = client.slowFirst().blockingGet()
+
+        then:"the hedged request wins"
+        result == "2"
+        controller.calls.get() == 2
+        System.nanoTime() - start < TimeUnit.SECONDS.toNanos(2)
+    }
+
+    void "test a slow blocking request is hedged"() {
+        given:
+        HedgeClient client = context.getBean(HedgeClient)
+
+        expect:
+        client.slowFirstBlocking() == "2"
+    }
+
+    void "test a fast request is not hedged"() {
+        given:
+        HedgeClient client = context.getBean(HedgeClient)
+        HedgeController controller = context.getBean(HedgeController)
+
+        when:
+        String result = client.fast().blockingGet()
+        sleep(300)
+
+        then:
+        result == "1"
+        controller.calls.get() == 1
+    }
+
+    void "test a hedged request is sent to another instance"() {
+        given:
+        EmbeddedServer slowServer = ApplicationContext.run(EmbeddedServer, ['hedge.slow': true])
+        EmbeddedServer fastServer = ApplicationContext.run(EmbeddedServer)
+        ApplicationContext clientContext = ApplicationContext.run(
+            'hedge.instances': "${slowServer.URL},${fastServer.URL}".toString()
+        )
+        InstanceClient client = clientContext.getBean(InstanceClient)
+
+        when:
+        long start = System.nanoTime()
+        List<String> results = (1..4).collect { client.instance().blockingGet() }
+
+        then:"every request is answered by the fast instance"
+        results == ["fast"] * 4
+        System.nanoTime() - start < TimeUnit.SECONDS.toNanos(4)
+
+        cleanup:
+        clientContext.close()
+        slowServer.close()
+        fastServer.close()
+    }
+
+    void "test the delay follows the observed percentile"() {
+        given:
+        HedgingPolicy policy = new HedgingPolicy(Duration.ofSeconds(1), 50)
+
+        when:
+        64.times { policy.hedge({ Single.just("ok").toFlowable() } as Supplier).blockingFirst() }
+
+        then:
+        policy.delay < Duration.ofSeconds(1)
+    }
+
+    @Client('/hedge')
+    static interface HedgeClient {
+
+        @Get('/slow-first')
+        @Hedged(delay = '100ms')
+        Single<String> slowFirst()
+
+        @Get('/slow-first')
+        @Hedged(delay = '100ms')
+        String slowFirstBlocking()
+
+        @Get('/fast')
+        @Hedged(delay = '100ms')
+        Single<String> fast()
+    }
+
+    @Client(value = 'hedged', path = '/hedge')
+    static interface InstanceClient {
+
+        @Get('/instance')
+        @Hedged(delay = '100ms')
+        Single<String> instance()
+    }
+
+    @Singleton
+    @Requires(property = 'hedge.instances')
+    static class HedgeInstances implements ServiceInstanceList {
+
+        @Value('${hedge.instances}')
+        String instances
+
+        @Override
+        String getID() {
+            'hedged'
+        }
+
+        @Override
+        List<ServiceInstance> getInstances() {
+            instances.split(',').collect { ServiceInstance.of('hedged', new URL(it)) }
+        }
+    }
+
+    @Controller('/hedge')
+    static class HedgeController {
+        AtomicInteger calls = new AtomicInteger()
+
+        @Value('${hedge.slow:false}')
+        boolean slow
+
+        @Get('/instance')
+        Single<String> instance() {
+            slow ? Single.just("slow").delay(5, TimeUnit.SECONDS) : Single.just("fast")
+        }
+
+        @Get('/slow-first')
+        Single<String> slowFirst() {
+            int call = calls.incrementAndGet()
+            Single<String> result = Single.just(String.valueOf(call))
+            return call == 1 ? result.delay(5, TimeUnit.SECONDS) : result
+        }
+
+        @Get('/fast')
+        Single<String> fast() {
+            Single.just(String.valueOf(calls.incrementAndGet()))
+        }
+    }
+}
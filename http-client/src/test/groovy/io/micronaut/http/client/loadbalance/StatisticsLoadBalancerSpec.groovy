@@ -0,0 +1,274 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.client.loadbalance
+
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.ServiceInstanceList
+import io.reactivex.Flowable
+import spock.lang.Specification
+
+import java.time.Duration
+
+class StatisticsLoadBalancerSpec extends Specification {
+
+    ServiceInstance first = ServiceInstance.of("test", "localhost", 8081)
+    ServiceInstance second = ServiceInstance.of("test", "localhost", 8082)
+    ServiceInstanceList instanceList = new ServiceInstanceList() {
+        @Override
+        String getID() {
+            "test"
+        }
+
+        @Override
+        List<ServiceInstance> getInstances() {
+            [first, second]
+        }
+    }
+
+    void "test least outstanding requests selects the idle instance"() {
+        given:
+        LeastOutstandingRequestsLoadBalancer loadBalancer = new LeastOutstandingRequestsLoadBalancer(instanceList, new LoadBalancerConfiguration())
+        LoadBalancerStatistics statistics = loadBalancer.getStatistics().get()
+
+        when:
+        statistics.get(first).requestStarted()
+        statistics.get(first).requestStarted()
+
+        then:
+        (1..10).every { send(loadBalancer) == second }
+
+        when:
+        statistics.get(first).requestCompleted(1000)
+        statistics.get(first).requestCompleted(1000)
+        Set<ServiceInstance> selected = (1..10).collect { send(loadBalancer) } as Set
+
+        then:"ties are broken in turn"
+        selected == [first, second] as Set
+    }
+
+    void "test a selected instance counts the request as outstanding before it starts"() {
+        given:
+        LeastOutstandingRequestsLoadBalancer loadBalancer = new LeastOutstandingRequestsLoadBalancer(instanceList, new LoadBalancerConfiguration())
+        LoadBalancerStatistics statistics = loadBalancer.getStatistics().get()
+
+        when:"two requests are selected before either starts"
+        ServiceInstance one = Flowable.fromPublisher(loadBalancer.select()).blockingFirst()
+        ServiceInstance two = Flowable.fromPublisher(loadBalancer.select()).blockingFirst()
+
+        then:
+        one != two
+        statistics.get(one).outstandingRequests == 1
+
+        when:"the request starts it is not counted twice"
+        statistics.get(one).requestStarted()
+
+        then:
+        statistics.get(one).outstandingRequests == 1
+
+        when:
+        statistics.get(one).requestCompleted(1000)
+
+        then:
+        statistics.get(one).outstandingRequests == 0
+    }
+
+    void "test a selection that is never sent stops counting after the decay time"() {
+        given:
+        ServiceInstanceStatistics statistics = new ServiceInstanceStatistics(Duration.ofMillis(1).toNanos())
+
+        when:
+        statistics.requestSelected()
+
+        then:
+        statistics.outstandingRequests == 1
+
+        when:
+        sleep(10)
+
+        then:
+        statistics.outstandingRequests == 0
+
+        when:
+        statistics.requestStarted()
+
+        then:
+        statistics.outstandingRequests == 1
+    }
+
+    void "test an excluded instance is only selected if it is the only one"() {
+        given:
+        LeastOutstandingRequestsLoadBalancer leastOutstanding = new LeastOutstandingRequestsLoadBalancer(instanceList, new LoadBalancerConfiguration())
+        ServiceInstanceListRoundRobinLoadBalancer roundRobin = new ServiceInstanceListRoundRobinLoadBalancer(instanceList)
+        ServiceInstanceList single = Mock(ServiceInstanceList) {
+            getID() >> "test"
+            getInstances() >> [first]
+        }
+
+        expect:
+        (1..10).every { Flowable.fromPublisher(leastOutstanding.select(null, first)).blockingFirst() == second }
+        (1..10).every { Flowable.fromPublisher(roundRobin.select(null, second)).blockingFirst() == first }
+        Flowable.fromPublisher(new ServiceInstanceListRoundRobinLoadBalancer(single).select(null, first)).blockingFirst() == first
+    }
+
+    void "test power of two choices avoids the slow instance"() {
+        given:
+        PowerOfTwoChoicesLoadBalancer loadBalancer = new PowerOfTwoChoicesLoadBalancer(instanceList, new LoadBalancerConfiguration())
+        LoadBalancerStatistics statistics = loadBalancer.getStatistics().get()
+
+        when:
+        statistics.get(first).requestStarted()
+        statistics.get(first).requestCompleted(Duration.ofSeconds(1).toNanos())
+        statistics.get(second).requestStarted()
+        statistics.get(second).requestCompleted(Duration.ofMillis(1).toNanos())
+
+        then:
+        (1..10).every { send(loadBalancer) == second }
+    }
+
+    void "test statistics are keyed by host and port"() {
+        given:
+        LoadBalancerStatistics statistics = new LoadBalancerStatistics(new LoadBalancerConfiguration())
+
+        expect:
+        statistics.get(first).is(statistics.get(URI.create("http://localhost:8081/foo/bar")))
+        statistics.get(URI.create("http://localhost/foo")).is(statistics.get(URI.create("http://localhost:80/bar")))
+    }
+
+    void "test latency average decays towards recent samples"() {
+        given:
+        ServiceInstanceStatistics statistics = new ServiceInstanceStatistics(Duration.ofMillis(1).toNanos())
+
+        when:"a spike replaces the average"
+        statistics.requestStarted()
+        statistics.requestCompleted(1000000)
+
+        then:
+        statistics.latencyNanos == 1000000d
+        statistics.outstandingRequests == 0
+
+        when:"a fast response long after the spike"
+        sleep(50)
+        statistics.requestStarted()
+        statistics.requestCompleted(1000)
+
+        then:
+        statistics.latencyNanos < 2000d
+    }
+
+    void "test consecutive failures eject an instance from round robin"() {
+        given:
+        ServiceInstanceListRoundRobinLoadBalancer loadBalancer = new ServiceInstanceListRoundRobinLoadBalancer(instanceList)
+        LoadBalancerStatistics statistics = loadBalancer.getStatistics().get()
+        ServiceInstanceStatistics firstStatistics = statistics.get(first)
+        statistics.get(second)
+
+        when:
+        4.times { firstStatistics.requestFailed() }
+
+        then:
+        !firstStatistics.ejected
+        (1..4).collect { Flowable.fromPublisher(loadBalancer.select()).blockingFirst() } as Set == [first, second] as Set
+
+        when:
+        firstStatistics.requestFailed()
+
+        then:
+        firstStatistics.ejected
+        (1..4).every { Flowable.fromPublisher(loadBalancer.select()).blockingFirst() == second }
+    }
+
+    void "test a success resets consecutive failures"() {
+        given:
+        LoadBalancerStatistics statistics = new LoadBalancerStatistics(new LoadBalancerConfiguration())
+        ServiceInstanceStatistics firstStatistics = statistics.get(first)
+        statistics.get(second)
+
+        when:
+        4.times { firstStatistics.requestFailed() }
+        firstStatistics.requestSucceeded()
+        4.times { firstStatistics.requestFailed() }
+
+        then:
+        !firstStatistics.ejected
+        firstStatistics.consecutiveFailures == 4
+    }
+
+    void "test ejection is capped at the maximum percentage of instances"() {
+        given:
+        LoadBalancerStatistics statistics = new LoadBalancerStatistics(new LoadBalancerConfiguration())
+        ServiceInstanceStatistics firstStatistics = statistics.get(first)
+        ServiceInstanceStatistics secondStatistics = statistics.get(second)
+
+        when:
+        5.times {
+            firstStatistics.requestFailed()
+            secondStatistics.requestFailed()
+        }
+
+        then:
+        firstStatistics.ejected
+        !secondStatistics.ejected
+        statistics.filterEjected([first, second]) == [second]
+    }
+
+    void "test ejection is capped by the current instances only"() {
+        given:
+        LoadBalancerStatistics statistics = new LoadBalancerStatistics(new LoadBalancerConfiguration())
+        (9000..9007).each { statistics.get(URI.create("http://localhost:$it")) }
+        statistics.filterEjected([first, second])
+        ServiceInstanceStatistics firstStatistics = statistics.get(first)
+        ServiceInstanceStatistics secondStatistics = statistics.get(second)
+
+        when:
+        5.times {
+            firstStatistics.requestFailed()
+            secondStatistics.requestFailed()
+        }
+
+        then:"instances that left the pool neither count towards the cap nor keep their statistics"
+        firstStatistics.ejected
+        !secondStatistics.ejected
+        statistics.statistics.size() == 2
+        statistics.filterEjected([first, second]) == [second]
+    }
+
+    void "test an ejection expires"() {
+        given:
+        ServiceInstanceStatistics statistics = new ServiceInstanceStatistics(1000)
+
+        when:
+        statistics.eject(1, 1)
+        sleep(1)
+
+        then:
+        !statistics.ejected
+
+        when:
+        statistics.eject(Duration.ofMinutes(1).toNanos(), Duration.ofMinutes(5).toNanos())
+
+        then:
+        statistics.ejected
+    }
+
+    private ServiceInstance send(AbstractStatisticsLoadBalancer loadBalancer) {
+        ServiceInstance instance = Flowable.fromPublisher(loadBalancer.select()).blockingFirst()
+        ServiceInstanceStatistics instanceStatistics = loadBalancer.statistics.get().get(instance)
+        instanceStatistics.requestStarted()
+        instanceStatistics.requestCompleted(Duration.ofMillis(1).toNanos())
+        return instance
+    }
+}
@@ -27,6 +27,7 @@ import io.micronaut.http.HttpRequest;
 import io.micronaut.http.server.binding.RequestBinderRegistry;
 import io.micronaut.http.server.binding.binders.BodyArgumentBinder;
 import io.micronaut.http.server.binding.binders.NonBlockingBodyArgumentBinder;
+import io.micronaut.web.router.MethodBasedRouteMatch;
 import io.micronaut.web.router.RouteMatch;
 import io.micronaut.web.router.UnresolvedArgument;
 
@@ -72,10 +73,23 @@ class RequestArgumentSatisfier {
             argumentValues = Collections.emptyMap();
         } else {
             argumentValues = new LinkedHashMap<>();
-            // Begin try fulfilling the argument requirements
-            for (Argument argument : requiredArguments) {
-                getValueForArgument(argument, request, satisfyOptionals).ifPresent((value) ->
-                    argumentValues.put(argument.getName(), value));
+            if (route instanceof MethodBasedRouteMatch) {
+                // the binders only depend on the arguments so they are resolved once per route
+                MethodBasedRouteMatch<?> methodRoute = (MethodBasedRouteMatch<?>) route;
+                Argument[] arguments = methodRoute.getArguments();
+                ArgumentBinder[] binders = methodRoute.resolveArgumentBinders(argument -> findArgumentBinder(argument, request));
+                for (Argument argument : requiredArguments) {
+                    int index = indexOf(arguments, argument);
+                    ArgumentBinder argumentBinder = index > -1 ? binders[index] : findArgumentBinder(argument, request);
+                    getValueForArgument(argument, argumentBinder, request, satisfyOptionals).ifPresent((value) ->
+                        argumentValues.put(argument.getName(), value));
+                }
+            } else {
+                // Begin try fulfilling the argument requirements
+                for (Argument argument : requiredArguments) {
+                    getValueForArgument(argument, request, satisfyOptionals).ifPresent((value) ->
+                        argumentValues.put(argument.getName(), value));
+                }
             }
         }
 
@@ -90,11 +104,19 @@ class RequestArgumentSatisfier {
      * @return An {@link Optional} for the value
      */
     protected Optional<Object> getValueForArgument(Argument argument, HttpRequest<?> request, boolean satisfyOptionals) {
+        return getValueForArgument(argument, findArgumentBinder(argument, request), request, satisfyOptionals);
+    }
+
+    /**
+     * @param argument         The argument
+     * @param argumentBinder   The binder of the argument, or null if there is none
+     * @param request          The HTTP request
+     * @param satisfyOptionals Whether to satisfy optionals
+     * @return An {@link Optional} for the value
+     */
+    private Optional<Object> getValueForArgument(Argument argument, @Nullable ArgumentBinder argumentBinder, HttpRequest<?> request, boolean satisfyOptionals) {
         Object value = null;
-        Optional<ArgumentBinder> registeredBinder =
-            binderRegistry.findArgumentBinder(argument, request);
-        if (registeredBinder.isPresent()) {
-            ArgumentBinder argumentBinder = registeredBinder.get();
+        if (argumentBinder != null) {
             ArgumentConversionContext conversionContext = ConversionContext.of(
                 argument,
                 request.getLocale().orElse(null),
@@ -144,4 +166,19 @@ class RequestArgumentSatisfier {
         }
         return Optional.ofNullable(value);
     }
+
+    private ArgumentBinder findArgumentBinder(Argument argument, HttpRequest<?> request) {
+        Optional<ArgumentBinder> registeredBinder =
+            binderRegistry.findArgumentBinder(argument, request);
+        return registeredBinder.orElse(null);
+    }
+
+    private static int indexOf(Argument[] arguments, Argument argument) {
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] == argument) {
+                return i;
+            }
+        }
+        return -1;
+    }
 }
@@ -57,8 +57,10 @@ import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandler
 import io.micronaut.http.server.netty.types.NettyCustomizableResponseTypeHandlerRegistry;
 import io.micronaut.http.server.netty.types.files.NettyStreamedFileCustomizableResponseType;
 import io.micronaut.http.server.netty.types.files.NettySystemFileCustomizableResponseType;
+import io.micronaut.http.server.ratelimit.HttpRateLimiter;
 import io.micronaut.http.server.types.files.FileCustomizableResponseType;
 import io.micronaut.inject.MethodExecutionHandle;
+import io.micronaut.inject.MethodReference;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.runtime.http.codec.TextPlainCodec;
 import io.micronaut.scheduling.executor.ExecutorSelector;
@@ -71,6 +73,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufHolder;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.EventLoop;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.TooLongFrameException;
@@ -126,6 +129,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
     private final RequestArgumentSatisfier requestArgumentSatisfier;
     private final MediaTypeCodecRegistry mediaTypeCodecRegistry;
     private final NettyCustomizableResponseTypeHandlerRegistry customizableResponseTypeHandlerRegistry;
+    private final HttpRateLimiter httpRateLimiter;
 
     /**
      * @param beanLocator                             The bean locator
@@ -158,6 +162,7 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
         this.router = router;
         this.requestArgumentSatisfier = new RequestArgumentSatisfier(binderRegistry);
         this.serverConfiguration = serverConfiguration;
+        this.httpRateLimiter = beanLocator.findBean(HttpRateLimiter.class).orElse(null);
     }
 
 
@@ -418,10 +423,55 @@ class RoutingInBoundHandler extends SimpleChannelInboundHandler<io.micronaut.htt
                 LOG.debug("Matched route {} - {}", httpMethod, requestPath);
             }
         }
+        // reject requests over the rate limit before the body is read
+        if (httpRateLimiter != null) {
+            MethodReference<?, ?> method = route instanceof MethodBasedRouteMatch ? (MethodBasedRouteMatch<?>) route : null;
+            Optional<CompletableFuture<Boolean>> permit = httpRateLimiter.tryAcquire(request, method);
+            if (permit.isPresent()) {
+                handleRateLimitedRouteMatch(permit.get(), route, nettyHttpRequest, ctx);
+                return;
+            }
+        }
         // all ok proceed to try and execute the route
         handleRouteMatch(route, nettyHttpRequest, ctx);
     }
 
+    private void handleRateLimitedRouteMatch(
+            CompletableFuture<Boolean> permit,
+            RouteMatch<?> route,
+            NettyHttpRequest<?> nettyHttpRequest,
+            ChannelHandlerContext ctx) {
+        // errors of the rate limiter are resolved by HttpRateLimiter according to the configured policy
+        if (permit.isDone()) {
+            handleRateLimitResult(permit.join(), route, nettyHttpRequest, ctx);
+        } else {
+            EventLoop eventLoop = ctx.channel().eventLoop();
+            permit.thenAccept(acquired ->
+                eventLoop.execute(() -> handleRateLimitResult(acquired, route, nettyHttpRequest, ctx))
+            );
+        }
+    }
+
+    private void handleRateLimitResult(
+            boolean acquired,
+            RouteMatch<?> route,
+            NettyHttpRequest<?> nettyHttpRequest,
+            ChannelHandlerContext ctx) {
+        if (acquired) {
+            handleRouteMatch(route, nettyHttpRequest, ctx);
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Rate limit exceeded for request {} - {}", nettyHttpRequest.getMethod(), nettyHttpRequest.getPath());
+            }
+            handleStatusError(
+                    ctx,
+                    nettyHttpRequest,
+                    nettyHttpRequest,
+                    HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS),
+                    "Rate limit exceeded");
+        }
+    }
+
     private void handleStatusError(
             ChannelHandlerContext ctx,
             HttpRequest<?> request,
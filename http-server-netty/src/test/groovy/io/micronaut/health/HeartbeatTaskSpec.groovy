@@ -17,11 +17,17 @@ package io.micronaut.health
 
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.event.ApplicationEventListener
+import io.micronaut.context.event.ApplicationEventPublisher
+import io.micronaut.discovery.ServiceInstance
+import io.micronaut.discovery.event.ServiceStartedEvent
 import io.micronaut.runtime.server.EmbeddedServer
+import io.micronaut.scheduling.TaskScheduler
 import spock.lang.Specification
 import spock.util.concurrent.PollingConditions
 
 import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.ScheduledFuture
 
 /**
  * @author graemerocher
@@ -48,6 +54,118 @@ class HeartbeatTaskSpec extends Specification {
         embeddedServer.stop()
     }
 
+    void "test heartbeats are spread by the jitter and back off after failures"() {
+        given:
+        HeartbeatConfiguration configuration = new HeartbeatConfiguration(
+                interval: Duration.ofSeconds(10),
+                jitter: 0.2,
+                maxBackoff: Duration.ofSeconds(60)
+        )
+        HeartbeatTask task = new HeartbeatTask(Mock(ApplicationEventPublisher), configuration, Mock(CurrentHealthStatus), Mock(TaskScheduler))
+        Object registration = new Object()
+
+        expect:"the delay is within the jitter of the interval"
+        (1..100).collect { task.nextDelay().toMillis() }.every { it >= 8000 && it <= 12000 }
+
+        when:"heartbeats fail"
+        task.heartbeatFailed(registration)
+        task.heartbeatFailed(registration)
+
+        then:"the interval doubles for each failure"
+        (1..100).collect { task.nextDelay().toMillis() }.every { it >= 32000 && it <= 48000 }
+
+        when:"many heartbeats fail"
+        10.times { task.heartbeatFailed(registration) }
+
+        then:"the interval including the jitter is capped"
+        (1..100).collect { task.nextDelay().toMillis() }.every { it >= 48000 && it <= 60000 }
+
+        when:"a heartbeat succeeds"
+        task.heartbeatSucceeded(registration)
+
+        then:"the interval is back to normal"
+        (1..100).collect { task.nextDelay().toMillis() }.every { it >= 8000 && it <= 12000 }
+    }
+
+    void "test failures are tracked per registration"() {
+        given:
+        HeartbeatConfiguration configuration = new HeartbeatConfiguration(
+                interval: Duration.ofSeconds(10),
+                jitter: 0,
+                maxBackoff: Duration.ofSeconds(60)
+        )
+        HeartbeatTask task = new HeartbeatTask(Mock(ApplicationEventPublisher), configuration, Mock(CurrentHealthStatus), Mock(TaskScheduler))
+        Object consul = new Object()
+        Object eureka = new Object()
+
+        when:"only one registration fails"
+        task.heartbeatSucceeded(eureka)
+        task.heartbeatFailed(consul)
+
+        then:"the heartbeats of the other are not backed off"
+        task.nextDelay() == Duration.ofSeconds(10)
+
+        when:"both fail"
+        task.heartbeatFailed(eureka)
+        task.heartbeatFailed(consul)
+
+        then:"the heartbeat backs off by the fewest failures"
+        task.nextDelay() == Duration.ofSeconds(20)
+
+        when:"one succeeds"
+        task.heartbeatSucceeded(eureka)
+        task.heartbeatFailed(eureka)
+
+        then:"the failures of the other are kept"
+        task.nextDelay() == Duration.ofSeconds(20)
+    }
+
+    void "test the next heartbeat is scheduled once the outcome is reported"() {
+        given:
+        HeartbeatConfiguration configuration = new HeartbeatConfiguration(
+                initialDelay: Duration.ofMillis(5),
+                interval: Duration.ofSeconds(10),
+                jitter: 0,
+                maxBackoff: Duration.ofSeconds(60)
+        )
+        List<Duration> delays = []
+        List<Runnable> beats = []
+        List<Integer> cancelled = []
+        TaskScheduler scheduler = Stub(TaskScheduler) {
+            schedule(_ as Duration, _ as Runnable) >> { Duration delay, Runnable beat ->
+                int index = beats.size()
+                delays.add(delay)
+                beats.add(beat)
+                return [cancel: { boolean interrupt -> cancelled.add(index) }] as ScheduledFuture
+            }
+        }
+        ApplicationEventPublisher eventPublisher = Mock(ApplicationEventPublisher)
+        HeartbeatTask task = new HeartbeatTask(eventPublisher, configuration, Stub(CurrentHealthStatus), scheduler)
+        Object registration = new Object()
+
+        when:
+        task.onApplicationEvent(new ServiceStartedEvent(ServiceInstance.of("test", "localhost", 8080)))
+        beats[0].run()
+
+        then:"a heartbeat without an outcome yet is followed after the interval"
+        1 * eventPublisher.publishEvent(_ as HeartbeatEvent)
+        delays == [Duration.ofMillis(5), Duration.ofSeconds(10)]
+
+        when:"the heartbeat fails"
+        task.heartbeatFailed(registration)
+
+        then:"the next heartbeat is rescheduled with the backoff"
+        cancelled == [1]
+        delays[2] == Duration.ofSeconds(20)
+
+        when:"the superseded heartbeat runs anyway and a late outcome is reported"
+        beats[1].run()
+        task.heartbeatSucceeded(registration)
+
+        then:"nothing is sent or scheduled"
+        0 * eventPublisher.publishEvent(_)
+        delays.size() == 3
+    }
 
     @Singleton
     static class HeartbeatListener implements ApplicationEventListener<HeartbeatEvent> {
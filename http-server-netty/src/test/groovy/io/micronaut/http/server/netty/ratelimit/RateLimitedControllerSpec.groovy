@@ -0,0 +1,100 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.netty.ratelimit
+
+import io.micronaut.context.annotation.Requires
+import io.micronaut.http.HttpHeaders
+import io.micronaut.http.HttpRequest
+import io.micronaut.http.HttpStatus
+import io.micronaut.http.annotation.Body
+import io.micronaut.http.annotation.Controller
+import io.micronaut.http.annotation.Get
+import io.micronaut.http.annotation.Post
+import io.micronaut.http.client.exceptions.HttpClientResponseException
+import io.micronaut.http.server.HttpServerConfiguration
+import io.micronaut.http.server.netty.AbstractMicronautSpec
+import io.micronaut.http.server.ratelimit.HttpRateLimiter
+import io.micronaut.ratelimit.RateLimit
+import io.micronaut.ratelimit.RateLimiter
+import io.micronaut.ratelimit.annotation.RateLimited
+import spock.lang.Unroll
+
+import java.util.concurrent.atomic.AtomicInteger
+
+class RateLimitedControllerSpec extends AbstractMicronautSpec {
+
+    void "test requests over the limit of a route are rejected before the body is read"() {
+        given:
+        LimitedController controller = embeddedServer.applicationContext.getBean(LimitedController)
+
+        expect:
+        rxClient.retrieve(HttpRequest.POST('/limited/echo', 'one')).blockingFirst() == 'one'
+        rxClient.retrieve(HttpRequest.POST('/limited/echo', 'two')).blockingFirst() == 'two'
+
+        when:
+        rxClient.exchange(HttpRequest.POST('/limited/echo', 'three')).blockingFirst()
+
+        then:
+        def e = thrown(HttpClientResponseException)
+        e.response.status() == HttpStatus.TOO_MANY_REQUESTS
+        controller.invocations.get() == 2
+    }
+
+    void "test routes without a rate limit are not limited"() {
+        expect:
+        (1..5).every { rxClient.retrieve('/limited/open').blockingFirst() == 'open' }
+    }
+
+    @Unroll
+    void "test a failing rate limiter permits requests if fail open is #failOpen"() {
+        given:
+        RateLimiter failing = { String key, RateLimit rateLimit, long permits ->
+            throw new IllegalStateException("Bucket store unavailable")
+        } as RateLimiter
+        def configuration = new HttpServerConfiguration.RateLimitConfiguration(enabled: true, failOpen: failOpen)
+        HttpRateLimiter rateLimiter = new HttpRateLimiter(failing, configuration)
+        HttpRequest request = Stub(HttpRequest) {
+            getAttribute(_) >> Optional.empty()
+            getHeaders() >> Stub(HttpHeaders)
+        }
+
+        expect:
+        rateLimiter.tryAcquire(request).get() == failOpen
+        rateLimiter.tryAcquire(request, null).get().get() == failOpen
+
+        where:
+        failOpen << [true, false]
+    }
+
+    @Controller('/limited')
+    @Requires(property = 'spec.name', value = 'RateLimitedControllerSpec')
+    static class LimitedController {
+        AtomicInteger invocations = new AtomicInteger()
+
+        @Post('/echo')
+        @RateLimited(limit = "2", period = "1h")
+        String echo(@Body String body) {
+            invocations.incrementAndGet()
+            body
+        }
+
+        @Get('/open')
+        String open() {
+            'open'
+        }
+    }
+}
@@ -57,6 +57,7 @@ public class HttpServerConfiguration {
     protected Duration idleTime = Duration.of(60, ChronoUnit.SECONDS);
     protected MultipartConfiguration multipart = new MultipartConfiguration();
     protected CorsConfiguration cors = new CorsConfiguration();
+    protected RateLimitConfiguration rateLimit = new RateLimitConfiguration();
 
     private final ApplicationConfiguration applicationConfiguration;
     private Charset defaultCharset;
@@ -136,6 +137,13 @@ public class HttpServerConfiguration {
         return cors;
     }
 
+    /**
+     * @return Configuration for rate limiting
+     */
+    public RateLimitConfiguration getRateLimit() {
+        return rateLimit;
+    }
+
     /**
      * @return The maximum request body size
      */
@@ -238,4 +246,63 @@ public class HttpServerConfiguration {
             return configurations;
         }
     }
+
+    /**
+     * Configuration for rate limiting.
+     */
+    @ConfigurationProperties("rate-limit")
+    public static class RateLimitConfiguration implements Toggleable {
+
+        protected boolean enabled = false;
+        protected long limit = 100;
+        protected Duration period = Duration.ofSeconds(1);
+        protected Optional<Long> burst = Optional.empty();
+        protected Optional<String> keyHeader = Optional.empty();
+        protected boolean failOpen = true;
+
+        /**
+         * @return Whether every request is subject to the server wide rate limit. Defaults to false.
+         */
+        @Override
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * @return The number of requests each client may make every period. Defaults to 100.
+         */
+        public long getLimit() {
+            return limit;
+        }
+
+        /**
+         * @return The period over which the limit applies. Defaults to 1 second.
+         */
+        public Duration getPeriod() {
+            return period;
+        }
+
+        /**
+         * @return The maximum number of requests a client may make at once. Defaults to the limit.
+         */
+        public Optional<Long> getBurst() {
+            return burst;
+        }
+
+        /**
+         * @return The header that identifies a client, for example a tenant or API key header. Defaults to the remote
+         * address of the client.
+         */
+        public Optional<String> getKeyHeader() {
+            return keyHeader;
+        }
+
+        /**
+         * @return Whether requests are permitted when the rate limiter fails, for example because the store of the
+         * buckets is unavailable. Otherwise such requests are rejected. Defaults to true.
+         */
+        public boolean isFailOpen() {
+            return failOpen;
+        }
+    }
 }
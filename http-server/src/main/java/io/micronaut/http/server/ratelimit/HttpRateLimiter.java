@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.ratelimit;
+
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.server.HttpServerConfiguration;
+import io.micronaut.inject.MethodReference;
+import io.micronaut.ratelimit.RateLimit;
+import io.micronaut.ratelimit.RateLimiter;
+import io.micronaut.ratelimit.annotation.RateLimited;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces rate limits on HTTP requests, both the server wide limit and the limits declared with {@link RateLimited}
+ * on routes. The HTTP server consults this class as soon as a route is matched so that requests over the limit are
+ * rejected before their body is read. When the underlying {@link RateLimiter} fails the request is permitted or
+ * rejected according to {@link HttpServerConfiguration.RateLimitConfiguration#isFailOpen()}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+public class HttpRateLimiter {
+
+    /**
+     * The request attribute that records that the server wide limit has been applied to a request.
+     */
+    public static final String ATTRIBUTE = "micronaut.http.rateLimited";
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpRateLimiter.class);
+    private static final String SERVER_BUCKET = "micronaut.server";
+    private static final String UNKNOWN_CLIENT = "unknown";
+
+    private final RateLimiter rateLimiter;
+    private final HttpServerConfiguration.RateLimitConfiguration configuration;
+    private final RateLimit serverRateLimit;
+    private final Map<Method, Optional<RouteLimit>> routeLimits = new ConcurrentHashMap<>();
+
+    /**
+     * @param rateLimiter   The rate limiter
+     * @param configuration The rate limit configuration
+     */
+    public HttpRateLimiter(RateLimiter rateLimiter, HttpServerConfiguration.RateLimitConfiguration configuration) {
+        this.rateLimiter = rateLimiter;
+        this.configuration = configuration;
+        this.serverRateLimit = new RateLimit(
+            configuration.getLimit(),
+            configuration.getPeriod(),
+            configuration.getBurst().orElse(configuration.getLimit())
+        );
+    }
+
+    /**
+     * @return Whether the server wide rate limit is enabled
+     */
+    public boolean isEnabled() {
+        return configuration.isEnabled();
+    }
+
+    /**
+     * Attempts to acquire a permit from the server wide bucket of the client that sent the request. A request only
+     * ever consumes a single permit from the server wide bucket, even if it is checked more than once.
+     *
+     * @param request The request
+     * @return A future that completes with true if the request is permitted
+     */
+    public CompletableFuture<Boolean> tryAcquire(HttpRequest<?> request) {
+        if (request.getAttribute(ATTRIBUTE).isPresent()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        request.setAttribute(ATTRIBUTE, true);
+        return acquire(SERVER_BUCKET + ":" + resolveClientKey(request), serverRateLimit);
+    }
+
+    /**
+     * Attempts to acquire the permits required by a request: a permit from the server wide bucket if the server wide
+     * rate limit is enabled and a permit from the bucket of the route if it declares {@link RateLimited}.
+     *
+     * @param request The request
+     * @param route   The method the request is routed to, if any
+     * @return A future that completes with true if the request is permitted, or empty if the request is not limited
+     */
+    public Optional<CompletableFuture<Boolean>> tryAcquire(HttpRequest<?> request, @Nullable MethodReference<?, ?> route) {
+        Optional<RouteLimit> routeLimit = route != null ? findRouteLimit(route) : Optional.empty();
+        if (!configuration.isEnabled()) {
+            return routeLimit.map(limit -> acquireRoutePermit(request, limit));
+        }
+        CompletableFuture<Boolean> permit = tryAcquire(request);
+        if (!routeLimit.isPresent()) {
+            return Optional.of(permit);
+        }
+        RouteLimit limit = routeLimit.get();
+        return Optional.of(permit.thenCompose(acquired ->
+            acquired ? acquireRoutePermit(request, limit) : CompletableFuture.completedFuture(false)
+        ));
+    }
+
+    /**
+     * Resolves the key that identifies the client that sent the request. Defaults to the value of the configured key
+     * header, falling back to the remote address.
+     *
+     * @param request The request
+     * @return The client key
+     */
+    protected String resolveClientKey(HttpRequest<?> request) {
+        Optional<String> keyHeader = configuration.getKeyHeader();
+        if (keyHeader.isPresent()) {
+            String value = request.getHeaders().get(keyHeader.get());
+            if (value != null) {
+                return value;
+            }
+        }
+        InetSocketAddress address = request.getRemoteAddress();
+        if (address == null) {
+            return UNKNOWN_CLIENT;
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+
+    private CompletableFuture<Boolean> acquireRoutePermit(HttpRequest<?> request, RouteLimit limit) {
+        String key = limit.perClient ? limit.key + ":" + resolveClientKey(request) : limit.key;
+        return acquire(key, limit.rateLimit);
+    }
+
+    private CompletableFuture<Boolean> acquire(String key, RateLimit rateLimit) {
+        CompletableFuture<Boolean> permit;
+        try {
+            permit = rateLimiter.tryAcquire(key, rateLimit);
+        } catch (RuntimeException e) {
+            permit = new CompletableFuture<>();
+            permit.completeExceptionally(e);
+        }
+        return permit.exceptionally(this::onRateLimiterError);
+    }
+
+    private Boolean onRateLimiterError(Throwable throwable) {
+        boolean failOpen = configuration.isFailOpen();
+        if (LOG.isWarnEnabled()) {
+            LOG.warn("Error checking rate limit, " + (failOpen ? "permitting" : "rejecting") + " request: " + throwable.getMessage(), throwable);
+        }
+        return failOpen;
+    }
+
+    private Optional<RouteLimit> findRouteLimit(MethodReference<?, ?> route) {
+        Optional<RouteLimit> routeLimit = routeLimits.get(route.getTargetMethod());
+        if (routeLimit == null) {
+            routeLimit = routeLimits.computeIfAbsent(route.getTargetMethod(), method -> newRouteLimit(route));
+        }
+        return routeLimit;
+    }
+
+    private Optional<RouteLimit> newRouteLimit(MethodReference<?, ?> route) {
+        return RateLimit.of(route).map(rateLimit -> {
+            String key = route.getValue(RateLimited.class, "name", String.class)
+                .filter(name -> !name.isEmpty())
+                .orElseGet(() -> route.getDeclaringType().getName() + "." + route.getMethodName());
+            boolean perClient = route.getValue(RateLimited.class, "perClient", Boolean.class).orElse(true);
+            return new RouteLimit(key, rateLimit, perClient);
+        });
+    }
+
+    /**
+     * The bucket key and rate limit of a route.
+     */
+    private static final class RouteLimit {
+        final String key;
+        final RateLimit rateLimit;
+        final boolean perClient;
+
+        RouteLimit(String key, RateLimit rateLimit, boolean perClient) {
+            this.key = key;
+            this.rateLimit = rateLimit;
+            this.perClient = perClient;
+        }
+    }
+}
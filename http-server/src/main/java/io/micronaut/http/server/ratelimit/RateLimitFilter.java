@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.http.server.ratelimit;
+
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
+import io.micronaut.http.MutableHttpResponse;
+import io.micronaut.http.annotation.Filter;
+import io.micronaut.http.filter.HttpServerFilter;
+import io.micronaut.http.filter.ServerFilterChain;
+import io.reactivex.Flowable;
+import org.reactivestreams.Publisher;
+
+/**
+ * A filter that applies the server wide rate limit configured with {@code micronaut.server.rate-limit} to every
+ * request. Requests that exceed the limit of their client receive a 429 (Too Many Requests) response.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Filter("/**")
+@Requires(property = "micronaut.server.rate-limit.enabled", value = "true")
+public class RateLimitFilter implements HttpServerFilter {
+
+    /**
+     * The order of the filter. Runs before other filters so that rejected requests do no further work.
+     */
+    public static final int ORDER = Integer.MIN_VALUE + 100;
+
+    protected final HttpRateLimiter rateLimiter;
+
+    /**
+     * @param rateLimiter The HTTP rate limiter
+     */
+    public RateLimitFilter(HttpRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Publisher<MutableHttpResponse<?>> doFilter(HttpRequest<?> request, ServerFilterChain chain) {
+        return Flowable
+            .fromPublisher(Publishers.fromCompletableFuture(() -> rateLimiter.tryAcquire(request)))
+            .<MutableHttpResponse<?>>flatMap(acquired -> {
+                if (acquired) {
+                    return chain.proceed(request);
+                }
+                MutableHttpResponse<?> response = HttpResponse.status(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded");
+                return Publishers.just(response);
+            });
+    }
+}
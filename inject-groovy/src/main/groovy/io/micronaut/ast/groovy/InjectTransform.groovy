@@ -63,6 +63,7 @@ import io.micronaut.inject.configuration.ConfigurationMetadataBuilder
 import io.micronaut.inject.processing.ProcessedTypes
 import io.micronaut.inject.visitor.TypeElementVisitor
 import io.micronaut.inject.writer.BeanConfigurationWriter
+import io.micronaut.inject.writer.BeanDefinitionIndexWriter
 import io.micronaut.inject.writer.BeanDefinitionReferenceWriter
 import io.micronaut.inject.writer.BeanDefinitionVisitor
 import io.micronaut.inject.writer.BeanDefinitionWriter
@@ -257,6 +258,17 @@ class InjectTransform implements ASTTransformation, CompilationUnitAware {
                 }
             }
 
+            if (classesDir != null) {
+                try {
+                    BeanDefinitionIndexWriter.writeIndex(outputVisitor)
+                } catch (Throwable e) {
+                    AstMessageUtils.error(source, moduleNode, "Error generating bean definition index: $e.message")
+                    if (e.message == null) {
+                        e.printStackTrace(System.err)
+                    }
+                }
+            }
+
             for(loadedVisitor in loadedVisitors.values()) {
                 try {
                     loadedVisitor.visitor.finish(visitorContext)
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context
+
+import io.micronaut.context.annotation.Context
+import io.micronaut.context.annotation.Requires
+import io.micronaut.context.env.Environment
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.util.concurrent.CopyOnWriteArrayList
+
+class ParallelStartupSpec extends Specification {
+
+    static final List<String> INITIALIZED = new CopyOnWriteArrayList<>()
+
+    void "test parallel startup resolves the same beans in the same order as sequential startup"() {
+        when:
+        Map<String, Object> sequential = startup(false)
+        Map<String, Object> parallel = startup(true)
+
+        then:
+        !sequential.parallel
+        parallel.parallel
+        parallel.beanTypes == sequential.beanTypes
+        parallel.initialized == sequential.initialized
+        parallel.initialized == [ParallelStartupDependency.simpleName, ParallelStartupBean.simpleName]
+        parallel.beanTypes.containsAll([ParallelStartupBean.name, ParallelStartupDependency.name, ParallelStartupSingleton.name])
+        !parallel.beanTypes.contains(ParallelStartupDisabled.name)
+    }
+
+    private static Map<String, Object> startup(boolean parallel) {
+        INITIALIZED.clear()
+        String previous = System.getProperty(Environment.PARALLEL_STARTUP_PROPERTY)
+        System.setProperty(Environment.PARALLEL_STARTUP_PROPERTY, String.valueOf(parallel))
+        ApplicationContext context = ApplicationContext.build().start()
+        try {
+            return [
+                    parallel   : ((DefaultBeanContext) context).isParallelStartup(),
+                    beanTypes  : context.allBeanDefinitions.collect { it.beanType.name },
+                    initialized: new ArrayList<>(INITIALIZED)
+            ]
+        } finally {
+            context.stop()
+            if (previous == null) {
+                System.clearProperty(Environment.PARALLEL_STARTUP_PROPERTY)
+            } else {
+                System.setProperty(Environment.PARALLEL_STARTUP_PROPERTY, previous)
+            }
+        }
+    }
+
+    @Context
+    static class ParallelStartupBean {
+        ParallelStartupBean(ParallelStartupDependency dependency) {
+            INITIALIZED.add(ParallelStartupBean.simpleName)
+        }
+    }
+
+    @Singleton
+    static class ParallelStartupDependency {
+        ParallelStartupDependency() {
+            INITIALIZED.add(ParallelStartupDependency.simpleName)
+        }
+    }
+
+    @Singleton
+    static class ParallelStartupSingleton {
+    }
+
+    @Singleton
+    @Requires(property = 'parallel-startup.disabled')
+    static class ParallelStartupDisabled {
+    }
+}
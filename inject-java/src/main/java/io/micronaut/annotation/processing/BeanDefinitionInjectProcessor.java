@@ -54,6 +54,7 @@ import io.micronaut.inject.configuration.ConfigurationMetadataWriter;
 import io.micronaut.inject.configuration.PropertyMetadata;
 import io.micronaut.inject.processing.ProcessedTypes;
 import io.micronaut.inject.visitor.TypeElementVisitor;
+import io.micronaut.inject.writer.BeanDefinitionIndexWriter;
 import io.micronaut.inject.writer.BeanDefinitionReferenceWriter;
 import io.micronaut.inject.writer.BeanDefinitionVisitor;
 import io.micronaut.inject.writer.BeanDefinitionWriter;
@@ -132,6 +133,7 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
     private JavaConfigurationMetadataBuilder metadataBuilder;
     private Map<String, AnnBeanElementVisitor> beanDefinitionWriters;
     private Set<String> processed = new HashSet<>();
+    private boolean beanDefinitionIndexWritten;
 
     @Override
     public final synchronized void init(ProcessingEnvironment processingEnv) {
@@ -233,6 +235,18 @@ public class BeanDefinitionInjectProcessor extends AbstractInjectAnnotationProce
                     error("Error occurred writing META-INF files: %s", message != null ? message : e);
                 }
 
+                // the filer cannot create a class twice, so the index is written once and the references of any later
+                // round are still loaded from META-INF/services
+                if (!beanDefinitionIndexWritten) {
+                    beanDefinitionIndexWritten = true;
+                    try {
+                        BeanDefinitionIndexWriter.writeIndex(classWriterOutputVisitor);
+                    } catch (Exception e) {
+                        String message = e.getMessage();
+                        error("Error occurred writing the bean definition index: %s", message != null ? message : e);
+                    }
+                }
+
                 if (metadataBuilder.hasMetadata()) {
                     ServiceLoader<ConfigurationMetadataWriter> writers = ServiceLoader.load(ConfigurationMetadataWriter.class, getClass().getClassLoader());
 
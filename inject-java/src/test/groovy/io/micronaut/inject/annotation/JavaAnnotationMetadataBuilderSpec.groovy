@@ -507,4 +507,47 @@ class Test {
         metadata.hasAnnotation(Circular)
     }
 
+    void "test converted values are cached and arrays are copied"() {
+        given:
+        AnnotationMetadata metadata = buildTypeAnnotationMetadata('''\
+package test;
+
+@io.micronaut.context.annotation.Requires(env = {"foo", "bar"}, property = "test.prop")
+class Test {
+}
+''')
+
+        when:
+        String[] first = metadata.getValue(Requires, "env", String[].class).get()
+        first[0] = "changed"
+        String[] second = metadata.getValue(Requires, "env", String[].class).get()
+
+        then:
+        !first.is(second)
+        second == ["foo", "bar"] as String[]
+        metadata.getValue(Requires.name, "env", String[].class).get() == ["foo", "bar"] as String[]
+        metadata.getValue(Requires, "property", String.class).get() == "test.prop"
+        metadata.getValue(Requires, "property", String.class).get() == "test.prop"
+        !metadata.getValue(Requires, "missing", String.class).isPresent()
+    }
+
+    void "test converted collections are not shared between callers"() {
+        given:
+        AnnotationMetadata metadata = buildTypeAnnotationMetadata('''\
+package test;
+
+@io.micronaut.context.annotation.Requires(env = {"foo", "bar"})
+class Test {
+}
+''')
+
+        when:
+        Set first = metadata.getValue(Requires, "env", Set.class).get()
+        first.add("changed")
+        Set second = metadata.getValue(Requires, "env", Set.class).get()
+
+        then:
+        !first.is(second)
+        second == ["foo", "bar"] as Set
+    }
 }
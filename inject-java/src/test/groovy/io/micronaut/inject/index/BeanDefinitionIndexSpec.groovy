@@ -0,0 +1,78 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.inject.index
+
+import io.micronaut.inject.AbstractTypeElementSpec
+import io.micronaut.inject.BeanDefinitionIndex
+import io.micronaut.inject.BeanDefinitionReference
+import io.micronaut.support.Parser
+
+import javax.tools.JavaFileObject
+
+class BeanDefinitionIndexSpec extends AbstractTypeElementSpec {
+
+    void "test a bean definition index is generated for the references of a compilation"() {
+        given:
+        Iterable<? extends JavaFileObject> files = Parser.generate('test.MyBean', '''
+package test;
+
+@javax.inject.Singleton
+class MyBean {
+}
+
+@javax.inject.Singleton
+class OtherBean {
+}
+''')
+        JavaFileObject serviceFile = files.find { it.name.endsWith("META-INF/services/$BeanDefinitionIndex.name") }
+        ClassLoader classLoader = new ClassLoader() {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                String fileName = name.replace('.', '/') + '.class'
+                JavaFileObject generated = files.find { it.name.endsWith(fileName) }
+                if (generated != null) {
+                    def bytes = generated.openInputStream().bytes
+                    return defineClass(name, bytes, 0, bytes.length)
+                }
+                return super.findClass(name)
+            }
+        }
+
+        expect:
+        serviceFile != null
+
+        when:
+        String indexClassName = serviceFile.getCharContent(true).toString().trim()
+        BeanDefinitionIndex index = (BeanDefinitionIndex) classLoader.loadClass(indexClassName).newInstance()
+
+        then:
+        indexClassName.startsWith('test.$BeanDefinitionIndex')
+        index.referenceNames == ['test.$MyBeanDefinitionClass', 'test.$OtherBeanDefinitionClass'] as String[]
+
+        when:
+        BeanDefinitionReference reference = index.loadReference(0)
+
+        then:
+        reference.getClass().name == 'test.$MyBeanDefinitionClass'
+        reference.name == 'test.MyBean'
+
+        when:
+        index.loadReference(2)
+
+        then:
+        thrown(IndexOutOfBoundsException)
+    }
+}
@@ -47,21 +47,27 @@ abstract class AbstractBeanContextConditional implements BeanContextConditional,
         int contextId = context.hashCode();
         Boolean enabled = this.enabled.get(contextId);
         if (enabled == null) {
-            AnnotationMetadata annotationMetadata = getAnnotationMetadata();
-            Condition condition = annotationMetadata.hasStereotype(Requirements.class) || annotationMetadata.hasStereotype(Requires.class) ? new RequiresCondition(annotationMetadata) : null;
-            DefaultConditionContext<AbstractBeanContextConditional> conditionContext = new DefaultConditionContext<>(context, this);
-            enabled = condition == null || condition.matches(conditionContext);
-            if (LOG.isDebugEnabled() && !enabled) {
-                if (this instanceof BeanConfiguration) {
-                    LOG.debug(this + " will not be loaded due to failing conditions:");
-                } else {
-                    LOG.debug("Bean [" + this + "] will not be loaded due to failing conditions:");
-                }
-                for (Failure failure : conditionContext.getFailures()) {
-                    LOG.debug("* {}", failure.getMessage());
+            StartupProfiler profiler = StartupProfiler.of(context);
+            StartupProfiler.Span span = profiler.start(StartupProfiler.CATEGORY_CONDITION, toString());
+            try {
+                AnnotationMetadata annotationMetadata = getAnnotationMetadata();
+                Condition condition = annotationMetadata.hasStereotype(Requirements.class) || annotationMetadata.hasStereotype(Requires.class) ? new RequiresCondition(annotationMetadata) : null;
+                DefaultConditionContext<AbstractBeanContextConditional> conditionContext = new DefaultConditionContext<>(context, this);
+                enabled = condition == null || condition.matches(conditionContext);
+                if (LOG.isDebugEnabled() && !enabled) {
+                    if (this instanceof BeanConfiguration) {
+                        LOG.debug(this + " will not be loaded due to failing conditions:");
+                    } else {
+                        LOG.debug("Bean [" + this + "] will not be loaded due to failing conditions:");
+                    }
+                    for (Failure failure : conditionContext.getFailures()) {
+                        LOG.debug("* {}", failure.getMessage());
+                    }
                 }
+                this.enabled.put(contextId, enabled);
+            } finally {
+                profiler.end(span);
             }
-            this.enabled.put(contextId, enabled);
         }
         return enabled;
     }
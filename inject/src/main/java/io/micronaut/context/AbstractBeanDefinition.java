@@ -613,11 +613,21 @@ public class AbstractBeanDefinition<T> extends AbstractBeanContextConditional im
     @Internal
     protected Object postConstruct(BeanResolutionContext resolutionContext, BeanContext context, Object bean) {
         DefaultBeanContext defaultContext = (DefaultBeanContext) context;
+        StartupProfiler profiler = defaultContext.getStartupProfiler();
+        StartupProfiler.Span span = profiler.start(StartupProfiler.CATEGORY_POST_CONSTRUCT, getBeanType().getName());
+        try {
+            return doPostConstruct(resolutionContext, defaultContext, bean);
+        } finally {
+            profiler.end(span);
+        }
+    }
+
+    private Object doPostConstruct(BeanResolutionContext resolutionContext, DefaultBeanContext defaultContext, Object bean) {
         Collection<BeanInitializedEventListener> initializedEventListeners = defaultContext.getBeansOfType(resolutionContext, BeanInitializedEventListener.class, null);
         for (BeanInitializedEventListener listener : initializedEventListeners) {
             Optional<Class> targetType = GenericTypeUtils.resolveInterfaceTypeArgument(listener.getClass(), BeanInitializedEventListener.class);
             if (!targetType.isPresent() || targetType.get().isInstance(bean)) {
-                bean = listener.onInitialized(new BeanInitializingEvent(context, this, bean));
+                bean = listener.onInitialized(new BeanInitializingEvent(defaultContext, this, bean));
                 if (bean == null) {
                     throw new BeanInstantiationException(resolutionContext, "Listener [" + listener + "] returned null from onCreated event");
                 }
@@ -108,11 +108,17 @@ public abstract class AbstractBeanDefinitionReference extends AbstractBeanContex
 
     @Override
     public BeanDefinition load(BeanContext context) {
-        BeanDefinition definition = load();
-        if (context instanceof ApplicationContext && definition instanceof EnvironmentConfigurable) {
-            ((EnvironmentConfigurable) definition).configure(((ApplicationContext) context).getEnvironment());
+        StartupProfiler profiler = StartupProfiler.of(context);
+        StartupProfiler.Span span = profiler.start(StartupProfiler.CATEGORY_LOAD, beanTypeName);
+        try {
+            BeanDefinition definition = load();
+            if (context instanceof ApplicationContext && definition instanceof EnvironmentConfigurable) {
+                ((EnvironmentConfigurable) definition).configure(((ApplicationContext) context).getEnvironment());
+            }
+            return definition;
+        } finally {
+            profiler.end(span);
         }
-        return definition;
     }
 
     @Override
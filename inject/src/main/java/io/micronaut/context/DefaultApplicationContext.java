@@ -135,7 +135,13 @@ public class DefaultApplicationContext extends DefaultBeanContext implements App
 
     @Override
     public synchronized ApplicationContext start() {
-        startEnvironment();
+        StartupProfiler profiler = getStartupProfiler();
+        StartupProfiler.Span span = profiler.start(StartupProfiler.CATEGORY_STARTUP, "startEnvironment");
+        try {
+            startEnvironment();
+        } finally {
+            profiler.end(span);
+        }
         return (ApplicationContext) super.start();
     }
 
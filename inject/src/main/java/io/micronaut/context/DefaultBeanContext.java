@@ -19,6 +19,7 @@ package io.micronaut.context;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.micronaut.context.annotation.*;
+import io.micronaut.context.env.Environment;
 import io.micronaut.context.event.*;
 import io.micronaut.context.exceptions.BeanContextException;
 import io.micronaut.context.exceptions.BeanInstantiationException;
@@ -34,6 +35,8 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.value.ConvertibleValues;
 import io.micronaut.core.io.ResourceLoader;
 import io.micronaut.core.io.scan.ClassPathResourceLoader;
+import io.micronaut.core.io.service.ServiceDefinition;
+import io.micronaut.core.io.service.SoftServiceLoader;
 import io.micronaut.core.io.service.StreamSoftServiceLoader;
 import io.micronaut.core.naming.Named;
 import io.micronaut.core.order.OrderUtil;
@@ -46,6 +49,7 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.OptionalValues;
 import io.micronaut.inject.BeanConfiguration;
 import io.micronaut.inject.BeanDefinition;
+import io.micronaut.inject.BeanDefinitionIndex;
 import io.micronaut.inject.BeanDefinitionMethodReference;
 import io.micronaut.inject.BeanDefinitionReference;
 import io.micronaut.inject.BeanFactory;
@@ -90,6 +94,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -122,6 +127,7 @@ public class DefaultBeanContext implements BeanContext {
     private final Set<Class> thisInterfaces = ReflectionUtils.getAllInterfaces(getClass());
     private final CustomScopeRegistry customScopeRegistry = new DefaultCustomScopeRegistry(this);
     private final ResourceLoader resourceLoader;
+    private final StartupProfiler startupProfiler = StartupProfiler.create();
 
     /**
      * Construct a new bean context using the same classloader that loaded this DefaultBeanContext class.
@@ -164,23 +170,46 @@ public class DefaultBeanContext implements BeanContext {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Starting BeanContext");
             }
-            readAllBeanConfigurations();
-            readAllBeanDefinitionClasses();
-            if (LOG.isDebugEnabled()) {
-                String activeConfigurations = beanConfigurations
-                    .values()
-                    .stream()
-                    .filter(config -> config.isEnabled(this))
-                    .map(BeanConfiguration::getName)
-                    .collect(Collectors.joining(","));
-                if (StringUtils.isNotEmpty(activeConfigurations)) {
-                    LOG.debug("Loaded active configurations: {}", activeConfigurations);
-                }
+            if (startupProfiler.isEnabled()) {
+                registerSingleton(StartupProfiler.class, startupProfiler);
             }
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("BeanContext Started.");
+            try {
+                StartupProfiler.Span span = startupProfiler.start(StartupProfiler.CATEGORY_STARTUP, "readAllBeanConfigurations");
+                try {
+                    readAllBeanConfigurations();
+                } finally {
+                    startupProfiler.end(span);
+                }
+                span = startupProfiler.start(StartupProfiler.CATEGORY_STARTUP, "readAllBeanDefinitionClasses");
+                try {
+                    readAllBeanDefinitionClasses();
+                } finally {
+                    startupProfiler.end(span);
+                }
+                if (LOG.isDebugEnabled()) {
+                    String activeConfigurations = beanConfigurations
+                        .values()
+                        .stream()
+                        .filter(config -> config.isEnabled(this))
+                        .map(BeanConfiguration::getName)
+                        .collect(Collectors.joining(","));
+                    if (StringUtils.isNotEmpty(activeConfigurations)) {
+                        LOG.debug("Loaded active configurations: {}", activeConfigurations);
+                    }
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("BeanContext Started.");
+                }
+                span = startupProfiler.start(StartupProfiler.CATEGORY_STARTUP, "publishStartupEvent");
+                try {
+                    publishEvent(new StartupEvent(this));
+                } finally {
+                    startupProfiler.end(span);
+                }
+            } finally {
+                startupProfiler.stopRecording();
             }
-            publishEvent(new StartupEvent(this));
+            startupProfiler.writeTraceFile();
         }
         return this;
     }
@@ -236,6 +265,7 @@ public class DefaultBeanContext implements BeanContext {
                     ((LifeCycle) bean).stop();
                 }
             });
+            startupProfiler.writeTraceFile();
         }
         return this;
     }
@@ -915,12 +945,60 @@ public class DefaultBeanContext implements BeanContext {
     }
 
     /**
-     * Resolves the {@link BeanDefinitionReference} class instances. Default implementation uses ServiceLoader pattern.
+     * Resolves the {@link BeanDefinitionReference} class instances. The references of the modules that have a
+     * generated {@link BeanDefinitionIndex} are instantiated by the index, the references of the remaining modules are
+     * loaded with the ServiceLoader pattern.
      *
      * @return The bean definition classes
      */
     protected List<BeanDefinitionReference> resolveBeanDefinitionReferences() {
-        return StreamSoftServiceLoader.loadPresentParallel(BeanDefinitionReference.class, classLoader).collect(Collectors.toList());
+        // the references whose class requirements failed when the index was built are skipped without loading them
+        Set<String> disabledReferences = StaticRequirementsIndex.load(classLoader);
+        Set<String> indexedReferences = new HashSet<>();
+        List<BeanDefinitionReference> beanDefinitionReferences = new ArrayList<>();
+        for (ServiceDefinition<BeanDefinitionIndex> definition : SoftServiceLoader.load(BeanDefinitionIndex.class, classLoader)) {
+            if (definition.isPresent()) {
+                BeanDefinitionIndex index = definition.load();
+                String[] referenceNames = index.getReferenceNames();
+                for (int i = 0; i < referenceNames.length; i++) {
+                    String referenceName = referenceNames[i];
+                    if (indexedReferences.add(referenceName) && !disabledReferences.contains(referenceName)) {
+                        try {
+                            beanDefinitionReferences.add(index.loadReference(i));
+                        } catch (LinkageError e) {
+                            // a reference that was removed since the index was generated
+                            if (LOG.isDebugEnabled()) {
+                                LOG.debug("Bean definition reference [" + referenceName + "] of index [" + definition.getName() + "] is not present: " + e.getMessage());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        Predicate<String> condition = indexedReferences.isEmpty() && disabledReferences.isEmpty() ? null :
+            name -> !indexedReferences.contains(name) && !disabledReferences.contains(name);
+        StreamSoftServiceLoader.loadPresentParallel(BeanDefinitionReference.class, classLoader, condition)
+            .forEachOrdered(beanDefinitionReferences::add);
+        return beanDefinitionReferences;
+    }
+
+    /**
+     * @return The profiler that records the startup of this context
+     */
+    StartupProfiler getStartupProfiler() {
+        return startupProfiler;
+    }
+
+    /**
+     * Whether the bean definition references are evaluated in parallel on startup. Enabled with the
+     * {@link Environment#PARALLEL_STARTUP_PROPERTY} system property or the {@link Environment#PARALLEL_STARTUP_ENV}
+     * environment variable.
+     *
+     * @return True if the bean definition references are evaluated in parallel
+     */
+    protected boolean isParallelStartup() {
+        return Boolean.parseBoolean(System.getProperty(Environment.PARALLEL_STARTUP_PROPERTY, System.getenv(Environment.PARALLEL_STARTUP_ENV)));
     }
 
     /**
@@ -1160,7 +1238,6 @@ public class DefaultBeanContext implements BeanContext {
                                  boolean isSingleton,
                                  Map<String, Object> argumentValues) {
         BeanRegistration<T> beanRegistration = isSingleton && !beanDefinition.isIterable() ? singletonObjects.get(new BeanKey(beanDefinition.getBeanType(), qualifier)) : null;
-        T bean;
         if (beanRegistration != null) {
             return beanRegistration.bean;
         }
@@ -1169,6 +1246,19 @@ public class DefaultBeanContext implements BeanContext {
             resolutionContext = new DefaultBeanResolutionContext(this, beanDefinition);
         }
 
+        StartupProfiler.Span span = startupProfiler.start(StartupProfiler.CATEGORY_CREATE, beanDefinition.getBeanType().getName());
+        try {
+            return createBean(resolutionContext, beanDefinition, qualifier, argumentValues);
+        } finally {
+            startupProfiler.end(span);
+        }
+    }
+
+    private <T> T createBean(BeanResolutionContext resolutionContext,
+                             BeanDefinition<T> beanDefinition,
+                             Qualifier<T> qualifier,
+                             Map<String, Object> argumentValues) {
+        T bean;
         if (beanDefinition instanceof BeanFactory) {
             BeanFactory<T> beanFactory = (BeanFactory<T>) beanDefinition;
             try {
@@ -1650,22 +1740,13 @@ public class DefaultBeanContext implements BeanContext {
         Map<String, BeanDefinitionReference> beanDefinitionsClassesByType = new HashMap<>();
         Map<String, BeanDefinitionReference> beanDefinitionsClassesByDefinition = new HashMap<>();
         List<BeanDefinitionReference> beanDefinitionReferences = resolveBeanDefinitionReferences();
+        Stream<BeanDefinitionReference> referenceStream = isParallelStartup() ? beanDefinitionReferences.parallelStream() : beanDefinitionReferences.stream();
+        // collecting keeps the encounter order, so the enabled references are in the same order when evaluated in parallel
+        List<BeanDefinitionReference> enabledReferences = referenceStream
+            .filter(this::isReferenceEnabled)
+            .collect(Collectors.toList());
 
-        for (BeanDefinitionReference beanDefinitionReference : beanDefinitionReferences) {
-            if (!beanDefinitionReference.isEnabled(this)) {
-                continue;
-            } else {
-                Optional<BeanConfiguration> beanConfiguration = beanConfigurations.values().stream().filter(c -> c.isWithin(beanDefinitionReference)).findFirst();
-                if (beanConfiguration.isPresent() && !beanConfiguration.get().isEnabled(this)) {
-                    if (AbstractBeanContextConditional.LOG.isDebugEnabled()) {
-                        AbstractBeanContextConditional.LOG.debug(
-                            "Bean [{}] will not be loaded because the configuration [{}] is not enabled",
-                            beanDefinitionReference.getName(),
-                            beanConfiguration);
-                    }
-                    continue;
-                }
-            }
+        for (BeanDefinitionReference beanDefinitionReference : enabledReferences) {
             beanDefinitionsClassesByType.put(beanDefinitionReference.getName(), beanDefinitionReference);
             beanDefinitionsClassesByDefinition.put(beanDefinitionReference.toString(), beanDefinitionReference);
             if (beanDefinitionReference.isContextScope()) {
@@ -1678,7 +1759,29 @@ public class DefaultBeanContext implements BeanContext {
 
         this.beanDefinitionsClasses.addAll(beanDefinitionsClassesByDefinition.values());
 
-        initializeContext(contextScopeBeans, processedBeans);
+        StartupProfiler.Span span = startupProfiler.start(StartupProfiler.CATEGORY_STARTUP, "initializeContext");
+        try {
+            initializeContext(contextScopeBeans, processedBeans);
+        } finally {
+            startupProfiler.end(span);
+        }
+    }
+
+    private boolean isReferenceEnabled(BeanDefinitionReference beanDefinitionReference) {
+        if (!beanDefinitionReference.isEnabled(this)) {
+            return false;
+        }
+        Optional<BeanConfiguration> beanConfiguration = beanConfigurations.values().stream().filter(c -> c.isWithin(beanDefinitionReference)).findFirst();
+        if (beanConfiguration.isPresent() && !beanConfiguration.get().isEnabled(this)) {
+            if (AbstractBeanContextConditional.LOG.isDebugEnabled()) {
+                AbstractBeanContextConditional.LOG.debug(
+                    "Bean [{}] will not be loaded because the configuration [{}] is not enabled",
+                    beanDefinitionReference.getName(),
+                    beanConfiguration);
+            }
+            return false;
+        }
+        return true;
     }
 
     @SuppressWarnings("unchecked")
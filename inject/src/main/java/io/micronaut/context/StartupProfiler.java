@@ -0,0 +1,454 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * <p>Records the wall time and the allocated bytes of the work a {@link DefaultBeanContext} performs while it starts,
+ * such as loading bean definitions, evaluating conditions, creating beans and invoking post construct hooks.</p>
+ *
+ * <p>The profiler is disabled unless the {@link #PROFILE_PROPERTY} system property or the {@link #PROFILE_ENV}
+ * environment variable is set to true. Setting the {@link #TRACE_FILE_PROPERTY} system property or the
+ * {@link #TRACE_FILE_ENV} environment variable also enables it and writes the recorded spans as a Chrome trace event
+ * file once the context has started and again when it stops. Recording stops once the context has started, so that
+ * beans created and conditions evaluated at runtime are not added to the profile. When the profiler is disabled
+ * recording a span costs a single field read.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public final class StartupProfiler {
+
+    /**
+     * The property that enables the startup profiler.
+     */
+    public static final String PROFILE_PROPERTY = "micronaut.startup.profile";
+
+    /**
+     * The environment key that enables the startup profiler.
+     */
+    public static final String PROFILE_ENV = "MICRONAUT_STARTUP_PROFILE";
+
+    /**
+     * The property that holds the path of the Chrome trace event file to write.
+     */
+    public static final String TRACE_FILE_PROPERTY = "micronaut.startup.trace";
+
+    /**
+     * The environment key that holds the path of the Chrome trace event file to write.
+     */
+    public static final String TRACE_FILE_ENV = "MICRONAUT_STARTUP_TRACE";
+
+    /**
+     * The category of the spans that cover a phase of the startup of the context.
+     */
+    public static final String CATEGORY_STARTUP = "startup";
+
+    /**
+     * The category of the spans that load a bean definition.
+     */
+    public static final String CATEGORY_LOAD = "load";
+
+    /**
+     * The category of the spans that evaluate the conditions of a bean.
+     */
+    public static final String CATEGORY_CONDITION = "condition";
+
+    /**
+     * The category of the spans that create a bean.
+     */
+    public static final String CATEGORY_CREATE = "create";
+
+    /**
+     * The category of the spans that invoke the post construct hooks of a bean.
+     */
+    public static final String CATEGORY_POST_CONSTRUCT = "postConstruct";
+
+    /**
+     * The maximum number of spans that are recorded, so that a context with many beans cannot exhaust the memory.
+     */
+    static final int MAX_SPANS = 100000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(StartupProfiler.class);
+    private static final StartupProfiler DISABLED = new StartupProfiler(false, null);
+
+    private final boolean enabled;
+    private final Path traceFile;
+    private final long origin = System.nanoTime();
+    private final Queue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger spanCount = new AtomicInteger();
+    private final ThreadLocal<Deque<Span>> activeSpans = ThreadLocal.withInitial(ArrayDeque::new);
+    private final boolean measureAllocations;
+    private volatile boolean recording;
+
+    /**
+     * @param enabled   Whether spans are recorded
+     * @param traceFile The trace file to write, if any
+     */
+    StartupProfiler(boolean enabled, @Nullable Path traceFile) {
+        this.enabled = enabled;
+        this.traceFile = traceFile;
+        this.measureAllocations = enabled && isAllocationMeasurementSupported();
+        this.recording = enabled;
+    }
+
+    /**
+     * @return A profiler configured from the system properties and the environment variables
+     */
+    static StartupProfiler create() {
+        String traceFile = System.getProperty(TRACE_FILE_PROPERTY, System.getenv(TRACE_FILE_ENV));
+        if (traceFile != null && traceFile.length() > 0) {
+            return new StartupProfiler(true, Paths.get(traceFile));
+        }
+        if (Boolean.parseBoolean(System.getProperty(PROFILE_PROPERTY, System.getenv(PROFILE_ENV)))) {
+            return new StartupProfiler(true, null);
+        }
+        return DISABLED;
+    }
+
+    /**
+     * @param context The bean context
+     * @return The profiler of the context
+     */
+    static StartupProfiler of(BeanContext context) {
+        if (context instanceof DefaultBeanContext) {
+            return ((DefaultBeanContext) context).getStartupProfiler();
+        }
+        return DISABLED;
+    }
+
+    /**
+     * @return Whether spans are recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The recorded spans in the order they ended
+     */
+    public List<Span> getSpans() {
+        return Collections.unmodifiableList(new ArrayList<>(spans));
+    }
+
+    /**
+     * Returns the spans of the given category that took the longest, measured without the time spent in the spans
+     * nested within them. For the {@link #CATEGORY_CREATE} category this excludes the time spent creating the
+     * dependencies of a bean.
+     *
+     * @param category The category
+     * @param limit    The maximum number of spans
+     * @return The slowest spans
+     */
+    public List<Span> getSlowestSpans(String category, int limit) {
+        return spans.stream()
+            .filter(span -> span.getCategory().equals(category))
+            .sorted(Comparator.comparingLong(Span::getSelfNanos).reversed())
+            .limit(limit)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Writes the recorded spans in the Chrome trace event format, which can be opened with chrome://tracing.
+     *
+     * @param writer The writer
+     * @throws IOException If the spans cannot be written
+     */
+    public void writeChromeTrace(Writer writer) throws IOException {
+        writer.write("{\"traceEvents\":[");
+        boolean first = true;
+        for (Span span : spans) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            writer.write("\n{\"name\":");
+            writeString(writer, span.getName());
+            writer.write(",\"cat\":");
+            writeString(writer, span.getCategory());
+            writer.write(",\"ph\":\"X\",\"pid\":1,\"tid\":");
+            writer.write(Long.toString(span.getThreadId()));
+            writer.write(",\"ts\":");
+            writer.write(Long.toString(TimeUnit.NANOSECONDS.toMicros(span.getStartNanos())));
+            writer.write(",\"dur\":");
+            writer.write(Long.toString(TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos())));
+            writer.write(",\"args\":{\"selfMicros\":");
+            writer.write(Long.toString(TimeUnit.NANOSECONDS.toMicros(span.getSelfNanos())));
+            if (span.getAllocatedBytes() > -1) {
+                writer.write(",\"allocatedBytes\":");
+                writer.write(Long.toString(span.getAllocatedBytes()));
+                writer.write(",\"selfAllocatedBytes\":");
+                writer.write(Long.toString(span.getSelfAllocatedBytes()));
+            }
+            writer.write("}}");
+        }
+        writer.write("\n],\"displayTimeUnit\":\"ms\"}\n");
+    }
+
+    /**
+     * Starts a span on the current thread. Spans started while another span is active on the same thread are nested
+     * within it.
+     *
+     * @param category The category
+     * @param name     The name, typically the bean type
+     * @return The span to pass to {@link #end(Span)}, or null if the profiler is disabled or no longer recording
+     */
+    @Nullable
+    Span start(String category, String name) {
+        if (!recording) {
+            return null;
+        }
+        Span span = new Span(category, name, Thread.currentThread().getId(), System.nanoTime() - origin, allocatedBytes());
+        activeSpans.get().push(span);
+        return span;
+    }
+
+    /**
+     * Ends a span that was started on the current thread.
+     *
+     * @param span The span, which may be null if the profiler is disabled
+     */
+    void end(@Nullable Span span) {
+        if (span == null) {
+            return;
+        }
+        span.durationNanos = System.nanoTime() - origin - span.startNanos;
+        if (span.allocatedBytes > -1) {
+            span.allocatedBytes = Math.max(0, allocatedBytes() - span.allocatedBytes);
+        }
+        Deque<Span> active = activeSpans.get();
+        // remove the span and any nested span that was not ended because of an exception
+        Span removed = active.poll();
+        while (removed != null && removed != span) {
+            removed = active.poll();
+        }
+        Span parent = active.peek();
+        if (parent != null) {
+            parent.childNanos += span.durationNanos;
+            parent.childAllocatedBytes += Math.max(0, span.allocatedBytes);
+        }
+        if (spanCount.incrementAndGet() <= MAX_SPANS) {
+            spans.add(span);
+        }
+    }
+
+    /**
+     * Stops recording new spans. Called once the context has started.
+     */
+    void stopRecording() {
+        recording = false;
+    }
+
+    /**
+     * Writes the Chrome trace event file if one is configured.
+     */
+    void writeTraceFile() {
+        if (traceFile == null) {
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(traceFile, StandardCharsets.UTF_8)) {
+            writeChromeTrace(writer);
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Wrote startup trace with {} spans to: {}", Math.min(spanCount.get(), MAX_SPANS), traceFile);
+            }
+        } catch (IOException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Unable to write startup trace to [" + traceFile + "]: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static boolean isAllocationMeasurementSupported() {
+        try {
+            return ThreadAllocations.isSupported();
+        } catch (LinkageError e) {
+            // the management API is not available, for example on Android
+            return false;
+        }
+    }
+
+    private long allocatedBytes() {
+        return measureAllocations ? ThreadAllocations.current() : -1;
+    }
+
+    private static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    if (c < ' ') {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+        writer.write('"');
+    }
+
+    /**
+     * A unit of work recorded by the {@link StartupProfiler}.
+     */
+    public static final class Span {
+        private final String category;
+        private final String name;
+        private final long threadId;
+        private final long startNanos;
+        private long durationNanos;
+        private long childNanos;
+        private long allocatedBytes;
+        private long childAllocatedBytes;
+
+        private Span(String category, String name, long threadId, long startNanos, long allocatedBytes) {
+            this.category = category;
+            this.name = name;
+            this.threadId = threadId;
+            this.startNanos = startNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /**
+         * @return The category, for example {@link StartupProfiler#CATEGORY_CREATE}
+         */
+        public String getCategory() {
+            return category;
+        }
+
+        /**
+         * @return The name, typically the bean type
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return The id of the thread the span ran on
+         */
+        public long getThreadId() {
+            return threadId;
+        }
+
+        /**
+         * @return The start of the span, relative to the creation of the profiler
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * @return The wall time of the span, including nested spans
+         */
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+
+        /**
+         * @return The wall time of the span, excluding nested spans
+         */
+        public long getSelfNanos() {
+            return Math.max(0, durationNanos - childNanos);
+        }
+
+        /**
+         * @return The bytes allocated by the thread during the span including nested spans, or -1 if the JVM does not
+         * support measuring allocations
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * @return The bytes allocated by the thread during the span excluding nested spans, or -1 if the JVM does not
+         * support measuring allocations
+         */
+        public long getSelfAllocatedBytes() {
+            return allocatedBytes > -1 ? Math.max(0, allocatedBytes - childAllocatedBytes) : -1;
+        }
+
+        @Override
+        public String toString() {
+            return category + ":" + name + " (" + TimeUnit.NANOSECONDS.toMicros(durationNanos) + "us)";
+        }
+    }
+
+    /**
+     * Measures the allocated bytes of the current thread. Kept in a separate class so that the management API is only
+     * loaded when the profiler is enabled.
+     */
+    private static final class ThreadAllocations {
+
+        private static final com.sun.management.ThreadMXBean THREAD_BEAN = resolveThreadBean();
+
+        static boolean isSupported() {
+            return THREAD_BEAN != null;
+        }
+
+        static long current() {
+            return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        private static com.sun.management.ThreadMXBean resolveThreadBean() {
+            java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+            if (threadBean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+                if (bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+                    return bean;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context;
+
+import io.micronaut.context.annotation.Requirements;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.exceptions.BeanContextException;
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.core.convert.value.ConvertibleValues;
+import io.micronaut.core.io.service.ServiceDefinition;
+import io.micronaut.core.io.service.SoftServiceLoader;
+import io.micronaut.inject.BeanDefinitionReference;
+import io.micronaut.inject.annotation.AnnotationValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * <p>Pre-evaluates the class presence requirements of the {@link BeanDefinitionReference} instances on a class path and
+ * writes the references that can never be enabled on that class path to an index file. A {@link DefaultBeanContext}
+ * skips the references listed in the index without loading them.</p>
+ *
+ * <p>The index is an optional build step. It must be generated with the same class path the application runs with,
+ * for example from a {@code JavaExec} task that runs {@link #main(String...)} with the runtime class path and the
+ * classes output directory as the argument, or from build tooling that calls {@link #writeIndex(ClassLoader, File)}. Requirements that depend on the environment, the configuration or the
+ * running JVM are still evaluated at runtime.</p>
+ *
+ * <p>Each entry of the index records the names of the classes that the requirements of the reference name. An entry
+ * is only honoured if the reference is loaded from the same class path root as the index file and one of those classes
+ * is still missing, otherwise the reference is loaded and its requirements are evaluated as usual.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public final class StaticRequirementsIndex {
+
+    /**
+     * The location of the index file.
+     */
+    public static final String INDEX_FILE = "META-INF/micronaut/disabled-bean-definition-references";
+
+    private static final Logger LOG = LoggerFactory.getLogger(StaticRequirementsIndex.class);
+    private static final String CLASS_SUFFIX = ".class";
+
+    private StaticRequirementsIndex() {
+    }
+
+    /**
+     * Writes the index for the class path of this class to the directory given as the first argument.
+     *
+     * @param args The arguments
+     * @throws IOException If the index cannot be written
+     * @see #writeIndex(ClassLoader, File)
+     */
+    public static void main(String... args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: " + StaticRequirementsIndex.class.getName() + " <classes directory>");
+        }
+        writeIndex(StaticRequirementsIndex.class.getClassLoader(), new File(args[0]));
+    }
+
+    /**
+     * Writes the index for the given class loader to the given directory. Only the references compiled to that
+     * directory are written, since the index is ignored for any other reference.
+     *
+     * @param classLoader     The class loader of the application
+     * @param outputDirectory The classes output directory
+     * @return The class names of the disabled references that were written and the names of the classes their requirements name
+     * @throws IOException If the index cannot be written
+     */
+    public static Map<String, Set<String>> writeIndex(ClassLoader classLoader, File outputDirectory) throws IOException {
+        String root = outputDirectory.toURI().toURL().toString();
+        Map<String, Set<String>> disabledReferences = findDisabledReferences(classLoader);
+        disabledReferences.keySet().removeIf(name -> !isLoadedFrom(classLoader, name, root));
+        write(disabledReferences, outputDirectory);
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Wrote {} disabled bean definition references to {}", disabledReferences.size(), outputDirectory);
+        }
+        return disabledReferences;
+    }
+
+    /**
+     * Finds the bean definition references whose class presence requirements are not met by the given class loader.
+     *
+     * @param classLoader The class loader of the application
+     * @return The class names of the disabled references and the names of the classes their requirements name
+     */
+    public static Map<String, Set<String>> findDisabledReferences(ClassLoader classLoader) {
+        // a context that is not started only evaluates the requirements that are known before a reference is loaded
+        DefaultBeanContext context = new DefaultBeanContext(classLoader);
+        Map<String, Set<String>> disabledReferences = new TreeMap<>();
+        for (ServiceDefinition<BeanDefinitionReference> definition : SoftServiceLoader.load(BeanDefinitionReference.class, classLoader)) {
+            if (definition.isPresent()) {
+                BeanDefinitionReference reference = definition.load();
+                if (!reference.isEnabled(context)) {
+                    Set<String> requiredClasses = getRequiredClasses(reference.getAnnotationMetadata());
+                    // a reference whose requirements name no classes was disabled for another reason that cannot be checked without loading it
+                    if (!requiredClasses.isEmpty()) {
+                        disabledReferences.put(definition.getName(), requiredClasses);
+                    }
+                }
+            }
+        }
+        return disabledReferences;
+    }
+
+    /**
+     * Writes the index file below the given directory.
+     *
+     * @param disabledReferences The class names of the disabled references and the names of the classes their requirements name
+     * @param outputDirectory    The output directory, which must be the class path root of the references
+     * @throws IOException If the index cannot be written
+     */
+    public static void write(Map<String, Set<String>> disabledReferences, File outputDirectory) throws IOException {
+        Path indexFile = new File(outputDirectory, INDEX_FILE).toPath();
+        Files.createDirectories(indexFile.getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            writer.write("# Generated by " + StaticRequirementsIndex.class.getName() + ". Do not edit.");
+            writer.newLine();
+            for (Map.Entry<String, Set<String>> entry : disabledReferences.entrySet()) {
+                writer.write(entry.getKey());
+                writer.write('=');
+                writer.write(String.join(",", entry.getValue()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Loads the disabled references from all the index files of the given class loader. Entries for references that
+     * are loaded from another class path root than the index file, or whose required classes are all present by now,
+     * are ignored.
+     *
+     * @param classLoader The class loader
+     * @return The class names of the disabled references
+     */
+    static Set<String> load(ClassLoader classLoader) {
+        Enumeration<URL> indexFiles;
+        try {
+            indexFiles = classLoader.getResources(INDEX_FILE);
+        } catch (IOException e) {
+            throw new BeanContextException("Failed to load the resources for: " + INDEX_FILE, e);
+        }
+        if (!indexFiles.hasMoreElements()) {
+            return Collections.emptySet();
+        }
+        Set<String> disabledReferences = new HashSet<>();
+        while (indexFiles.hasMoreElements()) {
+            URL url = indexFiles.nextElement();
+            String indexFile = url.toString();
+            String root = indexFile.substring(0, indexFile.length() - INDEX_FILE.length());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    line = line.trim();
+                    if (line.length() != 0 && line.charAt(0) != '#') {
+                        int separator = line.indexOf('=');
+                        if (separator > 0) {
+                            String name = line.substring(0, separator);
+                            String[] requiredClasses = line.substring(separator + 1).split(",");
+                            if (isLoadedFrom(classLoader, name, root) && isAnyMissing(classLoader, requiredClasses)) {
+                                disabledReferences.add(name);
+                            }
+                        }
+                    }
+                    line = reader.readLine();
+                }
+            } catch (IOException e) {
+                throw new BeanContextException("Failed to read the disabled bean definition references from: " + url, e);
+            }
+        }
+        return disabledReferences;
+    }
+
+    private static boolean isLoadedFrom(ClassLoader classLoader, String name, String root) {
+        URL resource = classLoader.getResource(toResourceName(name));
+        return resource != null && resource.toString().startsWith(root);
+    }
+
+    private static boolean isAnyMissing(ClassLoader classLoader, String[] classNames) {
+        for (String className : classNames) {
+            if (className.length() != 0 && classLoader.getResource(toResourceName(className)) == null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toResourceName(String className) {
+        return className.replace('.', '/') + CLASS_SUFFIX;
+    }
+
+    private static Set<String> getRequiredClasses(AnnotationMetadata annotationMetadata) {
+        Set<String> requiredClasses = new TreeSet<>();
+        Optional<AnnotationValue[]> requirements = annotationMetadata.getValue(Requirements.class, AnnotationValue[].class);
+        if (requirements.isPresent()) {
+            for (AnnotationValue requirement : requirements.get()) {
+                addRequiredClasses(requirement.getConvertibleValues(), requiredClasses);
+            }
+        } else if (annotationMetadata.hasStereotype(Requires.class)) {
+            addRequiredClasses(annotationMetadata.getValues(Requires.class), requiredClasses);
+        }
+        return requiredClasses;
+    }
+
+    private static void addRequiredClasses(ConvertibleValues<Object> values, Set<String> requiredClasses) {
+        for (String attribute : new String[] {"classes", "beans"}) {
+            values.get(attribute, String[].class).ifPresent(names -> Collections.addAll(requiredClasses, names));
+        }
+    }
+}
@@ -63,6 +63,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -251,11 +253,7 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
     @Override
     public Environment stop() {
         running.set(false);
-        synchronized (catalog) {
-            for (int i = 0; i < catalog.length; i++) {
-                catalog[i] = null;
-            }
-        }
+        clearCatalog();
         return this;
     }
 
@@ -348,6 +346,16 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         }
     }
 
+    /**
+     * Whether property sources are loaded in parallel. Enabled with the {@link #PARALLEL_STARTUP_PROPERTY} system
+     * property or the {@link #PARALLEL_STARTUP_ENV} environment variable.
+     *
+     * @return True if property sources are loaded in parallel
+     */
+    protected boolean isParallelStartup() {
+        return Boolean.parseBoolean(System.getProperty(PARALLEL_STARTUP_PROPERTY, System.getenv(PARALLEL_STARTUP_ENV)));
+    }
+
     /**
      * Reads the value of MICRONAUT_CONFIG_FILES environment variable.
      *
@@ -403,6 +411,8 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         Collection<PropertySourceLoader> propertySourceLoaders = getPropertySourceLoaders();
         if (propertySourceLoaders.isEmpty()) {
             loadPropertySourceFromLoader(name, new PropertiesPropertySourceLoader(), propertySources);
+        } else if (isParallelStartup()) {
+            propertySources.addAll(loadPropertySourcesInParallel(name, propertySourceLoaders));
         } else {
             for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
                 if (LOG.isDebugEnabled()) {
@@ -474,6 +484,25 @@ public class DefaultEnvironment extends PropertySourcePropertyResolver implement
         }
     }
 
+    private List<PropertySource> loadPropertySourcesInParallel(String name, Collection<PropertySourceLoader> propertySourceLoaders) {
+        List<String> environmentNames = new ArrayList<>();
+        // null loads the default property source of each loader
+        environmentNames.add(null);
+        environmentNames.addAll(getActiveNames());
+        List<Supplier<Optional<PropertySource>>> loads = new ArrayList<>(propertySourceLoaders.size() * environmentNames.size());
+        for (PropertySourceLoader propertySourceLoader : propertySourceLoaders) {
+            for (String environmentName : environmentNames) {
+                loads.add(() -> propertySourceLoader.load(name, this, environmentName));
+            }
+        }
+        // the parallel stream keeps the encounter order so the result is the same as loading sequentially
+        return loads.parallelStream()
+            .map(Supplier::get)
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Read the property source.
      *
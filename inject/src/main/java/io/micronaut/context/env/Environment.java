@@ -82,6 +82,16 @@ public interface Environment extends PropertyResolver, LifeCycle<Environment>, C
      */
     String ENVIRONMENTS_ENV = "MICRONAUT_ENVIRONMENTS";
 
+    /**
+     * The property that enables loading property sources and bean definition references in parallel on startup.
+     */
+    String PARALLEL_STARTUP_PROPERTY = "micronaut.startup.parallel";
+
+    /**
+     * The environment key that enables loading property sources and bean definition references in parallel on startup.
+     */
+    String PARALLEL_STARTUP_ENV = "MICRONAUT_STARTUP_PARALLEL";
+
     /**
      * The default bootstrap config name.
      */
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.context.env;
+
+import io.micronaut.core.annotation.Internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable snapshot of the properties of a {@link PropertySourcePropertyResolver}. The keys are held in a sorted
+ * array so that prefix queries are a binary search, and the values with resolved placeholders and the converted values
+ * are cached for the lifetime of the snapshot. The resolver publishes a new snapshot each time a property source is
+ * processed, which discards all of the cached values at once.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Internal
+final class PropertyCatalogIndex {
+
+    private final Map<String, Object> entries;
+    private final String[] keys;
+    private final String[] sortedKeys;
+    private final int[] ordinals;
+    private final Map<String, String> resolvedValues = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Optional<?>>> convertedValues = new ConcurrentHashMap<>();
+
+    /**
+     * @param catalog The catalog of the resolver
+     */
+    PropertyCatalogIndex(Map<String, Object>[] catalog) {
+        Map<String, Object> entries = new LinkedHashMap<>();
+        for (Map<String, Object> bucket : catalog) {
+            if (bucket != null) {
+                entries.putAll(bucket);
+            }
+        }
+        this.entries = entries;
+        this.keys = entries.keySet().toArray(new String[0]);
+        Integer[] order = new Integer[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparing(i -> keys[i]));
+        this.sortedKeys = new String[keys.length];
+        this.ordinals = new int[keys.length];
+        for (int i = 0; i < order.length; i++) {
+            ordinals[i] = order[i];
+            sortedKeys[i] = keys[order[i]];
+        }
+    }
+
+    /**
+     * @param name The property name
+     * @return Whether the property exists
+     */
+    boolean containsKey(String name) {
+        return entries.containsKey(name);
+    }
+
+    /**
+     * @param name The property name
+     * @return The raw value of the property or null
+     */
+    Object get(String name) {
+        return entries.get(name);
+    }
+
+    /**
+     * @param prefix The prefix
+     * @return Whether any property name starts with the prefix
+     */
+    boolean containsPrefix(String prefix) {
+        int i = lowerBound(prefix);
+        return i < sortedKeys.length && sortedKeys[i].startsWith(prefix);
+    }
+
+    /**
+     * Returns the properties whose name starts with the given prefix, in the order they were added to the catalog.
+     *
+     * @param prefix The prefix
+     * @return The matching properties
+     */
+    Map<String, Object> entriesWithPrefix(String prefix) {
+        int start = lowerBound(prefix);
+        int end = start;
+        while (end < sortedKeys.length && sortedKeys[end].startsWith(prefix)) {
+            end++;
+        }
+        if (start == end) {
+            return new LinkedHashMap<>(0);
+        }
+        int[] matches = Arrays.copyOfRange(ordinals, start, end);
+        Arrays.sort(matches);
+        Map<String, Object> result = new LinkedHashMap<>(matches.length);
+        for (int ordinal : matches) {
+            String key = keys[ordinal];
+            result.put(key, entries.get(key));
+        }
+        return result;
+    }
+
+    /**
+     * @param name The property name
+     * @return The value of the property with the placeholders resolved, or null if it has not been resolved yet
+     */
+    String getResolvedValue(String name) {
+        return resolvedValues.get(name);
+    }
+
+    /**
+     * @param name  The property name
+     * @param value The value of the property with the placeholders resolved
+     */
+    void putResolvedValue(String name, String value) {
+        resolvedValues.putIfAbsent(name, value);
+    }
+
+    /**
+     * @param name The property name
+     * @param type The required type
+     * @param <T>  The required type
+     * @return The converted value of the property, or null if it has not been converted yet
+     */
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> getConvertedValue(String name, Class<T> type) {
+        Map<String, Optional<?>> values = convertedValues.get(type);
+        return values != null ? (Optional<T>) values.get(name) : null;
+    }
+
+    /**
+     * @param name  The property name
+     * @param type  The required type
+     * @param value The converted value
+     */
+    void putConvertedValue(String name, Class<?> type, Optional<?> value) {
+        convertedValues.computeIfAbsent(type, t -> new ConcurrentHashMap<>()).putIfAbsent(name, value);
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = sortedKeys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedKeys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
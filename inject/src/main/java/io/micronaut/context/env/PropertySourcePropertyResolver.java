@@ -21,6 +21,7 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.format.MapFormat;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.StringConvention;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.core.util.CollectionUtils;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.MapPropertyResolver;
@@ -60,6 +61,8 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
     // this allows optimization of searches by prefix
     @SuppressWarnings("MagicNumber")
     protected final Map<String, Object>[] catalog = new Map[57];
+    // an immutable index of the catalog that is rebuilt on the first read after the catalog changes
+    private volatile PropertyCatalogIndex catalogIndex;
 
     /**
      * Creates a new, initially empty, {@link PropertySourcePropertyResolver} for the given {@link ConversionService}.
@@ -130,8 +133,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
             if (entries == null) {
                 return false;
             } else {
+                PropertyCatalogIndex propertyIndex = getCatalogIndex();
                 name = trimIndex(name);
-                return entries.containsKey(name) || entries.containsKey(normalizeName(name));
+                return propertyIndex.containsKey(name) || propertyIndex.containsKey(normalizeName(name));
             }
         }
     }
@@ -145,15 +149,9 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
             if (entries == null) {
                 return false;
             } else {
+                PropertyCatalogIndex propertyIndex = getCatalogIndex();
                 name = trimIndex(name);
-                if (entries.containsKey(name) || entries.containsKey(normalizeName(name))) {
-                    return true;
-                } else {
-                    String finalName = name + ".";
-                    return entries.keySet().stream().anyMatch(key ->
-                            key.startsWith(finalName)
-                    );
-                }
+                return propertyIndex.containsKey(name) || propertyIndex.containsKey(normalizeName(name)) || propertyIndex.containsPrefix(name + ".");
             }
         }
     }
@@ -166,15 +164,24 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
 
             Map<String, Object> entries = resolveEntriesForKey(name, false);
             if (entries != null) {
-                Object value = entries.get(name);
+                PropertyCatalogIndex propertyIndex = getCatalogIndex();
+                Class<T> requiredType = conversionContext.getArgument().getType();
+                boolean cacheable = isCacheable(conversionContext);
+                if (cacheable) {
+                    Optional<T> converted = propertyIndex.getConvertedValue(name, requiredType);
+                    if (converted != null) {
+                        return converted;
+                    }
+                }
+                Object value = propertyIndex.get(name);
                 if (value == null) {
-                    value = entries.get(normalizeName(name));
+                    value = propertyIndex.get(normalizeName(name));
                 }
                 if (value == null) {
                     int i = name.indexOf('[');
                     if (i > -1 && name.endsWith("]")) {
                         String newKey = name.substring(0, i);
-                        value = entries.get(newKey);
+                        value = propertyIndex.get(newKey);
                         if (value != null) {
                             String index = name.substring(i + 1, name.length() - 1);
                             if (StringUtils.isNotEmpty(index)) {
@@ -196,15 +203,17 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                             String index = name.substring(i + 1, name.length() - 1);
                             if (StringUtils.isNotEmpty(index)) {
                                 String subKey = newKey + '.' + index;
-                                value = entries.get(subKey);
+                                value = propertyIndex.get(subKey);
                             }
                         }
                     }
                 }
-                Class<T> requiredType = conversionContext.getArgument().getType();
                 if (value != null) {
-                    value = resolvePlaceHoldersIfNecessary(value);
+                    value = resolvePlaceHoldersIfNecessary(propertyIndex, name, value);
                     Optional<T> converted = conversionService.convert(value, conversionContext);
+                    if (cacheable && converted.isPresent()) {
+                        propertyIndex.putConvertedValue(name, requiredType, converted);
+                    }
                     if (LOG.isTraceEnabled()) {
                        if (converted.isPresent()) {
                            LOG.trace("Resolved value [{}] for property: {}", converted.get(), name);
@@ -214,13 +223,13 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                     }
                     return converted;
                 } else if (Properties.class.isAssignableFrom(requiredType)) {
-                    Properties properties = resolveSubProperties(name, entries, conversionContext);
+                    Properties properties = resolveSubProperties(name, propertyIndex.entriesWithPrefix(name + '.'), conversionContext);
                     return Optional.of((T) properties);
                 } else if (Map.class.isAssignableFrom(requiredType)) {
-                    Map<String, Object> subMap = resolveSubMap(name, entries, conversionContext);
+                    Map<String, Object> subMap = resolveSubMap(name, propertyIndex.entriesWithPrefix(name + '.'), conversionContext);
                     return conversionService.convert(subMap, requiredType, conversionContext);
                 } else if (PropertyResolver.class.isAssignableFrom(requiredType)) {
-                    Map<String, Object> subMap = resolveSubMap(name, entries, conversionContext);
+                    Map<String, Object> subMap = resolveSubMap(name, propertyIndex.entriesWithPrefix(name + '.'), conversionContext);
                     return Optional.of((T) new MapPropertyResolver(subMap, conversionService));
                 }
             }
@@ -388,6 +397,17 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
                     }
                 }
             }
+            this.catalogIndex = null;
+        }
+    }
+
+    /**
+     * Removes all of the properties from the catalog.
+     */
+    protected void clearCatalog() {
+        synchronized (catalog) {
+            Arrays.fill(catalog, null);
+            this.catalogIndex = null;
         }
     }
 
@@ -416,6 +436,26 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         return entries;
     }
 
+    private PropertyCatalogIndex getCatalogIndex() {
+        PropertyCatalogIndex index = this.catalogIndex;
+        if (index == null) {
+            synchronized (catalog) {
+                index = this.catalogIndex;
+                if (index == null) {
+                    index = new PropertyCatalogIndex(catalog);
+                    this.catalogIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    private boolean isCacheable(ArgumentConversionContext<?> conversionContext) {
+        // only immutable values that are converted without formatting annotations can be shared between callers
+        Class<?> type = conversionContext.getArgument().getType();
+        return !type.isArray() && (ClassUtils.isJavaLangType(type) || type.isEnum()) && conversionContext.getAnnotations().length == 0;
+    }
+
     private String normalizeName(String name) {
         return name.replace('-', '.');
     }
@@ -427,6 +467,18 @@ public class PropertySourcePropertyResolver implements PropertyResolver {
         return value;
     }
 
+    private Object resolvePlaceHoldersIfNecessary(PropertyCatalogIndex index, String name, Object value) {
+        if (value instanceof CharSequence) {
+            String resolved = index.getResolvedValue(name);
+            if (resolved == null) {
+                resolved = propertyPlaceholderResolver.resolveRequiredPlaceholders(value.toString());
+                index.putResolvedValue(name, resolved);
+            }
+            return resolved;
+        }
+        return value;
+    }
+
     private List<String> resolvePropertiesForConvention(String property, PropertySource.PropertyConvention convention) {
         switch (convention) {
             case ENVIRONMENT_VARIABLE:
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.inject;
+
+import io.micronaut.core.annotation.Internal;
+
+/**
+ * <p>An index of the {@link BeanDefinitionReference} instances of a module that is generated at compile time. The
+ * references are instantiated directly by the generated code instead of being loaded reflectively from the
+ * {@code META-INF/services} files.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Internal
+public interface BeanDefinitionIndex {
+
+    /**
+     * @return The class names of the references, in the order of their index
+     */
+    String[] getReferenceNames();
+
+    /**
+     * Instantiates a reference.
+     *
+     * @param index The index of the reference within {@link #getReferenceNames()}
+     * @return The reference
+     */
+    BeanDefinitionReference loadReference(int index);
+}
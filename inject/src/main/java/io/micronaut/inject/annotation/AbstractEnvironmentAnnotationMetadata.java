@@ -25,6 +25,7 @@ import io.micronaut.core.util.StringUtils;
 import io.micronaut.core.value.OptionalValues;
 
 import javax.annotation.Nullable;
+import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -117,6 +118,23 @@ public abstract class AbstractEnvironmentAnnotationMetadata extends AbstractAnno
         return OptionalValues.empty();
     }
 
+    @Override
+    public <T> Optional<T> getValue(String annotation, String member, Class<T> requiredType) {
+        if (isEnvironmentDependent(annotation, member)) {
+            return convertValue(annotation, member, requiredType);
+        }
+        // values without placeholders are the same in every environment so the converted value of the target is used
+        return annotationMetadata.getValue(annotation, member, requiredType);
+    }
+
+    @Override
+    public <T> Optional<T> getValue(Class<? extends Annotation> annotation, String member, Class<T> requiredType) {
+        if (isEnvironmentDependent(annotation.getName(), member)) {
+            return convertValue(annotation, member, requiredType);
+        }
+        return annotationMetadata.getValue(annotation, member, requiredType);
+    }
+
     @Override
     public <T> Optional<T> getDefaultValue(String annotation, String member, Class<T> requiredType) {
         return annotationMetadata.getDefaultValue(annotation, member, requiredType);
@@ -130,6 +148,58 @@ public abstract class AbstractEnvironmentAnnotationMetadata extends AbstractAnno
      */
     protected abstract @Nullable Environment getEnvironment();
 
+    /**
+     * @param annotation The annotation
+     * @param member     The member
+     * @return Whether the value of the member may contain placeholders that are resolved by the environment
+     */
+    private boolean isEnvironmentDependent(String annotation, String member) {
+        if (getEnvironment() == null || StringUtils.isEmpty(annotation)) {
+            return false;
+        }
+        Map<String, Map<CharSequence, Object>> allAnnotations = annotationMetadata.allAnnotations;
+        Map<String, Map<CharSequence, Object>> allStereotypes = annotationMetadata.allStereotypes;
+        Map<CharSequence, Object> values = null;
+        if (allAnnotations != null) {
+            values = allAnnotations.get(annotation);
+            if (values == null && allStereotypes != null) {
+                values = allStereotypes.get(annotation);
+            }
+        }
+        if (values == null) {
+            return false;
+        }
+        Object value = values.get(member);
+        if (value instanceof CharSequence) {
+            return value.toString().contains("${");
+        } else if (value instanceof String[]) {
+            for (String str : (String[]) value) {
+                if (str != null && str.contains("${")) {
+                    return true;
+                }
+            }
+            return false;
+        } else {
+            return value instanceof AnnotationValue || value instanceof AnnotationValue[];
+        }
+    }
+
+    private <T> Optional<T> convertValue(String annotation, String member, Class<T> requiredType) {
+        Optional<T> value = getValues(annotation).get(member, requiredType);
+        if (!value.isPresent() && hasStereotype(annotation)) {
+            return getDefaultValue(annotation, member, requiredType);
+        }
+        return value;
+    }
+
+    private <T> Optional<T> convertValue(Class<? extends Annotation> annotation, String member, Class<T> requiredType) {
+        Optional<T> value = getValues(annotation).get(member, requiredType);
+        if (!value.isPresent() && hasStereotype(annotation)) {
+            return getDefaultValue(annotation, member, requiredType);
+        }
+        return value;
+    }
+
     private ConvertibleValues<Object> resolveValuesForEnvironment(String annotation, Map<String, Map<CharSequence, Object>> allAnnotations, Map<String, Map<CharSequence, Object>> allStereotypes) {
         if (StringUtils.isNotEmpty(annotation)) {
             if (allAnnotations != null) {
@@ -32,11 +32,13 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -53,6 +55,11 @@ import java.util.Set;
 @Internal
 public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implements AnnotationMetadata, AnnotatedElement, Cloneable {
 
+    /**
+     * The maximum number of converted values that are cached per instance.
+     */
+    private static final int MAX_CONVERTED_VALUES = 32;
+
     static {
         ConversionService.SHARED.addConverter(AnnotationValue.class, Annotation.class, (TypeConverter<AnnotationValue, Annotation>) (object, targetType, context) -> {
             Optional<Class> annotationClass = ClassUtils.forName(object.getAnnotationName(), targetType.getClassLoader());
@@ -87,6 +94,8 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
     Map<String, Map<CharSequence, Object>> allStereotypes;
     Map<String, List<String>> annotationsByStereotype;
 
+    private volatile Map<ValueKey, Object> convertedValues;
+
     /**
      * Constructs empty annotation metadata.
      */
@@ -136,6 +145,26 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         return Optional.empty();
     }
 
+    @Override
+    public <T> Optional<T> getValue(String annotation, String member, Class<T> requiredType) {
+        ValueKey key = new ValueKey(annotation, member, requiredType);
+        Optional<T> cached = getConvertedValue(key, requiredType);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheConvertedValue(key, convertValue(annotation, member, requiredType));
+    }
+
+    @Override
+    public <T> Optional<T> getValue(Class<? extends Annotation> annotation, String member, Class<T> requiredType) {
+        ValueKey key = new ValueKey(annotation, member, requiredType);
+        Optional<T> cached = getConvertedValue(key, requiredType);
+        if (cached != null) {
+            return cached;
+        }
+        return cacheConvertedValue(key, convertValue(annotation, member, requiredType));
+    }
+
     @Override
     public boolean isEmpty() {
         return allAnnotations == null || allAnnotations.isEmpty();
@@ -370,18 +399,19 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
     }
 
     private void putValues(String annotation, Map<CharSequence, Object> values, Map<String, Map<CharSequence, Object>> currentAnnotationValues) {
+        convertedValues = null;
         Map<CharSequence, Object> existing = currentAnnotationValues.get(annotation);
         boolean hasValues = CollectionUtils.isNotEmpty(values);
         if (existing != null && hasValues) {
-            if (existing.isEmpty()) {
-                existing = new LinkedHashMap<>();
-                currentAnnotationValues.put(annotation, existing);
-            }
+            // the existing values may be shared with the metadata this was cloned from, or be the unmodifiable
+            // values of generated metadata, so they are copied rather than modified
+            Map<CharSequence, Object> merged = new LinkedHashMap<>(existing);
             for (CharSequence key : values.keySet()) {
-                if (!existing.containsKey(key)) {
-                    existing.put(key, values.get(key));
+                if (!merged.containsKey(key)) {
+                    merged.put(key, values.get(key));
                 }
             }
+            currentAnnotationValues.put(annotation, merged);
         } else {
             if (!hasValues) {
                 existing = existing == null ? Collections.emptyMap() : existing;
@@ -393,6 +423,78 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         }
     }
 
+    /**
+     * @param key          The key of the value
+     * @param requiredType The required type
+     * @param <T>          The required generic type
+     * @return The previously converted value or null if the value has not been converted yet
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> getConvertedValue(ValueKey key, Class<T> requiredType) {
+        Map<ValueKey, Object> convertedValues = this.convertedValues;
+        if (convertedValues != null) {
+            Object value = convertedValues.get(key);
+            if (value != null) {
+                return Optional.of((T) copyIfArray(value));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Caches a converted value. Empty values are not cached since a converter that is registered later may be able
+     * to convert them. Collections and maps are not cached either since the caller may modify them. The cache is
+     * replaced rather than modified so that it can be read without locking.
+     *
+     * @param key   The key of the value
+     * @param value The converted value
+     * @param <T>   The required generic type
+     * @return The value
+     */
+    private <T> Optional<T> cacheConvertedValue(ValueKey key, Optional<T> value) {
+        if (value.isPresent() && !(value.get() instanceof Collection) && !(value.get() instanceof Map)) {
+            Map<ValueKey, Object> convertedValues = this.convertedValues;
+            int size = convertedValues != null ? convertedValues.size() : 0;
+            if (size < MAX_CONVERTED_VALUES) {
+                Map<ValueKey, Object> newValues = new HashMap<>(size + 1);
+                if (convertedValues != null) {
+                    newValues.putAll(convertedValues);
+                }
+                Object converted = value.get();
+                newValues.put(key, copyIfArray(converted));
+                this.convertedValues = newValues;
+            }
+        }
+        return value;
+    }
+
+    private <T> Optional<T> convertValue(String annotation, String member, Class<T> requiredType) {
+        Optional<T> value = getValues(annotation).get(member, requiredType);
+        if (!value.isPresent() && hasStereotype(annotation)) {
+            return getDefaultValue(annotation, member, requiredType);
+        }
+        return value;
+    }
+
+    private <T> Optional<T> convertValue(Class<? extends Annotation> annotation, String member, Class<T> requiredType) {
+        Optional<T> value = getValues(annotation).get(member, requiredType);
+        if (!value.isPresent() && hasStereotype(annotation)) {
+            return getDefaultValue(annotation, member, requiredType);
+        }
+        return value;
+    }
+
+    private static Object copyIfArray(Object value) {
+        // arrays are copied so that a caller cannot modify the cached value
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        return value;
+    }
+
     private ConvertibleValues<Object> convertibleValuesOf(Map<CharSequence, Object> values) {
         return ConvertibleValues.of(values);
     }
@@ -518,4 +620,44 @@ public class DefaultAnnotationMetadata extends AbstractAnnotationMetadata implem
         }
     }
 
+    /**
+     * The key of a converted value.
+     */
+    private static final class ValueKey {
+        private final Object annotation;
+        private final String member;
+        private final Class<?> requiredType;
+        private final int hashCode;
+
+        /**
+         * @param annotation   The annotation name or type
+         * @param member       The member
+         * @param requiredType The required type
+         */
+        ValueKey(Object annotation, String member, Class<?> requiredType) {
+            this.annotation = annotation;
+            this.member = member;
+            this.requiredType = requiredType;
+            this.hashCode = Objects.hash(annotation, member, requiredType);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ValueKey valueKey = (ValueKey) o;
+            return Objects.equals(annotation, valueKey.annotation) &&
+                Objects.equals(member, valueKey.member) &&
+                requiredType == valueKey.requiredType;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
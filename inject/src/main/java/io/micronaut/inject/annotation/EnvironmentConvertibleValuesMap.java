@@ -55,15 +55,18 @@ class EnvironmentConvertibleValuesMap<V> extends ConvertibleValuesMap<V> {
             String str = doResolveIfNecessary((CharSequence) value, placeholderResolver);
             return environment.convert(str, conversionContext);
         } else if (value instanceof String[]) {
-            String[] a = (String[]) value;
-            for (int i = 0; i < a.length; i++) {
-                a[i] = doResolveIfNecessary(a[i], placeholderResolver);
+            // the values are resolved into a copy so that the shared metadata is left unresolved
+            String[] values = (String[]) value;
+            String[] a = new String[values.length];
+            for (int i = 0; i < values.length; i++) {
+                a[i] = doResolveIfNecessary(values[i], placeholderResolver);
             }
             return environment.convert(a, conversionContext);
         } else if (value instanceof AnnotationValue[]) {
-            AnnotationValue[] annotationValues = (AnnotationValue[]) value;
-            for (int i = 0; i < annotationValues.length; i++) {
-                AnnotationValue annotationValue = annotationValues[i];
+            AnnotationValue[] values = (AnnotationValue[]) value;
+            AnnotationValue[] annotationValues = new AnnotationValue[values.length];
+            for (int i = 0; i < values.length; i++) {
+                AnnotationValue annotationValue = values[i];
                 annotationValues[i] = new AnnotationValue(annotationValue.getAnnotationName(), new EnvironmentConvertibleValuesMap<>(annotationValue.getValues(), environment));
             }
             return environment.convert(annotationValues, conversionContext);
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.inject.writer;
+
+import io.micronaut.core.annotation.Internal;
+import io.micronaut.core.naming.NameUtils;
+import io.micronaut.inject.BeanDefinitionIndex;
+import io.micronaut.inject.BeanDefinitionReference;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.commons.GeneratorAdapter;
+import org.objectweb.asm.commons.TableSwitchGenerator;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes the {@link BeanDefinitionIndex} class of a module using ASM.
+ *
+ * <p>The index is written after the {@code META-INF/services} entries have been flushed, so that it contains the
+ * references of previous compilations as well. The class name of an existing index is reused so that incremental
+ * compilations replace the index rather than adding another one.</p>
+ *
+ * @author agent
+ * @see BeanDefinitionIndex
+ * @since 1.0
+ */
+@Internal
+public class BeanDefinitionIndexWriter extends AbstractClassFileWriter {
+
+    /**
+     * Suffix for generated index classes.
+     */
+    public static final String CLASS_SUFFIX = "$BeanDefinitionIndex";
+
+    private static final String INDEX_SERVICE_FILE = "services/" + BeanDefinitionIndex.class.getName();
+
+    private final String indexClassName;
+    private final String[] referenceNames;
+
+    /**
+     * @param indexClassName The class name of the index
+     * @param referenceNames The class names of the bean definition references
+     */
+    public BeanDefinitionIndexWriter(String indexClassName, Collection<String> referenceNames) {
+        this.indexClassName = indexClassName;
+        this.referenceNames = new TreeSet<>(referenceNames).toArray(new String[0]);
+    }
+
+    /**
+     * Writes the index of the bean definition references of the given visitor. This method should be called after
+     * {@link ClassWriterOutputVisitor#finish()}.
+     *
+     * @param classWriterOutputVisitor The visitor
+     * @throws IOException If the index cannot be written
+     */
+    public static void writeIndex(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        Set<String> referenceNames = classWriterOutputVisitor.getServiceEntries().get(BeanDefinitionReference.class.getName());
+        Optional<GeneratedFile> serviceFile = classWriterOutputVisitor.visitMetaInfFile(INDEX_SERVICE_FILE);
+        if (referenceNames == null || referenceNames.isEmpty() || !serviceFile.isPresent()) {
+            return;
+        }
+        GeneratedFile generatedFile = serviceFile.get();
+        String indexClassName = resolveIndexClassName(generatedFile, referenceNames);
+        new BeanDefinitionIndexWriter(indexClassName, referenceNames).accept(classWriterOutputVisitor);
+
+        // a module has a single index, so the service file is replaced rather than appended to
+        try (BufferedWriter writer = new BufferedWriter(generatedFile.openWriter())) {
+            writer.write(indexClassName);
+            writer.newLine();
+        }
+    }
+
+    @Override
+    public void accept(ClassWriterOutputVisitor classWriterOutputVisitor) throws IOException {
+        try (OutputStream outputStream = classWriterOutputVisitor.visitClass(indexClassName)) {
+            ClassWriter classWriter = generateClassBytes();
+            outputStream.write(classWriter.toByteArray());
+        }
+    }
+
+    private ClassWriter generateClassBytes() {
+        ClassWriter classWriter = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        classWriter.visit(V1_8, ACC_PUBLIC, getInternalName(indexClassName), null, TYPE_OBJECT.getInternalName(), new String[] {
+            Type.getInternalName(BeanDefinitionIndex.class)
+        });
+
+        GeneratorAdapter constructor = startConstructor(classWriter);
+        constructor.loadThis();
+        constructor.invokeConstructor(TYPE_OBJECT, METHOD_DEFAULT_CONSTRUCTOR);
+        constructor.visitInsn(RETURN);
+        constructor.visitMaxs(1, 1);
+        constructor.visitEnd();
+
+        writeGetReferenceNamesMethod(classWriter);
+        writeLoadReferenceMethod(classWriter);
+
+        classWriter.visitEnd();
+        return classWriter;
+    }
+
+    private void writeGetReferenceNamesMethod(ClassWriter classWriter) {
+        GeneratorAdapter getReferenceNames = startPublicMethodZeroArgs(classWriter, String[].class, "getReferenceNames");
+        int size = referenceNames.length;
+        pushNewArray(getReferenceNames, String.class, size);
+        for (int i = 0; i < size; i++) {
+            pushStoreStringInArray(getReferenceNames, i, size, referenceNames[i]);
+        }
+        getReferenceNames.returnValue();
+        getReferenceNames.visitMaxs(DEFAULT_MAX_STACK, 1);
+        getReferenceNames.visitEnd();
+    }
+
+    private void writeLoadReferenceMethod(ClassWriter classWriter) {
+        GeneratorAdapter loadReference = startPublicMethod(
+            classWriter,
+            "loadReference",
+            BeanDefinitionReference.class.getName(),
+            int.class.getName()
+        );
+        int[] keys = new int[referenceNames.length];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i;
+        }
+        loadReference.loadArg(0);
+        loadReference.tableSwitch(keys, new TableSwitchGenerator() {
+            @Override
+            public void generateCase(int key, Label end) {
+                // NEW ..reference type..; DUP; INVOKESPECIAL <init>; ARETURN
+                Type referenceType = getTypeReference(referenceNames[key]);
+                loadReference.newInstance(referenceType);
+                loadReference.dup();
+                loadReference.invokeConstructor(referenceType, METHOD_DEFAULT_CONSTRUCTOR);
+                loadReference.returnValue();
+            }
+
+            @Override
+            public void generateDefault() {
+                loadReference.throwException(Type.getType(IndexOutOfBoundsException.class), "No bean definition reference at the given index");
+            }
+        });
+        loadReference.visitMaxs(DEFAULT_MAX_STACK, 2);
+        loadReference.visitEnd();
+    }
+
+    private static String resolveIndexClassName(GeneratedFile serviceFile, Set<String> referenceNames) throws IOException {
+        CharSequence contents = serviceFile.getTextContent();
+        if (contents != null) {
+            for (String line : contents.toString().split("\\n")) {
+                line = line.trim();
+                if (line.length() != 0 && line.charAt(0) != '#') {
+                    return line;
+                }
+            }
+        }
+        // place the index in the package shared by the references and derive a name that is unique across modules
+        String packageName = null;
+        for (String referenceName : referenceNames) {
+            String referencePackage = NameUtils.getPackageName(referenceName);
+            packageName = packageName == null ? referencePackage : commonPackage(packageName, referencePackage);
+        }
+        String suffix = CLASS_SUFFIX + Integer.toHexString(String.join(",", new TreeSet<>(referenceNames)).hashCode());
+        return packageName == null || packageName.isEmpty() ? suffix : packageName + '.' + suffix;
+    }
+
+    private static String commonPackage(String first, String second) {
+        String[] firstTokens = first.split("\\.");
+        String[] secondTokens = second.split("\\.");
+        StringBuilder common = new StringBuilder();
+        for (int i = 0; i < Math.min(firstTokens.length, secondTokens.length) && firstTokens[i].equals(secondTokens[i]); i++) {
+            if (common.length() > 0) {
+                common.append('.');
+            }
+            common.append(firstTokens[i]);
+        }
+        return common.toString();
+    }
+}
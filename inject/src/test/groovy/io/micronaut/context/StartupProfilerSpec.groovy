@@ -0,0 +1,116 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context
+
+import groovy.json.JsonSlurper
+import spock.lang.Specification
+
+class StartupProfilerSpec extends Specification {
+
+    void "test a disabled profiler records nothing"() {
+        given:
+        StartupProfiler profiler = new StartupProfiler(false, null)
+
+        when:
+        StartupProfiler.Span span = profiler.start(StartupProfiler.CATEGORY_CREATE, "foo")
+        profiler.end(span)
+
+        then:
+        span == null
+        profiler.spans.isEmpty()
+    }
+
+    void "test nested spans subtract the time of their children"() {
+        given:
+        StartupProfiler profiler = new StartupProfiler(true, null)
+
+        when:
+        StartupProfiler.Span outer = profiler.start(StartupProfiler.CATEGORY_CREATE, "outer")
+        StartupProfiler.Span inner = profiler.start(StartupProfiler.CATEGORY_CREATE, "inner")
+        Thread.sleep(50)
+        profiler.end(inner)
+        profiler.end(outer)
+
+        then:
+        profiler.spans.size() == 2
+        outer.durationNanos >= inner.durationNanos
+        outer.selfNanos == outer.durationNanos - inner.durationNanos
+        profiler.getSlowestSpans(StartupProfiler.CATEGORY_CREATE, 1)*.name == ["inner"]
+        profiler.getSlowestSpans(StartupProfiler.CATEGORY_LOAD, 10).isEmpty()
+    }
+
+    void "test no spans are recorded once recording stopped"() {
+        given:
+        StartupProfiler profiler = new StartupProfiler(true, null)
+        StartupProfiler.Span started = profiler.start(StartupProfiler.CATEGORY_STARTUP, "started")
+
+        when:
+        profiler.stopRecording()
+        profiler.end(started)
+        StartupProfiler.Span span = profiler.start(StartupProfiler.CATEGORY_CREATE, "foo")
+        profiler.end(span)
+
+        then:
+        span == null
+        profiler.spans*.name == ["started"]
+    }
+
+    void "test write a chrome trace"() {
+        given:
+        StartupProfiler profiler = new StartupProfiler(true, null)
+        profiler.end(profiler.start(StartupProfiler.CATEGORY_CONDITION, 'some "quoted" name'))
+        StringWriter writer = new StringWriter()
+
+        when:
+        profiler.writeChromeTrace(writer)
+        def json = new JsonSlurper().parseText(writer.toString())
+
+        then:
+        json.traceEvents.size() == 1
+        json.traceEvents[0].name == 'some "quoted" name'
+        json.traceEvents[0].cat == StartupProfiler.CATEGORY_CONDITION
+        json.traceEvents[0].ph == "X"
+    }
+
+    void "test the profiler is registered when enabled"() {
+        given:
+        System.setProperty(StartupProfiler.PROFILE_PROPERTY, "true")
+        ApplicationContext context = ApplicationContext.run()
+
+        expect:
+        context.containsBean(StartupProfiler)
+        context.getBean(StartupProfiler).spans.any { it.category == StartupProfiler.CATEGORY_STARTUP }
+
+        cleanup:
+        System.clearProperty(StartupProfiler.PROFILE_PROPERTY)
+        context?.close()
+    }
+
+    void "test the profiler stops recording once the context has started"() {
+        given:
+        System.setProperty(StartupProfiler.PROFILE_PROPERTY, "true")
+        ApplicationContext context = ApplicationContext.run()
+        StartupProfiler profiler = context.getBean(StartupProfiler)
+
+        expect:
+        profiler.spans.any { it.name == "publishStartupEvent" }
+        profiler.start(StartupProfiler.CATEGORY_CREATE, "foo") == null
+
+        cleanup:
+        System.clearProperty(StartupProfiler.PROFILE_PROPERTY)
+        context?.close()
+    }
+}
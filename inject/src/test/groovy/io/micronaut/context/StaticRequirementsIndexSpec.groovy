@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.micronaut.context
+
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class StaticRequirementsIndexSpec extends Specification {
+
+    void "test write and load the index"() {
+        given:
+        File directory = Files.createTempDirectory("index").toFile()
+        classFile(directory, 'test.$FooDefinitionClass')
+        classFile(directory, 'test.$BarDefinitionClass')
+
+        when:
+        StaticRequirementsIndex.write([
+                'test.$FooDefinitionClass': ['test.Missing'] as Set,
+                'test.$BarDefinitionClass': ['test.Other', 'test.Missing'] as Set
+        ], directory)
+        URLClassLoader classLoader = new URLClassLoader([directory.toURI().toURL()] as URL[], (ClassLoader) null)
+
+        then:
+        new File(directory, StaticRequirementsIndex.INDEX_FILE).text.startsWith("#")
+        new File(directory, StaticRequirementsIndex.INDEX_FILE).readLines().contains('test.$BarDefinitionClass=test.Other,test.Missing')
+        StaticRequirementsIndex.load(classLoader) == ['test.$FooDefinitionClass', 'test.$BarDefinitionClass'] as Set
+
+        cleanup:
+        classLoader?.close()
+        directory.deleteDir()
+    }
+
+    void "test entries are re-evaluated once the required classes are present"() {
+        given:
+        File directory = Files.createTempDirectory("index").toFile()
+        classFile(directory, 'test.$FooDefinitionClass')
+        classFile(directory, 'test.$BarDefinitionClass')
+        classFile(directory, 'test.Present')
+
+        when:
+        StaticRequirementsIndex.write([
+                'test.$FooDefinitionClass': ['test.Present'] as Set,
+                'test.$BarDefinitionClass': ['test.Present', 'test.Missing'] as Set
+        ], directory)
+        URLClassLoader classLoader = new URLClassLoader([directory.toURI().toURL()] as URL[], (ClassLoader) null)
+
+        then:
+        StaticRequirementsIndex.load(classLoader) == ['test.$BarDefinitionClass'] as Set
+
+        cleanup:
+        classLoader?.close()
+        directory.deleteDir()
+    }
+
+    void "test entries for references from another class path root are ignored"() {
+        given:
+        File application = Files.createTempDirectory("index").toFile()
+        File library = Files.createTempDirectory("index").toFile()
+        classFile(application, 'test.$FooDefinitionClass')
+        classFile(library, 'test.$BarDefinitionClass')
+
+        when:
+        StaticRequirementsIndex.write([
+                'test.$FooDefinitionClass': ['test.Missing'] as Set,
+                'test.$BarDefinitionClass': ['test.Missing'] as Set,
+                'test.$AbsentDefinitionClass': ['test.Missing'] as Set
+        ], application)
+        URLClassLoader classLoader = new URLClassLoader([application.toURI().toURL(), library.toURI().toURL()] as URL[], (ClassLoader) null)
+
+        then:
+        StaticRequirementsIndex.load(classLoader) == ['test.$FooDefinitionClass'] as Set
+
+        cleanup:
+        classLoader?.close()
+        application.deleteDir()
+        library.deleteDir()
+    }
+
+    void "test the index only contains references of the output directory"() {
+        given:
+        File directory = Files.createTempDirectory("index").toFile()
+        URLClassLoader classLoader = new URLClassLoader([] as URL[], (ClassLoader) null)
+
+        when:
+        Map<String, Set<String>> written = StaticRequirementsIndex.writeIndex(classLoader, directory)
+
+        then:
+        written.isEmpty()
+        new File(directory, StaticRequirementsIndex.INDEX_FILE).readLines().size() == 1
+
+        cleanup:
+        classLoader?.close()
+        directory.deleteDir()
+    }
+
+    void "test the index generator requires the output directory"() {
+        when:
+        StaticRequirementsIndex.main()
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    void "test load without an index"() {
+        expect:
+        StaticRequirementsIndex.load(new URLClassLoader([] as URL[], (ClassLoader) null)).isEmpty()
+    }
+
+    private static void classFile(File directory, String className) {
+        File file = new File(directory, className.replace('.', '/') + '.class')
+        file.parentFile.mkdirs()
+        file.bytes = new byte[0]
+    }
+}
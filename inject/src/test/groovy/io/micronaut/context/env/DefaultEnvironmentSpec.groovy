@@ -283,6 +283,29 @@ class DefaultEnvironmentSpec extends Specification {
         System.clearProperty("micronaut.config.files")
     }
 
+    void "test loading property sources in parallel keeps the sequential order"() {
+        given:
+        DefaultEnvironment sequential = new DefaultEnvironment("foo", "test")
+        DefaultEnvironment parallel = new DefaultEnvironment("foo", "test") {
+            @Override
+            protected boolean isParallelStartup() {
+                true
+            }
+        }
+
+        when:
+        List<String> sequentialNames = sequential.readPropertySourceList(Environment.DEFAULT_NAME)*.name
+        List<String> parallelNames = parallel.readPropertySourceList(Environment.DEFAULT_NAME)*.name
+
+        then:
+        parallelNames.contains("application-foo")
+        parallelNames == sequentialNames
+        parallel.start().getProperty("foo", String).get() == "bar"
+
+        cleanup:
+        parallel.stop()
+    }
+
     private static Environment startEnv(String files) {
         new DefaultEnvironment("test") {
             protected String readPropertySourceListKeyFromEnvironment() {
@@ -146,4 +146,42 @@ class PropertySourcePropertyResolverSpec extends Specification {
         resolver.getProperty('my.property', Properties).isPresent()
         resolver.getProperty('my.property', Properties).get() == properties
     }
+
+    void "test prefix queries keep the order the properties were added in"() {
+        given:
+        def values = new LinkedHashMap([
+                'my.property.zed'  : '1',
+                'my.property.alpha': '2',
+                'my.propertyx'     : '3',
+                'my.property.mid'  : '4',
+                'myx.other'        : '5'
+        ])
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("test", values)
+        )
+
+        expect:
+        resolver.containsProperties('my.property')
+        !resolver.containsProperties('my.prop')
+        resolver.getProperty('my.property', Map).get().keySet().toList() == ['zed', 'alpha', 'mid']
+    }
+
+    void "test adding a property source replaces cached values"() {
+        given:
+        PropertySourcePropertyResolver resolver = new PropertySourcePropertyResolver(
+                PropertySource.of("first", ['foo.bar': '10', 'foo.baz': '${foo.bar}'])
+        )
+
+        expect:
+        resolver.getProperty('foo.bar', Integer).get() == 10
+        resolver.getProperty('foo.baz', String).get() == '10'
+
+        when:
+        resolver.addPropertySource(PropertySource.of("second", ['foo.bar': '20', 'foo.baz': '${foo.bar}']))
+
+        then:
+        resolver.getProperty('foo.bar', Integer).get() == 20
+        resolver.getProperty('foo.baz', String).get() == '20'
+        !resolver.containsProperty('foo.qux')
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.jdbc.lock;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.util.Toggleable;
+
+/**
+ * Allows configuration of the {@link JdbcLockProvider}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@ConfigurationProperties(JdbcLockConfiguration.PREFIX)
+public class JdbcLockConfiguration implements Toggleable {
+
+    /**
+     * The prefix used for JDBC lock configuration.
+     */
+    public static final String PREFIX = "micronaut.scheduler.lock.jdbc";
+
+    /**
+     * The default name of the table that holds the locks.
+     */
+    public static final String DEFAULT_TABLE_NAME = "scheduled_lock";
+
+    protected boolean enabled = false;
+    protected String datasource = "default";
+    protected String tableName = DEFAULT_TABLE_NAME;
+
+    /**
+     * @return Whether locks for scheduled tasks are stored in a database. Defaults to false.
+     */
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The name of the data source that holds the lock table. Defaults to "default".
+     */
+    public String getDatasource() {
+        return datasource;
+    }
+
+    /**
+     * @return The name of the table that holds the locks
+     */
+    public String getTableName() {
+        return tableName;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.jdbc.lock;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import io.micronaut.scheduling.lock.InMemoryLockProvider;
+import io.micronaut.scheduling.lock.LockProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * <p>A {@link LockProvider} that stores locks in a table of a relational database so that a scheduled task runs on a
+ * single instance of an application at a time. The table must exist and have the following structure:</p>
+ *
+ * <pre>
+ * CREATE TABLE scheduled_lock (
+ *     name VARCHAR(64) NOT NULL PRIMARY KEY,
+ *     lock_until TIMESTAMP NOT NULL,
+ *     locked_at TIMESTAMP NOT NULL,
+ *     locked_by VARCHAR(255) NOT NULL
+ * );
+ * </pre>
+ *
+ * <p>A lock is taken by updating its row if the lease of the previous holder expired, or by inserting the row if it
+ * does not exist yet. The database guarantees that only one instance succeeds. Lease times are based on the clock
+ * of the application.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+@Replaces(InMemoryLockProvider.class)
+public class JdbcLockProvider implements LockProvider {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JdbcLockProvider.class);
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final DataSource dataSource;
+    private final String acquireSql;
+    private final String insertSql;
+    private final String releaseSql;
+
+    /**
+     * @param configuration The configuration
+     * @param beanLocator   The bean locator used to find the data source
+     */
+    public JdbcLockProvider(JdbcLockConfiguration configuration, BeanLocator beanLocator) {
+        String datasource = configuration.getDatasource();
+        this.dataSource = beanLocator.findBean(DataSource.class, Qualifiers.byName(datasource)).orElseThrow(() ->
+            new ConfigurationException("No data source configured for name [" + datasource + "] to store locks")
+        );
+        String table = configuration.getTableName();
+        this.acquireSql = "UPDATE " + table + " SET lock_until = ?, locked_at = ?, locked_by = ? WHERE name = ? AND lock_until <= ?";
+        this.insertSql = "INSERT INTO " + table + " (name, lock_until, locked_at, locked_by) VALUES (?, ?, ?, ?)";
+        this.releaseSql = "UPDATE " + table + " SET lock_until = ? WHERE name = ? AND locked_by = ?";
+    }
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Instant lockUntil) {
+        Timestamp now = Timestamp.from(Instant.now());
+        Timestamp until = Timestamp.from(lockUntil);
+        String token = UUID.randomUUID().toString();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean acquired;
+            try (PreparedStatement statement = connection.prepareStatement(acquireSql)) {
+                statement.setTimestamp(1, until);
+                statement.setTimestamp(2, now);
+                statement.setString(3, token);
+                statement.setString(4, name);
+                statement.setTimestamp(5, now);
+                acquired = statement.executeUpdate() > 0;
+            }
+            if (!acquired) {
+                acquired = insert(connection, name, until, now, token);
+            }
+            return acquired ? Optional.of(new JdbcLease(name, token)) : Optional.empty();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Error acquiring lock [" + name + "]: " + e.getMessage(), e);
+        }
+    }
+
+    private boolean insert(Connection connection, String name, Timestamp until, Timestamp now, String token) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            statement.setString(1, name);
+            statement.setTimestamp(2, until);
+            statement.setTimestamp(3, now);
+            statement.setString(4, token);
+            return statement.executeUpdate() > 0;
+        } catch (SQLException e) {
+            String state = e.getSQLState();
+            if (state != null && state.startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                // the row exists, so the lock is held elsewhere
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Lock [{}] is held elsewhere: {}", name, e.getMessage());
+                }
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A lease on a row of the lock table.
+     */
+    private final class JdbcLease implements Lease {
+        private final String name;
+        private final String token;
+
+        JdbcLease(String name, String token) {
+            this.name = name;
+            this.token = token;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void release(Instant holdUntil) {
+            Instant now = Instant.now();
+            Timestamp until = Timestamp.from(holdUntil.isAfter(now) ? holdUntil : now);
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement statement = connection.prepareStatement(releaseSql)) {
+                statement.setTimestamp(1, until);
+                statement.setString(2, name);
+                statement.setString(3, token);
+                statement.executeUpdate();
+            } catch (SQLException e) {
+                throw new IllegalStateException("Error releasing lock [" + name + "]: " + e.getMessage(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.jdbc.lock
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.lock.LockProvider
+import org.h2.jdbcx.JdbcDataSource
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.sql.DataSource
+import java.time.Instant
+
+class JdbcLockProviderSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context
+
+    void setupSpec() {
+        JdbcDataSource dataSource = new JdbcDataSource()
+        dataSource.setURL("jdbc:h2:mem:locks;DB_CLOSE_DELAY=-1")
+        dataSource.getConnection().withCloseable {
+            it.createStatement().execute('''CREATE TABLE scheduled_lock (
+                name VARCHAR(64) NOT NULL PRIMARY KEY,
+                lock_until TIMESTAMP NOT NULL,
+                locked_at TIMESTAMP NOT NULL,
+                locked_by VARCHAR(255) NOT NULL
+            )''')
+        }
+        context = ApplicationContext.build('micronaut.scheduler.lock.jdbc.enabled': true).build()
+        context.registerSingleton(DataSource, dataSource, Qualifiers.byName("default"))
+        context.start()
+    }
+
+    void "test the JDBC lock provider replaces the in memory provider"() {
+        expect:
+        context.getBean(LockProvider) instanceof JdbcLockProvider
+    }
+
+    void "test a lock is exclusive until released"() {
+        given:
+        LockProvider provider = context.getBean(LockProvider)
+
+        when:
+        Optional<LockProvider.Lease> lease = provider.tryAcquire("exclusive", Instant.now().plusSeconds(60))
+
+        then:
+        lease.isPresent()
+        !provider.tryAcquire("exclusive", Instant.now().plusSeconds(60)).isPresent()
+
+        when:
+        lease.get().release(Instant.now().minusSeconds(1))
+
+        then:
+        provider.tryAcquire("exclusive", Instant.now().plusSeconds(60)).isPresent()
+    }
+
+    void "test a lock is held until the hold time"() {
+        given:
+        LockProvider provider = context.getBean(LockProvider)
+
+        when:
+        provider.tryAcquire("held", Instant.now().plusSeconds(60)).get().release(Instant.now().plusSeconds(60))
+
+        then:
+        !provider.tryAcquire("held", Instant.now().plusSeconds(60)).isPresent()
+    }
+
+    void "test an expired lease is taken over"() {
+        given:
+        LockProvider provider = context.getBean(LockProvider)
+
+        when:
+        provider.tryAcquire("expired", Instant.now().plusMillis(1))
+        sleep(10)
+
+        then:
+        provider.tryAcquire("expired", Instant.now().plusSeconds(60)).isPresent()
+    }
+}
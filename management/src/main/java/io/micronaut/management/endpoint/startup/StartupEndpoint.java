@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.management.endpoint.startup;
+
+import io.micronaut.context.StartupProfiler;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.management.endpoint.Endpoint;
+import io.micronaut.management.endpoint.Read;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Exposes an {@link Endpoint} that lists the slowest beans recorded by the {@link StartupProfiler}. The endpoint is
+ * only available when the profiler is enabled with the {@link StartupProfiler#PROFILE_PROPERTY} system property.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Endpoint("startup")
+@Requires(beans = StartupProfiler.class)
+public class StartupEndpoint {
+
+    private static final int LIMIT = 20;
+    private static final String[] CATEGORIES = {
+        StartupProfiler.CATEGORY_CREATE,
+        StartupProfiler.CATEGORY_POST_CONSTRUCT,
+        StartupProfiler.CATEGORY_CONDITION,
+        StartupProfiler.CATEGORY_LOAD
+    };
+
+    private final StartupProfiler startupProfiler;
+
+    /**
+     * @param startupProfiler The startup profiler
+     */
+    public StartupEndpoint(StartupProfiler startupProfiler) {
+        this.startupProfiler = startupProfiler;
+    }
+
+    /**
+     * @return The phases of the startup and the slowest spans of each category
+     */
+    @Read
+    public Map<String, Object> getStartup() {
+        Map<String, Object> result = new LinkedHashMap<>(CATEGORIES.length + 1);
+        List<Map<String, Object>> phases = new ArrayList<>();
+        for (StartupProfiler.Span span : startupProfiler.getSpans()) {
+            if (span.getCategory().equals(StartupProfiler.CATEGORY_STARTUP)) {
+                phases.add(toMap(span));
+            }
+        }
+        result.put(StartupProfiler.CATEGORY_STARTUP, phases);
+        for (String category : CATEGORIES) {
+            List<Map<String, Object>> slowest = new ArrayList<>(LIMIT);
+            for (StartupProfiler.Span span : startupProfiler.getSlowestSpans(category, LIMIT)) {
+                slowest.add(toMap(span));
+            }
+            result.put(category, slowest);
+        }
+        return result;
+    }
+
+    private Map<String, Object> toMap(StartupProfiler.Span span) {
+        Map<String, Object> data = new LinkedHashMap<>(5);
+        data.put("name", span.getName());
+        data.put("selfMicros", TimeUnit.NANOSECONDS.toMicros(span.getSelfNanos()));
+        data.put("totalMicros", TimeUnit.NANOSECONDS.toMicros(span.getDurationNanos()));
+        if (span.getAllocatedBytes() > -1) {
+            data.put("selfAllocatedBytes", span.getSelfAllocatedBytes());
+            data.put("allocatedBytes", span.getAllocatedBytes());
+        }
+        return data;
+    }
+}
@@ -17,9 +17,7 @@
 package io.micronaut.web.router;
 
 import io.micronaut.core.annotation.AnnotationMetadata;
-import io.micronaut.core.annotation.AnnotationUtil;
 import io.micronaut.core.bind.ArgumentBinder;
-import io.micronaut.core.bind.annotation.Bindable;
 import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionError;
@@ -27,7 +25,6 @@ import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.convert.exceptions.ConversionErrorException;
 import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.ReturnType;
-import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.Body;
@@ -36,7 +33,6 @@ import io.micronaut.inject.MethodExecutionHandle;
 import io.micronaut.web.router.exceptions.UnsatisfiedRouteException;
 
 import javax.annotation.Nullable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -46,6 +42,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -75,28 +72,15 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
         this.executableMethod = abstractRoute.targetMethod;
         this.conversionService = conversionService;
         Argument[] requiredArguments = executableMethod.getArguments();
+        String[] inputNames = abstractRoute.inputNames;
         this.requiredInputs = new LinkedHashMap<>(requiredArguments.length);
-        for (Argument requiredArgument : requiredArguments) {
-            String inputName = resolveInputName(requiredArgument);
-            requiredInputs.put(inputName, requiredArgument);
+        for (int i = 0; i < requiredArguments.length; i++) {
+            requiredInputs.put(inputNames[i], requiredArguments[i]);
         }
 
         this.acceptedMediaTypes = abstractRoute.getConsumes();
     }
 
-    private String resolveInputName(Argument requiredArgument) {
-        Optional<Annotation> ann = requiredArgument.findAnnotationWithStereoType(Bindable.class);
-        return ann.map(annotation -> {
-            Optional<String> value = AnnotationUtil.findValueOfType(annotation, String.class);
-            return value.map(s -> {
-                if (StringUtils.isEmpty(s)) {
-                    return requiredArgument.getName();
-                }
-                return s;
-            }).orElse(requiredArgument.getName());
-        }).orElse(requiredArgument.getName());
-    }
-
     @Override
     public List<MediaType> getProduces() {
         Optional<Argument<?>> firstTypeVariable = executableMethod.getReturnType().getFirstTypeVariable();
@@ -187,6 +171,11 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
         return true;
     }
 
+    @Override
+    public ArgumentBinder[] resolveArgumentBinders(Function<Argument, ArgumentBinder> binderResolver) {
+        return abstractRoute.getArgumentBinders(binderResolver);
+    }
+
     @Override
     public ReturnType<R> getReturnType() {
         return executableMethod.getReturnType();
@@ -234,10 +223,11 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
             ConversionService conversionService = this.conversionService;
             Map<String, Object> uriVariables = getVariables();
             List argumentList = new ArrayList();
+            String[] inputNames = abstractRoute.inputNames;
 
-            for (Map.Entry<String, Argument> entry : requiredInputs.entrySet()) {
-                Argument argument = entry.getValue();
-                String name = entry.getKey();
+            for (int index = 0; index < targetArguments.length; index++) {
+                Argument argument = targetArguments[index];
+                String name = inputNames[index];
                 Object value = DefaultRouteBuilder.NO_VALUE;
                 if (uriVariables.containsKey(name)) {
                     value = uriVariables.get(name);
@@ -256,8 +246,8 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
                             ConversionError conversionError = (ConversionError) resolved;
                             throw new ConversionErrorException(argument, conversionError);
                         } else {
-                            ConversionContext conversionContext = ConversionContext.of(argument);
-                            Optional<?> result = conversionService.convert(resolved, argument.getType(), conversionContext);
+                            ArgumentConversionContext conversionContext = ConversionContext.of(argument);
+                            Optional<?> result = abstractRoute.convertArgument(index, argument, resolved, conversionContext);
                             argumentList.add(resolveValueOrError(argument, conversionContext, result));
                         }
                     } else {
@@ -282,8 +272,8 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
                 } else if (value == DefaultRouteBuilder.NO_VALUE) {
                     throw new UnsatisfiedRouteException(argument);
                 } else {
-                    ConversionContext conversionContext = ConversionContext.of(argument);
-                    Optional<?> result = conversionService.convert(value, argument.getType(), conversionContext);
+                    ArgumentConversionContext conversionContext = ConversionContext.of(argument);
+                    Optional<?> result = abstractRoute.convertArgument(index, argument, value, conversionContext);
                     argumentList.add(resolveValueOrError(argument, conversionContext, result));
                 }
             }
@@ -301,15 +291,18 @@ abstract class AbstractRouteMatch<R> implements MethodBasedRouteMatch<R> {
     public RouteMatch<R> fulfill(Map<String, Object> argumentValues) {
         Map<String, Object> oldVariables = getVariables();
         Map<String, Object> newVariables = new LinkedHashMap<>(oldVariables);
-        for (Argument requiredArgument : getArguments()) {
+        Argument[] arguments = getArguments();
+        String[] inputNames = abstractRoute.inputNames;
+        for (int i = 0; i < arguments.length; i++) {
+            Argument requiredArgument = arguments[i];
             Object value = argumentValues.get(requiredArgument.getName());
             if (value != null) {
-                String name = resolveInputName(requiredArgument);
+                String name = inputNames[i];
                 if (value instanceof UnresolvedArgument) {
                     newVariables.put(name, value);
                 } else {
                     ArgumentConversionContext conversionContext = ConversionContext.of(requiredArgument);
-                    Optional converted = conversionService.convert(value, conversionContext);
+                    Optional converted = abstractRoute.convertArgument(i, requiredArgument, value, conversionContext);
                     Object result = converted.isPresent() ? converted.get() : conversionContext.getLastError().orElse(null);
                     if (result != null) {
                         newVariables.put(name, result);
@@ -19,9 +19,15 @@ package io.micronaut.web.router;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.ExecutionHandleLocator;
 import io.micronaut.context.env.Environment;
+import io.micronaut.core.annotation.AnnotationUtil;
+import io.micronaut.core.bind.ArgumentBinder;
+import io.micronaut.core.bind.annotation.Bindable;
+import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.convert.TypeConverter;
 import io.micronaut.core.naming.NameUtils;
 import io.micronaut.core.naming.conventions.TypeConvention;
+import io.micronaut.core.type.Argument;
 import io.micronaut.core.util.StringUtils;
 import io.micronaut.http.HttpMethod;
 import io.micronaut.http.HttpRequest;
@@ -36,6 +42,7 @@ import io.micronaut.web.router.exceptions.RoutingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -45,6 +52,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -350,9 +358,12 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
         protected final List<Predicate<HttpRequest<?>>> conditions = new ArrayList<>();
         protected final MethodExecutionHandle targetMethod;
         protected final ConversionService<?> conversionService;
+        protected final String[] inputNames;
         protected List<MediaType> acceptedMediaTypes;
         protected List<MediaType> producesMediaTypes;
         protected String bodyArgument;
+        private volatile ArgumentBinder[] argumentBinders;
+        private volatile TypeConverter[] argumentConverters;
 
         /**
          * @param targetMethod The target method execution handle
@@ -369,6 +380,73 @@ public abstract class DefaultRouteBuilder implements RouteBuilder {
                     .map(MediaType::new)
                     .collect(Collectors.toList());
             }
+            Argument[] arguments = targetMethod.getArguments();
+            this.inputNames = new String[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                inputNames[i] = resolveInputName(arguments[i]);
+            }
+        }
+
+        /**
+         * Returns the binders of the arguments of the route. The binders are resolved with the given function the first
+         * time this method is called and reused for every subsequent match of the route.
+         *
+         * @param binderResolver Resolves the binder of an argument, or returns null if there is none
+         * @return The binders in the order of the arguments of the target method
+         */
+        ArgumentBinder[] getArgumentBinders(Function<Argument, ArgumentBinder> binderResolver) {
+            ArgumentBinder[] binders = this.argumentBinders;
+            if (binders == null) {
+                Argument[] arguments = targetMethod.getArguments();
+                binders = new ArgumentBinder[arguments.length];
+                for (int i = 0; i < arguments.length; i++) {
+                    binders[i] = binderResolver.apply(arguments[i]);
+                }
+                this.argumentBinders = binders;
+            }
+            return binders;
+        }
+
+        /**
+         * Converts a value of an argument of the route. The converter of each argument is found the first time a value
+         * is converted and reused for every subsequent match of the route.
+         *
+         * @param index    The index of the argument in the arguments of the target method
+         * @param argument The argument
+         * @param value    The value
+         * @param context  The conversion context of the argument
+         * @param <T>      The argument type
+         * @return The converted value
+         */
+        @SuppressWarnings("unchecked")
+        <T> Optional<T> convertArgument(int index, Argument<T> argument, Object value, ArgumentConversionContext<T> context) {
+            int argumentCount = targetMethod.getArguments().length;
+            if (index < 0 || index >= argumentCount || value == null) {
+                return conversionService.convert(value, context);
+            }
+            TypeConverter[] converters = this.argumentConverters;
+            if (converters == null) {
+                converters = new TypeConverter[argumentCount];
+                this.argumentConverters = converters;
+            }
+            TypeConverter converter = converters[index];
+            if (converter == null) {
+                Optional<TypeConverter<Object, T>> found = conversionService.findConverter((Class<Object>) value.getClass(), argument.getType(), context);
+                if (!found.isPresent()) {
+                    return conversionService.convert(value, context);
+                }
+                converter = found.get();
+                converters[index] = converter;
+            }
+            return converter.convert(value, argument.getType(), context);
+        }
+
+        private String resolveInputName(Argument<?> argument) {
+            String name = argument.getName();
+            Optional<Annotation> ann = argument.findAnnotationWithStereoType(Bindable.class);
+            return ann.flatMap(annotation -> AnnotationUtil.findValueOfType(annotation, String.class))
+                .filter(StringUtils::isNotEmpty)
+                .orElse(name);
         }
 
         @Override
@@ -16,11 +16,13 @@
 
 package io.micronaut.web.router;
 
+import io.micronaut.core.bind.ArgumentBinder;
 import io.micronaut.core.type.Argument;
 import io.micronaut.inject.MethodExecutionHandle;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * Match a route based on a method.
@@ -40,4 +42,22 @@ public interface MethodBasedRouteMatch<R> extends RouteMatch<R>, MethodExecution
     default Collection<Argument> getRequiredArguments() {
         return Arrays.asList(getArguments());
     }
+
+    /**
+     * <p>Resolves the binders of the arguments of this route with the given function.</p>
+     * <p>
+     * <p>A binder only depends on the {@link Argument} it binds, so implementations may resolve the binders once per
+     * route and reuse them for every request that matches the route.</p>
+     *
+     * @param binderResolver Resolves the binder of an argument, or returns null if there is none
+     * @return The binders in the order of {@link #getArguments()}
+     */
+    default ArgumentBinder[] resolveArgumentBinders(Function<Argument, ArgumentBinder> binderResolver) {
+        Argument[] arguments = getArguments();
+        ArgumentBinder[] binders = new ArgumentBinder[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            binders[i] = binderResolver.apply(arguments[i]);
+        }
+        return binders;
+    }
 }
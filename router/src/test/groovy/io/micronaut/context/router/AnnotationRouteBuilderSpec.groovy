@@ -16,13 +16,18 @@
 package io.micronaut.context.router
 
 import io.micronaut.context.DefaultApplicationContext
+import io.micronaut.core.bind.ArgumentBinder
+import io.micronaut.core.type.Argument
 import io.micronaut.http.annotation.Controller
 import io.micronaut.web.router.Router
+import io.micronaut.web.router.UriRouteMatch
 import io.micronaut.http.annotation.Get
 import io.micronaut.http.annotation.Post
 import spock.lang.Specification
 import spock.lang.Unroll
 
+import java.util.function.Function
+
 import static io.micronaut.http.HttpMethod.GET
 import static io.micronaut.http.HttpMethod.POST
 
@@ -55,6 +60,31 @@ class AnnotationRouteBuilderSpec extends Specification {
 
     }
 
+    void "Test argument binders are resolved once per route"() {
+        given:
+        Router router = new DefaultApplicationContext("test")
+                .start()
+                .getBean(Router)
+        ArgumentBinder binder = Mock(ArgumentBinder)
+        int resolved = 0
+        Function<Argument, ArgumentBinder> resolver = { Argument argument ->
+            resolved++
+            binder
+        }
+
+        when:
+        UriRouteMatch first = router.GET('/person/1/friend/Joe').get()
+        UriRouteMatch second = router.GET('/person/2/friend/Bob').get()
+        ArgumentBinder[] firstBinders = first.resolveArgumentBinders(resolver)
+        ArgumentBinder[] secondBinders = second.resolveArgumentBinders(resolver)
+
+        then:
+        resolved == 2
+        firstBinders.is(secondBinders)
+        firstBinders.toList() == [binder, binder]
+        second.execute([:]) == "Person 2 Friend Bob"
+    }
+
     @Controller('/')
     static class ApplicationController {
         @Get('/')
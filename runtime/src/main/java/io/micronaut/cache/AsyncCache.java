@@ -18,6 +18,12 @@ package io.micronaut.cache;
 
 import io.micronaut.core.type.Argument;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -88,6 +94,90 @@ public interface AsyncCache<C> extends Cache<C> {
      */
     CompletableFuture<Boolean> invalidateAll();
 
+    /**
+     * <p>Resolve the values for the given keys. Keys for which no value is present or for which the value cannot
+     * be converted to the required type are absent from the resulting map.</p>
+     *
+     * <p>The default implementation issues a lookup per key and combines the results. Implementations that are
+     * able to resolve multiple keys in a single operation should override this method.</p>
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A future with a map of the keys to the values that were found
+     */
+    default <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+        List<Object> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<Optional<T>>> futures = new ArrayList<>(keyList.size());
+        for (Object key : keyList) {
+            futures.add(get(key, requiredType));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(aVoid -> {
+            Map<Object, T> result = new LinkedHashMap<>(keyList.size());
+            for (int i = 0; i < keyList.size(); i++) {
+                Object key = keyList.get(i);
+                futures.get(i).join().ifPresent(value -> result.put(key, value));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * <p>Cache all of the given entries.</p>
+     *
+     * <p>The default implementation issues a put per entry. Implementations that are able to write multiple
+     * entries in a single operation should override this method.</p>
+     *
+     * @param values The entries to cache
+     * @return A future with a boolean indicating whether the operation was succesful or not
+     */
+    default CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+        if (values == null || values.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            futures.add(put(entry.getKey(), entry.getValue()));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(aVoid -> true);
+    }
+
+    /**
+     * <p>Invalidate the values for the given keys.</p>
+     *
+     * <p>The default implementation issues an invalidation per key. Implementations that are able to remove
+     * multiple keys in a single operation should override this method.</p>
+     *
+     * @param keys The keys to invalidate
+     * @return A future with a boolean indicating whether the operation was succesful or not
+     */
+    default CompletableFuture<Boolean> invalidateAll(Collection<?> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            futures.add(invalidate(key));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[futures.size()])).thenApply(aVoid -> true);
+    }
+
+    /**
+     * Resolve the values for the given keys.
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A future with a map of the keys to the values that were found
+     * @see #getAll(Collection, Argument)
+     */
+    default <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Class<T> requiredType) {
+        return getAll(keys, Argument.of(requiredType));
+    }
+
     /**
      * Resolve the given value for the given key.
      *
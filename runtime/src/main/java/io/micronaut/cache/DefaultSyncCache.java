@@ -18,10 +18,16 @@ package io.micronaut.cache;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 import io.micronaut.context.annotation.EachBean;
+import io.micronaut.core.convert.ArgumentConversionContext;
 import io.micronaut.core.convert.ConversionContext;
 import io.micronaut.core.convert.ConversionService;
 import io.micronaut.core.type.Argument;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
@@ -85,6 +91,54 @@ public class DefaultSyncCache implements SyncCache<com.github.benmanes.caffeine.
         return (T) value;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Map<Object, T> getAll(Collection<?> keys, Argument<T> requiredType) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Object, Object> present = cache.getAllPresent(keys);
+        if (present.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Object, T> result = new LinkedHashMap<>(present.size());
+        ArgumentConversionContext<T> conversionContext = ConversionContext.of(requiredType);
+        for (Object key : keys) {
+            Object value = present.get(key);
+            if (value != null) {
+                conversionService.convert(value, conversionContext).ifPresent(converted -> result.put(key, converted));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void putAll(Map<?, ?> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        Map<Object, Object> toPut = new HashMap<>(values.size());
+        for (Map.Entry<?, ?> entry : values.entrySet()) {
+            Object value = entry.getValue();
+            if (value == null) {
+                // null is the same as removal
+                cache.invalidate(entry.getKey());
+            } else {
+                toPut.put(entry.getKey(), value);
+            }
+        }
+        cache.putAll(toPut);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void invalidateAll(Collection<?> keys) {
+        if (keys != null && !keys.isEmpty()) {
+            cache.invalidateAll(keys);
+        }
+    }
+
     @Override
     public void invalidate(Object key) {
         cache.invalidate(key);
@@ -17,6 +17,11 @@
 package io.micronaut.cache;
 
 import io.micronaut.core.type.Argument;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -91,6 +96,74 @@ public interface SyncCache<C> extends Cache<C> {
      */
     void invalidateAll();
 
+    /**
+     * <p>Resolve the values for the given keys. Keys for which no value is present or for which the value cannot
+     * be converted to the required type are absent from the resulting map.</p>
+     *
+     * <p>The default implementation performs a lookup per key. Implementations that are able to resolve multiple
+     * keys in a single operation should override this method.</p>
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A map of the keys to the values that were found, in the iteration order of the given keys
+     */
+    default <T> Map<Object, T> getAll(Collection<?> keys, Argument<T> requiredType) {
+        if (keys == null || keys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Object, T> result = new LinkedHashMap<>(keys.size());
+        for (Object key : keys) {
+            get(key, requiredType).ifPresent(value -> result.put(key, value));
+        }
+        return result;
+    }
+
+    /**
+     * Resolve the values for the given keys.
+     *
+     * @param keys         The cache keys
+     * @param requiredType The required type
+     * @param <T>          The concrete type
+     * @return A map of the keys to the values that were found
+     * @see #getAll(Collection, Argument)
+     */
+    default <T> Map<Object, T> getAll(Collection<?> keys, Class<T> requiredType) {
+        return getAll(keys, Argument.of(requiredType));
+    }
+
+    /**
+     * <p>Cache all of the given entries. A <code>null</code> value is treated as a removal of the key.</p>
+     *
+     * <p>The default implementation performs a put per entry. Implementations that are able to write multiple
+     * entries in a single operation should override this method.</p>
+     *
+     * @param values The entries to cache
+     */
+    default void putAll(Map<?, ?> values) {
+        if (values != null) {
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * <p>Invalidate the values for the given keys.</p>
+     *
+     * <p>The default implementation performs an invalidation per key. Implementations that are able to remove
+     * multiple keys in a single operation should override this method.</p>
+     *
+     * @param keys The keys to invalidate
+     */
+    default void invalidateAll(Collection<?> keys) {
+        if (keys != null) {
+            for (Object key : keys) {
+                invalidate(key);
+            }
+        }
+    }
+
     /**
      * Resolve the given value for the given key. If the value is not found the specified {@link Supplier} will
      * be invoked and the return value cached.
@@ -156,6 +229,35 @@ public interface SyncCache<C> extends Cache<C> {
                 }
             }
 
+            @Override
+            public <T> CompletableFuture<Map<Object, T>> getAll(Collection<?> keys, Argument<T> requiredType) {
+                try {
+                    return CompletableFuture.completedFuture(SyncCache.this.getAll(keys, requiredType));
+                } catch (Exception e) {
+                    return handleException(e);
+                }
+            }
+
+            @Override
+            public CompletableFuture<Boolean> putAll(Map<?, ?> values) {
+                try {
+                    SyncCache.this.putAll(values);
+                    return CompletableFuture.completedFuture(true);
+                } catch (Exception e) {
+                    return handleException(e);
+                }
+            }
+
+            @Override
+            public CompletableFuture<Boolean> invalidateAll(Collection<?> keys) {
+                try {
+                    SyncCache.this.invalidateAll(keys);
+                    return CompletableFuture.completedFuture(true);
+                } catch (Exception e) {
+                    return handleException(e);
+                }
+            }
+
             @Override
             public String getName() {
                 return SyncCache.this.getName();
@@ -87,4 +87,20 @@ public @interface Cacheable {
      * @return True if an atomic operation should be attempted
      */
     boolean atomic() default false;
+
+    /**
+     * <p>The name of a {@link java.util.Collection} or array parameter whose elements are the individual cache keys. When
+     * specified the annotated method must return a {@link java.util.Map} of key to value. The values for all keys are
+     * resolved from the cache in a single bulk operation via
+     * {@link io.micronaut.cache.SyncCache#getAll(java.util.Collection, io.micronaut.core.type.Argument)} and the method
+     * is invoked only with the keys that were not found, passed as the declared type of the parameter. The returned
+     * entries are then cached via {@link io.micronaut.cache.SyncCache#putAll(java.util.Map)}.</p>
+     * <p>
+     * <p>Batch mode is only supported for methods that return a {@link java.util.Map} directly, invoking a method that
+     * returns a {@link java.util.concurrent.CompletableFuture} or a reactive type fails. Batch mode ignores
+     * {@link #keyGenerator()}, {@link #parameters()} and {@link #atomic()}.</p>
+     *
+     * @return The name of the parameter that holds the collection of keys
+     */
+    String batch() default "";
 }
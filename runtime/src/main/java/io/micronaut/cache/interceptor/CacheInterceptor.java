@@ -41,6 +41,7 @@ import io.micronaut.core.type.Argument;
 import io.micronaut.core.type.MutableArgumentValue;
 import io.micronaut.core.type.ReturnType;
 import io.micronaut.core.util.ArrayUtils;
+import io.micronaut.core.util.StringUtils;
 import io.micronaut.scheduling.TaskExecutors;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -51,8 +52,15 @@ import org.slf4j.LoggerFactory;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -139,7 +147,10 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         CacheOperation cacheOperation = new CacheOperation(context, returnType);
 
         Cacheable cacheConfig = cacheOperation.cacheable;
-        if (cacheConfig != null) {
+        if (cacheConfig != null && StringUtils.isNotEmpty(cacheConfig.batch())) {
+            String[] cacheNames = resolveCacheNames(cacheOperation.defaultConfig, cacheConfig);
+            wrapper.value = interceptBatch(context, returnTypeObject, cacheNames, cacheConfig.batch());
+        } else if (cacheConfig != null) {
             CacheKeyGenerator defaultKeyGenerator = cacheOperation.defaultKeyGenerator;
             CacheKeyGenerator keyGenerator = resolveKeyGenerator(defaultKeyGenerator, cacheConfig);
             Object[] parameterValues = resolveParams(context, cacheConfig.parameters());
@@ -237,6 +248,121 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
         return wrapper.optional ? Optional.ofNullable(wrapper.value) : wrapper.value;
     }
 
+    /**
+     * Intercept a method annotated with {@link Cacheable#batch()}. The values for all keys of the batch parameter are
+     * resolved with a bulk lookup and the method is invoked only for the keys that were not found.
+     *
+     * @param context          Contains information about method invocation
+     * @param returnTypeObject The return type of the method in Micronaut
+     * @param cacheNames       The cache names
+     * @param parameterName    The name of the parameter that holds the keys
+     * @return The map of key to value
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<Object, Object> interceptBatch(MethodInvocationContext context, ReturnType returnTypeObject, String[] cacheNames, String parameterName) {
+        if (!Map.class.isAssignableFrom(returnTypeObject.getType())) {
+            throw new IllegalStateException("Batch @Cacheable methods must return a java.util.Map: " + context);
+        }
+        Map<String, MutableArgumentValue<?>> parameters = context.getParameters();
+        MutableArgumentValue<Object> keysArgument = (MutableArgumentValue<Object>) parameters.get(parameterName);
+        if (keysArgument == null || !isBatchParameterType(keysArgument.getType())) {
+            throw new IllegalStateException("Batch parameter [" + parameterName + "] must be a java.util.Collection or an array of objects: " + context);
+        }
+        Object keysValue = keysArgument.getValue();
+        Collection<Object> keys = keysValue instanceof Object[] ? Arrays.asList((Object[]) keysValue) : (Collection<Object>) keysValue;
+        if (keys == null || keys.isEmpty()) {
+            Object result = context.proceed();
+            return result instanceof Map ? (Map<Object, Object>) result : new LinkedHashMap<>();
+        }
+
+        Argument[] typeParameters = returnTypeObject.asArgument().getTypeParameters();
+        Argument<?> valueArgument = typeParameters.length == 2 ? typeParameters[1] : Argument.of(Object.class);
+        Map<Object, Object> found = new LinkedHashMap<>(keys.size());
+        Set<Object> missing = new LinkedHashSet<>(keys);
+        for (String cacheName : cacheNames) {
+            if (missing.isEmpty()) {
+                break;
+            }
+            SyncCache syncCache = cacheManager.getCache(cacheName);
+            try {
+                Map<Object, ?> values = syncCache.getAll(missing, valueArgument);
+                found.putAll(values);
+                missing.removeAll(values.keySet());
+            } catch (RuntimeException e) {
+                if (errorHandler.handleLoadError(syncCache, missing, e)) {
+                    throw e;
+                }
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Values not found in cache for " + missing.size() + " of " + keys.size() + " keys for invocation: " + context);
+            }
+            keysArgument.setValue(toBatchParameterValue(context, keysArgument, keysValue, missing));
+            Object result = context.proceed();
+            if (result instanceof Map) {
+                Map<Object, Object> loaded = (Map<Object, Object>) result;
+                for (String cacheName : cacheNames) {
+                    SyncCache syncCache = cacheManager.getCache(cacheName);
+                    try {
+                        syncCache.putAll(loaded);
+                    } catch (RuntimeException e) {
+                        if (errorHandler.handlePutError(syncCache, missing, loaded, e)) {
+                            throw e;
+                        }
+                    }
+                }
+                found.putAll(loaded);
+            }
+        } else if (LOG.isDebugEnabled()) {
+            LOG.debug("Values found in cache for all keys for invocation: " + context);
+        }
+
+        Map<Object, Object> ordered = new LinkedHashMap<>(found.size());
+        for (Object key : keys) {
+            if (found.containsKey(key)) {
+                ordered.put(key, found.get(key));
+            }
+        }
+        return ordered;
+    }
+
+    private boolean isBatchParameterType(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || (type.isArray() && !type.getComponentType().isPrimitive());
+    }
+
+    /**
+     * Converts the keys that were not found in the cache to the declared type of the batch parameter. A set or list
+     * of the keys is passed if the parameter accepts it, a sorted set keeps the comparator of the original keys and
+     * any other type is converted with the {@link ConversionService}.
+     *
+     * @param context      Contains information about method invocation
+     * @param keysArgument The batch parameter
+     * @param keysValue    The original value of the batch parameter
+     * @param missing      The keys that were not found, in the order of the original keys
+     * @return The value to invoke the method with
+     */
+    @SuppressWarnings("unchecked")
+    private Object toBatchParameterValue(MethodInvocationContext context, MutableArgumentValue<Object> keysArgument, Object keysValue, Set<Object> missing) {
+        Class<?> type = keysArgument.getType();
+        if (keysValue instanceof SortedSet && type.isAssignableFrom(TreeSet.class)) {
+            SortedSet<Object> sorted = new TreeSet<>(((SortedSet<Object>) keysValue).comparator());
+            sorted.addAll(missing);
+            return sorted;
+        }
+        if (type.isInstance(missing)) {
+            return missing;
+        }
+        List<Object> list = new ArrayList<>(missing);
+        if (type.isInstance(list)) {
+            return list;
+        }
+        return ConversionService.SHARED.convert(missing, keysArgument).orElseThrow(() ->
+            new IllegalStateException("Cannot convert the keys that were not found in the cache to the type of batch parameter [" + keysArgument.getName() + "]: " + context)
+        );
+    }
+
     /**
      * Intercept the aync method invocation.
      *
@@ -731,6 +857,10 @@ public class CacheInterceptor implements MethodInterceptor<Object, Object> {
             this.invalidateOperations = invalidateOperations(context);
             if (!isVoid && context.hasStereotype(Cacheable.class)) {
                 Cacheable cacheable = context.getAnnotation(Cacheable.class);
+                if (StringUtils.isNotEmpty(cacheable.batch()) &&
+                    (CompletableFuture.class.isAssignableFrom(returnType) || Publishers.isConvertibleToPublisher(returnType))) {
+                    throw new IllegalStateException("Batch @Cacheable methods must return a java.util.Map, asynchronous and reactive return types are not supported: " + context);
+                }
                 String[] names = resolveCacheNames(defaultConfig, cacheable);
                 if (ArrayUtils.isNotEmpty(names)) {
                     this.cacheableCacheName = names[0];
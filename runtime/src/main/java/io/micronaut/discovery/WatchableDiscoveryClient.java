@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.discovery;
+
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+
+/**
+ * A {@link DiscoveryClient} that can push changes to the instances of a service rather than being polled for them.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public interface WatchableDiscoveryClient extends DiscoveryClient {
+
+    /**
+     * Watches the instances of the given service. The returned {@link Publisher} emits the current instances and
+     * then the instances each time they change, until it is cancelled. Errors terminate the watch and it is up to the
+     * subscriber to watch again.
+     *
+     * @param serviceId The service id
+     * @return A {@link Publisher} that emits the instances each time they change
+     */
+    Publisher<List<ServiceInstance>> watchInstances(String serviceId);
+}
@@ -24,9 +24,12 @@ import io.micronaut.discovery.event.ServiceStartedEvent;
 import io.micronaut.discovery.exceptions.DiscoveryException;
 import io.micronaut.health.HealthStatus;
 import io.micronaut.health.HeartbeatEvent;
+import io.micronaut.health.HeartbeatTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+import javax.inject.Inject;
 import java.util.regex.Pattern;
 
 /**
@@ -41,6 +44,7 @@ public abstract class AutoRegistration implements ApplicationEventListener<Abstr
     private static final Pattern APPLICATION_NAME_PATTERN = Pattern.compile("^[a-zA-Z][\\w\\d-]*[a-zA-Z\\d]$");
 
     private final RegistrationConfiguration registrationConfiguration;
+    private HeartbeatTask heartbeatTask;
 
     /**
      * Initialize given configurations.
@@ -67,6 +71,33 @@ public abstract class AutoRegistration implements ApplicationEventListener<Abstr
         }
     }
 
+    /**
+     * @param heartbeatTask The heartbeat task to report the outcome of heartbeats to
+     */
+    @Inject
+    public void setHeartbeatTask(@Nullable HeartbeatTask heartbeatTask) {
+        this.heartbeatTask = heartbeatTask;
+    }
+
+    /**
+     * Reports that the discovery service received a heartbeat sent by {@link #pulsate(ServiceInstance, HealthStatus)}.
+     */
+    protected void heartbeatSucceeded() {
+        if (heartbeatTask != null) {
+            heartbeatTask.heartbeatSucceeded(this);
+        }
+    }
+
+    /**
+     * Reports that a heartbeat sent by {@link #pulsate(ServiceInstance, HealthStatus)} failed so that the next
+     * heartbeat is backed off. Implementations log the error themselves.
+     */
+    protected void heartbeatFailed() {
+        if (heartbeatTask != null) {
+            heartbeatTask.heartbeatFailed(this);
+        }
+    }
+
     /**
      * This method will be invoked each time a {@link HeartbeatEvent} occurs allowing the implementation to perform any necessary callbacks to the service discovery server.
      *
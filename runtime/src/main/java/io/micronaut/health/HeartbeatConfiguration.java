@@ -31,6 +31,9 @@ import java.time.Duration;
 public class HeartbeatConfiguration implements Toggleable {
 
     private Duration interval = Duration.ofSeconds(15);
+    private Duration initialDelay = Duration.ofSeconds(5);
+    private double jitter = 0.1;
+    private Duration maxBackoff = Duration.ofMinutes(2);
     private boolean enabled = true;
 
     /**
@@ -47,6 +50,58 @@ public class HeartbeatConfiguration implements Toggleable {
         this.interval = interval;
     }
 
+    /**
+     * @return The delay before the first {@link HeartbeatEvent} is published. Defaults to 5 seconds.
+     */
+    public Duration getInitialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * @param initialDelay The delay before the first {@link HeartbeatEvent} is published
+     */
+    public void setInitialDelay(Duration initialDelay) {
+        if (initialDelay != null) {
+            this.initialDelay = initialDelay;
+        }
+    }
+
+    /**
+     * The fraction of the interval by which each heartbeat is randomly moved earlier or later, so that instances
+     * started together do not send their heartbeats in lockstep. Defaults to 0.1.
+     *
+     * @return The jitter as a fraction of the interval
+     */
+    public double getJitter() {
+        return jitter;
+    }
+
+    /**
+     * @param jitter The jitter as a fraction of the interval, between 0 and 1
+     */
+    public void setJitter(double jitter) {
+        this.jitter = Math.min(1, Math.max(0, jitter));
+    }
+
+    /**
+     * The interval doubles after each failed heartbeat up to this maximum and returns to normal after a heartbeat
+     * succeeds. Defaults to 2 minutes.
+     *
+     * @return The maximum interval between heartbeats whilst they fail
+     */
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * @param maxBackoff The maximum interval between heartbeats whilst they fail
+     */
+    public void setMaxBackoff(Duration maxBackoff) {
+        if (maxBackoff != null) {
+            this.maxBackoff = maxBackoff;
+        }
+    }
+
     /**
      * @return Whether {@link HeartbeatEvent} event instances should be published by the server
      */
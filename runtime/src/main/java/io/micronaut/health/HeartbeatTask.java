@@ -24,14 +24,31 @@ import io.micronaut.discovery.ServiceInstance;
 import io.micronaut.discovery.event.ServiceStartedEvent;
 import io.micronaut.runtime.ApplicationConfiguration;
 import io.micronaut.runtime.server.EmbeddedServer;
-import io.micronaut.scheduling.annotation.Scheduled;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.TaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import javax.inject.Named;
 import javax.inject.Singleton;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A scheduled task that sends a periodic heartbeat whilst the server is active.
  *
+ * <p>Each heartbeat is moved randomly by the configured {@link HeartbeatConfiguration#getJitter() jitter} so that
+ * instances started together spread their heartbeats over time. Registrations report the outcome of each heartbeat
+ * with {@link #heartbeatSucceeded(Object)} and {@link #heartbeatFailed(Object)}, and the next heartbeat is scheduled
+ * once the first outcome is reported. While every registration that reported is failing, the interval doubles with
+ * each consecutive failure up to {@link HeartbeatConfiguration#getMaxBackoff()}. If no outcome is reported the next
+ * heartbeat follows after the interval.</p>
+ *
  * @author graemerocher
  * @since 1.0
  */
@@ -42,28 +59,41 @@ import java.util.concurrent.atomic.AtomicReference;
 @Requires(notEnv = Environment.ANDROID)
 public class HeartbeatTask implements ApplicationEventListener<ServiceStartedEvent> {
 
-    private AtomicReference<ServiceInstance> eventReference = new AtomicReference<>();
+    private static final Logger LOG = LoggerFactory.getLogger(HeartbeatTask.class);
+    private static final int MAX_BACKOFF_EXPONENT = 20;
+
+    private final AtomicReference<ServiceInstance> eventReference = new AtomicReference<>();
+    private final Map<Object, Integer> failures = new ConcurrentHashMap<>();
 
     private final ApplicationEventPublisher eventPublisher;
     private final HeartbeatConfiguration configuration;
     private final CurrentHealthStatus currentHealthStatus;
+    private final TaskScheduler taskScheduler;
+
+    private ScheduledFuture<?> nextBeat;
+    private long generation;
+    private boolean awaitingOutcome;
 
     /**
      * @param eventPublisher      To publish the events related to heartbeat
      * @param configuration       The configurations for heartbeat
      * @param currentHealthStatus The current status of health indicator
+     * @param taskScheduler       The scheduler to schedule the heartbeats with
      */
-    public HeartbeatTask(ApplicationEventPublisher eventPublisher, HeartbeatConfiguration configuration, CurrentHealthStatus currentHealthStatus) {
+    public HeartbeatTask(
+        ApplicationEventPublisher eventPublisher,
+        HeartbeatConfiguration configuration,
+        CurrentHealthStatus currentHealthStatus,
+        @Named(TaskExecutors.SCHEDULED) TaskScheduler taskScheduler) {
         this.eventPublisher = eventPublisher;
         this.configuration = configuration;
         this.currentHealthStatus = currentHealthStatus;
+        this.taskScheduler = taskScheduler;
     }
 
     /**
      * Publish the heartbeat event with current health status.
      */
-    @Scheduled(fixedDelay = "${micronaut.heartbeat.interval:15s}",
-               initialDelay = "${micronaut.heartbeat.initial-delay:5s}")
     public void pulsate() {
         ServiceInstance instance = eventReference.get();
         if (instance != null) {
@@ -71,8 +101,115 @@ public class HeartbeatTask implements ApplicationEventListener<ServiceStartedEve
         }
     }
 
+    /**
+     * Reports that a discovery service received a heartbeat, which resets the interval of the registration after
+     * failures.
+     *
+     * @param registration The registration that sent the heartbeat
+     */
+    public void heartbeatSucceeded(Object registration) {
+        failures.put(registration, 0);
+        outcomeReported();
+    }
+
+    /**
+     * Reports that a heartbeat could not be sent to a discovery service, which backs off the next heartbeat while
+     * the other registrations are failing too.
+     *
+     * @param registration The registration that sent the heartbeat
+     */
+    public void heartbeatFailed(Object registration) {
+        failures.merge(registration, 1, Integer::sum);
+        outcomeReported();
+    }
+
     @Override
     public void onApplicationEvent(ServiceStartedEvent event) {
-        eventReference.set(event.getSource());
+        if (eventReference.getAndSet(event.getSource()) == null) {
+            Duration initialDelay = configuration.getInitialDelay();
+            long spread = (long) (configuration.getInterval().toMillis() * configuration.getJitter());
+            if (spread > 0) {
+                initialDelay = initialDelay.plusMillis(ThreadLocalRandom.current().nextLong(spread + 1));
+            }
+            schedule(initialDelay);
+        }
+    }
+
+    /**
+     * @return The delay until the next heartbeat
+     */
+    protected Duration nextDelay() {
+        long interval = configuration.getInterval().toMillis();
+        long delay = interval;
+        int failed = getConsecutiveFailures();
+        long limit = Long.MAX_VALUE;
+        if (failed > 0) {
+            limit = Math.max(interval, configuration.getMaxBackoff().toMillis());
+            delay = Math.min(interval << Math.min(failed, MAX_BACKOFF_EXPONENT), limit);
+        }
+        double jitter = configuration.getJitter();
+        if (jitter > 0) {
+            delay += (long) (delay * jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1));
+        }
+        return Duration.ofMillis(Math.max(1, Math.min(delay, limit)));
+    }
+
+    /**
+     * @return The fewest consecutive failures of the registrations that reported the outcome of a heartbeat
+     */
+    private int getConsecutiveFailures() {
+        int fewest = 0;
+        boolean first = true;
+        for (Integer failed : failures.values()) {
+            if (first || failed < fewest) {
+                fewest = failed;
+                first = false;
+            }
+        }
+        return fewest;
+    }
+
+    private synchronized void schedule(Duration delay) {
+        long scheduled = ++generation;
+        if (nextBeat != null) {
+            nextBeat.cancel(false);
+        }
+        try {
+            nextBeat = taskScheduler.schedule(delay, () -> beat(scheduled));
+        } catch (RejectedExecutionException e) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Heartbeats stopped since the scheduler no longer accepts tasks");
+            }
+        }
+    }
+
+    private synchronized void outcomeReported() {
+        if (awaitingOutcome) {
+            awaitingOutcome = false;
+            schedule(nextDelay());
+        }
+    }
+
+    private void beat(long scheduled) {
+        synchronized (this) {
+            if (scheduled != generation) {
+                // an outcome rescheduled the heartbeat after this one was scheduled
+                return;
+            }
+            awaitingOutcome = true;
+        }
+        try {
+            pulsate();
+        } catch (Exception e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Error publishing heartbeat: " + e.getMessage(), e);
+            }
+        }
+        synchronized (this) {
+            if (awaitingOutcome && scheduled == generation) {
+                // until an outcome is reported the next heartbeat follows after the interval
+                schedule(nextDelay());
+            }
+        }
     }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.jackson.serialize;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micronaut.core.reflect.ReflectionUtils;
+import io.micronaut.core.serialize.ObjectSerializer;
+import io.micronaut.core.serialize.exceptions.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Optional;
+
+/**
+ * <p>Base class for {@link ObjectSerializer} implementations that use a Jackson {@link ObjectMapper} configured with a
+ * binary data format such as Smile or CBOR.</p>
+ *
+ * <p>Like the {@link io.micronaut.core.serialize.JdkSerializer} the serialized form records the class of the value, so
+ * that a value read back as {@link Object}, for example a session attribute, has its original type. Each value is
+ * written as a two element array of the class name and the value. The declared types of the properties of the value
+ * are used for nested values.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public abstract class JacksonBinaryObjectSerializer implements ObjectSerializer {
+
+    private final ObjectMapper objectMapper;
+    private final String formatName;
+
+    /**
+     * @param objectMapper The object mapper configured with the binary format
+     * @param formatName   The name of the format, used in error messages
+     */
+    protected JacksonBinaryObjectSerializer(ObjectMapper objectMapper, String formatName) {
+        this.objectMapper = objectMapper;
+        this.formatName = formatName;
+    }
+
+    /**
+     * @return The object mapper configured with the binary format
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    @Override
+    public Optional<byte[]> serialize(Object object) throws SerializationException {
+        if (object == null) {
+            return Optional.empty();
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        serialize(object, outputStream);
+        return Optional.of(outputStream.toByteArray());
+    }
+
+    @Override
+    public void serialize(Object object, OutputStream outputStream) throws SerializationException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            if (object == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartArray();
+                generator.writeString(object.getClass().getName());
+                objectMapper.writeValue(generator, object);
+                generator.writeEndArray();
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Error serializing object to " + formatName + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> deserialize(byte[] bytes, Class<T> requiredType) throws SerializationException {
+        if (bytes == null) {
+            return Optional.empty();
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(bytes)) {
+            return readValue(parser, requiredType);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> Optional<T> deserialize(InputStream inputStream, Class<T> requiredType) throws SerializationException {
+        if (inputStream == null) {
+            return Optional.empty();
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            return readValue(parser, requiredType);
+        } catch (IOException e) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": " + e.getMessage(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Optional<T> readValue(JsonParser parser, Class<T> requiredType) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return Optional.empty();
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": the value was not written by this serializer");
+        }
+        String className = parser.nextTextValue();
+        if (className == null) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": the class of the value is missing");
+        }
+        Class<?> type;
+        try {
+            // the class is not initialized before it is known to be of the required type
+            type = Class.forName(className, false, resolveClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": class not found " + className, e);
+        }
+        if (!ReflectionUtils.getWrapperType(requiredType).isAssignableFrom(type)) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": " + className + " is not an instance of " + requiredType.getName());
+        }
+        parser.nextToken();
+        Object value = objectMapper.readValue(parser, type);
+        if (parser.nextToken() != JsonToken.END_ARRAY) {
+            throw new SerializationException("Error deserializing object from " + formatName + ": unexpected content after the value");
+        }
+        return Optional.ofNullable((T) value);
+    }
+
+    private ClassLoader resolveClassLoader() {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return classLoader != null ? classLoader : getClass().getClassLoader();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.jackson.serialize;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.jackson.JacksonConfiguration;
+import io.micronaut.jackson.ObjectMapperFactory;
+
+import javax.inject.Singleton;
+import java.util.Optional;
+
+/**
+ * An {@link io.micronaut.core.serialize.ObjectSerializer} that uses the Jackson Smile binary format. The underlying
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} is built by the {@link ObjectMapperFactory} and hence shares the
+ * modules, serializers and settings of the JSON mapper.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+@Requires(classes = SmileFactory.class)
+public class JacksonSmileObjectSerializer extends JacksonBinaryObjectSerializer {
+
+    /**
+     * @param objectMapperFactory  The factory used to build the object mapper
+     * @param jacksonConfiguration The Jackson configuration
+     */
+    public JacksonSmileObjectSerializer(ObjectMapperFactory objectMapperFactory, Optional<JacksonConfiguration> jacksonConfiguration) {
+        super(objectMapperFactory.objectMapper(jacksonConfiguration, Optional.<JsonFactory>of(new SmileFactory())), "Smile");
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import javax.inject.Singleton;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The default {@link RateLimiter} that keeps a {@link TokenBucket} per key in memory. Limits are therefore enforced per
+ * instance of the application.
+ *
+ * <p>A bucket expires once it has not been used for as long as it takes to refill, at which point it is
+ * indistinguishable from a new bucket. The number of buckets is also bounded by {@link #MAXIMUM_BUCKETS} so that keys
+ * derived from client addresses cannot exhaust memory. A bucket evicted because of the bound starts again full.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+public class LocalRateLimiter implements RateLimiter {
+
+    /**
+     * The maximum number of buckets that are kept in memory.
+     */
+    public static final long MAXIMUM_BUCKETS = 100000;
+
+    private final Cache<String, TokenBucket> buckets;
+
+    /**
+     * Creates a limiter that keeps at most {@link #MAXIMUM_BUCKETS} buckets.
+     */
+    public LocalRateLimiter() {
+        this(MAXIMUM_BUCKETS);
+    }
+
+    /**
+     * @param maximumBuckets The maximum number of buckets that are kept in memory
+     */
+    public LocalRateLimiter(long maximumBuckets) {
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maximumBuckets)
+            .expireAfter(new RefillExpiry())
+            .build();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> tryAcquire(String key, RateLimit rateLimit, long permits) {
+        return CompletableFuture.completedFuture(tryAcquireNow(key, rateLimit, permits));
+    }
+
+    /**
+     * Attempts to acquire permits from the bucket with the given key without the indirection of a future.
+     *
+     * @param key       The key of the bucket
+     * @param rateLimit The rate limit of the bucket
+     * @param permits   The number of permits to acquire
+     * @return True if the permits were acquired
+     */
+    public boolean tryAcquireNow(String key, RateLimit rateLimit, long permits) {
+        return getBucket(key, rateLimit).tryConsume(permits);
+    }
+
+    /**
+     * Returns the bucket for the given key. A bucket is replaced if the rate limit for the key changes.
+     *
+     * @param key       The key of the bucket
+     * @param rateLimit The rate limit of the bucket
+     * @return The bucket
+     */
+    public TokenBucket getBucket(String key, RateLimit rateLimit) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(rateLimit));
+        if (!bucket.getRateLimit().equals(rateLimit)) {
+            bucket = buckets.asMap().compute(key, (k, existing) ->
+                existing != null && existing.getRateLimit().equals(rateLimit) ? existing : new TokenBucket(rateLimit)
+            );
+        }
+        return bucket;
+    }
+
+    /**
+     * @return The number of buckets currently kept in memory
+     */
+    long getBucketCount() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * @param key The key of the bucket
+     * @return Whether a bucket that has not expired is kept for the key
+     */
+    boolean hasBucket(String key) {
+        return buckets.getIfPresent(key) != null;
+    }
+
+    /**
+     * Expires a bucket once it has been idle for the time it takes to refill completely.
+     */
+    private static final class RefillExpiry implements Expiry<String, TokenBucket> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenBucket bucket, long currentTime) {
+            return refillNanos(bucket);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+            return refillNanos(bucket);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+            return refillNanos(bucket);
+        }
+
+        private static long refillNanos(TokenBucket bucket) {
+            RateLimit rateLimit = bucket.getRateLimit();
+            long nanosPerPermit = rateLimit.getNanosPerPermit();
+            long burst = rateLimit.getBurst();
+            return burst > Long.MAX_VALUE / nanosPerPermit ? Long.MAX_VALUE : burst * nanosPerPermit;
+        }
+    }
+}
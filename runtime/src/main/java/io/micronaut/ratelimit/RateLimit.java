@@ -0,0 +1,132 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit;
+
+import io.micronaut.core.annotation.AnnotationMetadata;
+import io.micronaut.ratelimit.annotation.RateLimited;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Describes the rate at which permits are replenished and the number of permits that may be consumed in a burst.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public final class RateLimit {
+
+    private static final long DEFAULT_LIMIT = 100;
+
+    private final long limit;
+    private final Duration period;
+    private final long burst;
+    private final long nanosPerPermit;
+
+    /**
+     * @param limit  The number of permits replenished every period
+     * @param period The period
+     * @param burst  The maximum number of permits that can be consumed at once (the capacity of the bucket)
+     */
+    public RateLimit(long limit, Duration period, long burst) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Rate limit must be greater than zero");
+        }
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Rate limit period must be a positive duration");
+        }
+        this.limit = limit;
+        this.period = period;
+        this.burst = burst < 1 ? limit : burst;
+        this.nanosPerPermit = Math.max(1L, period.toNanos() / limit);
+    }
+
+    /**
+     * @param limit  The number of permits replenished every period
+     * @param period The period
+     */
+    public RateLimit(long limit, Duration period) {
+        this(limit, period, limit);
+    }
+
+    /**
+     * Builds the rate limit declared by the {@link RateLimited} annotation.
+     *
+     * @param metadata The annotation metadata
+     * @return The rate limit or empty if the metadata does not declare one
+     */
+    public static Optional<RateLimit> of(AnnotationMetadata metadata) {
+        if (!metadata.hasStereotype(RateLimited.class)) {
+            return Optional.empty();
+        }
+        long limit = metadata.getValue(RateLimited.class, "limit", Long.class).orElse(DEFAULT_LIMIT);
+        Duration period = metadata.getValue(RateLimited.class, "period", Duration.class).orElse(Duration.ofSeconds(1));
+        long burst = metadata.getValue(RateLimited.class, "burst", Long.class).orElse(limit);
+        return Optional.of(new RateLimit(limit, period, burst));
+    }
+
+    /**
+     * @return The number of permits replenished every period
+     */
+    public long getLimit() {
+        return limit;
+    }
+
+    /**
+     * @return The period
+     */
+    public Duration getPeriod() {
+        return period;
+    }
+
+    /**
+     * @return The maximum number of permits that can be consumed at once
+     */
+    public long getBurst() {
+        return burst;
+    }
+
+    /**
+     * @return The time it takes to replenish a single permit, in nanoseconds
+     */
+    public long getNanosPerPermit() {
+        return nanosPerPermit;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        RateLimit rateLimit = (RateLimit) o;
+        return limit == rateLimit.limit && burst == rateLimit.burst && period.equals(rateLimit.period);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(limit, period, burst);
+    }
+
+    @Override
+    public String toString() {
+        return limit + " per " + period + " (burst " + burst + ")";
+    }
+}
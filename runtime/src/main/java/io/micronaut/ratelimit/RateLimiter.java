@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>A rate limiter maintains a token bucket per key. The default implementation {@link LocalRateLimiter} keeps the
+ * buckets in memory, other implementations may share the buckets between instances of an application.</p>
+ *
+ * <p>Implementations should answer without blocking, since the HTTP server consults the limiter on the event loop.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public interface RateLimiter {
+
+    /**
+     * Attempts to acquire permits from the bucket with the given key, creating the bucket if necessary.
+     *
+     * @param key       The key of the bucket
+     * @param rateLimit The rate limit of the bucket
+     * @param permits   The number of permits to acquire
+     * @return A future that completes with true if the permits were acquired
+     */
+    CompletableFuture<Boolean> tryAcquire(String key, RateLimit rateLimit, long permits);
+
+    /**
+     * Attempts to acquire a single permit from the bucket with the given key.
+     *
+     * @param key       The key of the bucket
+     * @param rateLimit The rate limit of the bucket
+     * @return A future that completes with true if the permit was acquired
+     */
+    default CompletableFuture<Boolean> tryAcquire(String key, RateLimit rateLimit) {
+        return tryAcquire(key, rateLimit, 1);
+    }
+}
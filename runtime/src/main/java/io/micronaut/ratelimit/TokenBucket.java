@@ -0,0 +1,121 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A lock-free token bucket. Rather than tracking the number of tokens and refilling them on a schedule the bucket
+ * stores a single value, the theoretical arrival time of the next permit (the generic cell rate algorithm). Consuming
+ * permits advances that time and a request is allowed as long as it does not move it further into the future than the
+ * burst capacity allows. This keeps the whole state in one {@link AtomicLong} that is updated with a CAS loop.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public final class TokenBucket {
+
+    private final RateLimit rateLimit;
+    private final long tolerance;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Creates a full bucket.
+     *
+     * @param rateLimit The rate limit
+     */
+    public TokenBucket(RateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+        this.tolerance = saturatedMultiply(rateLimit.getBurst(), rateLimit.getNanosPerPermit());
+        this.theoreticalArrival = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+     * @return The rate limit of this bucket
+     */
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Attempts to consume a single permit.
+     *
+     * @return True if the permit was consumed
+     */
+    public boolean tryConsume() {
+        return tryConsume(1);
+    }
+
+    /**
+     * Attempts to consume the given number of permits. Either all of the permits are consumed or none are.
+     *
+     * @param permits The number of permits
+     * @return True if the permits were consumed
+     */
+    public boolean tryConsume(long permits) {
+        long increment = saturatedMultiply(permits, rateLimit.getNanosPerPermit());
+        while (true) {
+            long now = System.nanoTime();
+            long current = theoreticalArrival.get();
+            long base = current - now < 0 ? now : current;
+            long next = base + increment;
+            if (next - now > tolerance) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return The number of permits that are currently available
+     */
+    public long getAvailablePermits() {
+        long now = System.nanoTime();
+        long current = theoreticalArrival.get();
+        long used = current - now;
+        if (used <= 0) {
+            return rateLimit.getBurst();
+        }
+        return Math.max(0L, (tolerance - used) / rateLimit.getNanosPerPermit());
+    }
+
+    /**
+     * @return The time to wait until a single permit becomes available, in nanoseconds
+     */
+    public long getNanosToNextPermit() {
+        long now = System.nanoTime();
+        long wait = theoreticalArrival.get() + rateLimit.getNanosPerPermit() - now - tolerance;
+        return Math.max(0L, wait);
+    }
+
+    /**
+     * @return Whether the bucket is full, in which case it is indistinguishable from a newly created bucket
+     */
+    public boolean isFull() {
+        return theoreticalArrival.get() - System.nanoTime() <= 0;
+    }
+
+    private static long saturatedMultiply(long a, long b) {
+        try {
+            return Math.multiplyExact(a, b);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE / 2;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.AliasFor;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.ratelimit.intercept.RateLimitInterceptor;
+
+import javax.validation.constraints.Digits;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Limits the rate at which the annotated method can be called using a token bucket that is replenished at the
+ * configured rate. Calls that exceed the limit fail with a {@link io.micronaut.ratelimit.RateLimitExceededException}.</p>
+ *
+ * <p>When declared on a controller the limit is enforced by the HTTP server as soon as the route is matched, before
+ * the body of the request is read, and requests that exceed the limit receive a 429 (Too Many Requests) response.
+ * When a {@link io.micronaut.ratelimit.RateLimiter} other than the in-memory default is configured (for example the
+ * Redis backed limiter) the buckets are shared between instances of the application.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(RateLimitInterceptor.class)
+public @interface RateLimited {
+
+    /**
+     * @return The number of calls permitted every {@link #period()}
+     */
+    @Digits(integer = 9, fraction = 0)
+    @AliasFor(member = "limit")
+    String value() default "100";
+
+    /**
+     * @return The number of calls permitted every {@link #period()}
+     */
+    @Digits(integer = 9, fraction = 0)
+    @AliasFor(member = "value")
+    String limit() default "100";
+
+    /**
+     * @return The period over which the {@link #limit()} applies
+     */
+    String period() default "1s";
+
+    /**
+     * The maximum number of calls that may be made at once when the bucket is full. Defaults to the {@link #limit()}.
+     *
+     * @return The burst capacity
+     */
+    @Digits(integer = 9, fraction = 0)
+    String burst() default "";
+
+    /**
+     * The name of the bucket. Methods that declare the same name share a bucket. Defaults to a bucket per method.
+     *
+     * @return The name of the bucket
+     */
+    String name() default "";
+
+    /**
+     * Whether the HTTP server should maintain a separate bucket for each client, identified by the configured key
+     * header or the remote address of the client. Only applies to controllers.
+     *
+     * @return True if requests are limited per client
+     */
+    boolean perClient() default true;
+}
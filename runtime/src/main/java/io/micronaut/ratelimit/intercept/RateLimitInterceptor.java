@@ -0,0 +1,170 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.http.annotation.Controller;
+import io.micronaut.ratelimit.RateLimit;
+import io.micronaut.ratelimit.RateLimitExceededException;
+import io.micronaut.ratelimit.RateLimiter;
+import io.micronaut.ratelimit.annotation.RateLimited;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link MethodInterceptor} that enforces the {@link RateLimited} annotation using the configured
+ * {@link RateLimiter}. Controllers are skipped since the HTTP server enforces their limits before the request body
+ * is read.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+public class RateLimitInterceptor implements MethodInterceptor<Object, Object> {
+
+    /**
+     * The position of the interceptor in the chain. Rate limits are checked before a bulkhead permit is taken.
+     */
+    public static final int POSITION = InterceptPhase.BULKHEAD.getPosition() - 5;
+
+    private static final Logger LOG = LoggerFactory.getLogger(RateLimitInterceptor.class);
+
+    private final RateLimiter rateLimiter;
+    private final Map<Method, LimitDefinition> definitions = new ConcurrentHashMap<>();
+
+    /**
+     * @param rateLimiter The rate limiter
+     */
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!context.hasStereotype(RateLimited.class) || context.hasStereotype(Controller.class)) {
+            return context.proceed();
+        }
+        LimitDefinition definition = definitions.computeIfAbsent(context.getTargetMethod(), method -> newDefinition(context));
+        ReturnType<Object> returnType = context.getReturnType();
+        Class<Object> javaReturnType = returnType.getType();
+        if (CompletableFuture.class.isAssignableFrom(javaReturnType)) {
+            return interceptFuture(context, definition);
+        } else if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            return interceptPublisher(context, returnType, definition);
+        } else {
+            return interceptBlocking(context, definition);
+        }
+    }
+
+    private Object interceptBlocking(MethodInvocationContext<Object, Object> context, LimitDefinition definition) {
+        boolean acquired;
+        try {
+            acquired = rateLimiter.tryAcquire(definition.key, definition.rateLimit).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+        if (!acquired) {
+            throw rejected(context, definition);
+        }
+        return context.proceed();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptFuture(MethodInvocationContext<Object, Object> context, LimitDefinition definition) {
+        return rateLimiter.tryAcquire(definition.key, definition.rateLimit).thenCompose(acquired -> {
+            if (!acquired) {
+                CompletableFuture<Object> rejected = new CompletableFuture<>();
+                rejected.completeExceptionally(rejected(context, definition));
+                return rejected;
+            }
+            CompletableFuture<Object> future = (CompletableFuture<Object>) context.proceed();
+            return future != null ? future : CompletableFuture.completedFuture(null);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptPublisher(MethodInvocationContext<Object, Object> context, ReturnType<Object> returnType, LimitDefinition definition) {
+        Object result = context.proceed();
+        if (result == null) {
+            return null;
+        }
+        ConversionService<?> conversionService = ConversionService.SHARED;
+        Flowable<Object> flowable = conversionService
+            .convert(result, Flowable.class)
+            .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+
+        // the permit is acquired on subscription since that is when the work is performed
+        Flowable<Object> limited = Flowable
+            .fromPublisher(Publishers.fromCompletableFuture(() -> rateLimiter.tryAcquire(definition.key, definition.rateLimit)))
+            .flatMap(acquired -> acquired ? flowable : Flowable.error(rejected(context, definition)));
+        return conversionService
+            .convert(limited, returnType.asArgument())
+            .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+    }
+
+    private RateLimitExceededException rejected(MethodInvocationContext<Object, Object> context, LimitDefinition definition) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Rejecting call to [{}]: Rate limit of {} exceeded for bucket [{}]", context, definition.rateLimit, definition.key);
+        }
+        return new RateLimitExceededException("Rate limit of " + definition.rateLimit + " exceeded for method: " + context);
+    }
+
+    private LimitDefinition newDefinition(MethodInvocationContext<Object, Object> context) {
+        RateLimit rateLimit = RateLimit.of(context).orElseThrow(() ->
+            new IllegalStateException("No rate limit declared for method: " + context)
+        );
+        String key = context.getValue(RateLimited.class, "name", String.class)
+            .filter(name -> !name.isEmpty())
+            .orElseGet(() -> context.getDeclaringType().getName() + "." + context.getMethodName());
+        return new LimitDefinition(key, rateLimit);
+    }
+
+    /**
+     * The bucket key and rate limit of a method.
+     */
+    private static final class LimitDefinition {
+        final String key;
+        final RateLimit rateLimit;
+
+        LimitDefinition(String key, RateLimit rateLimit) {
+            this.key = key;
+            this.rateLimit = rateLimit;
+        }
+    }
+}
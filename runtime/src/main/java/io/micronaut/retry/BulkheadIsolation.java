@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.retry;
+
+/**
+ * The isolation strategies supported by {@link io.micronaut.retry.annotation.Bulkhead}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public enum BulkheadIsolation {
+
+    /**
+     * Calls execute on the calling thread and the number of concurrent calls is limited by a semaphore.
+     */
+    SEMAPHORE,
+
+    /**
+     * Calls execute on a bounded thread pool dedicated to the bulkhead.
+     */
+    THREAD_POOL
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.retry.annotation;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import io.micronaut.aop.Around;
+import io.micronaut.context.annotation.AliasFor;
+import io.micronaut.context.annotation.Type;
+import io.micronaut.retry.BulkheadIsolation;
+import io.micronaut.retry.intercept.BulkheadInterceptor;
+
+import javax.validation.constraints.Digits;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * <p>AOP advice that limits the number of concurrent calls to the annotated method, preventing a slow downstream
+ * dependency from exhausting the threads of the caller. Calls that cannot obtain a permit fail with a
+ * {@link io.micronaut.retry.exception.BulkheadRejectedException}.</p>
+ *
+ * <p>Blocking methods as well as methods returning a {@link java.util.concurrent.CompletableFuture} or a reactive type
+ * are supported. For non-blocking methods the permit is held until the returned future or publisher completes.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE})
+@Around
+@Type(BulkheadInterceptor.class)
+public @interface Bulkhead {
+
+    /**
+     * @return The maximum number of concurrent calls
+     */
+    @Digits(integer = 6, fraction = 0)
+    @AliasFor(member = "maxConcurrentCalls")
+    String value() default "10";
+
+    /**
+     * The maximum number of concurrent calls. When {@link #adaptive()} is enabled this is the upper bound of the
+     * adjusted limit.
+     *
+     * @return The maximum number of concurrent calls
+     */
+    @Digits(integer = 6, fraction = 0)
+    @AliasFor(member = "value")
+    String maxConcurrentCalls() default "10";
+
+    /**
+     * The maximum time to wait for a permit when the bulkhead is full. Only applies to
+     * {@link BulkheadIsolation#SEMAPHORE} isolation. Defaults to rejecting the call immediately.
+     *
+     * @return The maximum wait duration
+     */
+    String maxWaitDuration() default "0ms";
+
+    /**
+     * The isolation strategy. Methods that return a reactive type always use {@link BulkheadIsolation#SEMAPHORE}
+     * isolation since the work is performed when the publisher is subscribed to.
+     *
+     * @return The isolation strategy
+     */
+    BulkheadIsolation isolation() default BulkheadIsolation.SEMAPHORE;
+
+    /**
+     * The number of calls that may queue for a thread when using {@link BulkheadIsolation#THREAD_POOL} isolation.
+     *
+     * @return The queue capacity
+     */
+    @Digits(integer = 6, fraction = 0)
+    String queueCapacity() default "0";
+
+    /**
+     * <p>Whether the concurrency limit should be adjusted from the observed latency of calls. The limit grows while
+     * latency stays close to the minimum latency observed and shrinks as latency increases, in the style of TCP Vegas
+     * and gradient based congestion control.</p>
+     *
+     * <p>Only applies to {@link BulkheadIsolation#SEMAPHORE} isolation.</p>
+     *
+     * @return True if the limit is adaptive
+     */
+    boolean adaptive() default false;
+
+    /**
+     * @return The lower bound of the limit when {@link #adaptive()} is enabled
+     */
+    @Digits(integer = 6, fraction = 0)
+    String minConcurrentCalls() default "1";
+}
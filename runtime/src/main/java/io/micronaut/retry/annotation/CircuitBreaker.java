@@ -93,4 +93,51 @@ public @interface CircuitBreaker {
      * @return The {@link java.time.Duration} of time before reset
      */
     String reset() default "20s";
+
+    /**
+     * <p>The percentage of failed calls within the sliding window at or above which the circuit is set to
+     * {@link io.micronaut.retry.CircuitState#OPEN}.</p>
+     *
+     * <p>By default no sliding window is maintained and the circuit opens as soon as a call fails after exhausting
+     * its retry attempts. Setting this value or {@link #slowCallRateThreshold()} enables the sliding window.</p>
+     *
+     * @return The failure rate threshold as a percentage
+     */
+    @Digits(integer = 3, fraction = 2)
+    String failureRateThreshold() default "0";
+
+    /**
+     * The percentage of calls within the sliding window that took longer than {@link #slowCallDuration()} at or
+     * above which the circuit is set to {@link io.micronaut.retry.CircuitState#OPEN}.
+     *
+     * @return The slow call rate threshold as a percentage
+     */
+    @Digits(integer = 3, fraction = 2)
+    String slowCallRateThreshold() default "0";
+
+    /**
+     * @return The duration above which a call is considered slow when evaluating {@link #slowCallRateThreshold()}
+     */
+    String slowCallDuration() default "";
+
+    /**
+     * @return The number of most recent calls retained in the sliding window
+     */
+    @Digits(integer = 6, fraction = 0)
+    String slidingWindowSize() default "100";
+
+    /**
+     * @return The minimum number of calls within the sliding window before the thresholds are evaluated
+     */
+    @Digits(integer = 6, fraction = 0)
+    String minimumNumberOfCalls() default "10";
+
+    /**
+     * The number of concurrent calls permitted while the circuit is {@link io.micronaut.retry.CircuitState#HALF_OPEN}.
+     * The circuit closes once all permitted calls succeed. Only applies when the sliding window is enabled.
+     *
+     * @return The number of permitted calls in the half open state
+     */
+    @Digits(integer = 4, fraction = 0)
+    String halfOpenCalls() default "1";
 }
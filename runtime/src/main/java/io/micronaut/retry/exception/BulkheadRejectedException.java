@@ -0,0 +1,52 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.retry.exception;
+
+/**
+ * An exception thrown when a call is rejected because the {@link io.micronaut.retry.annotation.Bulkhead} limiting
+ * concurrent calls is full.
+ *
+ * @author agent
+ * @since 1.0
+ */
+public class BulkheadRejectedException extends RetryException {
+
+    /**
+     * Constructs a new bulkhead rejected exception with the specified detail message.
+     *
+     * @param message the detail message. The detail message is saved for
+     *                later retrieval by the {@link #getMessage()} method.
+     */
+    public BulkheadRejectedException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new bulkhead rejected exception with the specified detail message and cause.
+     *
+     * @param message the detail message (which is saved for later retrieval
+     *                by the {@link #getMessage()} method).
+     * @param cause   the cause (which is saved for later retrieval by the
+     *                {@link #getCause()} method).  (A <tt>null</tt> value is
+     *                permitted, and indicates that the cause is nonexistent or
+     *                unknown.)
+     */
+    public BulkheadRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
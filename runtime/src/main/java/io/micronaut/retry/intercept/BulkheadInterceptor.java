@@ -0,0 +1,300 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.retry.intercept;
+
+import io.micronaut.aop.InterceptPhase;
+import io.micronaut.aop.MethodInterceptor;
+import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.core.async.publisher.Publishers;
+import io.micronaut.core.convert.ConversionService;
+import io.micronaut.core.type.ReturnType;
+import io.micronaut.retry.BulkheadIsolation;
+import io.micronaut.retry.annotation.Bulkhead;
+import io.micronaut.retry.exception.BulkheadRejectedException;
+import io.micronaut.retry.exception.RetryException;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Singleton;
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link MethodInterceptor} that limits the number of concurrent calls to a method according to the
+ * {@link Bulkhead} annotation. The state of each bulkhead is maintained per method.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+public class BulkheadInterceptor implements MethodInterceptor<Object, Object>, Closeable {
+
+    /**
+     * The position of the interceptor in the chain.
+     */
+    public static final int POSITION = InterceptPhase.BULKHEAD.getPosition();
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkheadInterceptor.class);
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 10;
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final ThreadFactory threadFactory;
+    private final Map<Method, BulkheadState> bulkheads = new ConcurrentHashMap<>();
+
+    /**
+     * @param threadFactory The thread factory used to create threads for {@link BulkheadIsolation#THREAD_POOL} isolation
+     */
+    public BulkheadInterceptor(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    @Override
+    public int getOrder() {
+        return POSITION;
+    }
+
+    @Override
+    public Object intercept(MethodInvocationContext<Object, Object> context) {
+        if (!context.hasStereotype(Bulkhead.class)) {
+            return context.proceed();
+        }
+        BulkheadState bulkhead = bulkheads.computeIfAbsent(context.getTargetMethod(), method -> newBulkhead(context));
+        ReturnType<Object> returnType = context.getReturnType();
+        Class<Object> javaReturnType = returnType.getType();
+        if (CompletableFuture.class.isAssignableFrom(javaReturnType)) {
+            if (bulkhead.executor != null) {
+                return interceptFutureOnThreadPool(context, bulkhead);
+            }
+            return interceptFuture(context, bulkhead);
+        } else if (Publishers.isConvertibleToPublisher(javaReturnType)) {
+            return interceptPublisher(context, returnType, bulkhead);
+        } else if (bulkhead.executor != null) {
+            return interceptOnThreadPool(context, bulkhead);
+        } else {
+            return interceptBlocking(context, bulkhead);
+        }
+    }
+
+    /**
+     * Shuts down the thread pools created for {@link BulkheadIsolation#THREAD_POOL} isolation.
+     */
+    @Override
+    @PreDestroy
+    public void close() {
+        for (BulkheadState bulkhead : bulkheads.values()) {
+            if (bulkhead.executor != null) {
+                bulkhead.executor.shutdown();
+            }
+        }
+        bulkheads.clear();
+    }
+
+    private Object interceptBlocking(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead) {
+        boolean acquired;
+        try {
+            acquired = bulkhead.limiter.tryAcquire(bulkhead.maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BulkheadRejectedException("Interrupted waiting for a permit for Bulkhead [" + context + "]", e);
+        }
+        if (!acquired) {
+            throw rejected(context, bulkhead);
+        }
+        long start = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            Object result = context.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            bulkhead.limiter.release(System.nanoTime() - start, succeeded);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptFuture(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead) {
+        // never block the caller of a non-blocking method waiting for a permit
+        if (!bulkhead.limiter.tryAcquire()) {
+            throw rejected(context, bulkhead);
+        }
+        long start = System.nanoTime();
+        CompletableFuture<Object> future;
+        try {
+            future = (CompletableFuture<Object>) context.proceed();
+        } catch (RuntimeException e) {
+            bulkhead.limiter.release(System.nanoTime() - start, false);
+            throw e;
+        }
+        if (future == null) {
+            bulkhead.limiter.release(System.nanoTime() - start, true);
+            return null;
+        }
+        future.whenComplete((result, throwable) ->
+            bulkhead.limiter.release(System.nanoTime() - start, throwable == null)
+        );
+        return future;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptPublisher(MethodInvocationContext<Object, Object> context, ReturnType<Object> returnType, BulkheadState bulkhead) {
+        Object result = context.proceed();
+        if (result == null) {
+            return null;
+        }
+        ConversionService<?> conversionService = ConversionService.SHARED;
+        Flowable<Object> flowable = conversionService
+            .convert(result, Flowable.class)
+            .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+
+        // the permit is acquired on subscription and held until the publisher terminates or is cancelled
+        Flowable<Object> limited = Flowable.defer(() -> {
+            if (!bulkhead.limiter.tryAcquire()) {
+                return Flowable.error(rejected(context, bulkhead));
+            }
+            long start = System.nanoTime();
+            AtomicBoolean failed = new AtomicBoolean();
+            return flowable
+                .doOnError(throwable -> failed.set(true))
+                .doFinally(() -> bulkhead.limiter.release(System.nanoTime() - start, !failed.get()));
+        });
+        return conversionService
+            .convert(limited, returnType.asArgument())
+            .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
+    }
+
+    private Object interceptOnThreadPool(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead) {
+        Callable<Object> task = context::proceed;
+        Future<Object> future;
+        try {
+            future = bulkhead.executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw rejected(context, bulkhead);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RetryException("Interrupted waiting for result of Bulkhead [" + context + "]", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RetryException("Error executing Bulkhead [" + context + "]: " + cause.getMessage(), cause);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object interceptFutureOnThreadPool(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        try {
+            bulkhead.executor.execute(() -> {
+                try {
+                    CompletableFuture<Object> future = (CompletableFuture<Object>) context.proceed();
+                    if (future == null) {
+                        result.complete(null);
+                    } else {
+                        future.whenComplete((value, throwable) -> {
+                            if (throwable != null) {
+                                result.completeExceptionally(throwable);
+                            } else {
+                                result.complete(value);
+                            }
+                        });
+                    }
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw rejected(context, bulkhead);
+        }
+        return result;
+    }
+
+    private BulkheadRejectedException rejected(MethodInvocationContext<Object, Object> context, BulkheadState bulkhead) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Rejecting call to [{}]: Bulkhead full with {} calls in flight", context, bulkhead.limiter.getInFlight());
+        }
+        return new BulkheadRejectedException("Bulkhead full: maximum number of concurrent calls [" + bulkhead.limiter.getLimit() + "] reached for method: " + context);
+    }
+
+    private BulkheadState newBulkhead(MethodInvocationContext<Object, Object> context) {
+        int maxConcurrentCalls = context.getValue(Bulkhead.class, "maxConcurrentCalls", Integer.class).orElse(DEFAULT_MAX_CONCURRENT_CALLS);
+        int minConcurrentCalls = context.getValue(Bulkhead.class, "minConcurrentCalls", Integer.class).orElse(1);
+        boolean adaptive = context.getValue(Bulkhead.class, "adaptive", Boolean.class).orElse(false);
+        long maxWaitNanos = context.getValue(Bulkhead.class, "maxWaitDuration", Duration.class).map(Duration::toNanos).orElse(0L);
+        BulkheadIsolation isolation = context.getValue(Bulkhead.class, "isolation", BulkheadIsolation.class).orElse(BulkheadIsolation.SEMAPHORE);
+
+        ThreadPoolExecutor executor = null;
+        if (isolation == BulkheadIsolation.THREAD_POOL) {
+            int queueCapacity = context.getValue(Bulkhead.class, "queueCapacity", Integer.class).orElse(0);
+            BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+            executor = new ThreadPoolExecutor(
+                maxConcurrentCalls,
+                maxConcurrentCalls,
+                THREAD_KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                queue,
+                threadFactory
+            );
+            executor.allowCoreThreadTimeOut(true);
+            adaptive = false;
+        }
+        return new BulkheadState(
+            new ConcurrencyLimiter(minConcurrentCalls, maxConcurrentCalls, adaptive),
+            executor,
+            maxWaitNanos
+        );
+    }
+
+    /**
+     * The state of a single bulkhead.
+     */
+    private static final class BulkheadState {
+        final ConcurrencyLimiter limiter;
+        final ThreadPoolExecutor executor;
+        final long maxWaitNanos;
+
+        BulkheadState(ConcurrencyLimiter limiter, ThreadPoolExecutor executor, long maxWaitNanos) {
+            this.limiter = limiter;
+            this.executor = executor;
+            this.maxWaitNanos = maxWaitNanos;
+        }
+    }
+}
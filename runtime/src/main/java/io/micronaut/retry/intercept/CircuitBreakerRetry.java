@@ -30,6 +30,7 @@ import javax.annotation.Nullable;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -46,6 +47,10 @@ class CircuitBreakerRetry implements MutableRetryState {
     private final long openTimeout;
     private final ExecutableMethod<?, ?> method;
     private final ApplicationEventPublisher eventPublisher;
+    private final CircuitBreakerWindow window;
+    private final int permittedHalfOpenCalls;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
     private AtomicReference<CircuitState> state = new AtomicReference<>(CircuitState.CLOSED);
     private volatile Throwable lastError;
     private volatile long time = System.currentTimeMillis();
@@ -62,17 +67,45 @@ class CircuitBreakerRetry implements MutableRetryState {
         RetryStateBuilder childStateBuilder,
         ExecutableMethod<?, ?> method,
         ApplicationEventPublisher eventPublisher) {
+        this(openTimeout, childStateBuilder, method, eventPublisher, null, 1);
+    }
+
+    /**
+     * @param openTimeout            The circuit open timeout in millis
+     * @param childStateBuilder      The retry state builder
+     * @param method                 A compile time produced invocation of a method call
+     * @param eventPublisher         To publish circuit events
+     * @param window                 The sliding window of call outcomes used to decide when to open the circuit, or
+     *                               null to open the circuit on the first failure
+     * @param permittedHalfOpenCalls The number of calls permitted when the circuit is half open
+     */
+    CircuitBreakerRetry(
+        long openTimeout,
+        RetryStateBuilder childStateBuilder,
+        ExecutableMethod<?, ?> method,
+        ApplicationEventPublisher eventPublisher,
+        @Nullable CircuitBreakerWindow window,
+        int permittedHalfOpenCalls) {
 
         this.retryStateBuilder = childStateBuilder;
         this.openTimeout = openTimeout;
         this.childState = (MutableRetryState) childStateBuilder.build();
         this.eventPublisher = eventPublisher;
         this.method = method;
+        this.window = window;
+        this.permittedHalfOpenCalls = Math.max(1, permittedHalfOpenCalls);
     }
 
     @Override
     public void close(@Nullable Throwable exception) {
-        if (exception == null && currentState() == CircuitState.HALF_OPEN) {
+        close(exception, 0L);
+    }
+
+    @Override
+    public void close(@Nullable Throwable exception, long elapsedNanos) {
+        if (window != null) {
+            closeWindowed(exception, elapsedNanos);
+        } else if (exception == null && currentState() == CircuitState.HALF_OPEN) {
             closeCircuit();
         } else if (exception != null) {
             if (currentState() != CircuitState.OPEN) {
@@ -88,7 +121,17 @@ class CircuitBreakerRetry implements MutableRetryState {
 
     @Override
     public void open() {
-        if (currentState() == CircuitState.OPEN && lastError != null) {
+        CircuitState currentState = currentState();
+        if (window != null && currentState == CircuitState.HALF_OPEN) {
+            if (halfOpenPermits.getAndDecrement() <= 0) {
+                halfOpenPermits.incrementAndGet();
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Rejecting call for Half Open Circuit [{}]: all probe calls are in progress", method);
+                }
+                throw new CircuitOpenException("Circuit Half Open: maximum number of permitted calls [" + permittedHalfOpenCalls + "] in progress");
+            }
+        }
+        if (currentState == CircuitState.OPEN && lastError != null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Rethrowing existing exception for Open Circuit [{}]: {}", method, lastError.getMessage());
             }
@@ -149,6 +192,13 @@ class CircuitBreakerRetry implements MutableRetryState {
         return childState.getMaxDelay();
     }
 
+    /**
+     * @return The sliding window of call outcomes, if configured
+     */
+    Optional<CircuitBreakerWindow> getWindow() {
+        return Optional.ofNullable(window);
+    }
+
     /**
      * @return The current state
      */
@@ -208,6 +258,9 @@ class CircuitBreakerRetry implements MutableRetryState {
         time = System.currentTimeMillis();
         lastError = null;
         this.childState = (MutableRetryState) retryStateBuilder.build();
+        if (window != null) {
+            window.reset();
+        }
         try {
             return state.getAndSet(CircuitState.CLOSED);
         } finally {
@@ -234,6 +287,45 @@ class CircuitBreakerRetry implements MutableRetryState {
         }
         lastError = null;
         this.childState = (MutableRetryState) retryStateBuilder.build();
+        if (window != null) {
+            if (state.compareAndSet(CircuitState.OPEN, CircuitState.HALF_OPEN)) {
+                halfOpenSuccesses.set(0);
+                halfOpenPermits.set(permittedHalfOpenCalls);
+            }
+            return state.get();
+        }
         return state.getAndSet(CircuitState.HALF_OPEN);
     }
+
+    /**
+     * Records the outcome of a call in the sliding window and transitions the circuit accordingly. While closed the
+     * circuit only opens once the failure or slow call rate exceeds the configured threshold. While half open a
+     * single failure reopens the circuit and the circuit closes once all permitted calls succeed.
+     */
+    private void closeWindowed(@Nullable Throwable exception, long elapsedNanos) {
+        switch (currentState()) {
+            case HALF_OPEN:
+                if (exception != null) {
+                    openCircuit(exception);
+                } else if (halfOpenSuccesses.incrementAndGet() >= permittedHalfOpenCalls) {
+                    closeCircuit();
+                }
+                break;
+            case CLOSED:
+                boolean exceeded = window.record(exception != null, elapsedNanos);
+                if (exceeded && state.get() == CircuitState.CLOSED) {
+                    Throwable cause = exception;
+                    if (cause == null) {
+                        cause = new CircuitOpenException("Circuit Open: slow call rate of " + window.getSlowCallRate() + "% exceeded threshold");
+                    }
+                    openCircuit(cause);
+                } else {
+                    // the circuit stays closed so reset the retry attempts for subsequent calls
+                    this.childState = (MutableRetryState) retryStateBuilder.build();
+                }
+                break;
+            default:
+                // the outcome of calls that started before the circuit opened are not relevant
+        }
+    }
 }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.retry.intercept;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>A lock-free sliding window over the outcomes of the last N calls made through a circuit. Each outcome is stored
+ * in a slot of a ring buffer and the aggregate counts are adjusted with the difference between the evicted and the
+ * recorded outcome, so that recording an outcome and evaluating the failure rate are constant time operations.</p>
+ *
+ * <p>Under concurrent updates the aggregate counts may briefly lag the contents of the ring buffer but are always
+ * consistent once writers have completed.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+class CircuitBreakerWindow {
+
+    private static final int RECORDED = 1;
+    private static final int FAILED = 2;
+    private static final int SLOW = 4;
+
+    private final int size;
+    private final int minimumNumberOfCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final AtomicIntegerArray outcomes;
+    private final AtomicLong position = new AtomicLong();
+    private final AtomicInteger calls = new AtomicInteger();
+    private final AtomicInteger failedCalls = new AtomicInteger();
+    private final AtomicInteger slowCalls = new AtomicInteger();
+
+    /**
+     * @param size                  The number of calls to retain in the window
+     * @param minimumNumberOfCalls  The minimum number of recorded calls before the rates are evaluated
+     * @param failureRateThreshold  The failure rate percentage at which the threshold is exceeded, or 0 to disable
+     * @param slowCallRateThreshold The slow call rate percentage at which the threshold is exceeded, or 0 to disable
+     * @param slowCallDurationNanos The duration in nanoseconds above which a call is considered slow, or 0 to disable
+     */
+    CircuitBreakerWindow(
+        int size,
+        int minimumNumberOfCalls,
+        double failureRateThreshold,
+        double slowCallRateThreshold,
+        long slowCallDurationNanos) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Sliding window size must be greater than zero");
+        }
+        this.size = size;
+        this.minimumNumberOfCalls = Math.max(1, Math.min(size, minimumNumberOfCalls));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallDurationNanos > 0 ? slowCallRateThreshold : 0;
+        this.slowCallDurationNanos = slowCallDurationNanos;
+        this.outcomes = new AtomicIntegerArray(size);
+    }
+
+    /**
+     * Records the outcome of a call.
+     *
+     * @param failed       Whether the call failed
+     * @param elapsedNanos The time the call took in nanoseconds
+     * @return True if after recording the outcome either threshold has been exceeded
+     */
+    boolean record(boolean failed, long elapsedNanos) {
+        int outcome = RECORDED;
+        if (failed) {
+            outcome |= FAILED;
+        }
+        if (slowCallDurationNanos > 0 && elapsedNanos >= slowCallDurationNanos) {
+            outcome |= SLOW;
+        }
+        int index = (int) (position.getAndIncrement() % size);
+        int evicted = outcomes.getAndSet(index, outcome);
+        if (evicted != outcome) {
+            adjust(evicted, -1);
+            adjust(outcome, 1);
+        }
+        return isThresholdExceeded();
+    }
+
+    /**
+     * Clears all recorded outcomes.
+     */
+    void reset() {
+        for (int i = 0; i < size; i++) {
+            adjust(outcomes.getAndSet(i, 0), -1);
+        }
+    }
+
+    /**
+     * @return True if the minimum number of calls has been recorded and either rate exceeds its threshold
+     */
+    boolean isThresholdExceeded() {
+        int total = calls.get();
+        if (total < minimumNumberOfCalls) {
+            return false;
+        }
+        return (failureRateThreshold > 0 && rate(failedCalls.get(), total) >= failureRateThreshold) ||
+            (slowCallRateThreshold > 0 && rate(slowCalls.get(), total) >= slowCallRateThreshold);
+    }
+
+    /**
+     * @return The percentage of failed calls within the window
+     */
+    double getFailureRate() {
+        return rate(failedCalls.get(), calls.get());
+    }
+
+    /**
+     * @return The percentage of slow calls within the window
+     */
+    double getSlowCallRate() {
+        return rate(slowCalls.get(), calls.get());
+    }
+
+    /**
+     * @return The number of calls within the window
+     */
+    int getNumberOfCalls() {
+        return calls.get();
+    }
+
+    private void adjust(int outcome, int delta) {
+        if ((outcome & RECORDED) != 0) {
+            calls.addAndGet(delta);
+            if ((outcome & FAILED) != 0) {
+                failedCalls.addAndGet(delta);
+            }
+            if ((outcome & SLOW) != 0) {
+                slowCalls.addAndGet(delta);
+            }
+        }
+    }
+
+    private static double rate(int count, int total) {
+        return total > 0 ? count * 100d / total : 0d;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.micronaut.retry.intercept;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>Limits the number of concurrent calls for a {@link io.micronaut.retry.annotation.Bulkhead}. Permits are acquired
+ * with a compare-and-set loop on the number of calls in flight. A lock is only used to park callers that are willing
+ * to wait for a permit.</p>
+ *
+ * <p>When adaptive, the limit is recalculated from each sample as
+ * <code>limit * (minRtt / rtt) + sqrt(limit)</code> and smoothed, so that the limit grows while latency stays close to
+ * the minimum observed latency and shrinks once requests start to queue downstream.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+class ConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2d;
+    private static final double MIN_GRADIENT = 0.5d;
+    private static final int MIN_RTT_RESET_SAMPLES = 1000;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final AtomicLong limitBits;
+    private final AtomicLong minRtt = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong samples = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    /**
+     * @param minLimit The minimum limit
+     * @param maxLimit The maximum limit, also the initial limit for a non adaptive limiter
+     * @param adaptive Whether the limit adapts to the observed latency
+     */
+    ConcurrencyLimiter(int minLimit, int maxLimit, boolean adaptive) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.minLimit = Math.max(1, Math.min(minLimit, this.maxLimit));
+        this.adaptive = adaptive;
+        int initialLimit = adaptive ? Math.max(this.minLimit, this.maxLimit / 2) : this.maxLimit;
+        this.limitBits = new AtomicLong(Double.doubleToLongBits(initialLimit));
+    }
+
+    /**
+     * @return The current limit
+     */
+    int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    /**
+     * @return The number of calls currently holding a permit
+     */
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Attempts to acquire a permit without waiting.
+     *
+     * @return True if a permit was acquired
+     */
+    boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Attempts to acquire a permit, waiting up to the given time for one to be released.
+     *
+     * @param maxWaitNanos The maximum time to wait in nanoseconds
+     * @return True if a permit was acquired
+     * @throws InterruptedException If the thread is interrupted while waiting
+     */
+    boolean tryAcquire(long maxWaitNanos) throws InterruptedException {
+        if (tryAcquire()) {
+            return true;
+        }
+        if (maxWaitNanos <= 0) {
+            return false;
+        }
+        long remaining = maxWaitNanos;
+        lock.lockInterruptibly();
+        try {
+            waiters.incrementAndGet();
+            try {
+                while (!tryAcquire()) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+                return true;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit.
+     *
+     * @param elapsedNanos The time in nanoseconds the call took, used to adjust an adaptive limit
+     * @param succeeded    Whether the call succeeded. Failed calls do not adjust the limit
+     */
+    void release(long elapsedNanos, boolean succeeded) {
+        int callsInFlight = inFlight.getAndDecrement();
+        if (adaptive && succeeded && elapsedNanos > 0) {
+            adjustLimit(elapsedNanos, callsInFlight);
+        }
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                released.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void adjustLimit(long rtt, int callsInFlight) {
+        if (samples.incrementAndGet() % MIN_RTT_RESET_SAMPLES == 0) {
+            // periodically forget the minimum so that a permanent change in latency is eventually accepted
+            minRtt.set(rtt);
+        } else {
+            long currentMin;
+            do {
+                currentMin = minRtt.get();
+            } while (rtt < currentMin && !minRtt.compareAndSet(currentMin, rtt));
+        }
+
+        while (true) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            if (callsInFlight < limit / 2) {
+                // the limit was not the constraint for this call so the sample says nothing about the limit
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0d, (double) minRtt.get() / rtt));
+            double newLimit = limit * gradient + Math.sqrt(limit);
+            newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+            newLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+            if (limitBits.compareAndSet(bits, Double.doubleToLongBits(newLimit))) {
+                return;
+            }
+        }
+    }
+}
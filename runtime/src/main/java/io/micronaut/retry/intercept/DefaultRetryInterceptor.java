@@ -53,6 +53,8 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultRetryInterceptor.class);
     private static final int DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS = 20;
+    private static final int DEFAULT_SLIDING_WINDOW_SIZE = 100;
+    private static final int DEFAULT_MINIMUM_NUMBER_OF_CALLS = 10;
 
     private final ApplicationEventPublisher eventPublisher;
     private final Map<Method, CircuitBreakerRetry> circuitContexts = new ConcurrentHashMap<>();
@@ -87,7 +89,14 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                     .map(Duration::toMillis).orElse(Duration.ofSeconds(DEFAULT_CIRCUIT_BREAKER_TIMEOUT_IN_MILLIS).toMillis());
                 retryState = circuitContexts.computeIfAbsent(
                     context.getTargetMethod(),
-                    method -> new CircuitBreakerRetry(timeout, retryStateBuilder, context, eventPublisher)
+                    method -> new CircuitBreakerRetry(
+                        timeout,
+                        retryStateBuilder,
+                        context,
+                        eventPublisher,
+                        buildCircuitBreakerWindow(context),
+                        context.getValue(CircuitBreaker.class, "halfOpenCalls", Integer.class).orElse(1)
+                    )
                 );
             } else {
                 retryState = (MutableRetryState) retryStateBuilder.build();
@@ -109,11 +118,14 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                     Flowable observable = conversionService
                         .convert(result, Flowable.class)
                         .orElseThrow(() -> new IllegalStateException("Unconvertible Reactive type: " + result));
-                    Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, observable))
-                        .map(o -> {
-                            retryState.close(null);
-                            return o;
-                        });
+                    Flowable retryObservable = Flowable.defer(() -> {
+                        long start = System.nanoTime();
+                        return observable.onErrorResumeNext(retryFlowable(context, retryState, observable, start))
+                            .map(o -> {
+                                retryState.close(null, System.nanoTime() - start);
+                                return o;
+                            });
+                    });
 
                     return conversionService
                         .convert(retryObservable, returnType.asArgument())
@@ -121,17 +133,18 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                 }
 
             } else {
+                long start = System.nanoTime();
                 while (true) {
                     try {
                         Object result = context.proceed(this);
-                        retryState.close(null);
+                        retryState.close(null, System.nanoTime() - start);
                         return result;
                     } catch (RuntimeException e) {
                         if (!retryState.canRetry(e)) {
                             if (LOG.isDebugEnabled()) {
                                 LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
                             }
-                            retryState.close(e);
+                            retryState.close(e, System.nanoTime() - start);
                             throw e;
                         } else {
                             long delayMillis = retryState.nextDelay();
@@ -159,12 +172,29 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
         }
     }
 
+    private CircuitBreakerWindow buildCircuitBreakerWindow(MethodInvocationContext<Object, Object> context) {
+        double failureRateThreshold = context.getValue(CircuitBreaker.class, "failureRateThreshold", Double.class).orElse(0d);
+        double slowCallRateThreshold = context.getValue(CircuitBreaker.class, "slowCallRateThreshold", Double.class).orElse(0d);
+        if (failureRateThreshold <= 0 && slowCallRateThreshold <= 0) {
+            return null;
+        }
+        long slowCallDuration = context.getValue(CircuitBreaker.class, "slowCallDuration", Duration.class)
+            .map(Duration::toNanos).orElse(0L);
+        return new CircuitBreakerWindow(
+            context.getValue(CircuitBreaker.class, "slidingWindowSize", Integer.class).orElse(DEFAULT_SLIDING_WINDOW_SIZE),
+            context.getValue(CircuitBreaker.class, "minimumNumberOfCalls", Integer.class).orElse(DEFAULT_MINIMUM_NUMBER_OF_CALLS),
+            failureRateThreshold,
+            slowCallRateThreshold,
+            slowCallDuration
+        );
+    }
+
     @SuppressWarnings("unchecked")
-    private Function retryFlowable(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Flowable observable) {
+    private Function retryFlowable(MethodInvocationContext<Object, Object> context, MutableRetryState retryState, Flowable observable, long start) {
         return throwable -> {
             Throwable exception = (Throwable) throwable;
             if (retryState.canRetry(exception)) {
-                Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, observable));
+                Flowable retryObservable = observable.onErrorResumeNext(retryFlowable(context, retryState, observable, start));
                 long delay = retryState.nextDelay();
                 if (eventPublisher != null) {
                     try {
@@ -184,7 +214,7 @@ public class DefaultRetryInterceptor implements MethodInterceptor<Object, Object
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Cannot retry anymore. Rethrowing original exception for method: {}", context);
                 }
-                retryState.close(exception);
+                retryState.close(exception, System.nanoTime() - start);
                 return Flowable.error(exception);
             }
         };
@@ -18,13 +18,16 @@ package io.micronaut.runtime.context.scope.refresh;
 
 import io.micronaut.aop.MethodInterceptor;
 import io.micronaut.aop.MethodInvocationContext;
+import io.micronaut.context.exceptions.BeanContextException;
 
 import javax.inject.Singleton;
-import java.util.concurrent.locks.Lock;
 
 /**
- * <p>A {@link MethodInterceptor} that will lock the bean preventing it from being destroyed by a
- * {@link RefreshEvent} until the method completes.</p>
+ * <p>A {@link MethodInterceptor} that will track the method calls in flight on the bean preventing it from being
+ * destroyed by a {@link RefreshEvent} until the method completes. Neither the method call nor the refresh waits on a
+ * lock: a refresh makes new calls use a new instance and the previous instance is destroyed after the last call in
+ * flight on it completes. A call that resolved the previous instance just before the refresh and has not started
+ * yet fails with a {@link BeanContextException} rather than running on a disposed bean.</p>
  *
  * @author Graeme Rocher
  * @since 1.0
@@ -44,12 +47,15 @@ public class RefreshInterceptor implements MethodInterceptor {
     @Override
     public Object intercept(MethodInvocationContext context) {
         Object target = context.getTarget();
-        Lock lock = refreshScope.getLock(target).readLock();
+        RefreshScope.RefreshableRegistration registration = refreshScope.getRegistration(target);
+        if (registration == null || !registration.enter()) {
+            // the target was resolved just before a refresh retired it, proceeding would call a disposed bean
+            throw new BeanContextException("Refreshable bean [" + target + "] was refreshed before the call to method [" + context + "] started. Calling the method again uses the refreshed bean.");
+        }
         try {
-            lock.lock();
             return context.proceed();
         } finally {
-            lock.unlock();
+            registration.exit();
         }
     }
 }
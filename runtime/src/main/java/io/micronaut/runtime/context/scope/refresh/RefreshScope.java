@@ -44,7 +44,8 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.locks.Lock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -59,8 +60,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 @Singleton
 public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<RefreshScope>, ApplicationEventListener<RefreshEvent> {
 
-    private final Map<String, BeanRegistration> refreshableBeans = new ConcurrentHashMap<>(10);
-    private final ConcurrentMap<Object, ReadWriteLock> locks = new ConcurrentHashMap<>();
+    private final Map<String, RefreshableRegistration> refreshableBeans = new ConcurrentHashMap<>(10);
+    private final ConcurrentMap<Object, RefreshableRegistration> registrationsByBean = new ConcurrentHashMap<>();
     private final BeanContext beanContext;
     private final Executor executorService;
 
@@ -86,26 +87,25 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(BeanResolutionContext resolutionContext, BeanDefinition<T> beanDefinition, BeanIdentifier identifier, Provider<T> provider) {
-        BeanRegistration beanRegistration = refreshableBeans.computeIfAbsent(identifier.toString(), key -> {
+        RefreshableRegistration refreshableRegistration = refreshableBeans.computeIfAbsent(identifier.toString(), key -> {
             T bean = provider.get();
-            BeanRegistration registration = new BeanRegistration(identifier, beanDefinition, bean);
-            locks.putIfAbsent(registration.getBean(), new ReentrantReadWriteLock());
+            RefreshableRegistration registration = new RefreshableRegistration(new BeanRegistration(identifier, beanDefinition, bean));
+            registrationsByBean.put(bean, registration);
             return registration;
         });
-        return (T) beanRegistration.getBean();
+        return (T) refreshableRegistration.getBean();
     }
 
     @Override
     public RefreshScope stop() {
         disposeOfAllBeans();
-        locks.clear();
         return this;
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> Optional<T> remove(BeanIdentifier identifier) {
-        BeanRegistration registration = refreshableBeans.get(identifier.toString());
+        RefreshableRegistration registration = refreshableBeans.get(identifier.toString());
         if (registration != null) {
             disposeOfBean(identifier.toString());
             return Optional.ofNullable((T) registration.getBean());
@@ -128,16 +128,31 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
 
     }
 
+    /**
+     * Returns the registration that tracks the method calls in flight on a refreshable bean. A refresh retires the
+     * registration so that new calls are made on a new instance, and the retired instance is disposed of once the
+     * calls in flight on it complete. Neither the calls nor the refresh block.
+     *
+     * @param bean The bean
+     * @return The registration of the bean or {@code null} if the bean has already been disposed of
+     */
+    RefreshableRegistration getRegistration(Object bean) {
+        return registrationsByBean.get(bean);
+    }
+
     /**
      * @param object The bean
      * @return The lock on the object
+     * @deprecated Calls on refreshable beans no longer lock the bean, see {@link RefreshInterceptor}. The returned
+     * lock is not used by the scope.
      */
+    @Deprecated
     protected ReadWriteLock getLock(Object object) {
-        ReadWriteLock readWriteLock = locks.get(object);
-        if (readWriteLock == null) {
+        RefreshableRegistration registration = registrationsByBean.get(object);
+        if (registration == null) {
             throw new IllegalStateException("No lock present for object: " + object);
         }
-        return readWriteLock;
+        return registration.lock;
     }
 
     private void refreshSubsetOfConfigurationProperties(Set<String> keySet) {
@@ -164,20 +179,16 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     }
 
     private void disposeOfBeanSubset(Collection<String> keys) {
-        for (String beanKey : refreshableBeans.keySet()) {
-            BeanRegistration beanRegistration = refreshableBeans.get(beanKey);
-            BeanDefinition definition = beanRegistration.getBeanDefinition();
+        for (Map.Entry<String, RefreshableRegistration> entry : refreshableBeans.entrySet()) {
+            String beanKey = entry.getKey();
+            BeanDefinition definition = entry.getValue().getBeanDefinition();
             Optional<String[]> opt = definition.getValue(Refreshable.class, String[].class);
             if (opt.isPresent()) {
                 String[] strings = opt.get();
                 if (!ArrayUtils.isEmpty(strings)) {
                     List<String> prefixes = Arrays.asList(strings);
-                    for (String prefix : prefixes) {
-                        for (String k : keys) {
-                            if (k.startsWith(prefix)) {
-                                disposeOfBean(beanKey);
-                            }
-                        }
+                    if (prefixes.stream().anyMatch(prefix -> keys.stream().anyMatch(k -> k.startsWith(prefix)))) {
+                        disposeOfBean(beanKey);
                     }
                 } else {
                     disposeOfBean(beanKey);
@@ -195,21 +206,88 @@ public class RefreshScope implements CustomScope<Refreshable>, LifeCycle<Refresh
     }
 
     private void disposeOfBean(String key) {
-        BeanRegistration registration = refreshableBeans.remove(key);
+        RefreshableRegistration registration = refreshableBeans.remove(key);
         if (registration != null) {
+            registration.retire();
+        }
+    }
+
+    /**
+     * Tracks the method calls in flight on a refreshable bean so that a retired bean is disposed of by whichever
+     * comes last: the refresh or the last call in flight.
+     */
+    final class RefreshableRegistration {
+
+        private final BeanRegistration registration;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicBoolean disposed = new AtomicBoolean();
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile boolean retired;
+
+        /**
+         * @param registration The bean registration
+         */
+        RefreshableRegistration(BeanRegistration registration) {
+            this.registration = registration;
+        }
 
-            Object bean = registration.getBean();
-            BeanDefinition definition = registration.getBeanDefinition();
+        /**
+         * @return The bean
+         */
+        Object getBean() {
+            return registration.getBean();
+        }
+
+        /**
+         * @return The bean definition
+         */
+        BeanDefinition getBeanDefinition() {
+            return registration.getBeanDefinition();
+        }
+
+        /**
+         * Marks the start of a method call on the bean, unless the bean was retired in which case it may already be
+         * disposed of.
+         *
+         * @return Whether the call may proceed, in which case {@link #exit()} must be called once it completes
+         */
+        boolean enter() {
+            calls.incrementAndGet();
+            if (retired) {
+                exit();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Marks the end of a method call on the bean and disposes of the bean if it was retired in the meantime.
+         */
+        void exit() {
+            if (calls.decrementAndGet() == 0 && retired) {
+                dispose();
+            }
+        }
+
+        /**
+         * Retires the bean and disposes of it unless method calls are still in flight.
+         */
+        void retire() {
+            retired = true;
+            if (calls.get() == 0) {
+                dispose();
+            }
+        }
 
-            Lock lock = getLock(bean).writeLock();
-            try {
-                lock.lock();
+        @SuppressWarnings("unchecked")
+        private void dispose() {
+            if (disposed.compareAndSet(false, true)) {
+                Object bean = registration.getBean();
+                registrationsByBean.remove(bean);
+                BeanDefinition definition = registration.getBeanDefinition();
                 if (definition instanceof DisposableBeanDefinition) {
                     ((DisposableBeanDefinition) definition).dispose(beanContext, bean);
-                    locks.remove(bean);
                 }
-            } finally {
-                lock.unlock();
             }
         }
     }
@@ -16,9 +16,11 @@
 
 package io.micronaut.scheduling;
 
+import io.micronaut.scheduling.cron.CronExpression;
 import io.micronaut.scheduling.exceptions.TaskExecutionException;
 
 import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.concurrent.Callable;
 import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
@@ -56,6 +58,23 @@ class ReschedulingTask<V> implements ScheduledFuture<V>, Runnable, Callable<V> {
         this.currentFuture = taskScheduler.schedule(nextTime.get(), (Callable<V>) this);
     }
 
+    /**
+     * Builds a supplier of the delay until the next time that matches the given cron expression.
+     *
+     * @param cron The cron expression
+     * @return The delay supplier
+     */
+    static Supplier<Duration> cronDelaySupplier(String cron) {
+        CronExpression cronExpression = CronExpression.create(cron);
+        return () -> {
+            ZonedDateTime now = ZonedDateTime.now();
+            ZonedDateTime zonedDateTime = cronExpression.nextTimeAfter(now);
+            return Duration.ofMillis(
+                zonedDateTime.toInstant().toEpochMilli() - ZonedDateTime.now().toInstant().toEpochMilli()
+            );
+        };
+    }
+
     @Override
     public V call() throws Exception {
         try {
@@ -20,11 +20,9 @@ import static io.micronaut.core.util.ArgumentUtils.check;
 
 import io.micronaut.context.annotation.Primary;
 import io.micronaut.core.util.StringUtils;
-import io.micronaut.scheduling.cron.CronExpression;
 
 import javax.inject.Named;
 import java.time.Duration;
-import java.time.ZonedDateTime;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
@@ -60,7 +58,7 @@ public class ScheduledExecutorTaskScheduler implements TaskScheduler {
         }
         check("command", command).notNull();
 
-        Supplier<Duration> delaySupplier = buildCronDelaySupplier(cron);
+        Supplier<Duration> delaySupplier = ReschedulingTask.cronDelaySupplier(cron);
         return new ReschedulingTask<>(() -> {
             command.run();
             return null;
@@ -74,7 +72,7 @@ public class ScheduledExecutorTaskScheduler implements TaskScheduler {
         }
         check("command", command).notNull();
 
-        Supplier<Duration> delaySupplier = buildCronDelaySupplier(cron);
+        Supplier<Duration> delaySupplier = ReschedulingTask.cronDelaySupplier(cron);
         return new ReschedulingTask<>(command, this, delaySupplier);
     }
 
@@ -126,15 +124,4 @@ public class ScheduledExecutorTaskScheduler implements TaskScheduler {
             TimeUnit.MILLISECONDS
         );
     }
-
-    private Supplier<Duration> buildCronDelaySupplier(String cron) {
-        CronExpression cronExpression = CronExpression.create(cron);
-        return () -> {
-            ZonedDateTime now = ZonedDateTime.now();
-            ZonedDateTime zonedDateTime = cronExpression.nextTimeAfter(now);
-            return Duration.ofMillis(
-                zonedDateTime.toInstant().toEpochMilli() - ZonedDateTime.now().toInstant().toEpochMilli()
-            );
-        };
-    }
 }
@@ -33,4 +33,9 @@ public interface TaskExecutors {
      * The name of the {@link java.util.concurrent.ScheduledExecutorService} used to schedule background tasks.
      */
     String SCHEDULED = "scheduled";
+
+    /**
+     * The name of the {@link TaskScheduler} backed by a hierarchical timing wheel.
+     */
+    String TIMING_WHEEL = "timing-wheel";
 }
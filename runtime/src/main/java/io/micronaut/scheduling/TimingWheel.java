@@ -0,0 +1,356 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <p>A hierarchical timing wheel. Level 0 has a bucket per tick, each higher level has a bucket per full rotation of
+ * the level below. A timeout is placed in the lowest level whose range covers its deadline and is cascaded into lower
+ * levels as the wheel turns, so that inserting and cancelling a timeout are constant time operations regardless of the
+ * number of scheduled timeouts.</p>
+ *
+ * <p>The buckets are only touched by a single worker thread. Other threads hand new and cancelled timeouts to the
+ * worker through lock-free queues. Expired timeouts are run on the given {@link Executor}.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+final class TimingWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheel.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    private final long tickNanos;
+    private final int bits;
+    private final long mask;
+    private final int maxLevels;
+    private final List<Bucket[]> levels = new ArrayList<>();
+    private final Queue<Timeout<?>> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout<?>> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+    private final Executor executor;
+    private final Thread worker;
+
+    private volatile long startTime;
+    private long tick;
+
+    /**
+     * @param threadFactory The thread factory used to create the worker thread
+     * @param executor      The executor expired timeouts are run on
+     * @param tickDuration  The duration of a tick in nanoseconds
+     * @param wheelSize     The number of buckets per level, rounded up to a power of two
+     */
+    TimingWheel(ThreadFactory threadFactory, Executor executor, long tickDuration, int wheelSize) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("Tick duration must be greater than zero: " + tickDuration);
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("Wheel size must be at least 2: " + wheelSize);
+        }
+        this.tickNanos = tickDuration;
+        this.bits = Integer.SIZE - Integer.numberOfLeadingZeros(wheelSize - 1);
+        this.mask = (1L << bits) - 1;
+        this.maxLevels = (Long.SIZE - 1 + bits - 1) / bits;
+        this.executor = executor;
+        this.worker = threadFactory.newThread(this::runWorker);
+    }
+
+    /**
+     * Schedules a new timeout.
+     *
+     * @param timeout The timeout
+     * @param <V>     The result type
+     * @return The timeout
+     */
+    <V> Timeout<V> schedule(Timeout<V> timeout) {
+        start();
+        if (state.get() == STATE_SHUTDOWN) {
+            throw new RejectedExecutionException("Timing wheel has been stopped");
+        }
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the worker thread and cancels the timeouts that have not expired.
+     */
+    void stop() {
+        if (state.getAndSet(STATE_SHUTDOWN) == STATE_STARTED) {
+            worker.interrupt();
+        } else {
+            cancelAll(pending);
+        }
+    }
+
+    private void start() {
+        if (state.get() == STATE_INIT && state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            startTime = System.nanoTime();
+            worker.start();
+        }
+    }
+
+    private void runWorker() {
+        while (state.get() == STATE_STARTED) {
+            long deadline = startTime + (tick + 1) * tickNanos;
+            long wait = deadline - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(this, wait);
+                if (Thread.interrupted() && state.get() != STATE_STARTED) {
+                    break;
+                }
+                continue;
+            }
+            tick++;
+            removeCancelled();
+            transferPending();
+            cascade();
+            expire(bucket(0, (int) (tick & mask)));
+        }
+        for (Bucket[] level : levels) {
+            for (Bucket bucket : level) {
+                Timeout<?> timeout;
+                while ((timeout = bucket.poll()) != null) {
+                    timeout.cancel(false);
+                }
+            }
+        }
+        cancelAll(pending);
+    }
+
+    private void removeCancelled() {
+        Timeout<?> timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferPending() {
+        Timeout<?> timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (!timeout.isCancelled()) {
+                long remaining = timeout.deadline - startTime;
+                timeout.deadlineTick = remaining <= 0 ? 0 : (remaining + tickNanos - 1) / tickNanos;
+                place(timeout);
+            }
+        }
+    }
+
+    private void cascade() {
+        int highest = 0;
+        for (int level = 1; level < levels.size(); level++) {
+            if ((tick & ((1L << (bits * level)) - 1)) != 0) {
+                break;
+            }
+            highest = level;
+        }
+        for (int level = highest; level > 0; level--) {
+            Bucket bucket = bucket(level, (int) ((tick >>> (bits * level)) & mask));
+            Timeout<?> timeout;
+            while ((timeout = bucket.poll()) != null) {
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(Timeout<?> timeout) {
+        long delta = timeout.deadlineTick - tick;
+        if (delta <= 0) {
+            dispatch(timeout);
+            return;
+        }
+        int level = 0;
+        while (level < maxLevels - 1 && delta >= (1L << (bits * (level + 1)))) {
+            level++;
+        }
+        bucket(level, (int) ((timeout.deadlineTick >>> (bits * level)) & mask)).add(timeout);
+    }
+
+    private void expire(Bucket bucket) {
+        Timeout<?> timeout;
+        while ((timeout = bucket.poll()) != null) {
+            dispatch(timeout);
+        }
+    }
+
+    private void dispatch(Timeout<?> timeout) {
+        if (timeout.isCancelled()) {
+            return;
+        }
+        try {
+            executor.execute(timeout);
+        } catch (RejectedExecutionException e) {
+            if (LOG.isErrorEnabled()) {
+                LOG.error("Executor rejected scheduled task: " + e.getMessage(), e);
+            }
+            timeout.cancel(false);
+        }
+    }
+
+    private Bucket bucket(int level, int index) {
+        while (levels.size() <= level) {
+            Bucket[] buckets = new Bucket[(int) mask + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new Bucket();
+            }
+            levels.add(buckets);
+        }
+        return levels.get(level)[index];
+    }
+
+    private static void cancelAll(Queue<Timeout<?>> timeouts) {
+        Timeout<?> timeout;
+        while ((timeout = timeouts.poll()) != null) {
+            timeout.cancel(false);
+        }
+    }
+
+    /**
+     * A timeout in the wheel. Timeouts are linked into the list of their bucket directly so that they can be
+     * removed without a search.
+     *
+     * @param <V> The result type
+     */
+    static final class Timeout<V> extends FutureTask<V> implements ScheduledFuture<V> {
+
+        private final TimingWheel wheel;
+        private final long period;
+        private volatile long deadline;
+        private long deadlineTick;
+        private Bucket bucket;
+        private Timeout<?> previous;
+        private Timeout<?> next;
+
+        /**
+         * @param wheel    The wheel
+         * @param callable The task
+         * @param deadline The deadline in nanoseconds, relative to {@link System#nanoTime()}
+         * @param period   The period of a fixed rate task if positive, the delay of a fixed delay task if negative or
+         *                 zero if the task runs once
+         */
+        Timeout(TimingWheel wheel, Callable<V> callable, long deadline, long period) {
+            super(callable);
+            this.wheel = wheel;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            if (period == 0) {
+                super.run();
+            } else if (runAndReset() && !isCancelled()) {
+                deadline = period > 0 ? deadline + period : System.nanoTime() - period;
+                try {
+                    wheel.schedule(this);
+                } catch (RejectedExecutionException e) {
+                    cancel(false);
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean result = super.cancel(mayInterruptIfRunning);
+            if (result) {
+                wheel.cancelled.add(this);
+            }
+            return result;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            if (o == this) {
+                return 0;
+            }
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), o.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts.
+     */
+    private static final class Bucket {
+        private Timeout<?> head;
+        private Timeout<?> tail;
+
+        void add(Timeout<?> timeout) {
+            timeout.bucket = this;
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        void remove(Timeout<?> timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.bucket = null;
+            timeout.previous = null;
+            timeout.next = null;
+        }
+
+        Timeout<?> poll() {
+            Timeout<?> timeout = head;
+            if (timeout != null) {
+                remove(timeout);
+            }
+            return timeout;
+        }
+    }
+}
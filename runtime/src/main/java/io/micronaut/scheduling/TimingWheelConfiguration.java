@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the {@link TimingWheelTaskScheduler}.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@ConfigurationProperties(TimingWheelConfiguration.PREFIX)
+public class TimingWheelConfiguration {
+
+    /**
+     * The prefix used for configuration.
+     */
+    public static final String PREFIX = "micronaut.scheduler.timing-wheel";
+
+    /**
+     * The default tick duration.
+     */
+    public static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+
+    /**
+     * The default number of buckets per level.
+     */
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    protected Duration tickDuration = DEFAULT_TICK_DURATION;
+    protected int wheelSize = DEFAULT_WHEEL_SIZE;
+    protected String executor = TaskExecutors.SCHEDULED;
+
+    /**
+     * @return The duration of a tick, which is the precision with which tasks are run. Defaults to 10 milliseconds.
+     */
+    public Duration getTickDuration() {
+        return tickDuration;
+    }
+
+    /**
+     * @return The number of buckets per level of the wheel. Defaults to 512.
+     */
+    public int getWheelSize() {
+        return wheelSize;
+    }
+
+    /**
+     * @return The name of the executor that tasks are run on. Defaults to {@link TaskExecutors#SCHEDULED}.
+     */
+    public String getExecutor() {
+        return executor;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling;
+
+import static io.micronaut.core.util.ArgumentUtils.check;
+
+import io.micronaut.context.BeanLocator;
+import io.micronaut.context.exceptions.ConfigurationException;
+import io.micronaut.core.util.StringUtils;
+import io.micronaut.inject.qualifiers.Qualifiers;
+
+import javax.annotation.PreDestroy;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * <p>A {@link TaskScheduler} backed by a hierarchical timing wheel. Scheduling and cancelling a task take constant
+ * time however many tasks are scheduled, which suits applications that register large numbers of schedules at
+ * runtime. Tasks run with the precision of the configured tick duration on the configured executor.</p>
+ *
+ * <p>Use {@code @Scheduled(scheduler = TaskExecutors.TIMING_WHEEL)} or inject the scheduler by name to use it.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+@Named(TaskExecutors.TIMING_WHEEL)
+public class TimingWheelTaskScheduler implements TaskScheduler, Closeable {
+
+    private final TimingWheel timingWheel;
+
+    /**
+     * @param configuration The configuration
+     * @param beanLocator   The bean locator used to find the executor tasks are run on
+     * @param threadFactory The thread factory used to create the thread that turns the wheel
+     */
+    public TimingWheelTaskScheduler(TimingWheelConfiguration configuration, BeanLocator beanLocator, ThreadFactory threadFactory) {
+        String executorName = configuration.getExecutor();
+        ExecutorService executor = beanLocator.findBean(ExecutorService.class, Qualifiers.byName(executorName))
+            .orElseThrow(() -> new ConfigurationException("No executor configured for name: " + executorName));
+        this.timingWheel = new TimingWheel(
+            threadFactory,
+            executor,
+            configuration.getTickDuration().toNanos(),
+            configuration.getWheelSize()
+        );
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(String cron, Runnable command) {
+        if (StringUtils.isEmpty(cron)) {
+            throw new IllegalArgumentException("Blank cron expression not allowed");
+        }
+        check("command", command).notNull();
+
+        Supplier<Duration> delaySupplier = ReschedulingTask.cronDelaySupplier(cron);
+        return new ReschedulingTask<>(() -> {
+            command.run();
+            return null;
+        }, this, delaySupplier);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(String cron, Callable<V> command) {
+        if (StringUtils.isEmpty(cron)) {
+            throw new IllegalArgumentException("Blank cron expression not allowed");
+        }
+        check("command", command).notNull();
+
+        Supplier<Duration> delaySupplier = ReschedulingTask.cronDelaySupplier(cron);
+        return new ReschedulingTask<>(command, this, delaySupplier);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Duration delay, Runnable command) {
+        check("delay", delay).notNull();
+        check("command", command).notNull();
+
+        return schedule(Executors.callable(command), delay, 0);
+    }
+
+    @Override
+    public <V> ScheduledFuture<V> schedule(Duration delay, Callable<V> callable) {
+        check("delay", delay).notNull();
+        check("callable", callable).notNull();
+
+        return schedule(callable, delay, 0);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Duration initialDelay, Duration period, Runnable command) {
+        check("period", period).notNull();
+        check("command", command).notNull();
+        if (period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("Period must be a positive duration: " + period);
+        }
+
+        return schedule(Executors.callable(command), initialDelay, period.toNanos());
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Duration initialDelay, Duration delay, Runnable command) {
+        check("delay", delay).notNull();
+        check("command", command).notNull();
+        if (delay.isZero() || delay.isNegative()) {
+            throw new IllegalArgumentException("Delay must be a positive duration: " + delay);
+        }
+
+        return schedule(Executors.callable(command), initialDelay, -delay.toNanos());
+    }
+
+    /**
+     * Stops the timing wheel. Tasks that have not run yet are cancelled.
+     */
+    @Override
+    @PreDestroy
+    public void close() {
+        timingWheel.stop();
+    }
+
+    private <V> ScheduledFuture<V> schedule(Callable<V> callable, Duration delay, long period) {
+        long delayNanos = delay != null ? Math.max(0L, delay.toNanos()) : 0L;
+        return timingWheel.schedule(new TimingWheel.Timeout<>(
+            timingWheel,
+            callable,
+            System.nanoTime() + delayNanos,
+            period
+        ));
+    }
+}
@@ -73,4 +73,31 @@ public @interface Scheduled {
      * {@link java.util.concurrent.ScheduledExecutorService} to use to schedule the task
      */
     String scheduler() default TaskExecutors.SCHEDULED;
+
+    /**
+     * The name of a lock to acquire from the {@link io.micronaut.scheduling.lock.LockProvider} before each execution.
+     * When the lock is held elsewhere the execution is skipped, so with a shared lock provider the task runs on a
+     * single instance of the application at a time.
+     *
+     * @return The name of the lock or an empty string if the task is not guarded by a lock
+     */
+    String lock() default "";
+
+    /**
+     * A String representation of the {@link java.time.Duration} for which the lock is leased if the instance
+     * executing the task dies before releasing it. Should be longer than the longest expected execution.
+     * Defaults to 5 minutes.
+     *
+     * @return The maximum time the lock is held
+     */
+    String lockAtMostFor() default "";
+
+    /**
+     * A String representation of the {@link java.time.Duration} for which the lock remains held after the execution
+     * started, even if the execution completes sooner. Prevents other instances running the same task again when
+     * their clocks differ slightly.
+     *
+     * @return The minimum time the lock is held
+     */
+    String lockAtLeastFor() default "";
 }
@@ -22,8 +22,13 @@ package io.micronaut.scheduling.cron;
 import java.time.DayOfWeek;
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.YearMonth;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -165,6 +170,7 @@ public class CronExpression {
     private static final int CRON_EXPRESSION_LENGTH_WITH_SEC = 6;
     private static final int CRON_EXPRESSION_LENGTH_WITHOUT_SEC = 5;
     private static final int FOUR = 4;
+    private static final long ALL_HOURS = (1L << (CronFieldType.HOUR.to + 1)) - 1;
 
     private final String expr;
     private final SimpleField secondField;
@@ -245,60 +251,184 @@ public class CronExpression {
     /**
      * This will search for the next time within the given dateTimeBarrier.
      *
+     * <p>The next time is computed on the local date-time of the zone of the given time, jumping directly to the next
+     * matching value of each field. Local times that fall in a daylight saving gap are shifted forward by the length
+     * of the gap, so that a daily schedule still fires on the day of the transition. Local times that are repeated
+     * when clocks are set back match again only if the expression matches every hour, so that a daily schedule fires
+     * once while a schedule that fires every few minutes keeps firing.</p>
+     *
      * @param afterTime       A date-time with a time-zone in the ISO-8601 calendar system
      * @param dateTimeBarrier The upper limit or maximum date-time to check for next time
      * @return The next time within given barrier
      */
     public ZonedDateTime nextTimeAfter(ZonedDateTime afterTime, ZonedDateTime dateTimeBarrier) {
-        ZonedDateTime nextTime = ZonedDateTime.from(afterTime).withNano(0).plusSeconds(1).withNano(0);
-
-        while (true) { // day of week
-            while (true) { // month
-                while (true) { // day of month
-                    while (true) { // hour
-                        while (true) { // minute
-                            while (true) { // second
-                                if (secondField.matches(nextTime.getSecond())) {
-                                    break;
-                                }
-                                nextTime = nextTime.plusSeconds(1).withNano(0);
-                            }
-                            if (minuteField.matches(nextTime.getMinute())) {
-                                break;
-                            }
-                            nextTime = nextTime.plusMinutes(1).withSecond(0).withNano(0);
-                        }
-                        if (hourField.matches(nextTime.getHour())) {
-                            break;
-                        }
-                        nextTime = nextTime.plusHours(1).withMinute(0).withSecond(0).withNano(0);
-                    }
-                    if (dayOfMonthField.matches(nextTime.toLocalDate())) {
-                        break;
-                    }
-                    nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-                    checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
-                }
-                if (monthField.matches(nextTime.getMonth().getValue())) {
-                    break;
-                }
-                nextTime = nextTime.plusMonths(1).withDayOfMonth(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-                checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
+        ZoneId zone = afterTime.getZone();
+        ZonedDateTime start = afterTime.withNano(0).plusSeconds(1);
+        LocalDate limit = dateTimeBarrier.withZoneSameInstant(zone).toLocalDate();
+
+        LocalDateTime next = nextLocalTime(start.toLocalDateTime(), limit);
+        if (next == null) {
+            throw barrierReached(dateTimeBarrier);
+        }
+        ZonedDateTime nextTime = ZonedDateTime.ofLocal(next, zone, null);
+        if (!nextTime.isAfter(afterTime)) {
+            // the start is in the second occurrence of local times repeated when clocks were set back
+            nextTime = nextTime.withLaterOffsetAtOverlap();
+        }
+
+        ZoneOffsetTransition transition = zone.getRules().nextTransition(start.toInstant());
+        if (transition != null && transition.isOverlap() && hourField.bits == ALL_HOURS
+                && transition.getInstant().isBefore(nextTime.toInstant())) {
+            // clocks are set back before the next time, match the repeated local times again
+            LocalDateTime repeated = nextLocalTime(transition.getDateTimeAfter(), transition.getDateTimeBefore().toLocalDate());
+            if (repeated != null && repeated.isBefore(transition.getDateTimeBefore())) {
+                nextTime = ZonedDateTime.ofStrict(repeated, transition.getOffsetAfter(), zone);
             }
-            if (dayOfWeekField.matches(nextTime.toLocalDate())) {
-                break;
+        }
+        return nextTime;
+    }
+
+    /**
+     * Finds the first local date-time at or after the given date-time that matches every field of the expression.
+     * Each field is resolved with a jump to its next matching value, carrying into the next larger field when there
+     * is none, so the search is bounded by the number of months until the limit rather than the number of seconds.
+     *
+     * @param from  The local date-time to search from
+     * @param limit The last date to search
+     * @return The matching local date-time or null if there is none on or before the limit
+     */
+    private LocalDateTime nextLocalTime(LocalDateTime from, LocalDate limit) {
+        int year = from.getYear();
+        int month = from.getMonthValue();
+        int day = from.getDayOfMonth();
+        int hour = from.getHour();
+        int minute = from.getMinute();
+        int second = from.getSecond();
+        int limitYear = limit.getYear();
+        int limitMonth = limit.getMonthValue();
+
+        int daysYear = 0;
+        int daysMonth = 0;
+        int days = 0;
+        while (true) {
+            int nextMonth = monthField.nextMatch(month);
+            if (nextMonth == -1) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            } else if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+            if (year > limitYear || (year == limitYear && month > limitMonth)) {
+                return null;
+            }
+
+            if (year != daysYear || month != daysMonth) {
+                days = matchingDaysOfMonth(year, month);
+                daysYear = year;
+                daysMonth = month;
             }
-            nextTime = nextTime.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
-            checkIfDateTimeBarrierIsReached(nextTime, dateTimeBarrier);
+            int nextDay = nextSetBit(days, day);
+            if (nextDay == -1) {
+                month++;
+                day = 1;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            } else if (nextDay != day) {
+                day = nextDay;
+                hour = 0;
+                minute = 0;
+                second = 0;
+            }
+            if (year == limitYear && month == limitMonth && day > limit.getDayOfMonth()) {
+                return null;
+            }
+
+            int nextHour = hourField.nextMatch(hour);
+            if (nextHour == -1) {
+                day++;
+                hour = 0;
+                minute = 0;
+                second = 0;
+                continue;
+            } else if (nextHour != hour) {
+                hour = nextHour;
+                minute = 0;
+                second = 0;
+            }
+
+            int nextMinute = minuteField.nextMatch(minute);
+            if (nextMinute == -1) {
+                hour++;
+                minute = 0;
+                second = 0;
+                continue;
+            } else if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+
+            int nextSecond = secondField.nextMatch(second);
+            if (nextSecond == -1) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            return LocalDateTime.of(year, month, day, hour, minute, nextSecond);
         }
+    }
 
-        return nextTime;
+    /**
+     * Computes the days of the given month that match both the day of month and the day of week fields.
+     *
+     * @param year  The year
+     * @param month The month
+     * @return A bitset where bit {@code n} is set if day {@code n} of the month matches
+     */
+    private int matchingDaysOfMonth(int year, int month) {
+        int length = Month.of(month).length(Year.isLeap(year));
+        int mask = 0;
+        if (dayOfMonthField.simple && dayOfWeekField.simple) {
+            int firstDayOfWeek = LocalDate.of(year, month, 1).getDayOfWeek().getValue();
+            for (int day = 1; day <= length; day++) {
+                int dayOfWeek = (firstDayOfWeek + day - 2) % DayOfWeekField.DAYS_IN_WEEK + 1;
+                if (dayOfMonthField.matches(day) && dayOfWeekField.matches(dayOfWeek)) {
+                    mask |= 1 << day;
+                }
+            }
+        } else {
+            // L, W and # depend on the calendar of the month
+            LocalDate date = LocalDate.of(year, month, 1);
+            for (int day = 1; day <= length; day++) {
+                if (dayOfMonthField.matches(date) && dayOfWeekField.matches(date)) {
+                    mask |= 1 << day;
+                }
+                date = date.plusDays(1);
+            }
+        }
+        return mask;
     }
 
-    private static void checkIfDateTimeBarrierIsReached(ZonedDateTime nextTime, ZonedDateTime dateTimeBarrier) {
-        if (nextTime.isAfter(dateTimeBarrier)) {
-            throw new IllegalArgumentException("No next execution time could be determined that is before the limit of " + dateTimeBarrier);
+    private static int nextSetBit(int bits, int from) {
+        if (from > Integer.SIZE - 1) {
+            return -1;
         }
+        int masked = bits & (-1 << from);
+        return masked == 0 ? -1 : Integer.numberOfTrailingZeros(masked);
+    }
+
+    private static IllegalArgumentException barrierReached(ZonedDateTime dateTimeBarrier) {
+        return new IllegalArgumentException("No next execution time could be determined that is before the limit of " + dateTimeBarrier);
     }
 
     @Override
@@ -343,9 +473,62 @@ public class CronExpression {
          */
         final List<FieldPart> parts = new ArrayList<>();
 
+        /**
+         * The values matched by the simple parts of the field, bit {@code n} is set if value {@code n} matches.
+         */
+        final long bits;
+
+        /**
+         * Whether every part of the field is simple, in which case {@link #bits} describes the field completely.
+         */
+        final boolean simple;
+
         private BasicField(CronFieldType fieldType, String fieldExpr) {
             this.fieldType = fieldType;
             parse(fieldExpr);
+            long bits = 0;
+            boolean simple = true;
+            for (FieldPart part : parts) {
+                if (isSimple(part)) {
+                    for (int val = fieldType.from; val <= fieldType.to; val++) {
+                        if (matches(val, part)) {
+                            bits |= 1L << val;
+                        }
+                    }
+                } else {
+                    simple = false;
+                }
+            }
+            this.bits = bits;
+            this.simple = simple;
+        }
+
+        /**
+         * Check if the given value matches the simple parts of the field.
+         *
+         * @param val The cron-field value
+         * @return Whether the value matches
+         */
+        public boolean matches(int val) {
+            return val >= fieldType.from && val <= fieldType.to && (bits & (1L << val)) != 0;
+        }
+
+        /**
+         * Finds the first value at or after the given value that matches the simple parts of the field.
+         *
+         * @param val The value to search from
+         * @return The matching value or -1 if there is none
+         */
+        int nextMatch(int val) {
+            if (val >= Long.SIZE) {
+                return -1;
+            }
+            long masked = bits & (-1L << Math.max(val, fieldType.from));
+            return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+        }
+
+        private static boolean isSimple(FieldPart part) {
+            return (part.modifier == null || "?".equals(part.modifier)) && !"#".equals(part.incrementModifier);
         }
 
         /**
@@ -477,23 +660,6 @@ public class CronExpression {
         SimpleField(CronFieldType fieldType, String fieldExpr) {
             super(fieldType, fieldExpr);
         }
-
-        /**
-         * Check if the given value matches the SimpleField.
-         *
-         * @param val The cron-field value
-         * @return Whether the value matches
-         */
-        public boolean matches(int val) {
-            if (val >= fieldType.from && val <= fieldType.to) {
-                for (FieldPart part : parts) {
-                    if (matches(val, part)) {
-                        return true;
-                    }
-                }
-            }
-            return false;
-        }
     }
 
     /**
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.lock;
+
+import javax.inject.Singleton;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The default {@link LockProvider}, which holds locks in memory. Locks are therefore only exclusive within a
+ * single instance of an application, and a warning is logged at startup for each scheduled method that uses a lock
+ * while this provider is the only one configured.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+public class InMemoryLockProvider implements LockProvider {
+
+    private final Map<String, InMemoryLease> locks = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Lease> tryAcquire(String name, Instant lockUntil) {
+        InMemoryLease lease = new InMemoryLease(name, lockUntil);
+        InMemoryLease current = locks.compute(name, (key, existing) ->
+            existing == null || !existing.lockUntil.isAfter(Instant.now()) ? lease : existing
+        );
+        return current == lease ? Optional.of(lease) : Optional.empty();
+    }
+
+    /**
+     * A lease held in memory.
+     */
+    private final class InMemoryLease implements Lease {
+        private final String name;
+        private final Instant lockUntil;
+
+        InMemoryLease(String name, Instant lockUntil) {
+            this.name = name;
+            this.lockUntil = lockUntil;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void release(Instant holdUntil) {
+            if (holdUntil.isAfter(Instant.now())) {
+                locks.replace(name, this, new InMemoryLease(name, holdUntil));
+            } else {
+                locks.remove(name, this);
+            }
+        }
+    }
+}
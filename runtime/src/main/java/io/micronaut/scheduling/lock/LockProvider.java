@@ -0,0 +1,61 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.lock;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * <p>Provides lease based locks. A lock is held until its lease expires or the holder releases it, so a lock held by
+ * an instance that crashes is eventually available again.</p>
+ *
+ * <p>The default implementation {@link InMemoryLockProvider} only coordinates tasks within a single process.
+ * Implementations backed by a shared store coordinate tasks across all instances of an application.</p>
+ *
+ * @author agent
+ * @since 1.0
+ */
+public interface LockProvider {
+
+    /**
+     * Attempts to acquire the lock with the given name.
+     *
+     * @param name      The name of the lock
+     * @param lockUntil The time at which the lease expires if it is not released
+     * @return The lease if the lock was acquired, otherwise empty
+     */
+    Optional<Lease> tryAcquire(String name, Instant lockUntil);
+
+    /**
+     * A lease on a lock.
+     */
+    interface Lease {
+
+        /**
+         * @return The name of the lock
+         */
+        String getName();
+
+        /**
+         * Releases the lock. If the given time is in the future the lock remains held until then, which prevents
+         * instances whose clocks or schedules differ slightly from running the same task again straight away.
+         *
+         * @param holdUntil The time until which the lock should remain held
+         */
+        void release(Instant holdUntil);
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.lock;
+
+import javax.inject.Singleton;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the executions of scheduled tasks that are guarded by a lock, and the executions that were skipped because
+ * the lock was held elsewhere or could not be acquired.
+ *
+ * @author agent
+ * @since 1.0
+ */
+@Singleton
+public class ScheduledLockMetrics {
+
+    private final Map<String, LongAdder> executions = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> skipped = new ConcurrentHashMap<>();
+
+    /**
+     * Records an execution of the task guarded by the given lock.
+     *
+     * @param lockName The name of the lock
+     */
+    public void recordExecution(String lockName) {
+        executions.computeIfAbsent(lockName, name -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a skipped execution of the task guarded by the given lock.
+     *
+     * @param lockName The name of the lock
+     */
+    public void recordSkipped(String lockName) {
+        skipped.computeIfAbsent(lockName, name -> new LongAdder()).increment();
+    }
+
+    /**
+     * @param lockName The name of the lock
+     * @return The number of times the task guarded by the lock was executed by this instance
+     */
+    public long getExecutions(String lockName) {
+        LongAdder count = executions.get(lockName);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * @param lockName The name of the lock
+     * @return The number of times the task guarded by the lock was skipped by this instance
+     */
+    public long getSkipped(String lockName) {
+        LongAdder count = skipped.get(lockName);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * @return The names of the locks that have been used
+     */
+    public Set<String> getLockNames() {
+        Set<String> names = new TreeSet<>(executions.keySet());
+        names.addAll(skipped.keySet());
+        return Collections.unmodifiableSet(names);
+    }
+}
@@ -26,6 +26,9 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import io.micronaut.scheduling.TaskScheduler;
 import io.micronaut.scheduling.annotation.Scheduled;
 import io.micronaut.scheduling.exceptions.SchedulerConfigurationException;
+import io.micronaut.scheduling.lock.InMemoryLockProvider;
+import io.micronaut.scheduling.lock.LockProvider;
+import io.micronaut.scheduling.lock.ScheduledLockMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +37,7 @@ import javax.inject.Singleton;
 import java.io.Closeable;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
@@ -49,6 +53,7 @@ import java.util.concurrent.ScheduledFuture;
 public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Scheduled>, Closeable {
 
     private static final Logger LOG = LoggerFactory.getLogger(TaskScheduler.class);
+    private static final Duration DEFAULT_LOCK_AT_MOST_FOR = Duration.ofMinutes(5);
 
     private final BeanContext beanContext;
     private final ConversionService<?> conversionService;
@@ -83,7 +88,7 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
                 .findBean(TaskScheduler.class, Qualifiers.byName(scheduledAnnotation.scheduler()))
                 .orElseThrow(() -> new SchedulerConfigurationException(method, "No scheduler of type TaskScheduler configured for name: " + scheduledAnnotation.scheduler()));
 
-            Runnable task = () -> {
+            Runnable invocation = () -> {
                 io.micronaut.context.Qualifier<Object> qualifer = beanDefinition
                     .getAnnotationTypeByStereotype(Qualifier.class)
                     .map(type -> Qualifiers.byAnnotation(beanDefinition, type))
@@ -96,6 +101,9 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
                 }
             };
 
+            String lockName = scheduledAnnotation.lock();
+            Runnable task = StringUtils.isNotEmpty(lockName) ? lockedTask(method, scheduledAnnotation, lockName, invocation) : invocation;
+
             String cronExpr = scheduledAnnotation.cron();
             if (StringUtils.isNotEmpty(cronExpr)) {
                 if (LOG.isDebugEnabled()) {
@@ -134,6 +142,74 @@ public class ScheduledMethodProcessor implements ExecutableMethodProcessor<Sched
         }
     }
 
+    /**
+     * Wraps the given task so that it only executes while holding the lock with the given name.
+     *
+     * @param method              The scheduled method
+     * @param scheduledAnnotation The annotation
+     * @param lockName            The lock name
+     * @param task                The task
+     * @return The guarded task
+     */
+    private Runnable lockedTask(ExecutableMethod<?, ?> method, Scheduled scheduledAnnotation, String lockName, Runnable task) {
+        Duration lockAtMostFor = durationOrDefault(method, "lock at most for", scheduledAnnotation.lockAtMostFor(), DEFAULT_LOCK_AT_MOST_FOR);
+        Duration lockAtLeastFor = durationOrDefault(method, "lock at least for", scheduledAnnotation.lockAtLeastFor(), Duration.ZERO);
+        if (lockAtLeastFor.compareTo(lockAtMostFor) > 0) {
+            throw new SchedulerConfigurationException(method, "Lock at least for [" + lockAtLeastFor + "] cannot exceed lock at most for [" + lockAtMostFor + "]");
+        }
+        LockProvider lockProvider = beanContext.getBean(LockProvider.class);
+        ScheduledLockMetrics metrics = beanContext.getBean(ScheduledLockMetrics.class);
+        if (lockProvider instanceof InMemoryLockProvider && LOG.isWarnEnabled()) {
+            LOG.warn("Scheduled method {} uses lock [{}] but no shared LockProvider is configured. The in-memory provider only prevents concurrent executions within this instance of the application, not across instances.", method, lockName);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Guarding scheduled method {} with lock [{}] using provider: {}", method, lockName, lockProvider);
+        }
+
+        return () -> {
+            Instant start = Instant.now();
+            Optional<LockProvider.Lease> lease;
+            try {
+                lease = lockProvider.tryAcquire(lockName, start.plus(lockAtMostFor));
+            } catch (Exception e) {
+                // an exception escaping the task would cancel all further executions of a fixed rate or delay task
+                metrics.recordSkipped(lockName);
+                if (LOG.isErrorEnabled()) {
+                    LOG.error("Skipping execution of scheduled method " + method + " since lock [" + lockName + "] could not be acquired: " + e.getMessage(), e);
+                }
+                return;
+            }
+            if (!lease.isPresent()) {
+                metrics.recordSkipped(lockName);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Skipping execution of scheduled method {} since lock [{}] is held elsewhere", method, lockName);
+                }
+                return;
+            }
+            try {
+                metrics.recordExecution(lockName);
+                task.run();
+            } finally {
+                try {
+                    lease.get().release(start.plus(lockAtLeastFor));
+                } catch (Exception e) {
+                    if (LOG.isErrorEnabled()) {
+                        LOG.error("Error releasing lock [" + lockName + "] for scheduled method " + method + ": " + e.getMessage(), e);
+                    }
+                }
+            }
+        };
+    }
+
+    private Duration durationOrDefault(ExecutableMethod<?, ?> method, String description, String value, Duration defaultValue) {
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+        return conversionService.convert(value, Duration.class).orElseThrow(() ->
+            new SchedulerConfigurationException(method, "Invalid " + description + " definition: " + value)
+        );
+    }
+
     @Override
     public void close() throws IOException {
         for (ScheduledFuture<?> scheduledTask : scheduledTasks) {
@@ -195,6 +195,155 @@ class SyncCacheSpec extends Specification {
         applicationContext.stop()
     }
 
+    void "test bulk cache operations"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.caches.test.maximumSize':10
+        )
+
+        when:
+        SyncCache syncCache = applicationContext.getBean(SyncCache, Qualifiers.byName('test'))
+        syncCache.putAll(one: 1, two: 2, three: 3)
+
+        then:
+        syncCache.getAll(['one', 'two', 'four'], Integer) == [one: 1, two: 2]
+        syncCache.async().getAll(['three', 'four'], Integer).get() == [three: 3]
+
+        when:
+        syncCache.invalidateAll(['one', 'three'])
+
+        then:
+        syncCache.getAll(['one', 'two', 'three'], Integer) == [two: 2]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    void "test batch cacheable annotation"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.caches.lookup.maximumSize':10
+        )
+
+        when:
+        LookupService lookupService = applicationContext.getBean(LookupService)
+
+        then:
+        lookupService.lookup(['a', 'b']) == [a: 'A', b: 'B']
+        lookupService.requested == [['a', 'b']]
+
+        when:
+        def result = lookupService.lookup(['b', 'c', 'a'])
+
+        then:
+        result == [b: 'B', c: 'C', a: 'A']
+        result.keySet().toList() == ['b', 'c', 'a']
+        lookupService.requested == [['a', 'b'], ['c']]
+
+        when:
+        lookupService.lookup(['c', 'a'])
+
+        then:
+        lookupService.requested == [['a', 'b'], ['c']]
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    void "test batch cacheable keeps the declared type of the keys"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.caches.lookup.maximumSize':10
+        )
+        LookupService lookupService = applicationContext.getBean(LookupService)
+        lookupService.lookup(['b'])
+
+        when:
+        SortedSet<String> keys = new TreeSet<>(Comparator.reverseOrder())
+        keys.addAll(['a', 'b', 'c'])
+        Map<String, String> sorted = lookupService.lookupSorted(keys)
+
+        then:
+        sorted == [c: 'C', b: 'B', a: 'A']
+        lookupService.requested.last() == ['c', 'a']
+        lookupService.types.last() == TreeSet
+
+        when:
+        Map<String, String> fromArray = lookupService.lookupArray(['b', 'd'] as String[])
+
+        then:
+        fromArray == [b: 'B', d: 'D']
+        lookupService.requested.last() == ['d']
+        lookupService.types.last().isArray()
+
+        when:
+        lookupService.lookupDeque(new ArrayDeque<>(['a', 'e']))
+
+        then:
+        lookupService.requested.last() == ['e']
+        lookupService.types.last() == ArrayDeque
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    void "test batch cacheable is rejected for asynchronous methods"() {
+        given:
+        ApplicationContext applicationContext = ApplicationContext.run(
+                'micronaut.caches.lookup.maximumSize':10
+        )
+        LookupService lookupService = applicationContext.getBean(LookupService)
+
+        when:
+        lookupService.lookupAsync(['a'])
+
+        then:
+        IllegalStateException e = thrown()
+        e.message.startsWith('Batch @Cacheable methods must return a java.util.Map')
+
+        cleanup:
+        applicationContext.stop()
+    }
+
+    @Singleton
+    @CacheConfig('lookup')
+    static class LookupService {
+        List<List<String>> requested = []
+        List<Class> types = []
+
+        @Cacheable(batch = 'ids')
+        Map<String, String> lookup(List<String> ids) {
+            requested.add(new ArrayList<>(ids))
+            return ids.collectEntries { [(it): it.toUpperCase()] }
+        }
+
+        @Cacheable(batch = 'ids')
+        Map<String, String> lookupSorted(SortedSet<String> ids) {
+            record(ids, ids)
+        }
+
+        @Cacheable(batch = 'ids')
+        Map<String, String> lookupArray(String[] ids) {
+            record(ids, ids.toList())
+        }
+
+        @Cacheable(batch = 'ids')
+        Map<String, String> lookupDeque(ArrayDeque<String> ids) {
+            record(ids, ids)
+        }
+
+        @Cacheable(batch = 'ids')
+        CompletableFuture<Map<String, String>> lookupAsync(List<String> ids) {
+            CompletableFuture.completedFuture(ids.collectEntries { [(it): it.toUpperCase()] })
+        }
+
+        private Map<String, String> record(Object ids, Collection<String> keys) {
+            types.add(ids.getClass())
+            requested.add(new ArrayList<>(keys))
+            return keys.collectEntries { [(it): it.toUpperCase()] }
+        }
+    }
+
     @Singleton
     @CacheConfig('counter')
     static class CounterService {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.jackson.serialize
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import groovy.transform.EqualsAndHashCode
+import io.micronaut.context.ApplicationContext
+import io.micronaut.core.serialize.CompressingObjectSerializer
+import io.micronaut.core.serialize.ObjectSerializer
+import io.micronaut.core.serialize.exceptions.SerializationException
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.Unroll
+
+class JacksonBinaryObjectSerializerSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run()
+
+    @Unroll
+    void "test serialize and deserialize with #type.simpleName"() {
+        given:
+        ObjectSerializer serializer = context.getBean(type)
+        Book book = new Book(title: "The Stand", pages: 1153, tags: ["horror", "fiction"])
+
+        when:
+        byte[] bytes = serializer.serialize(book).get()
+        Book result = serializer.deserialize(bytes, Book).get()
+
+        then:
+        // smaller than the same class name and value written as JSON
+        bytes.length < context.getBean(ObjectMapper).writeValueAsBytes([Book.name, book]).length
+        result.title == book.title
+        result.pages == book.pages
+        result.tags == book.tags
+
+        when:
+        ObjectSerializer compressing = new CompressingObjectSerializer(serializer, 0)
+        result = compressing.deserialize(compressing.serialize(book).get(), Book).get()
+
+        then:
+        result.title == book.title
+
+        where:
+        type << [JacksonSmileObjectSerializer, JacksonCborObjectSerializer]
+    }
+
+    @Unroll
+    void "test values read as Object keep their type with #type.simpleName"() {
+        given:
+        ObjectSerializer serializer = context.getBean(type)
+
+        expect:
+        serializer.deserialize(serializer.serialize(value).get(), Object).get() == value
+        serializer.deserialize(serializer.serialize(value).get(), Object).get().getClass() == value.getClass()
+
+        where:
+        [type, value] << [[JacksonSmileObjectSerializer, JacksonCborObjectSerializer], [10, 10L, "text", new Point(x: 1, y: 2)]].combinations()
+    }
+
+    void "test a value of another type than the required type is rejected"() {
+        given:
+        ObjectSerializer serializer = context.getBean(JacksonSmileObjectSerializer)
+        byte[] bytes = serializer.serialize(new Point(x: 1, y: 2)).get()
+
+        when:
+        serializer.deserialize(bytes, String)
+
+        then:
+        thrown(SerializationException)
+    }
+
+    @EqualsAndHashCode
+    static class Point {
+        int x
+        int y
+    }
+
+    static class Book {
+        String title
+        int pages
+        List<String> tags
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.ratelimit
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.ratelimit.annotation.RateLimited
+import io.reactivex.Flowable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+
+class RateLimitedSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run()
+
+    void "test token bucket allows bursts up to the capacity"() {
+        given:
+        TokenBucket bucket = new TokenBucket(new RateLimit(10, Duration.ofHours(1), 3))
+
+        expect:
+        bucket.availablePermits == 3
+        bucket.tryConsume()
+        bucket.tryConsume(2)
+        !bucket.tryConsume()
+        bucket.availablePermits == 0
+        bucket.nanosToNextPermit > 0
+        !bucket.full
+    }
+
+    void "test token bucket replenishes permits"() {
+        given:
+        TokenBucket bucket = new TokenBucket(new RateLimit(1, Duration.ofMillis(50)))
+
+        expect:
+        bucket.tryConsume()
+        !bucket.tryConsume()
+
+        when:
+        Thread.sleep(100)
+
+        then:
+        bucket.full
+        bucket.tryConsume()
+    }
+
+    void "test token bucket never grants more permits than the capacity under contention"() {
+        given:
+        TokenBucket bucket = new TokenBucket(new RateLimit(100, Duration.ofHours(1)))
+        List<Integer> granted = Collections.synchronizedList([])
+
+        when:
+        List<Thread> threads = (1..8).collect {
+            Thread.start {
+                int count = 0
+                50.times { if (bucket.tryConsume()) count++ }
+                granted << count
+            }
+        }
+        threads*.join()
+
+        then:
+        granted.sum() == 100
+    }
+
+    void "test local rate limiter keeps a bucket per key"() {
+        given:
+        LocalRateLimiter limiter = new LocalRateLimiter()
+        RateLimit rateLimit = new RateLimit(1, Duration.ofHours(1))
+
+        expect:
+        limiter.tryAcquire("a", rateLimit).get()
+        !limiter.tryAcquire("a", rateLimit).get()
+        limiter.tryAcquire("b", rateLimit).get()
+    }
+
+    void "test local rate limiter bounds the number of buckets"() {
+        given:
+        LocalRateLimiter limiter = new LocalRateLimiter(100)
+        RateLimit rateLimit = new RateLimit(1, Duration.ofHours(1))
+
+        when:"buckets for many clients are drained"
+        for (int i = 0; i < 1000; i++) {
+            limiter.tryAcquireNow("client-" + i, rateLimit, 1)
+        }
+
+        then:
+        limiter.getBucketCount() <= 100
+    }
+
+    void "test local rate limiter expires buckets once they refill"() {
+        given:
+        LocalRateLimiter limiter = new LocalRateLimiter()
+        RateLimit rateLimit = new RateLimit(1, Duration.ofMillis(50))
+
+        when:
+        limiter.tryAcquireNow("a", rateLimit, 1)
+
+        then:
+        limiter.hasBucket("a")
+
+        when:
+        Thread.sleep(200)
+
+        then:
+        !limiter.hasBucket("a")
+    }
+
+    void "test rate limited methods"() {
+        given:
+        LimitedService service = context.getBean(LimitedService)
+
+        expect:
+        service.blocking() == "ok"
+        service.blocking() == "ok"
+
+        when:
+        service.blocking()
+
+        then:
+        thrown(RateLimitExceededException)
+
+        when:
+        service.future().get()
+        service.future().get()
+
+        then:
+        def e = thrown(ExecutionException)
+        e.cause instanceof RateLimitExceededException
+
+        when:
+        service.reactive().blockingFirst()
+        service.reactive().blockingFirst()
+
+        then:
+        thrown(RateLimitExceededException)
+    }
+
+    void "test methods with the same bucket name share a bucket"() {
+        given:
+        LimitedService service = context.getBean(LimitedService)
+
+        when:
+        service.sharedOne()
+        service.sharedTwo()
+
+        then:
+        thrown(RateLimitExceededException)
+    }
+
+    @Singleton
+    static class LimitedService {
+
+        @RateLimited(limit = "2", period = "1h")
+        String blocking() {
+            "ok"
+        }
+
+        @RateLimited(limit = "1", period = "1h")
+        CompletableFuture<String> future() {
+            CompletableFuture.completedFuture("ok")
+        }
+
+        @RateLimited(limit = "1", period = "1h")
+        Flowable<String> reactive() {
+            Flowable.just("ok")
+        }
+
+        @RateLimited(limit = "1", period = "1h", name = "shared")
+        String sharedOne() {
+            "ok"
+        }
+
+        @RateLimited(limit = "1", period = "1h", name = "shared")
+        String sharedTwo() {
+            "ok"
+        }
+    }
+}
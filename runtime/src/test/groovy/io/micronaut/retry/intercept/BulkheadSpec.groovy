@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.retry.intercept
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.retry.annotation.Bulkhead
+import io.micronaut.retry.exception.BulkheadRejectedException
+import io.reactivex.Flowable
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class BulkheadSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run()
+
+    void "test blocking bulkhead rejects calls above the limit"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+        CountDownLatch latch = new CountDownLatch(1)
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        when:
+        List<Thread> threads = (1..2).collect { Thread.start { service.blocking(latch) } }
+        conditions.eventually {
+            assert service.inProgress == 2
+        }
+        service.blocking(latch)
+
+        then:
+        thrown(BulkheadRejectedException)
+
+        when:
+        latch.countDown()
+        threads*.join()
+
+        then:
+        service.blocking(new CountDownLatch(0)) == "done"
+    }
+
+    void "test future bulkhead holds the permit until completion"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+        CompletableFuture<String> first = new CompletableFuture<>()
+
+        when:
+        CompletableFuture<String> result = service.future(first)
+        service.future(new CompletableFuture<String>())
+
+        then:
+        thrown(BulkheadRejectedException)
+
+        when:
+        first.complete("done")
+
+        then:
+        result.get() == "done"
+        service.future(CompletableFuture.completedFuture("again")).get() == "again"
+    }
+
+    void "test publisher bulkhead acquires the permit on subscription"() {
+        given:
+        SlowService service = context.getBean(SlowService)
+
+        when:
+        Flowable<String> flowable = service.flowable()
+        Flowable<String> other = service.flowable()
+
+        then:
+        flowable.blockingFirst() == "done"
+        other.blockingFirst() == "done"
+    }
+
+    void "test adaptive limiter shrinks the limit as latency grows"() {
+        given:
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 100, true)
+        int initial = limiter.limit
+
+        when:
+        100.times { round ->
+            int acquired = 0
+            while (limiter.tryAcquire()) {
+                acquired++
+            }
+            acquired.times {
+                limiter.release(TimeUnit.MILLISECONDS.toNanos(10 + round * 10), true)
+            }
+        }
+
+        then:
+        limiter.limit < initial
+        limiter.inFlight == 0
+    }
+
+    @Singleton
+    static class SlowService {
+        volatile int inProgress = 0
+
+        @Bulkhead("2")
+        String blocking(CountDownLatch latch) {
+            synchronized (this) {
+                inProgress++
+            }
+            try {
+                latch.await(5, TimeUnit.SECONDS)
+                return "done"
+            } finally {
+                synchronized (this) {
+                    inProgress--
+                }
+            }
+        }
+
+        @Bulkhead("1")
+        CompletableFuture<String> future(CompletableFuture<String> future) {
+            return future
+        }
+
+        @Bulkhead("1")
+        Flowable<String> flowable() {
+            return Flowable.just("done")
+        }
+    }
+}
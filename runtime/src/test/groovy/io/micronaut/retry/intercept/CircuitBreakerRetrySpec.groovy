@@ -16,6 +16,7 @@
 package io.micronaut.retry.intercept
 
 import io.micronaut.retry.CircuitState
+import io.micronaut.retry.exception.CircuitOpenException
 import spock.lang.Specification
 import spock.util.concurrent.PollingConditions
 
@@ -105,4 +106,98 @@ class CircuitBreakerRetrySpec extends Specification {
         retry.canRetry(new RuntimeException("bad"))
 
     }
+
+    void "test circuit breaker opens when the failure rate exceeds the threshold"() {
+        given:
+        CircuitBreakerRetry retry = new CircuitBreakerRetry(
+                500,
+                {->
+                    new SimpleRetry(0, 1.0d, Duration.ofMillis(10))
+                }, null, null,
+                new CircuitBreakerWindow(10, 4, 60, 0, 0),
+                2
+        )
+
+        when:"failures are below the minimum number of calls"
+        retry.open()
+        retry.close(new RuntimeException("bad"))
+        retry.open()
+        retry.close(new RuntimeException("bad"))
+        retry.open()
+        retry.close(null)
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+
+        when:"the failure rate is below the threshold"
+        retry.open()
+        retry.close(null)
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+
+        when:
+        retry.open()
+        retry.close(new RuntimeException("bad"))
+
+        then:
+        retry.currentState() == CircuitState.OPEN
+
+        when:
+        retry.open()
+
+        then:
+        def e = thrown(RuntimeException)
+        e.message == "bad"
+
+        when:"the circuit is half open only the permitted number of calls proceed"
+        PollingConditions conditions = new PollingConditions(timeout: 3)
+        conditions.eventually {
+            retry.currentState() == CircuitState.HALF_OPEN
+        }
+        retry.open()
+        retry.open()
+        retry.open()
+
+        then:
+        thrown(CircuitOpenException)
+
+        when:"all permitted calls succeed"
+        retry.close(null)
+        retry.close(null)
+
+        then:
+        retry.currentState() == CircuitState.CLOSED
+        retry.window.get().numberOfCalls == 0
+    }
+
+    void "test sliding window evicts old outcomes"() {
+        given:
+        CircuitBreakerWindow window = new CircuitBreakerWindow(4, 4, 50, 50, Duration.ofMillis(100).toNanos())
+
+        when:
+        window.record(true, 0)
+        window.record(true, 0)
+        window.record(false, 0)
+
+        then:
+        !window.isThresholdExceeded()
+
+        when:
+        boolean exceeded = window.record(false, 0)
+
+        then:
+        exceeded
+        window.failureRate == 50d
+
+        when:
+        window.record(false, 0)
+        exceeded = window.record(false, Duration.ofMillis(200).toNanos())
+
+        then:
+        !exceeded
+        window.numberOfCalls == 4
+        window.failureRate == 0d
+        window.slowCallRate == 25d
+    }
 }
@@ -176,6 +176,45 @@ class CircuitBreakerSpec extends Specification{
         context.stop()
     }
 
+    void "test reactive calls are timed from subscription for the slow call rate"() {
+        given:
+        ApplicationContext context = ApplicationContext.run()
+        SlowService slowService = context.getBean(SlowService)
+        MyCircuitOpenEventListener circuitOpenEventListener = context.getBean(MyCircuitOpenEventListener)
+
+        when:"fast calls are subscribed to long after the method was invoked"
+        2.times {
+            Single<Integer> single = slowService.getFast()
+            sleep(100)
+            single.blockingGet()
+        }
+
+        then:"they are not slow"
+        circuitOpenEventListener.lastEvent == null
+
+        when:"calls fail slowly"
+        2.times {
+            try {
+                slowService.getSlowFailure().blockingGet()
+            } catch (IllegalStateException ignored) {
+            }
+        }
+        int invocations = slowService.slowCount
+
+        then:"the circuit opens"
+        circuitOpenEventListener.lastEvent.source.methodName == 'getSlowFailure'
+
+        when:
+        slowService.getSlowFailure().blockingGet()
+
+        then:
+        thrown(IllegalStateException)
+        slowService.slowCount == invocations
+
+        cleanup:
+        context.stop()
+    }
+
     @Singleton
     static class MyRetryListener implements RetryEventListener {
 
@@ -249,4 +288,22 @@ class CircuitBreakerSpec extends Specification{
             })
         }
     }
+
+    @Singleton
+    @CircuitBreaker(attempts = '1', delay = '1ms', reset = '10s', slowCallRateThreshold = '50', slowCallDuration = '50ms', minimumNumberOfCalls = '2', slidingWindowSize = '2')
+    static class SlowService {
+        int slowCount = 0
+
+        Single<Integer> getFast() {
+            Single.just(1)
+        }
+
+        Single<Integer> getSlowFailure() {
+            Single.fromCallable({->
+                slowCount++
+                sleep(60)
+                throw new IllegalStateException("Slow failure")
+            })
+        }
+    }
 }
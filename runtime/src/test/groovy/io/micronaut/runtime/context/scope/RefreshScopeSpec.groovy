@@ -15,15 +15,23 @@
  */
 package io.micronaut.runtime.context.scope
 
+import io.micronaut.aop.InterceptedProxy
+import io.micronaut.aop.MethodInvocationContext
 import io.micronaut.context.ApplicationContext
 import io.micronaut.context.annotation.ConfigurationProperties
 import io.micronaut.context.annotation.Value
 import io.micronaut.context.env.Environment
+import io.micronaut.context.exceptions.BeanContextException
 import io.micronaut.inject.qualifiers.Qualifiers
 import io.micronaut.runtime.context.scope.refresh.RefreshEvent
+import io.micronaut.runtime.context.scope.refresh.RefreshInterceptor
+import io.micronaut.runtime.context.scope.refresh.RefreshScope
 import io.micronaut.scheduling.TaskExecutors
 import spock.lang.Specification
 
+import javax.annotation.PreDestroy
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
 import java.util.concurrent.Executor
 
 /**
@@ -103,6 +111,87 @@ class RefreshScopeSpec extends Specification {
         beanContext?.stop()
     }
 
+    void "test refresh does not wait for calls in flight and disposes of the bean after they complete"() {
+        given:
+        SlowBean.instances.clear()
+        ApplicationContext beanContext = ApplicationContext.build().start()
+
+        // override IO executor with synchronous impl
+        beanContext.registerSingleton(Executor.class, new Executor() {
+            @Override
+            void execute(Runnable command) {
+                command.run()
+            }
+        }, Qualifiers.byName(TaskExecutors.IO))
+        SlowBean bean = beanContext.getBean(SlowBean)
+        CountDownLatch started = new CountDownLatch(1)
+        CountDownLatch release = new CountDownLatch(1)
+
+        when:"a call is in flight while the bean is refreshed"
+        Thread call = Thread.start {
+            bean.block(started, release)
+        }
+        started.await()
+        beanContext.publishEvent(new RefreshEvent())
+
+        then:"the refresh completes without waiting and new calls are made on a new instance"
+        SlowBean.instances.size() == 1
+        !SlowBean.instances[0].disposed
+        bean.identity() != SlowBean.instances[0].identity()
+        SlowBean.instances.size() == 2
+
+        when:"the call in flight completes"
+        release.countDown()
+        call.join()
+
+        then:"the previous instance is disposed of"
+        SlowBean.instances[0].disposed
+        !SlowBean.instances[1].disposed
+
+        cleanup:
+        beanContext?.stop()
+    }
+
+    void "test a call that resolved the bean before a refresh does not proceed on the disposed bean"() {
+        given:
+        SlowBean.instances.clear()
+        ApplicationContext beanContext = ApplicationContext.build().start()
+
+        // override IO executor with synchronous impl
+        beanContext.registerSingleton(Executor.class, new Executor() {
+            @Override
+            void execute(Runnable command) {
+                command.run()
+            }
+        }, Qualifiers.byName(TaskExecutors.IO))
+        SlowBean bean = beanContext.getBean(SlowBean)
+        RefreshScope refreshScope = beanContext.getBean(RefreshScope)
+        Object target = ((InterceptedProxy) bean).interceptedTarget()
+        def registration = refreshScope.getRegistration(target)
+        MethodInvocationContext context = Mock(MethodInvocationContext)
+
+        when:"the bean is refreshed after the call resolved it"
+        beanContext.publishEvent(new RefreshEvent())
+
+        then:"the retired registration rejects new calls"
+        SlowBean.instances[0].disposed
+        !registration.enter()
+
+        when:
+        new RefreshInterceptor(refreshScope).intercept(context)
+
+        then:
+        _ * context.getTarget() >> target
+        0 * context.proceed()
+        thrown(BeanContextException)
+
+        and:"new calls use the refreshed bean"
+        bean.identity() != System.identityHashCode(target)
+
+        cleanup:
+        beanContext?.stop()
+    }
+
     @Refreshable
     static class RefreshBean {
 
@@ -155,6 +244,33 @@ class RefreshScopeSpec extends Specification {
         }
     }
 
+    @Refreshable
+    static class SlowBean {
+        static final List<SlowBean> instances = new CopyOnWriteArrayList<>()
+
+        volatile boolean disposed
+
+        SlowBean() {
+            if (!(this instanceof InterceptedProxy)) {
+                instances.add(this)
+            }
+        }
+
+        void block(CountDownLatch started, CountDownLatch release) {
+            started.countDown()
+            release.await()
+        }
+
+        int identity() {
+            return System.identityHashCode(this)
+        }
+
+        @PreDestroy
+        void dispose() {
+            disposed = true
+        }
+    }
+
     @ConfigurationProperties('foo')
     static class MyConfig {
         String bar
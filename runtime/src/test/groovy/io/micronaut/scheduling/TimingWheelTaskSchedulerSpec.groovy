@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Requires
+import io.micronaut.inject.qualifiers.Qualifiers
+import io.micronaut.scheduling.annotation.Scheduled
+import spock.lang.AutoCleanup
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.Callable
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.ScheduledFuture
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+class TimingWheelTaskSchedulerSpec extends Specification {
+
+    @Shared @AutoCleanup ApplicationContext context = ApplicationContext.run(
+            'micronaut.scheduler.timing-wheel.tick-duration': '2ms',
+            'micronaut.scheduler.timing-wheel.wheel-size': 8,
+            'timing-wheel-test.task.enabled': true
+    )
+
+    @Shared TaskScheduler scheduler = context.getBean(TaskScheduler, Qualifiers.byName(TaskExecutors.TIMING_WHEEL))
+
+    void "test tasks run after their delay"() {
+        given:
+        int count = 1000
+        CountDownLatch latch = new CountDownLatch(count)
+        AtomicInteger early = new AtomicInteger()
+        Random random = new Random(1)
+
+        when:
+        count.times {
+            long delay = random.nextInt(500)
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay)
+            scheduler.schedule(Duration.ofMillis(delay), {
+                if (System.nanoTime() < deadline) {
+                    early.incrementAndGet()
+                }
+                latch.countDown()
+            } as Runnable)
+        }
+
+        then:
+        latch.await(10, TimeUnit.SECONDS)
+        early.get() == 0
+    }
+
+    void "test callable result and cancellation"() {
+        when:
+        ScheduledFuture<String> future = scheduler.schedule(Duration.ofMillis(20), { -> "done" } as Callable<String>)
+        AtomicInteger cancelledRuns = new AtomicInteger()
+        ScheduledFuture<?> cancelled = scheduler.schedule(Duration.ofMillis(50), { cancelledRuns.incrementAndGet() } as Runnable)
+        cancelled.cancel(false)
+
+        then:
+        future.get(5, TimeUnit.SECONDS) == "done"
+        cancelled.cancelled
+
+        when:
+        Thread.sleep(100)
+
+        then:
+        cancelledRuns.get() == 0
+    }
+
+    void "test fixed rate tasks run until cancelled"() {
+        given:
+        AtomicInteger runs = new AtomicInteger()
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        when:
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(null, Duration.ofMillis(10), { runs.incrementAndGet() } as Runnable)
+
+        then:
+        conditions.eventually {
+            assert runs.get() >= 5
+        }
+
+        when:
+        future.cancel(false)
+        Thread.sleep(50)
+        int afterCancel = runs.get()
+        Thread.sleep(100)
+
+        then:
+        runs.get() == afterCancel
+    }
+
+    void "test scheduled methods can use the timing wheel"() {
+        given:
+        PollingConditions conditions = new PollingConditions(timeout: 5)
+
+        expect:
+        conditions.eventually {
+            assert context.getBean(WheelTask).runs.get() >= 3
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'timing-wheel-test.task.enabled', value = 'true')
+    static class WheelTask {
+        AtomicInteger runs = new AtomicInteger()
+
+        @Scheduled(fixedRate = '10ms', scheduler = TaskExecutors.TIMING_WHEEL)
+        void run() {
+            runs.incrementAndGet()
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.cron
+
+import spock.lang.Specification
+import spock.lang.Unroll
+
+import java.time.ZonedDateTime
+
+class CronExpressionSpec extends Specification {
+
+    @Unroll
+    void "test next time after #after for #expression is #expected"() {
+        expect:
+        CronExpression.create(expression).nextTimeAfter(ZonedDateTime.parse(after)) == ZonedDateTime.parse(expected)
+
+        where:
+        expression          | after                         | expected
+        '* * * * * *'       | '2018-01-01T10:00:00.500Z'    | '2018-01-01T10:00:01Z'
+        '0 0 12 * * *'      | '2018-01-01T10:00:00Z'        | '2018-01-01T12:00:00Z'
+        '0 0 12 * * *'      | '2018-01-01T12:00:00Z'        | '2018-01-02T12:00:00Z'
+        '0 */15 * * * *'    | '2018-01-01T10:59:00Z'        | '2018-01-01T11:00:00Z'
+        '0 0 0 1 1 *'       | '2018-03-05T08:00:00Z'        | '2019-01-01T00:00:00Z'
+        '0 0 0 29 2 *'      | '2018-03-01T00:00:00Z'        | '2020-02-29T00:00:00Z'
+        '0 0 0 L * ?'       | '2018-02-10T00:00:00Z'        | '2018-02-28T00:00:00Z'
+        '0 0 9 ? * 5L'      | '2018-06-01T00:00:00Z'        | '2018-06-29T09:00:00Z'
+        '0 0 9 ? * 1#2'     | '2018-06-01T00:00:00Z'        | '2018-06-11T09:00:00Z'
+        '0 0 9 15W * ?'     | '2018-09-01T00:00:00Z'        | '2018-09-14T09:00:00Z'
+        '0 0 9 * * MON-FRI' | '2018-06-01T10:00:00Z'        | '2018-06-04T09:00:00Z'
+        '0 0 0 13 * FRI'    | '2018-01-01T00:00:00Z'        | '2018-04-13T00:00:00Z'
+    }
+
+    void "test an expression that never matches reaches the limit"() {
+        when:
+        CronExpression.create('0 0 0 30 2 *').nextTimeAfter(ZonedDateTime.parse('2018-01-01T00:00:00Z'))
+
+        then:
+        thrown(IllegalArgumentException)
+    }
+
+    @Unroll
+    void "test daylight saving transitions for #expression after #after"() {
+        expect:
+        CronExpression.create(expression).nextTimeAfter(ZonedDateTime.parse(after)) == ZonedDateTime.parse(expected)
+
+        where:
+        expression       | after                                           | expected
+        // clocks go forward from 01:00 to 02:00, times in the gap are shifted forward
+        '0 30 1 * * *'   | '2018-03-25T00:00:00Z[Europe/London]'           | '2018-03-25T02:30:00+01:00[Europe/London]'
+        '0 * * * * *'    | '2018-03-25T00:59:30Z[Europe/London]'           | '2018-03-25T02:00:00+01:00[Europe/London]'
+        // clocks go back from 02:00 to 01:00, fixed times fire once and frequent schedules keep firing
+        '0 30 1 * * *'   | '2018-10-28T00:00:00+01:00[Europe/London]'      | '2018-10-28T01:30:00+01:00[Europe/London]'
+        '0 30 1 * * *'   | '2018-10-28T01:30:00+01:00[Europe/London]'      | '2018-10-29T01:30:00Z[Europe/London]'
+        '0 */30 * * * *' | '2018-10-28T01:45:00+01:00[Europe/London]'      | '2018-10-28T01:00:00Z[Europe/London]'
+        '0 */30 * * * *' | '2018-10-28T01:00:00Z[Europe/London]'           | '2018-10-28T01:30:00Z[Europe/London]'
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2017-2018 original authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.micronaut.scheduling.lock
+
+import io.micronaut.context.ApplicationContext
+import io.micronaut.context.annotation.Replaces
+import io.micronaut.context.annotation.Requires
+import io.micronaut.scheduling.annotation.Scheduled
+import spock.lang.Specification
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Singleton
+import java.time.Instant
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author agent
+ * @since 1.0
+ */
+class ScheduledLockSpec extends Specification {
+
+    void "test in memory lock provider leases"() {
+        given:
+        InMemoryLockProvider provider = new InMemoryLockProvider()
+        Instant now = Instant.now()
+
+        when:
+        Optional<LockProvider.Lease> lease = provider.tryAcquire("test", now.plusSeconds(60))
+
+        then:
+        lease.isPresent()
+        !provider.tryAcquire("test", now.plusSeconds(60)).isPresent()
+        provider.tryAcquire("other", now.plusSeconds(60)).isPresent()
+
+        when:"the lock is held beyond its release"
+        lease.get().release(Instant.now().plusSeconds(60))
+
+        then:
+        !provider.tryAcquire("test", now.plusSeconds(60)).isPresent()
+
+        when:"an expired lease is taken over"
+        provider.tryAcquire("expired", now.minusSeconds(1))
+
+        then:
+        provider.tryAcquire("expired", now.plusSeconds(60)).isPresent()
+    }
+
+    void "test released lock can be acquired again"() {
+        given:
+        InMemoryLockProvider provider = new InMemoryLockProvider()
+
+        when:
+        provider.tryAcquire("test", Instant.now().plusSeconds(60)).get().release(Instant.now())
+
+        then:
+        provider.tryAcquire("test", Instant.now().plusSeconds(60)).isPresent()
+    }
+
+    void "test scheduled tasks sharing a lock are skipped"() {
+        given:
+        ApplicationContext context = ApplicationContext.run('scheduled-lock-test.enabled': true)
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+        LockedTask task = context.getBean(LockedTask)
+        ScheduledLockMetrics metrics = context.getBean(ScheduledLockMetrics)
+
+        expect:
+        conditions.eventually {
+            metrics.getSkipped("shared") > 5
+        }
+        task.runs.get() == 1
+        metrics.getExecutions("shared") == 1
+
+        cleanup:
+        context.close()
+    }
+
+    void "test scheduled tasks are skipped while the lock provider fails"() {
+        given:
+        ApplicationContext context = ApplicationContext.run('scheduled-lock-failure-test.enabled': true)
+        PollingConditions conditions = new PollingConditions(timeout: 10)
+        FailingLockTask task = context.getBean(FailingLockTask)
+        FailingLockProvider provider = context.getBean(FailingLockProvider)
+        ScheduledLockMetrics metrics = context.getBean(ScheduledLockMetrics)
+
+        expect:"the task keeps being scheduled without running"
+        conditions.eventually {
+            metrics.getSkipped("unavailable") > 5
+        }
+        provider.attempts.get() > 5
+        task.runs.get() == 0
+        metrics.getExecutions("unavailable") == 0
+
+        cleanup:
+        context.close()
+    }
+
+    @Singleton
+    @Requires(property = 'scheduled-lock-test.enabled', value = 'true')
+    static class LockedTask {
+        AtomicInteger runs = new AtomicInteger()
+
+        @Scheduled(fixedRate = '10ms', lock = 'shared', lockAtLeastFor = '1m')
+        void first() {
+            runs.incrementAndGet()
+        }
+
+        @Scheduled(fixedRate = '10ms', lock = 'shared', lockAtLeastFor = '1m')
+        void second() {
+            runs.incrementAndGet()
+        }
+    }
+
+    @Singleton
+    @Requires(property = 'scheduled-lock-failure-test.enabled', value = 'true')
+    static class FailingLockTask {
+        AtomicInteger runs = new AtomicInteger()
+
+        @Scheduled(fixedRate = '10ms', lock = 'unavailable')
+        void run() {
+            runs.incrementAndGet()
+        }
+    }
+
+    @Singleton
+    @Replaces(InMemoryLockProvider)
+    @Requires(property = 'scheduled-lock-failure-test.enabled', value = 'true')
+    static class FailingLockProvider implements LockProvider {
+        AtomicInteger attempts = new AtomicInteger()
+
+        @Override
+        Optional<LockProvider.Lease> tryAcquire(String name, Instant lockUntil) {
+            attempts.incrementAndGet()
+            throw new IllegalStateException("Lock store unavailable")
+        }
+    }
+}